@@ -0,0 +1,93 @@
+package ch.ivyteam.db.meta.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.ivyteam.db.meta.generator.internal.HtmlDocGenerator;
+import ch.ivyteam.db.meta.generator.internal.IMetaOutputGenerator;
+import ch.ivyteam.db.meta.generator.internal.JavaClassPersistencyServiceImplementationGenerator;
+import ch.ivyteam.db.meta.generator.internal.JavaEntityClassGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.model.internal.SqlView;
+
+/**
+ * Java entity classes, the FreeMarker based persistency service classes and
+ * the HTML documentation of all tables and views
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputGeneratorBenchmark {
+
+  @Param({Schemas.SIMPLE_TEST, "1000"})
+  public String schema;
+  @Param({"entity", "persistency", "html"})
+  public String generator;
+  private SqlMeta meta;
+  private Path directory;
+
+  @Setup
+  public void setUp() throws Exception {
+    meta = Schemas.parse(Schemas.content(schema));
+    directory = Files.createTempDirectory("output-benchmark");
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    FileUtils.deleteDirectory(directory.toFile());
+  }
+
+  @Benchmark
+  public void generate() throws Exception {
+    IMetaOutputGenerator outputGenerator = newGenerator();
+    outputGenerator.generateMetaOutput(meta);
+  }
+
+  private IMetaOutputGenerator newGenerator() throws Exception {
+    String outputDir = directory.toAbsolutePath().toString();
+    IMetaOutputGenerator outputGenerator;
+    List<String> args = new ArrayList<>(List.of("-outputDir", outputDir));
+    switch (generator) {
+      case "entity":
+        outputGenerator = new JavaEntityClassGenerator();
+        args.addAll(List.of("-package", "ch.ivyteam.meta.entity", "-tables"));
+        meta.getArtifacts(SqlTable.class).forEach(table -> args.add(table.getId()));
+        break;
+      case "persistency":
+        outputGenerator = new JavaClassPersistencyServiceImplementationGenerator();
+        args.addAll(List.of("-package", "ch.ivyteam.meta.persistency",
+                "-entityPackage", "ch.ivyteam.meta.entity", "-tables"));
+        meta.getArtifacts(SqlTable.class).forEach(table -> args.add(table.getId()));
+        meta.getArtifacts(SqlView.class).forEach(view -> args.add(view.getId()));
+        break;
+      case "html":
+        outputGenerator = new HtmlDocGenerator();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown generator " + generator);
+    }
+    outputGenerator.analyseArgs(args.toArray(new String[args.size()]));
+    return outputGenerator;
+  }
+}
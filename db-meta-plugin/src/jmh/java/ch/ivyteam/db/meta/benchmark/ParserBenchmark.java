@@ -0,0 +1,96 @@
+package ch.ivyteam.db.meta.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.ivyteam.db.meta.generator.SqlMetaCache;
+import ch.ivyteam.db.meta.generator.SqlMetaParser;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.parser.internal.Parser;
+import ch.ivyteam.db.meta.parser.internal.Scanner;
+import ch.ivyteam.db.meta.parser.internal.Symbols;
+
+/**
+ * Scanner and parser throughput. Compares the char array input path with the
+ * reader input path and a cold parse with loading the parsed model from the
+ * {@link SqlMetaCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+  @Param({Schemas.SIMPLE_TEST, "1000", "5000"})
+  public String schema;
+  private byte[] content;
+  private char[] chars;
+  private Path directory;
+  private File metaFile;
+  private SqlMetaCache cache;
+
+  @Setup
+  public void setUp() throws Exception {
+    content = Schemas.content(schema);
+    chars = new String(content, UTF_8).toCharArray();
+    directory = Files.createTempDirectory("parser-benchmark");
+    metaFile = directory.resolve(schema + ".meta").toFile();
+    Files.write(metaFile.toPath(), content);
+    cache = new SqlMetaCache(directory.resolve("cache").toFile(), "benchmark");
+    cache.parse(metaFile, UTF_8);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    FileUtils.deleteDirectory(directory.toFile());
+  }
+
+  @Benchmark
+  public int scan() throws Exception {
+    // the scanner compacts its buffer in place
+    var scanner = new Scanner(chars.clone(), chars.length);
+    int tokens = 0;
+    while (scanner.next_token().sym != Symbols.EOF) {
+      tokens++;
+    }
+    return tokens;
+  }
+
+  @Benchmark
+  public SqlMeta parseChars() throws Exception {
+    return SqlMetaParser.parse(content, UTF_8);
+  }
+
+  @Benchmark
+  public SqlMeta parseReader() throws Exception {
+    var reader = new InputStreamReader(new ByteArrayInputStream(content), UTF_8);
+    return (SqlMeta) new Parser(new Scanner(reader)).parse().value;
+  }
+
+  @Benchmark
+  public SqlMeta loadFromCache() throws Exception {
+    return cache.parse(metaFile, UTF_8);
+  }
+}
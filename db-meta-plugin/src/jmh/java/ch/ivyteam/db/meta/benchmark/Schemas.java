@@ -0,0 +1,68 @@
+package ch.ivyteam.db.meta.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import ch.ivyteam.db.meta.generator.SqlMetaParser;
+import ch.ivyteam.db.meta.generator.SyntheticMeta;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+/**
+ * Meta definitions the benchmarks run on. A schema is either
+ * {@value #SIMPLE_TEST}, the bundled test meta definition, or the number of
+ * tables of a {@link SyntheticMeta synthetic meta definition}.
+ */
+final class Schemas {
+
+  static final String SIMPLE_TEST = "simpleTest";
+  private static final Path SIMPLE_TEST_META = Path.of("src/test/resources/base/meta/simpleTest.meta");
+  private static final Path SIMPLE_TEST_PREVIOUS_META = Path
+          .of("src/test/resources/base/oldVersionMeta/simpleTestV0.meta");
+
+  private Schemas() {}
+
+  /**
+   * @param schema {@value #SIMPLE_TEST} or number of tables
+   * @return content of the meta definition
+   */
+  static byte[] content(String schema) throws IOException {
+    if (SIMPLE_TEST.equals(schema)) {
+      return Files.readAllBytes(SIMPLE_TEST_META);
+    }
+    return synthetic(schema).create().getBytes(UTF_8);
+  }
+
+  /**
+   * @param schema {@value #SIMPLE_TEST} or number of tables
+   * @return content of the meta definition to convert from
+   */
+  static byte[] from(String schema) throws IOException {
+    if (SIMPLE_TEST.equals(schema)) {
+      return Files.readAllBytes(SIMPLE_TEST_PREVIOUS_META);
+    }
+    return synthetic(schema).create().getBytes(UTF_8);
+  }
+
+  /**
+   * @param schema {@value #SIMPLE_TEST} or number of tables
+   * @return content of the meta definition to convert to
+   */
+  static byte[] to(String schema) throws IOException {
+    if (SIMPLE_TEST.equals(schema)) {
+      return Files.readAllBytes(SIMPLE_TEST_META);
+    }
+    return synthetic(schema).nextVersion().getBytes(UTF_8);
+  }
+
+  static SqlMeta parse(byte[] content) throws Exception {
+    return SqlMetaParser.parse(content, UTF_8);
+  }
+
+  private static SyntheticMeta synthetic(String schema) {
+    int tables = Integer.parseInt(schema);
+    return new SyntheticMeta(tables).tables(tables).views(tables / 50).triggers(tables / 50);
+  }
+}
@@ -0,0 +1,62 @@
+package ch.ivyteam.db.meta.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+
+/**
+ * Lookups on the {@link SqlMeta} model as the generators use them
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlMetaBenchmark {
+
+  @Param({Schemas.SIMPLE_TEST, "1000", "5000"})
+  public String schema;
+  private SqlMeta meta;
+  private List<SqlTable> tables;
+
+  @Setup
+  public void setUp() throws Exception {
+    meta = Schemas.parse(Schemas.content(schema));
+    tables = meta.getArtifacts(SqlTable.class);
+  }
+
+  @Benchmark
+  public void findTable(Blackhole blackhole) {
+    for (SqlTable table : tables) {
+      blackhole.consume(meta.findTable(table.getId()));
+    }
+  }
+
+  @Benchmark
+  public void referencingForeignKeys(Blackhole blackhole) {
+    for (SqlTable table : tables) {
+      blackhole.consume(meta.getReferencingForeignKeys(table));
+    }
+  }
+
+  @Benchmark
+  public List<SqlTable> artifactsOfType() {
+    return meta.getArtifacts(SqlTable.class);
+  }
+}
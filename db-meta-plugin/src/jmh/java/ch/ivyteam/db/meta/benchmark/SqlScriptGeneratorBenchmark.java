@@ -0,0 +1,84 @@
+package ch.ivyteam.db.meta.benchmark;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.ivyteam.db.meta.generator.MetaOutputDifferenceGenerator;
+import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+/**
+ * Create and conversion scripts of every {@link SqlScriptGenerator} dialect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlScriptGeneratorBenchmark {
+
+  private static final String GENERATOR_PACKAGE = "ch.ivyteam.db.meta.generator.internal.";
+
+  @Param({Schemas.SIMPLE_TEST, "1000"})
+  public String schema;
+  @Param({"hsql.HsqlSqlScriptGenerator", "mssql.MsSqlServerSqlScriptGenerator",
+      "mysql.MySqlSqlScriptGenerator", "oracle.OracleSqlScriptGenerator",
+      "postgresql.PostgreSqlSqlScriptGenerator"})
+  public String dialect;
+  private SqlMeta meta;
+  private SqlMeta previousMeta;
+  private Path directory;
+  private File outputFile;
+
+  @Setup
+  public void setUp() throws Exception {
+    meta = Schemas.parse(Schemas.to(schema));
+    previousMeta = Schemas.parse(Schemas.from(schema));
+    directory = Files.createTempDirectory("sql-benchmark");
+    outputFile = directory.resolve("create.sql").toFile();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    FileUtils.deleteDirectory(directory.toFile());
+  }
+
+  @Benchmark
+  public void generateScript() throws Exception {
+    SqlScriptGenerator generator = newGenerator();
+    generator.analyseArgs(new String[] {"-outputFile", outputFile.getAbsolutePath()});
+    generator.generateMetaOutput(meta);
+  }
+
+  @Benchmark
+  public int generateDifference() throws Exception {
+    var writer = new StringWriter();
+    try (var pr = new PrintWriter(writer)) {
+      new MetaOutputDifferenceGenerator(previousMeta, meta, null, newGenerator(), 2).generate(pr);
+    }
+    return writer.getBuffer().length();
+  }
+
+  private SqlScriptGenerator newGenerator() {
+    return MetaOutputDifferenceGenerator.findGeneratorClass(GENERATOR_PACKAGE + dialect);
+  }
+}
@@ -0,0 +1,260 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import ch.ivyteam.db.meta.model.internal.MetaException;
+import ch.ivyteam.db.meta.model.internal.SqlInsertWithValues;
+import ch.ivyteam.db.meta.model.internal.SqlLiteral;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+
+/**
+ * The difference between the default table content (inserts with values) of
+ * an old and a new meta definition. Rows are identified by their table and
+ * the values of the primary key columns. The primary key of a row is taken
+ * from the meta definition the row belongs to, so rows of a table whose
+ * primary key has changed are removed and added again. Rows of tables without
+ * primary key or inserts that do not specify all primary key columns are
+ * identified by all their values regardless of the column order. Equal rows
+ * of such tables are matched in the order they occur. Two inserts with the
+ * same primary key values in one meta definition are rejected. The difference
+ * is calculated once on creation and cannot be modified.
+ */
+public final class InsertDiff {
+
+  private final List<SqlInsertWithValues> removedInserts;
+  private final List<ChangedInsert> changedInserts;
+  private final List<SqlInsertWithValues> addedInserts;
+
+  /**
+   * @param insertsFrom inserts of the old meta definition
+   * @param insertsTo inserts of the new meta definition
+   * @param metaDefinitionFrom the old meta definition. Used to find the
+   *          primary keys of the tables of the old inserts.
+   * @param metaDefinitionTo the new meta definition. Used to find the primary
+   *          keys of the tables of the new inserts.
+   * @throws MetaException if a meta definition contains two inserts into the
+   *           same table with the same primary key values
+   */
+  public InsertDiff(List<SqlInsertWithValues> insertsFrom, List<SqlInsertWithValues> insertsTo,
+          SqlMeta metaDefinitionFrom, SqlMeta metaDefinitionTo) {
+    Map<RowKey, Row> rowsFrom = index(insertsFrom, metaDefinitionFrom);
+    Map<RowKey, Row> rowsTo = index(insertsTo, metaDefinitionTo);
+    List<SqlInsertWithValues> removed = new ArrayList<>();
+    List<ChangedInsert> changed = new ArrayList<>();
+    List<SqlInsertWithValues> added = new ArrayList<>();
+    for (Row rowFrom : rowsFrom.values()) {
+      Row rowTo = rowsTo.get(rowFrom.key);
+      if (rowTo == null || !rowTo.hasSameColumns(rowFrom)) {
+        removed.add(rowFrom.insert);
+      }
+    }
+    for (Row rowTo : rowsTo.values()) {
+      Row rowFrom = rowsFrom.get(rowTo.key);
+      if (rowFrom == null || !rowTo.hasSameColumns(rowFrom)) {
+        added.add(rowTo.insert);
+      } else if (rowTo.valueHash != rowFrom.valueHash || !rowTo.values.equals(rowFrom.values)) {
+        changed.add(new ChangedInsert(rowFrom, rowTo));
+      }
+    }
+    removedInserts = Collections.unmodifiableList(removed);
+    changedInserts = Collections.unmodifiableList(changed);
+    addedInserts = Collections.unmodifiableList(added);
+  }
+
+  /**
+   * @return inserts of rows which only exist in the old meta definition, in
+   *         the order of the old meta definition
+   */
+  public List<SqlInsertWithValues> getRemovedInserts() {
+    return removedInserts;
+  }
+
+  /**
+   * @return rows which exist in both meta definitions but have different
+   *         values, in the order of the new meta definition
+   */
+  public List<ChangedInsert> getChangedInserts() {
+    return changedInserts;
+  }
+
+  /**
+   * @return inserts of rows which only exist in the new meta definition, in the
+   *         order of the new meta definition
+   */
+  public List<SqlInsertWithValues> getAddedInserts() {
+    return addedInserts;
+  }
+
+  private static Map<RowKey, Row> index(List<SqlInsertWithValues> inserts, SqlMeta metaDefinition) {
+    Map<RowKey, Row> rows = new LinkedHashMap<>();
+    for (SqlInsertWithValues insert : inserts) {
+      List<String> primaryKeyColumns = getPrimaryKeyColumns(insert, metaDefinition);
+      Row row = new Row(insert, primaryKeyColumns, 0);
+      while (rows.containsKey(row.key)) {
+        if (primaryKeyColumns != null) {
+          throw new MetaException("Table '" + insert.getTable() + "' contains more than one insert with "
+                  + "the primary key " + row.key.format());
+        }
+        row = new Row(insert, null, row.key.occurrence + 1);
+      }
+      rows.put(row.key, row);
+    }
+    return rows;
+  }
+
+  /**
+   * @return the primary key columns of the table of the given insert or null
+   *         if the insert cannot be identified by its primary key
+   */
+  private static List<String> getPrimaryKeyColumns(SqlInsertWithValues insert, SqlMeta metaDefinition) {
+    SqlTable table = metaDefinition.findTable(insert.getTable());
+    if (table == null || table.getPrimaryKey() == null) {
+      return null;
+    }
+    List<String> keyColumns = table.getPrimaryKey().getPrimaryKeyColumns();
+    if (!insert.getColumns().containsAll(keyColumns)) {
+      return null;
+    }
+    return keyColumns;
+  }
+
+  /**
+   * A row of the default table content which exists in both meta definitions
+   * but with different values.
+   */
+  public static final class ChangedInsert {
+
+    private final SqlInsertWithValues oldInsert;
+    private final SqlInsertWithValues newInsert;
+    private final List<String> keyColumns;
+    private final List<String> changedColumns;
+
+    private ChangedInsert(Row rowFrom, Row rowTo) {
+      this.oldInsert = rowFrom.insert;
+      this.newInsert = rowTo.insert;
+      this.keyColumns = rowTo.keyColumns;
+      List<String> changed = new ArrayList<>();
+      for (String column : newInsert.getColumns()) {
+        if (!Objects.equals(rowTo.values.get(column), rowFrom.values.get(column))) {
+          changed.add(column);
+        }
+      }
+      this.changedColumns = Collections.unmodifiableList(changed);
+    }
+
+    /**
+     * @return insert of the old meta definition
+     */
+    public SqlInsertWithValues getOldInsert() {
+      return oldInsert;
+    }
+
+    /**
+     * @return insert of the new meta definition
+     */
+    public SqlInsertWithValues getNewInsert() {
+      return newInsert;
+    }
+
+    /**
+     * @return columns that identify the row
+     */
+    public List<String> getKeyColumns() {
+      return keyColumns;
+    }
+
+    /**
+     * @return columns which have a different value in the new insert, in the
+     *         order of the new insert
+     */
+    public List<String> getChangedColumns() {
+      return changedColumns;
+    }
+  }
+
+  private static final class Row {
+
+    private final SqlInsertWithValues insert;
+    private final List<String> keyColumns;
+    private final RowKey key;
+    private final Map<String, SqlLiteral> values = new HashMap<>();
+    private final int valueHash;
+
+    private Row(SqlInsertWithValues insert, List<String> primaryKeyColumns, int occurrence) {
+      this.insert = insert;
+      this.keyColumns = primaryKeyColumns != null ? primaryKeyColumns : sorted(insert.getColumns());
+      for (int pos = 0; pos < insert.getColumns().size(); pos++) {
+        values.put(insert.getColumns().get(pos), insert.getValues().get(pos));
+      }
+      List<SqlLiteral> keyValues = new ArrayList<>(keyColumns.size());
+      for (String keyColumn : keyColumns) {
+        keyValues.add(values.get(keyColumn));
+      }
+      this.key = new RowKey(insert.getTable(), keyColumns, keyValues, occurrence);
+      this.valueHash = values.hashCode();
+    }
+
+    private static List<String> sorted(List<String> columns) {
+      List<String> sortedColumns = new ArrayList<>(columns);
+      Collections.sort(sortedColumns);
+      return sortedColumns;
+    }
+
+    private boolean hasSameColumns(Row other) {
+      return values.keySet().equals(other.values.keySet());
+    }
+  }
+
+  private static final class RowKey {
+
+    private final String table;
+    private final List<String> columns;
+    private final List<SqlLiteral> values;
+    private final int occurrence;
+    private final int hash;
+
+    private RowKey(String table, List<String> columns, List<SqlLiteral> values, int occurrence) {
+      this.table = table;
+      this.columns = columns;
+      this.values = values;
+      this.occurrence = occurrence;
+      this.hash = Objects.hash(table, columns, values, occurrence);
+    }
+
+    private String format() {
+      List<String> columnValues = new ArrayList<>(columns.size());
+      for (int pos = 0; pos < columns.size(); pos++) {
+        columnValues.add(columns.get(pos) + "=" + values.get(pos));
+      }
+      return String.join(", ", columnValues);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof RowKey)) {
+        return false;
+      }
+      RowKey other = (RowKey) obj;
+      return hash == other.hash &&
+              occurrence == other.occurrence &&
+              table.equals(other.table) &&
+              columns.equals(other.columns) &&
+              values.equals(other.values);
+    }
+  }
+}
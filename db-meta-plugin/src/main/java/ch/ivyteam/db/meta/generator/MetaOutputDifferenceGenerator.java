@@ -1,9 +1,7 @@
 package ch.ivyteam.db.meta.generator;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -16,25 +14,27 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
-import ch.ivyteam.db.meta.generator.internal.NotReferencedTablesFirstComparator;
+import ch.ivyteam.db.meta.generator.InsertDiff.ChangedInsert;
+import ch.ivyteam.db.meta.generator.SchemaDiff.TableDiff;
+import ch.ivyteam.db.meta.generator.internal.ColumnChange;
+import ch.ivyteam.db.meta.generator.internal.DdlOperation;
 import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
-import ch.ivyteam.db.meta.model.internal.MetaException;
+import ch.ivyteam.db.meta.generator.internal.jfr.DiffPhaseEvent;
+import ch.ivyteam.db.meta.model.internal.SqlArtifact;
 import ch.ivyteam.db.meta.model.internal.SqlForeignKey;
 import ch.ivyteam.db.meta.model.internal.SqlIndex;
+import ch.ivyteam.db.meta.model.internal.SqlInsertWithSelect;
 import ch.ivyteam.db.meta.model.internal.SqlInsertWithValues;
 import ch.ivyteam.db.meta.model.internal.SqlMeta;
 import ch.ivyteam.db.meta.model.internal.SqlPrimaryKey;
 import ch.ivyteam.db.meta.model.internal.SqlTable;
 import ch.ivyteam.db.meta.model.internal.SqlTableColumn;
+import ch.ivyteam.db.meta.model.internal.SqlTableId;
 import ch.ivyteam.db.meta.model.internal.SqlUniqueConstraint;
+import ch.ivyteam.db.meta.model.internal.SqlUpdate;
 import ch.ivyteam.db.meta.model.internal.SqlView;
-import ch.ivyteam.db.meta.model.internal.SqlViewColumn;
-import ch.ivyteam.db.meta.parser.internal.Parser;
-import ch.ivyteam.db.meta.parser.internal.Scanner;
 
 /**
  * Generates a SQL script to convert from one meta-model to the other
@@ -49,12 +49,16 @@ public class MetaOutputDifferenceGenerator {
   private final int newVersionId;
   private final SqlMeta metaDefinitionFrom;
   private final SqlMeta metaDefinitionTo;
+  private final SchemaDiff diff;
+  private final InsertDiff insertDiff;
   private List<String> createdTemporaryStoredProcedures = new ArrayList<>();
   private SqlMeta additionalConversionMeta;
   private final IndexGenerator indexes = new IndexGenerator();
   private final TriggerGenerator triggers = new TriggerGenerator();
   private final ConstraintGenerator constraints = new ConstraintGenerator();
   private final ForeignKeyGenerator foreignKeys = new ForeignKeyGenerator();
+  private final MigrationCostReport costReport = new MigrationCostReport();
+  private final CostRecorder costs = new CostRecorder();
 
   public static SqlScriptGenerator findGeneratorClass(String generatorClassName) {
     try {
@@ -80,29 +84,20 @@ public class MetaOutputDifferenceGenerator {
    * @throws Exception
    */
   public static SqlMeta parseMetaDefinitions(File... files) throws Exception {
-    SqlMeta overallMeta = null;
-    for (File file : files) {
-      SqlMeta meta = parseMetaDefinition(file);
-      if (overallMeta == null) {
-        overallMeta = meta;
-      } else {
-        overallMeta.merge(meta);
-      }
-    }
-    return overallMeta;
+    return parseMetaDefinitions(null, files);
   }
 
-  private static SqlMeta parseMetaDefinition(File file) throws Exception {
-    if (file == null || !file.exists()) {
-      return null;
-    }
-    FileReader fr = new FileReader(file);
-    try {
-      Parser parser = new Parser(new Scanner(fr));
-      return (SqlMeta) parser.parse().value;
-    } finally {
-      IOUtils.closeQuietly(fr);
-    }
+  /**
+   * Parses the meta definitions in parallel or loads them from the given
+   * cache if they have not changed
+   * @param cache cache of parsed meta definitions. May be null.
+   * @param files
+   * @return meta definition
+   * @throws Exception
+   * @see SqlMetaParser
+   */
+  public static SqlMeta parseMetaDefinitions(SqlMetaCache cache, File... files) throws Exception {
+    return new SqlMetaParser(cache, 0).parse(files);
   }
 
   public MetaOutputDifferenceGenerator(SqlMeta metaDefinitionFrom, SqlMeta metaDefinitionTo,
@@ -112,35 +107,95 @@ public class MetaOutputDifferenceGenerator {
     this.additionalConversionMeta = additionalConversionMeta;
     this.generator = generator;
     this.newVersionId = newVersionId;
+    this.diff = new SchemaDiff(metaDefinitionFrom, metaDefinitionTo, generator);
+    this.insertDiff = new InsertDiff(
+            removeInsertsToVersionTable(metaDefinitionFrom.getArtifacts(SqlInsertWithValues.class)),
+            removeInsertsToVersionTable(metaDefinitionTo.getArtifacts(SqlInsertWithValues.class)),
+            metaDefinitionFrom, metaDefinitionTo);
+  }
+
+  /**
+   * @return the structural difference the conversion script is generated from
+   */
+  public SchemaDiff getSchemaDiff() {
+    return diff;
+  }
+
+  /**
+   * @return the difference of the default table content
+   */
+  public InsertDiff getInsertDiff() {
+    return insertDiff;
+  }
+
+  /**
+   * @return the statements of the generated conversion script that read,
+   *         write or lock rows. Filled by {@link #generate(PrintWriter)}.
+   */
+  public MigrationCostReport getCostReport() {
+    return costReport;
   }
 
   public void generate(PrintWriter pr) throws Exception {
     generator.generateHeader(pr, "SQL script to convert the database for " + generator.dbName()
             + " from version " + (newVersionId - 1) + " to version " + newVersionId);
-    generateDropViews(pr);
-    indexes.generateDropIndexesOfRemovedIndexes(pr);
-    triggers.generateDropTriggersOfChangedTables(pr);
-    triggers.generateDropTriggersOfDeletedTriggers(pr);
-    foreignKeys.generateDropForeignKeysReferencingChangedOrDeletedColumns(pr);
-    generateDropTableOfDeletedTables(pr);
-    generateCreateTablesOfAddedTables(pr);
-    generateTableModifications(pr);
-    indexes.generateCreateIndexOfAddedIndexes(pr);
-    constraints.generateCreateUniqueOfAddedUniqueConstraints(pr);
-    triggers.generateCreateTriggersOfAddedTables(pr);
-    triggers.generateCreateTriggersOfAddedTriggers(pr);
-    foreignKeys.generateRecreateForeignKeysOfChangedColumns(pr);
-    triggers.generateRecreateTriggersOfChangedTables(pr);
-    generateCreateViews(pr);
-    generateDeletesOfRemovedInserts(pr);
-    generateInsertsOfNewAddedInserts(pr);
+    generate("dropViews", pr, this::generateDropViews);
+    generate("dropRemovedIndexes", pr, indexes::generateDropIndexesOfRemovedIndexes);
+    generate("dropTriggersOfChangedTables", pr, triggers::generateDropTriggersOfChangedTables);
+    generate("dropDeletedTriggers", pr, triggers::generateDropTriggersOfDeletedTriggers);
+    generate("dropForeignKeys", pr, foreignKeys::generateDropForeignKeysReferencingChangedOrDeletedColumns);
+    generate("dropDeletedTables", pr, this::generateDropTableOfDeletedTables);
+    generate("createAddedTables", pr, this::generateCreateTablesOfAddedTables, costs::addedTables);
+    generate("tableModifications", pr, this::generateTableModifications, costs::tableModifications);
+    generate("createAddedIndexes", pr, indexes::generateCreateIndexOfAddedIndexes, costs::addedIndexes);
+    generate("createAddedUniqueConstraints", pr, constraints::generateCreateUniqueOfAddedUniqueConstraints,
+            costs::addedUniqueConstraints);
+    generate("createTriggersOfAddedTables", pr, triggers::generateCreateTriggersOfAddedTables,
+            costs::triggersOfAddedTables);
+    generate("createAddedTriggers", pr, triggers::generateCreateTriggersOfAddedTriggers,
+            costs::addedTriggers);
+    generate("recreateForeignKeys", pr, foreignKeys::generateRecreateForeignKeysOfChangedColumns,
+            costs::recreatedForeignKeys);
+    generate("recreateTriggersOfChangedTables", pr, triggers::generateRecreateTriggersOfChangedTables,
+            costs::recreatedTriggers);
+    generate("createViews", pr, this::generateCreateViews);
+    generate("deleteRemovedInserts", pr, this::generateDeletesOfRemovedInserts, costs::removedInserts);
+    generate("updateChangedInserts", pr, this::generateUpdatesOfChangedInserts, costs::changedInserts);
+    generate("insertAddedInserts", pr, this::generateInsertsOfNewAddedInserts, costs::addedInserts);
     if (additionalConversionMeta != null) {
-      generator.generateMetaOutputStatements(pr, additionalConversionMeta);
+      generate("additionalConversion", pr, this::generateAdditionalConversion, costs::additionalConversion);
     }
-    generateDropTemporaryStoredProcedures(pr);
+    generate("validateForeignKeys", pr, foreignKeys::generateValidateForeignKeys,
+            costs::validatedForeignKeys);
+    generate("dropTemporaryStoredProcedures", pr, this::generateDropTemporaryStoredProcedures);
     generator.generateVersionUpdate(pr, newVersionId);
   }
 
+  private void generate(String step, PrintWriter pr, IStep generation) throws Exception {
+    generate(step, pr, generation, () -> {});
+  }
+
+  /**
+   * Generates a step of the conversion script, records it as
+   * {@link DiffPhaseEvent} and adds the statements of the step that read,
+   * write or lock rows to the {@link #getCostReport() cost report}
+   */
+  private void generate(String step, PrintWriter pr, IStep generation, Runnable cost) throws Exception {
+    var event = new DiffPhaseEvent();
+    event.begin();
+    try {
+      generation.generate(pr);
+      costReport.step(step);
+      cost.run();
+    } finally {
+      if (event.shouldCommit()) {
+        event.step = step;
+        event.database = generator.dbName();
+        event.commit();
+      }
+    }
+  }
+
   private void generateDropTemporaryStoredProcedures(PrintWriter pr) {
     if (createdTemporaryStoredProcedures.isEmpty()) {
       return;
@@ -152,169 +207,114 @@ public class MetaOutputDifferenceGenerator {
   }
 
   private void generateDeletesOfRemovedInserts(PrintWriter pr) {
-    List<SqlInsertWithValues> fromSqlInserts = removeInsertsToVersionTable(
-            metaDefinitionFrom.getArtifacts(SqlInsertWithValues.class));
-    List<SqlInsertWithValues> toSqlInserts = removeInsertsToVersionTable(
-            metaDefinitionTo.getArtifacts(SqlInsertWithValues.class));
-    List<String> toInsertStmts = getInsertStmts(toSqlInserts);
     boolean first = true;
-    for (SqlInsertWithValues fromSqlInsert : fromSqlInserts) {
-      String fromInsertStmt = getInsertStmt(fromSqlInsert);
-      if (!toInsertStmts.contains(fromInsertStmt)) {
-        if (first) {
-          generator.comments.generate(pr, "Delete removed default table content");
-        }
-        first = false;
-        generator.dmlStatements.generateDelete(pr, fromSqlInsert);
+    for (SqlInsertWithValues fromSqlInsert : insertDiff.getRemovedInserts()) {
+      if (first) {
+        generator.comments.generate(pr, "Delete removed default table content");
       }
+      first = false;
+      generator.dmlStatements.generateDelete(pr, fromSqlInsert);
     }
   }
 
-  private void generateInsertsOfNewAddedInserts(PrintWriter pr) {
-    List<SqlInsertWithValues> fromSqlInserts = removeInsertsToVersionTable(
-            metaDefinitionFrom.getArtifacts(SqlInsertWithValues.class));
-    List<String> fromInsertStmts = getInsertStmts(fromSqlInserts);
-    List<SqlInsertWithValues> toSqlInserts = removeInsertsToVersionTable(
-            metaDefinitionTo.getArtifacts(SqlInsertWithValues.class));
-    List<String> toInsertStmts = getInsertStmts(toSqlInserts);
+  private void generateUpdatesOfChangedInserts(PrintWriter pr) {
     boolean first = true;
-    for (String toInsertStmt : toInsertStmts) {
-      if (!fromInsertStmts.contains(toInsertStmt)) {
-        if (first) {
-          generator.comments.generate(pr, "Add new added default table content");
-        }
-        first = false;
-        pr.append(toInsertStmt);
+    for (ChangedInsert changedInsert : insertDiff.getChangedInserts()) {
+      if (first) {
+        generator.comments.generate(pr, "Update changed default table content");
       }
+      first = false;
+      generator.dmlStatements.generateUpdate(pr, changedInsert.getNewInsert(),
+              changedInsert.getChangedColumns(), changedInsert.getKeyColumns());
     }
   }
 
-  private List<SqlInsertWithValues> removeInsertsToVersionTable(List<SqlInsertWithValues> inserts) {
-    return inserts.stream().filter(insert -> !insert.getTable().equalsIgnoreCase(VERSION_TABLE))
-            .collect(Collectors.toList());
+  private void generateInsertsOfNewAddedInserts(PrintWriter pr) {
+    boolean first = true;
+    for (SqlInsertWithValues toSqlInsert : insertDiff.getAddedInserts()) {
+      if (first) {
+        generator.comments.generate(pr, "Add new added default table content");
+      }
+      first = false;
+      generator.dmlStatements.generateInsert(pr, toSqlInsert);
+    }
   }
 
-  private List<String> getInsertStmts(List<SqlInsertWithValues> sqlInserts) {
-    List<String> insterts = new ArrayList<>(sqlInserts.size());
-    for (SqlInsertWithValues sqlInsert : sqlInserts) {
-      String insertStmt = getInsertStmt(sqlInsert);
-      insterts.add(insertStmt);
-    }
-    return insterts;
+  private void generateAdditionalConversion(PrintWriter pr) throws Exception {
+    generator.generateMetaOutputStatements(pr, additionalConversionMeta, createdTemporaryStoredProcedures);
   }
 
-  private String getInsertStmt(SqlInsertWithValues sqlInsert) {
-    StringWriter output = new StringWriter();
-    generator.dmlStatements.generateInsert(new PrintWriter(output), sqlInsert);
-    return output.toString();
+  private static List<SqlInsertWithValues> removeInsertsToVersionTable(List<SqlInsertWithValues> inserts) {
+    return inserts.stream().filter(insert -> !insert.getTable().equalsIgnoreCase(VERSION_TABLE))
+            .collect(Collectors.toList());
   }
 
   class IndexGenerator {
 
     void generateCreateIndexOfAddedIndexes(PrintWriter pr) {
-      for (Entry<SqlTable, SqlTable> changedTable : findTablesWithAddedIndexes().entrySet()) {
-        SqlTable newTable = changedTable.getKey();
-        SqlTable oldTable = changedTable.getValue();
-        generateCreateIndexes(pr, newTable, oldTable);
+      for (TableDiff table : diff.getCommonTables()) {
+        generateCreateIndexes(pr, table);
       }
     }
 
-    private Map<SqlTable, SqlTable> findTablesWithAddedIndexes() {
-      Map<SqlTable, SqlTable> tables = new LinkedHashMap<>();
-      for (Entry<SqlTable, SqlTable> comonTable : findCommonTables().entrySet()) {
-        SqlTable newTable = comonTable.getKey();
-        SqlTable oldTable = comonTable.getValue();
-        boolean hasAddedIndexes = !findAddedIndexes(newTable, oldTable).isEmpty();
-        if (hasAddedIndexes) {
-          tables.put(newTable, oldTable);
-        }
-      }
-      return tables;
-    }
-
-    private void generateCreateIndexes(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-      List<SqlIndex> addedIndexes = findAddedIndexes(newTable, oldTable);
+    private void generateCreateIndexes(PrintWriter pr, TableDiff table) {
+      List<SqlIndex> addedIndexes = table.getAddedIndexes();
       if (addedIndexes.isEmpty()) {
         return;
       }
       pr.println();
-      generator.comments.generate(pr, "Create new indexes of table " + newTable.getId());
+      generator.comments.generate(pr, "Create new indexes of table " + table.getNewTable().getId());
       for (SqlIndex addedIndex : addedIndexes) {
-        generator.generateIndex(pr, newTable, addedIndex);
+        generator.generateBlockingComment(pr, DdlOperation.CREATE_INDEX, table.getNewTable());
+        generator.generateIndex(pr, table.getNewTable(), addedIndex);
       }
     }
 
-    private List<SqlIndex> findAddedIndexes(SqlTable newTable, SqlTable oldTable) {
-      return newTable
-              .getIndexes()
-              .stream()
-              .filter(newIndex -> oldTable.findIndex(newIndex.getId()) == null)
-              .collect(Collectors.toList());
-    }
-
-    void generateDropIndexesOfChangedColumns(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+    void generateDropIndexesOfChangedColumns(PrintWriter pr, TableDiff table) {
       if (!generator.getRecreateOptions().indexesOnAlterTable) {
         return;
       }
-      Set<SqlIndex> changedIndexes = getIndexesFromChangedColumns(newTable, oldTable);
+      Set<SqlIndex> changedIndexes = getIndexesFromChangedColumns(table);
       if (changedIndexes.isEmpty()) {
         return;
       }
       pr.println();
       generator.comments.generate(pr, "Drop indexes which depend on changed columns");
       for (SqlIndex sqlIndex : changedIndexes) {
-        generator.generateDropIndex(pr, oldTable, sqlIndex);
+        generator.generateDropIndex(pr, table.getOldTable(), sqlIndex);
       }
     }
 
     void generateDropIndexesOfRemovedIndexes(PrintWriter pr) {
-      for (Entry<SqlTable, SqlTable> changedTable : findTablesWithRemovedIndexes().entrySet()) {
-        SqlTable newTable = changedTable.getKey();
-        SqlTable oldTable = changedTable.getValue();
-        generateDroppedIndexes(pr, newTable, oldTable);
-      }
-    }
-
-    private Map<SqlTable, SqlTable> findTablesWithRemovedIndexes() {
-      Map<SqlTable, SqlTable> tables = new LinkedHashMap<>();
-      for (Entry<SqlTable, SqlTable> comonTable : findCommonTables().entrySet()) {
-        SqlTable newTable = comonTable.getKey();
-        SqlTable oldTable = comonTable.getValue();
-        boolean hasRemovedIndexes = !findRemovedIndexes(newTable, oldTable).isEmpty();
-        if (hasRemovedIndexes) {
-          tables.put(newTable, oldTable);
-        }
+      for (TableDiff table : diff.getCommonTables()) {
+        generateDroppedIndexes(pr, table);
       }
-      return tables;
     }
 
-    private List<SqlIndex> findRemovedIndexes(SqlTable newTable, SqlTable oldTable) {
-      return oldTable
-              .getIndexes()
-              .stream()
-              .filter(oldIndex -> newTable.findIndex(oldIndex.getId()) == null)
-              .collect(Collectors.toList());
-    }
-
-    private void generateDroppedIndexes(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-      List<SqlIndex> changedIndexes = findRemovedIndexes(newTable, oldTable);
+    private void generateDroppedIndexes(PrintWriter pr, TableDiff table) {
+      List<SqlIndex> changedIndexes = table.getRemovedIndexes();
       if (changedIndexes.isEmpty()) {
         return;
       }
       pr.println();
-      generator.comments.generate(pr, "Drop removed indexes of table " + newTable.getId());
+      generator.comments.generate(pr, "Drop removed indexes of table " + table.getNewTable().getId());
       for (SqlIndex sqlIndex : changedIndexes) {
-        generator.generateDropIndex(pr, oldTable, sqlIndex);
+        generator.generateDropIndex(pr, table.getOldTable(), sqlIndex);
       }
     }
 
-    private Set<SqlIndex> getIndexesFromChangedColumns(SqlTable newTable, SqlTable oldTable) {
+    /**
+     * @return indexes of the old table on changed columns. Removed indexes are
+     *         already dropped and are not recreated.
+     */
+    private Set<SqlIndex> getIndexesFromChangedColumns(TableDiff table) {
       Set<SqlIndex> result = new LinkedHashSet<>();
-      List<SqlIndex> sqlIndexes = generator.getIndexes(oldTable);
-      Map<SqlTableColumn, SqlTableColumn> changedColumns = findChangedColumns(newTable, oldTable);
+      List<SqlIndex> sqlIndexes = generator.getIndexes(table.getOldTable());
+      Map<SqlTableColumn, SqlTableColumn> changedColumns = getColumnsWithDependentsToRecreate(table);
       for (SqlTableColumn changedColumn : changedColumns.keySet()) {
         for (SqlIndex sqlIndex : sqlIndexes) {
-          if (sqlIndex.getColumns().contains(changedColumn.getId())) {
+          if (sqlIndex.getColumns().contains(changedColumn.getId())
+                  && !table.getRemovedIndexes().contains(sqlIndex)) {
             result.add(sqlIndex);
           }
         }
@@ -322,48 +322,48 @@ public class MetaOutputDifferenceGenerator {
       return result;
     }
 
-    void generateRecreateIndexes(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+    void generateRecreateIndexes(PrintWriter pr, TableDiff table) {
       if (!generator.getRecreateOptions().indexesOnAlterTable) {
         return;
       }
-      Set<SqlIndex> changedIndexes = getIndexesFromChangedColumns(newTable, oldTable);
+      Set<SqlIndex> changedIndexes = getIndexesFromChangedColumns(table);
       if (changedIndexes.isEmpty()) {
         return;
       }
       pr.println();
       generator.comments.generate(pr, "Create index which depend on changed columns");
       for (SqlIndex sqlIndex : changedIndexes) {
-        generator.generateIndex(pr, newTable, sqlIndex);
+        generator.generateBlockingComment(pr, DdlOperation.CREATE_INDEX, table.getNewTable());
+        generator.generateIndex(pr, table.getNewTable(), sqlIndex);
       }
     }
   }
 
   class ConstraintGenerator {
 
-    void generateRecreateDefaultConstraints(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+    void generateRecreateDefaultConstraints(PrintWriter pr, TableDiff table) {
       if (!generator.getRecreateOptions().defaultConstraints) {
         return;
       }
-      for (SqlTableColumn col : getChangedColumnsWithDefaultConstraint(newTable, oldTable)) {
-        generator.generateRecreateDefaultConstraint(pr, oldTable, col);
+      for (SqlTableColumn col : getChangedColumnsWithDefaultConstraint(table)) {
+        generator.generateRecreateDefaultConstraint(pr, table.getOldTable(), col);
       }
     }
 
-    void generateDropDefaultConstraints(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+    void generateDropDefaultConstraints(PrintWriter pr, TableDiff table) {
       if (!generator.getRecreateOptions().defaultConstraints) {
         return;
       }
-      List<SqlTableColumn> affectedColumns = getChangedColumnsWithDefaultConstraint(newTable, oldTable);
-      affectedColumns.addAll(getDroppedColumnsWithDefaultConstraint(newTable, oldTable));
+      List<SqlTableColumn> affectedColumns = getChangedColumnsWithDefaultConstraint(table);
+      affectedColumns.addAll(getDroppedColumnsWithDefaultConstraint(table));
       for (SqlTableColumn col : affectedColumns) {
-        generator.generateDropDefaultConstraint(pr, oldTable, col);
+        generator.generateDropDefaultConstraint(pr, table.getOldTable(), col);
       }
     }
 
-    private List<SqlTableColumn> getChangedColumnsWithDefaultConstraint(SqlTable newTable,
-            SqlTable oldTable) {
+    private List<SqlTableColumn> getChangedColumnsWithDefaultConstraint(TableDiff table) {
       List<SqlTableColumn> result = new ArrayList<>();
-      Map<SqlTableColumn, SqlTableColumn> changedColumns = findChangedColumns(newTable, oldTable);
+      Map<SqlTableColumn, SqlTableColumn> changedColumns = table.getChangedColumns();
       for (SqlTableColumn changedColumn : changedColumns.keySet()) {
         if (changedColumn.getDefaultValue() != null) {
           result.add(changedColumn);
@@ -372,10 +372,9 @@ public class MetaOutputDifferenceGenerator {
       return result;
     }
 
-    private List<SqlTableColumn> getDroppedColumnsWithDefaultConstraint(SqlTable newTable,
-            SqlTable oldTable) {
+    private List<SqlTableColumn> getDroppedColumnsWithDefaultConstraint(TableDiff table) {
       List<SqlTableColumn> result = new ArrayList<>();
-      for (SqlTableColumn changedColumn : findDroppedColumns(newTable, oldTable)) {
+      for (SqlTableColumn changedColumn : table.getDroppedColumns()) {
         if (changedColumn.getDefaultValue() != null) {
           result.add(changedColumn);
         }
@@ -384,33 +383,18 @@ public class MetaOutputDifferenceGenerator {
     }
 
     void generateCreateUniqueOfAddedUniqueConstraints(PrintWriter pr) {
-      for (Entry<SqlTable, SqlTable> changedTable : findTablesWithAddedUniqueConstraints().entrySet()) {
-        SqlTable newTable = changedTable.getKey();
-        SqlTable oldTable = changedTable.getValue();
-        generateCreateUniqueConstraint(pr, newTable, oldTable);
+      for (TableDiff table : diff.getCommonTables()) {
+        generateCreateUniqueConstraint(pr, table);
       }
     }
 
-    private Map<SqlTable, SqlTable> findTablesWithAddedUniqueConstraints() {
-      Map<SqlTable, SqlTable> tables = new LinkedHashMap<>();
-      for (Entry<SqlTable, SqlTable> comonTable : findCommonTables().entrySet()) {
-        SqlTable newTable = comonTable.getKey();
-        SqlTable oldTable = comonTable.getValue();
-        boolean hasAddedIndexes = !findAddedUniqueConstraints(newTable, oldTable).isEmpty();
-        if (hasAddedIndexes) {
-          tables.put(newTable, oldTable);
-        }
-      }
-      return tables;
-    }
-
-    private void generateCreateUniqueConstraint(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-      List<SqlUniqueConstraint> addedUniques = findAddedUniqueConstraints(newTable, oldTable);
+    private void generateCreateUniqueConstraint(PrintWriter pr, TableDiff table) {
+      List<SqlUniqueConstraint> addedUniques = table.getAddedUniqueConstraints();
       if (addedUniques.isEmpty()) {
         return;
       }
-      Set<SqlUniqueConstraint> alreadyRecreatedUniqueConstraints = getUniqueConstraintsToRecreate(newTable,
-              oldTable);
+      SqlTable newTable = table.getNewTable();
+      Set<SqlUniqueConstraint> alreadyRecreatedUniqueConstraints = getUniqueConstraintsToRecreate(table);
       pr.println();
       generator.comments.generate(pr, "Create new unique constraint of table " + newTable.getId());
       for (SqlUniqueConstraint addedUnique : addedUniques) {
@@ -418,33 +402,23 @@ public class MetaOutputDifferenceGenerator {
           generator.comments.generate(pr, "Skipping generation of constraint '" + addedUnique + "'."
                   + " It was already re-generated in this script.");
         } else {
+          generator.generateBlockingComment(pr, DdlOperation.ADD_UNIQUE_CONSTRAINT, newTable);
           generator.generateAddUniqueConstraint(pr, newTable, addedUnique);
         }
       }
       pr.println();
     }
 
-    private List<SqlUniqueConstraint> findAddedUniqueConstraints(SqlTable newTable, SqlTable oldTable) {
-      List<SqlUniqueConstraint> addedUniques = new ArrayList<>();
-      for (SqlUniqueConstraint newUnique : newTable.getUniqueConstraints()) {
-        SqlUniqueConstraint oldIndex = oldTable.findUniqueConstraint(newUnique.getId());
-        if (oldIndex == null) {
-          addedUniques.add(newUnique);
-        }
-      }
-      return addedUniques;
-    }
-
-    void generateDeleteUniqueConstraints(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+    void generateDeleteUniqueConstraints(PrintWriter pr, TableDiff table) {
       Set<SqlUniqueConstraint> changedUniqueConstraints = new LinkedHashSet<>();
       if (generator.getRecreateOptions().uniqueConstraintsOnAlterTable) {
         if (generator.getRecreateOptions().allUniqueConstraintsOnAlterTable) {
-          changedUniqueConstraints.addAll(oldTable.getUniqueConstraints());
+          changedUniqueConstraints.addAll(table.getOldTable().getUniqueConstraints());
         } else {
-          changedUniqueConstraints.addAll(getUniqueConstraintsFromChangedColumns(newTable, oldTable));
+          changedUniqueConstraints.addAll(getUniqueConstraintsFromChangedColumns(table));
         }
       }
-      changedUniqueConstraints.addAll(findDeletedUniqueConstraints(newTable, oldTable));
+      changedUniqueConstraints.addAll(table.getDeletedUniqueConstraints());
       if (changedUniqueConstraints.isEmpty()) {
         return;
       }
@@ -452,37 +426,25 @@ public class MetaOutputDifferenceGenerator {
       generator.comments.generate(pr,
               "Drop unique constraint which depend on changed columns or was deleted");
       for (SqlUniqueConstraint uniqueConstraint : changedUniqueConstraints) {
-        generator.generateDropUniqueConstraint(pr, oldTable, uniqueConstraint,
+        generator.generateDropUniqueConstraint(pr, table.getOldTable(), uniqueConstraint,
                 createdTemporaryStoredProcedures);
       }
     }
 
-    private Set<SqlUniqueConstraint> findDeletedUniqueConstraints(SqlTable newTable,
-            SqlTable oldTable) {
-      Set<SqlUniqueConstraint> deletedUniqueConstraints = new LinkedHashSet<>();
-      for (SqlUniqueConstraint oldConstraint : oldTable.getUniqueConstraints()) {
-        SqlUniqueConstraint newConstraint = newTable.findUniqueConstraint(oldConstraint.getId());
-        if (newConstraint == null) {
-          deletedUniqueConstraints.add(oldConstraint);
-        }
-      }
-      return deletedUniqueConstraints;
-    }
-
-    void generateRecreateUniqueConstraints(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-      Set<SqlUniqueConstraint> uniqueConstraints = getUniqueConstraintsToRecreate(newTable, oldTable);
-      generateCreateUniqueConstraints(pr, newTable, uniqueConstraints);
+    void generateRecreateUniqueConstraints(PrintWriter pr, TableDiff table) {
+      Set<SqlUniqueConstraint> uniqueConstraints = getUniqueConstraintsToRecreate(table);
+      generateCreateUniqueConstraints(pr, table.getNewTable(), uniqueConstraints);
     }
 
-    private Set<SqlUniqueConstraint> getUniqueConstraintsToRecreate(SqlTable newTable, SqlTable oldTable) {
+    private Set<SqlUniqueConstraint> getUniqueConstraintsToRecreate(TableDiff table) {
       if (!generator.getRecreateOptions().uniqueConstraintsOnAlterTable) {
         return Collections.emptySet();
       }
       Set<SqlUniqueConstraint> uniqueConstraints = new HashSet<>();
       if (generator.getRecreateOptions().allUniqueConstraintsOnAlterTable) {
-        uniqueConstraints.addAll(newTable.getUniqueConstraints());
+        uniqueConstraints.addAll(table.getNewTable().getUniqueConstraints());
       } else {
-        uniqueConstraints.addAll(getUniqueConstraintsFromChangedColumns(newTable, oldTable));
+        uniqueConstraints.addAll(getUniqueConstraintsFromChangedColumns(table));
       }
       return uniqueConstraints;
     }
@@ -495,14 +457,14 @@ public class MetaOutputDifferenceGenerator {
       pr.println();
       generator.comments.generate(pr, "Create unique constraints which depend on changed columns");
       for (SqlUniqueConstraint uniqueConstraint : uniqueConstraints) {
+        generator.generateBlockingComment(pr, DdlOperation.ADD_UNIQUE_CONSTRAINT, newTable);
         generator.generateAddUniqueConstraint(pr, newTable, uniqueConstraint);
       }
     }
 
-    private Set<SqlUniqueConstraint> getUniqueConstraintsFromChangedColumns(SqlTable newTable,
-            SqlTable oldTable) {
+    private Set<SqlUniqueConstraint> getUniqueConstraintsFromChangedColumns(TableDiff table) {
       List<String> changedColumNames = new ArrayList<>();
-      for (Entry<SqlTableColumn, SqlTableColumn> changedColumn : findChangedColumns(newTable, oldTable)
+      for (Entry<SqlTableColumn, SqlTableColumn> changedColumn : getColumnsWithDependentsToRecreate(table)
               .entrySet()) {
         SqlTableColumn newColumn = changedColumn.getKey();
         SqlTableColumn oldColumn = changedColumn.getValue();
@@ -511,7 +473,7 @@ public class MetaOutputDifferenceGenerator {
           changedColumNames.add(newColumn.getId());
         }
       }
-      return getUniqeConstraints(newTable, changedColumNames);
+      return getUniqeConstraints(table.getNewTable(), changedColumNames);
     }
 
     /**
@@ -543,7 +505,7 @@ public class MetaOutputDifferenceGenerator {
     }
 
     public void generateCreateTriggersOfAddedTables(PrintWriter pr) {
-      for (SqlTable addedTable : findAddedTables()) {
+      for (SqlTable addedTable : diff.getAddedTables()) {
         if (generator.triggers.hasTrigger(metaDefinitionTo, addedTable)) {
           pr.println();
           generator.comments.generate(pr,
@@ -591,11 +553,9 @@ public class MetaOutputDifferenceGenerator {
 
     private Map<SqlTable, SqlTable> findTablesWithAddedTriggers() {
       Map<SqlTable, SqlTable> tablesOfAddedTriggers = new LinkedHashMap<>();
-      for (Entry<SqlTable, SqlTable> comonTable : findCommonTables().entrySet()) {
-        SqlTable newTable = comonTable.getKey();
-        SqlTable oldTable = comonTable.getValue();
-        if (hasAddedTrigger(newTable, oldTable)) {
-          tablesOfAddedTriggers.put(newTable, oldTable);
+      for (TableDiff table : diff.getCommonTables()) {
+        if (table.isTriggerAdded()) {
+          tablesOfAddedTriggers.put(table.getNewTable(), table.getOldTable());
         }
       }
       return tablesOfAddedTriggers;
@@ -604,21 +564,17 @@ public class MetaOutputDifferenceGenerator {
     private Map<SqlTable, SqlTable> findTablesWithChangedTriggers() {
       Map<SqlTable, SqlTable> tablesOfChangedTriggers = new LinkedHashMap<>();
       // fist check all common tables if they have a trigger which has changed
-      for (Entry<SqlTable, SqlTable> comonTable : findCommonTables().entrySet()) {
-        SqlTable newTable = comonTable.getKey();
-        SqlTable oldTable = comonTable.getValue();
-        if (hasTriggerChanged(newTable, oldTable)) {
-          tablesOfChangedTriggers.put(newTable, oldTable);
+      for (TableDiff table : diff.getCommonTables()) {
+        if (table.isTriggerChanged()) {
+          tablesOfChangedTriggers.put(table.getNewTable(), table.getOldTable());
         }
       }
       // if recreation of trigger is needed on table modification check if
       // changed tables have triggers
       if (generator.getRecreateOptions().triggerOnAlterTable) {
-        for (Entry<SqlTable, SqlTable> comonTable : findChangedTables().entrySet()) {
-          SqlTable newTable = comonTable.getKey();
-          SqlTable oldTable = comonTable.getValue();
-          if (generator.triggers.hasTrigger(metaDefinitionTo, newTable)) {
-            tablesOfChangedTriggers.put(newTable, oldTable);
+        for (TableDiff table : diff.getChangedTables()) {
+          if (generator.triggers.hasTrigger(metaDefinitionTo, table.getNewTable())) {
+            tablesOfChangedTriggers.put(table.getNewTable(), table.getOldTable());
           }
         }
       }
@@ -628,59 +584,19 @@ public class MetaOutputDifferenceGenerator {
     private Map<SqlTable, SqlTable> findTablesWithDeletedTriggers() {
       Map<SqlTable, SqlTable> tablesOfDeletedTriggers = new LinkedHashMap<>();
       // check all common tables if they have triggers which have been deleted
-      for (Entry<SqlTable, SqlTable> comonTable : findCommonTables().entrySet()) {
-        SqlTable newTable = comonTable.getKey();
-        SqlTable oldTable = comonTable.getValue();
-        if (hasTriggerDeleted(newTable, oldTable)) {
-          tablesOfDeletedTriggers.put(newTable, oldTable);
+      for (TableDiff table : diff.getCommonTables()) {
+        if (table.isTriggerDeleted()) {
+          tablesOfDeletedTriggers.put(table.getNewTable(), table.getOldTable());
         }
       }
       return tablesOfDeletedTriggers;
     }
-
-    private boolean hasTriggerChanged(SqlTable newTable, SqlTable oldTable) {
-      if (newTable == null || oldTable == null) {
-        return true;
-      }
-      StringWriter fromOut = new StringWriter();
-      StringWriter toOut = new StringWriter();
-      generateTrigger(new PrintWriter(fromOut), newTable, metaDefinitionFrom);
-      generateTrigger(new PrintWriter(toOut), oldTable, metaDefinitionTo);
-      if (StringUtils.isBlank(toOut.toString()) || StringUtils.isBlank(fromOut.toString())) {
-        // trigger was deleted or added (not changed)
-        return false;
-      }
-      return !toOut.toString().equals(fromOut.toString());
-    }
-
-    private boolean hasTriggerDeleted(SqlTable newTable, SqlTable oldTable) {
-      if (newTable == null || oldTable == null) {
-        return true;
-      }
-      StringWriter fromOut = new StringWriter();
-      StringWriter toOut = new StringWriter();
-      generateTrigger(new PrintWriter(fromOut), newTable, metaDefinitionFrom);
-      generateTrigger(new PrintWriter(toOut), oldTable, metaDefinitionTo);
-      if (StringUtils.isBlank(toOut.toString()) && !StringUtils.isBlank(fromOut.toString())) {
-        return true;
-      }
-      return false;
-    }
-
-    private boolean hasAddedTrigger(SqlTable newTable, SqlTable oldTable) {
-      if (newTable == null || oldTable == null) {
-        return true;
-      }
-      StringWriter fromOut = new StringWriter();
-      StringWriter toOut = new StringWriter();
-      generateTrigger(new PrintWriter(fromOut), newTable, metaDefinitionFrom);
-      generateTrigger(new PrintWriter(toOut), oldTable, metaDefinitionTo);
-      return StringUtils.isNotEmpty(toOut.toString()) && StringUtils.isBlank(fromOut.toString());
-    }
   }
 
   class ForeignKeyGenerator {
 
+    private final List<Pair<SqlTable, SqlForeignKey>> foreignKeysToValidate = new ArrayList<>();
+
     void generateRecreateForeignKeysOfChangedColumns(PrintWriter pr) {
       if (!generator.getRecreateOptions().foreignKeysOnAlterTable) {
         return;
@@ -688,7 +604,7 @@ public class MetaOutputDifferenceGenerator {
       List<Pair<SqlTable, SqlForeignKey>> referencingColumns = getForeignKeysReferencingChangedColumns();
       for (Pair<SqlTable, SqlForeignKey> pair : referencingColumns) {
         if (generator.foreignKeys.isSupported(pair.getRight())) {
-          generator.foreignKeys.generateAlterTableAdd(pr, pair.getLeft(), pair.getRight());
+          generateAlterTableAdd(pr, pair.getLeft(), pair.getRight());
         }
       }
     }
@@ -710,12 +626,10 @@ public class MetaOutputDifferenceGenerator {
 
     private List<Pair<SqlTable, SqlForeignKey>> getForeignKeysReferencingChangedColumns() {
       List<Pair<SqlTable, SqlForeignKey>> sqlForeignKeys = new ArrayList<>();
-      for (Entry<SqlTable, SqlTable> changedTable : findChangedTables().entrySet()) {
-        Map<SqlTableColumn, SqlTableColumn> changedColumns = findChangedColumns(changedTable.getKey(),
-                changedTable.getValue());
-        for (Entry<SqlTableColumn, SqlTableColumn> changedColumn : changedColumns.entrySet()) {
+      for (TableDiff changedTable : diff.getChangedTables()) {
+        for (SqlTableColumn changedColumn : getColumnsWithDependentsToRecreate(changedTable).keySet()) {
           List<Pair<SqlTable, SqlForeignKey>> referencingColumns = metaDefinitionFrom
-                  .getReferencingForeignKeys(changedTable.getKey(), changedColumn.getKey());
+                  .getReferencingForeignKeys(changedTable.getNewTable(), changedColumn);
           sqlForeignKeys.addAll(referencingColumns);
         }
       }
@@ -724,12 +638,10 @@ public class MetaOutputDifferenceGenerator {
 
     private List<Pair<SqlTable, SqlForeignKey>> getForeignKeysReferencingDroppedColumns() {
       List<Pair<SqlTable, SqlForeignKey>> sqlForeignKeys = new ArrayList<>();
-      for (Entry<SqlTable, SqlTable> changedTable : findChangedTables().entrySet()) {
-        List<SqlTableColumn> droppedColumns = findDroppedColumns(changedTable.getKey(),
-                changedTable.getValue());
-        for (SqlTableColumn droppedColumn : droppedColumns) {
+      for (TableDiff changedTable : diff.getChangedTables()) {
+        for (SqlTableColumn droppedColumn : changedTable.getDroppedColumns()) {
           List<Pair<SqlTable, SqlForeignKey>> referencingColumns = metaDefinitionFrom
-                  .getReferencingForeignKeys(changedTable.getValue(), droppedColumn);
+                  .getReferencingForeignKeys(changedTable.getOldTable(), droppedColumn);
           sqlForeignKeys.addAll(referencingColumns);
         }
       }
@@ -738,7 +650,7 @@ public class MetaOutputDifferenceGenerator {
 
     private List<Pair<SqlTable, SqlForeignKey>> getForeignKeysReferencingDroppedTables() {
       List<Pair<SqlTable, SqlForeignKey>> sqlForeignKeys = new ArrayList<>();
-      for (SqlTable droppedTable : findDroppedTables()) {
+      for (SqlTable droppedTable : diff.getDroppedTables()) {
         List<Pair<SqlTable, SqlForeignKey>> referencingColumns = metaDefinitionFrom
                 .getReferencingForeignKeys(droppedTable);
         sqlForeignKeys.addAll(referencingColumns);
@@ -746,20 +658,21 @@ public class MetaOutputDifferenceGenerator {
       return sqlForeignKeys;
     }
 
-    void generateAlterForeignKeys(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+    void generateAlterForeignKeys(PrintWriter pr, TableDiff table) {
       if (generator.foreignKeys.isReferenceInColumnDefinitionSupported()) {
         return;
       }
-      List<SqlForeignKey> addedForeignKeys = findChangedForeignKeys(newTable, oldTable);
+      SqlTable newTable = table.getNewTable();
+      List<SqlForeignKey> addedForeignKeys = table.getAddedForeignKeys();
       if (!addedForeignKeys.isEmpty()) {
         pr.println();
         generator.comments.generate(pr, "Create added foreign keys of table " + newTable.getId());
         for (SqlForeignKey sqlForeignKey : addedForeignKeys) {
-          generator.foreignKeys.generateAlterTableAdd(pr, newTable, sqlForeignKey);
+          generateAlterTableAdd(pr, newTable, sqlForeignKey);
         }
       }
-      List<SqlForeignKey> removedForeignKeys = findChangedForeignKeys(oldTable, newTable);
-      removedForeignKeys = removeForeignKeysOnDroppedColumns(newTable, removedForeignKeys);
+      List<SqlForeignKey> removedForeignKeys = removeForeignKeysOnDroppedColumns(newTable,
+              table.getRemovedForeignKeys());
       if (!removedForeignKeys.isEmpty()) {
         pr.println();
         generator.comments.generate(pr, "Remove foreign keys of table " + newTable.getId());
@@ -770,44 +683,48 @@ public class MetaOutputDifferenceGenerator {
       }
     }
 
-    private List<SqlForeignKey> removeForeignKeysOnDroppedColumns(SqlTable newTable,
-            List<SqlForeignKey> removedForeignKeys) {
-      return removedForeignKeys
-              .stream()
-              .filter(foreignKey -> newTable.findColumn(foreignKey.getColumnName()) != null)
-              .collect(Collectors.toList());
+    /**
+     * Online the foreign key is added without validating the existing rows, if
+     * the database system supports it. The validation is generated at the end
+     * of the script, see {@link #generateValidateForeignKeys(PrintWriter)}.
+     */
+    private void generateAlterTableAdd(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+      if (isValidationDeferred()) {
+        generator.foreignKeys.generateAlterTableAddNotValidated(pr, table, foreignKey);
+        foreignKeysToValidate.add(Pair.of(table, foreignKey));
+      } else {
+        generator.generateBlockingComment(pr, DdlOperation.ADD_FOREIGN_KEY, table);
+        generator.foreignKeys.generateAlterTableAdd(pr, table, foreignKey);
+      }
     }
 
-    boolean hasForeignKeyDefinitionChanged(SqlTable newTable, SqlTable oldTable) {
-      List<SqlForeignKey> added = findChangedForeignKeys(newTable, oldTable);
-      List<SqlForeignKey> removed = findChangedForeignKeys(oldTable, newTable);
-      return !(added.isEmpty() && removed.isEmpty());
+    private boolean isValidationDeferred() {
+      return generator.isOnline() && generator.foreignKeys.isDeferredValidationSupported();
     }
 
-    private List<SqlForeignKey> findChangedForeignKeys(SqlTable newTable, SqlTable oldTable) {
-      List<SqlForeignKey> changedKeys = new ArrayList<>();
-      List<SqlForeignKey> newForeignKeys = newTable.getForeignKeys();
-      for (SqlForeignKey newForeignKey : newForeignKeys) {
-        if (generator.foreignKeys.isSupported(newForeignKey)) {
-          SqlForeignKey oldForeignKey = oldTable.findForeignKey(newForeignKey.getId());
-          if (!isForeignKey(oldForeignKey)) {
-            changedKeys.add(newForeignKey);
-          }
-        }
+    void generateValidateForeignKeys(PrintWriter pr) {
+      if (foreignKeysToValidate.isEmpty()) {
+        return;
+      }
+      pr.println();
+      generator.comments.generate(pr,
+              "Validate added foreign keys. This can run after the application is up again");
+      for (Pair<SqlTable, SqlForeignKey> pair : foreignKeysToValidate) {
+        generator.foreignKeys.generateValidate(pr, pair.getLeft(), pair.getRight());
       }
-      return changedKeys;
     }
 
-    private boolean isForeignKey(SqlForeignKey foreignKey) {
-      if (foreignKey == null) {
-        return false;
-      }
-      return generator.foreignKeys.isSupported(foreignKey);
+    private List<SqlForeignKey> removeForeignKeysOnDroppedColumns(SqlTable newTable,
+            List<SqlForeignKey> removedForeignKeys) {
+      return removedForeignKeys
+              .stream()
+              .filter(foreignKey -> newTable.findColumnCaseSensitive(foreignKey.getColumnName()) != null)
+              .collect(Collectors.toList());
     }
   }
 
   private void generateDropTableOfDeletedTables(PrintWriter pr) {
-    List<SqlTable> deletedTables = findDroppedTables();
+    List<SqlTable> deletedTables = diff.getDroppedTables();
     if (deletedTables.isEmpty()) {
       return;
     }
@@ -827,7 +744,7 @@ public class MetaOutputDifferenceGenerator {
 
   private void generateCreateTablesOfAddedTables(PrintWriter pr) {
     registerOldTables();
-    List<SqlTable> addedTables = findAddedTables();
+    List<SqlTable> addedTables = diff.getAddedTables();
     if (addedTables.isEmpty()) {
       return;
     }
@@ -844,31 +761,30 @@ public class MetaOutputDifferenceGenerator {
   }
 
   private void generateTableModifications(PrintWriter pr) {
-    for (Entry<SqlTable, SqlTable> changedTable : findChangedTables().entrySet()) {
-      SqlTable newTable = changedTable.getKey();
-      SqlTable oldTable = changedTable.getValue();
-      constraints.generateDeleteUniqueConstraints(pr, newTable, oldTable);
-      indexes.generateDropIndexesOfChangedColumns(pr, newTable, oldTable);
-      generateDropPrimaryKeys(pr, newTable, oldTable);
-      constraints.generateDropDefaultConstraints(pr, newTable, oldTable);
-      generateAlterTable(pr, newTable, oldTable);
-      foreignKeys.generateAlterForeignKeys(pr, newTable, oldTable);
-      constraints.generateRecreateDefaultConstraints(pr, newTable, oldTable);
-      generateRecreatePrimaryKeys(pr, newTable, oldTable);
-      indexes.generateRecreateIndexes(pr, newTable, oldTable);
-      constraints.generateRecreateUniqueConstraints(pr, newTable, oldTable);
-      generateTableReorganisation(pr, newTable, oldTable);
+    for (TableDiff changedTable : diff.getChangedTables()) {
+      constraints.generateDeleteUniqueConstraints(pr, changedTable);
+      indexes.generateDropIndexesOfChangedColumns(pr, changedTable);
+      generateDropPrimaryKeys(pr, changedTable);
+      constraints.generateDropDefaultConstraints(pr, changedTable);
+      generateAlterTable(pr, changedTable);
+      foreignKeys.generateAlterForeignKeys(pr, changedTable);
+      constraints.generateRecreateDefaultConstraints(pr, changedTable);
+      generateRecreatePrimaryKeys(pr, changedTable);
+      indexes.generateRecreateIndexes(pr, changedTable);
+      constraints.generateRecreateUniqueConstraints(pr, changedTable);
+      generateTableReorganisation(pr, changedTable);
     }
   }
 
-  private void generateAlterTable(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-    generateAlterTableDropColumns(pr, newTable, oldTable);
-    generateAlterTableAlterColumns(pr, newTable, oldTable);
-    generateAlterTableAddColumns(pr, newTable, oldTable);
+  private void generateAlterTable(PrintWriter pr, TableDiff table) {
+    generateAlterTableDropColumns(pr, table);
+    generateAlterTableAlterColumns(pr, table);
+    generateAlterTableAddColumns(pr, table);
   }
 
-  private void generateAlterTableDropColumns(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-    List<SqlTableColumn> droppedColumns = findDroppedColumns(newTable, oldTable);
+  private void generateAlterTableDropColumns(PrintWriter pr, TableDiff table) {
+    SqlTable newTable = table.getNewTable();
+    List<SqlTableColumn> droppedColumns = table.getDroppedColumns();
     if (droppedColumns.isEmpty()) {
       return;
     }
@@ -880,28 +796,36 @@ public class MetaOutputDifferenceGenerator {
     }
   }
 
-  private void generateAlterTableAlterColumns(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-    Map<SqlTableColumn, SqlTableColumn> changedColumns = findChangedColumns(newTable, oldTable);
+  private void generateAlterTableAlterColumns(PrintWriter pr, TableDiff table) {
+    SqlTable newTable = table.getNewTable();
+    Map<SqlTableColumn, SqlTableColumn> changedColumns = table.getChangedColumns();
     if (changedColumns.size() > 0) {
       pr.println();
       generator.comments.generate(pr, "Changed columns of table " + newTable.getId());
       for (Entry<SqlTableColumn, SqlTableColumn> changedColumn : changedColumns.entrySet()) {
         SqlTableColumn newColumn = changedColumn.getKey();
         SqlTableColumn oldColumn = changedColumn.getValue();
+        generator.generateBlockingComment(pr,
+                generator.getAlterColumnOperation(newTable, newColumn, oldColumn), newTable);
         generator.generateAlterTableAlterColumn(pr, newColumn, newTable, oldColumn);
         pr.println();
       }
     }
   }
 
-  private void generateAlterTableAddColumns(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-    List<SqlTableColumn> addedColumns = findAddedColumns(newTable, oldTable);
+  private void generateAlterTableAddColumns(PrintWriter pr, TableDiff table) {
+    SqlTable newTable = table.getNewTable();
+    List<SqlTableColumn> addedColumns = table.getAddedColumns();
     if (addedColumns.isEmpty()) {
       return;
     }
     pr.println();
     generator.comments.generate(pr, "Added columns of table " + newTable.getId());
     for (SqlTableColumn addedColumn : addedColumns) {
+      boolean addsForeignKey = addedColumn.getReference() != null
+              && generator.foreignKeys.isReferenceInColumnDefinitionSupported();
+      generator.generateBlockingComment(pr,
+              addsForeignKey ? DdlOperation.ADD_FOREIGN_KEY : DdlOperation.ADD_COLUMN, newTable);
       generator.generateAlterTableAddColumn(pr, addedColumn, newTable);
       pr.println();
     }
@@ -919,16 +843,16 @@ public class MetaOutputDifferenceGenerator {
 
   private Set<SqlView> findChangedViews(boolean includeDropped) {
     Set<SqlView> changedViews = new HashSet<>();
-    changedViews.addAll(findViewsWhichDependOnChangedTables());
-    changedViews.addAll(findViewsWhichHasNewDefinition());
+    changedViews.addAll(diff.getViewsWhichDependOnChangedTables());
+    changedViews.addAll(diff.getViewsWithNewDefinition());
     if (includeDropped) {
-      changedViews.addAll(findDroppedViews());
+      changedViews.addAll(diff.getDroppedViews());
     }
     return changedViews;
   }
 
   private void generateCreateViews(PrintWriter pr) {
-    generateViews(pr, findAddedViews(), "Create added views");
+    generateViews(pr, diff.getAddedViews(), "Create added views");
     generateViews(pr, findChangedViews(false),
             "Recreate views which has a new definition or depend on changed tables");
   }
@@ -943,27 +867,50 @@ public class MetaOutputDifferenceGenerator {
     }
   }
 
-  private void generateTableReorganisation(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
-    Map<SqlTableColumn, SqlTableColumn> changedColumns = findChangedColumns(newTable, oldTable);
-    if (changedColumns.size() > 0) {
+  /**
+   * Online scripts only reorganise tables whose rows are rewritten, other
+   * scripts reorganise every table with changed columns
+   */
+  private void generateTableReorganisation(PrintWriter pr, TableDiff table) {
+    SqlTable newTable = table.getNewTable();
+    boolean reorganise = table.getChangedColumns().entrySet().stream()
+            .anyMatch(changed -> !generator.isOnline() || generator.classifyColumnChange(newTable,
+                    changed.getKey(), changed.getValue()) != ColumnChange.METADATA_ONLY);
+    if (reorganise) {
       pr.println();
       generator.generateTableReorganisation(pr, newTable);
     }
   }
 
-  private void generateDropPrimaryKeys(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+  /**
+   * @return changed columns whose indexes, keys and constraints can not be kept
+   *         while the column is altered
+   */
+  private Map<SqlTableColumn, SqlTableColumn> getColumnsWithDependentsToRecreate(TableDiff table) {
+    Map<SqlTableColumn, SqlTableColumn> columns = new LinkedHashMap<>();
+    for (Entry<SqlTableColumn, SqlTableColumn> changedColumn : table.getChangedColumns().entrySet()) {
+      if (generator.isRecreationOfDependentsNeeded(table.getNewTable(), changedColumn.getKey(),
+              changedColumn.getValue())) {
+        columns.put(changedColumn.getKey(), changedColumn.getValue());
+      }
+    }
+    return columns;
+  }
+
+  private void generateDropPrimaryKeys(PrintWriter pr, TableDiff table) {
     if (!generator.getRecreateOptions().primaryKeysOnAlterTable) {
       return;
     }
-    SqlPrimaryKey changedPrimaryKey = getPrimaryKeysFromChangedColumns(newTable, oldTable);
+    SqlPrimaryKey changedPrimaryKey = getPrimaryKeysFromChangedColumns(table);
     if (changedPrimaryKey != null) {
-      generator.generateDropPrimaryKey(pr, oldTable, changedPrimaryKey, createdTemporaryStoredProcedures);
+      generator.generateDropPrimaryKey(pr, table.getOldTable(), changedPrimaryKey,
+              createdTemporaryStoredProcedures);
     }
   }
 
-  private SqlPrimaryKey getPrimaryKeysFromChangedColumns(SqlTable newTable, SqlTable oldTable) {
-    SqlPrimaryKey primaryKey = oldTable.getPrimaryKey();
-    Map<SqlTableColumn, SqlTableColumn> changedColumns = findChangedColumns(newTable, oldTable);
+  private SqlPrimaryKey getPrimaryKeysFromChangedColumns(TableDiff table) {
+    SqlPrimaryKey primaryKey = table.getOldTable().getPrimaryKey();
+    Map<SqlTableColumn, SqlTableColumn> changedColumns = getColumnsWithDependentsToRecreate(table);
     for (SqlTableColumn changedColumn : changedColumns.keySet()) {
       if (primaryKey.getPrimaryKeyColumns().contains(changedColumn.getId())) {
         return primaryKey;
@@ -972,220 +919,194 @@ public class MetaOutputDifferenceGenerator {
     return null;
   }
 
-  private void generateRecreatePrimaryKeys(PrintWriter pr, SqlTable newTable, SqlTable oldTable) {
+  private void generateRecreatePrimaryKeys(PrintWriter pr, TableDiff table) {
     if (!generator.getRecreateOptions().primaryKeysOnAlterTable) {
       return;
     }
-    SqlPrimaryKey changedPrimaryKey = getPrimaryKeysFromChangedColumns(newTable, oldTable);
+    SqlPrimaryKey changedPrimaryKey = getPrimaryKeysFromChangedColumns(table);
     if (changedPrimaryKey != null) {
-      generator.generateAlterTableAddPrimaryKey(pr, oldTable, changedPrimaryKey);
+      generator.generateBlockingComment(pr, DdlOperation.ADD_PRIMARY_KEY, table.getOldTable());
+      generator.generateAlterTableAddPrimaryKey(pr, table.getOldTable(), changedPrimaryKey);
     }
   }
 
   /**
-   * Returns a list of views, which are used in at least one changed table
-   * @return never null
-   * @throws MetaException
+   * Adds the statements of a generated step that read, write or lock rows to
+   * the cost report. Selects the statements from the schema and insert
+   * difference the same way the step generates them.
    */
-  private Set<SqlView> findViewsWhichDependOnChangedTables() {
-    Map<SqlTable, SqlTable> changedTables = findChangedTables();
-    List<SqlView> views = metaDefinitionTo.getArtifacts(SqlView.class);
-    Set<SqlView> changedViews = new LinkedHashSet<>();
-    for (SqlView sqlView : views) {
-      // only recreated view if it was already there in old version
-      if (metaDefinitionFrom.findView(sqlView.getId()) != null) {
-        Set<String> viewTables = sqlView.getTables();
-        for (SqlTable table : changedTables.keySet()) {
-          if (viewTables.contains(table.getId())) {
-            // A table which has changed, are used in this view
-            changedViews.add(sqlView);
+  class CostRecorder {
+
+    void addedTables() {
+      for (SqlTable addedTable : diff.getAddedTables()) {
+        costReport.add(MigrationOperation.CATALOG_CHANGE, addedTable.getId(), "Create table", 0);
+      }
+    }
+
+    void tableModifications() {
+      for (TableDiff table : diff.getChangedTables()) {
+        SqlTable newTable = table.getNewTable();
+        for (SqlTableColumn droppedColumn : table.getDroppedColumns()) {
+          addColumn(newTable, "Drop column " + droppedColumn.getId(),
+                  generator.classifyDropColumn(newTable, droppedColumn));
+        }
+        for (Entry<SqlTableColumn, SqlTableColumn> changedColumn : table.getChangedColumns().entrySet()) {
+          addColumn(newTable, "Alter column " + changedColumn.getKey().getId(), generator
+                  .classifyColumnChange(newTable, changedColumn.getKey(), changedColumn.getValue()));
+        }
+        for (SqlTableColumn addedColumn : table.getAddedColumns()) {
+          costReport.add(MigrationOperation.CATALOG_CHANGE, newTable.getId(),
+                  "Add column " + addedColumn.getId(), 0);
+        }
+        if (!generator.foreignKeys.isReferenceInColumnDefinitionSupported()) {
+          for (SqlForeignKey addedForeignKey : table.getAddedForeignKeys()) {
+            addForeignKey(newTable, addedForeignKey);
+          }
+        }
+        if (generator.getRecreateOptions().primaryKeysOnAlterTable
+                && getPrimaryKeysFromChangedColumns(table) != null) {
+          costReport.add(MigrationOperation.INDEX_BUILD, table.getOldTable().getId(),
+                  "Recreate primary key");
+        }
+        if (generator.getRecreateOptions().indexesOnAlterTable) {
+          for (SqlIndex sqlIndex : indexes.getIndexesFromChangedColumns(table)) {
+            costReport.add(MigrationOperation.INDEX_BUILD, newTable.getId(),
+                    "Recreate index " + sqlIndex.getId());
           }
         }
+        for (SqlUniqueConstraint uniqueConstraint : constraints.getUniqueConstraintsToRecreate(table)) {
+          costReport.add(MigrationOperation.INDEX_BUILD, newTable.getId(),
+                  "Recreate unique constraint " + uniqueConstraint.getId());
+        }
       }
     }
-    return changedViews;
-  }
 
-  /**
-   * @return tables which are added in the new meta definition (does not exist
-   *         in the new meta definition)
-   */
-  private List<SqlTable> findAddedTables() {
-    List<SqlTable> newTables = new ArrayList<>(metaDefinitionTo.getArtifacts(SqlTable.class));
-    List<SqlTable> addedTables = new ArrayList<>();
-    for (SqlTable newTable : newTables) {
-      SqlTable oldTable = metaDefinitionFrom.findTable(newTable.getId());
-      if (oldTable == null) {
-        addedTables.add(newTable);
+    private void addColumn(SqlTable table, String description, ColumnChange change) {
+      MigrationOperation operation = MigrationOperation.of(change);
+      if (operation == MigrationOperation.CATALOG_CHANGE) {
+        costReport.add(operation, table.getId(), description, 0);
+      } else {
+        costReport.add(operation, table.getId(), description);
       }
     }
-    return addedTables;
-  }
 
-  private Set<SqlView> findAddedViews() {
-    List<SqlView> newViews = new ArrayList<>(metaDefinitionTo.getArtifacts(SqlView.class));
-    Set<SqlView> addedViews = new LinkedHashSet<>();
-    for (SqlView newView : newViews) {
-      SqlView oldView = metaDefinitionFrom.findView(newView.getId());
-      if (oldView == null) {
-        addedViews.add(newView);
+    void addedIndexes() {
+      for (TableDiff table : diff.getCommonTables()) {
+        for (SqlIndex addedIndex : table.getAddedIndexes()) {
+          costReport.add(MigrationOperation.INDEX_BUILD, table.getNewTable().getId(),
+                  "Create index " + addedIndex.getId());
+        }
       }
     }
-    return addedViews;
-  }
 
-  private List<SqlView> findDroppedViews() {
-    return metaDefinitionFrom.getArtifacts(SqlView.class).stream()
-            .filter(oldView -> metaDefinitionTo.findView(oldView.getId()) == null)
-            .collect(Collectors.toList());
-  }
+    void addedUniqueConstraints() {
+      for (TableDiff table : diff.getCommonTables()) {
+        Set<SqlUniqueConstraint> recreated = constraints.getUniqueConstraintsToRecreate(table);
+        for (SqlUniqueConstraint addedUnique : table.getAddedUniqueConstraints()) {
+          if (!recreated.contains(addedUnique)) {
+            costReport.add(MigrationOperation.INDEX_BUILD, table.getNewTable().getId(),
+                    "Add unique constraint " + addedUnique.getId());
+          }
+        }
+      }
+    }
 
-  /**
-   * @return tables which are deleted in the new meta definition (only exists in
-   *         old meta definition)
-   */
-  private List<SqlTable> findDroppedTables() {
-    List<SqlTable> oldTables = new ArrayList<>(metaDefinitionFrom.getArtifacts(SqlTable.class));
-    List<SqlTable> deletedTables = new ArrayList<>();
-    for (SqlTable oldTable : oldTables) {
-      SqlTable newTable = metaDefinitionTo.findTable(oldTable.getId());
-      if (newTable == null) {
-        deletedTables.add(oldTable);
+    void triggersOfAddedTables() {
+      for (SqlTable addedTable : diff.getAddedTables()) {
+        if (generator.triggers.hasTrigger(metaDefinitionTo, addedTable)) {
+          addTrigger(addedTable);
+        }
       }
     }
-    Collections.sort(deletedTables, new NotReferencedTablesFirstComparator(deletedTables));
-    return deletedTables;
-  }
 
-  /**
-   * Tables which exists in old and new meta definition
-   * @return map with new and old tables with the same id
-   */
-  private Map<SqlTable, SqlTable> findCommonTables() {
-    List<SqlTable> oldTables = new ArrayList<>(metaDefinitionFrom.getArtifacts(SqlTable.class));
-    Map<SqlTable, SqlTable> tables = new LinkedHashMap<>();
-    for (SqlTable oldTable : oldTables) {
-      SqlTable newTable = metaDefinitionTo.findTable(oldTable.getId());
-      if (newTable != null) {
-        tables.put(newTable, oldTable);
+    void addedTriggers() {
+      triggers.findTablesWithAddedTriggers().keySet().forEach(this::addTrigger);
+    }
+
+    void recreatedTriggers() {
+      triggers.findTablesWithChangedTriggers().keySet().forEach(this::addTrigger);
+    }
+
+    private void addTrigger(SqlTable table) {
+      costReport.add(MigrationOperation.TRIGGER_RECREATE, table.getId(), "Create delete triggers", 0);
+    }
+
+    void recreatedForeignKeys() {
+      if (!generator.getRecreateOptions().foreignKeysOnAlterTable) {
+        return;
+      }
+      for (Pair<SqlTable, SqlForeignKey> pair : foreignKeys.getForeignKeysReferencingChangedColumns()) {
+        if (generator.foreignKeys.isSupported(pair.getRight())) {
+          addForeignKey(pair.getLeft(), pair.getRight());
+        }
       }
     }
-    return tables;
-  }
 
-  /**
-   * @return map with new and old tables of changed tables (tables with same id
-   *         and added or changed columns)
-   */
-  private Map<SqlTable, SqlTable> findChangedTables() {
-    Map<SqlTable, SqlTable> tables = new LinkedHashMap<>();
-    for (Entry<SqlTable, SqlTable> commonTable : findCommonTables().entrySet()) {
-      SqlTable newTable = commonTable.getKey();
-      SqlTable oldTable = commonTable.getValue();
-      boolean hasChangedColumns = !findChangedColumns(newTable, oldTable).isEmpty();
-      boolean hasAddedColumns = !findAddedColumns(newTable, oldTable).isEmpty();
-      boolean hasDroppedColumns = !findDroppedColumns(newTable, oldTable).isEmpty();
-      boolean hasDeletedUniqueConstraints = !constraints.findDeletedUniqueConstraints(newTable, oldTable)
-              .isEmpty();
-      boolean hasForeignKeysChanges = foreignKeys.hasForeignKeyDefinitionChanged(newTable, oldTable);
-      if (hasChangedColumns || hasAddedColumns || hasDroppedColumns || hasDeletedUniqueConstraints
-              || hasForeignKeysChanges) {
-        tables.put(newTable, oldTable);
-      }
-    }
-    return tables;
-  }
+    private void addForeignKey(SqlTable table, SqlForeignKey foreignKey) {
+      if (foreignKeys.isValidationDeferred()) {
+        costReport.add(MigrationOperation.CATALOG_CHANGE, table.getId(),
+                "Add foreign key on " + foreignKey.getColumnName() + " without validation", 0);
+      } else {
+        costReport.add(MigrationOperation.FK_VALIDATION, table.getId(),
+                "Add foreign key on " + foreignKey.getColumnName());
+      }
+    }
 
-  private Set<SqlView> findViewsWhichHasNewDefinition() {
-    Set<SqlView> views = new HashSet<>();
-    for (Entry<SqlView, SqlView> newAndOldView : findOldViewsWithNewViews().entrySet()) {
-      SqlView newView = newAndOldView.getKey();
-      SqlView oldView = newAndOldView.getValue();
-      boolean hasAddedColumns = !findAddedColumns(newView, oldView).isEmpty();
-      boolean hasDroppedColumns = !findDroppedColumns(newView, oldView).isEmpty();
-      if (hasAddedColumns || hasDroppedColumns) {
-        views.add(newView);
+    void validatedForeignKeys() {
+      for (Pair<SqlTable, SqlForeignKey> pair : foreignKeys.foreignKeysToValidate) {
+        costReport.add(MigrationOperation.FK_VALIDATION, pair.getLeft().getId(),
+                "Validate foreign key on " + pair.getRight().getColumnName());
       }
     }
-    return views;
-  }
 
-  private Map<SqlView, SqlView> findOldViewsWithNewViews() {
-    List<SqlView> oldViews = new ArrayList<>(metaDefinitionFrom.getArtifacts(SqlView.class));
-    Map<SqlView, SqlView> views = new LinkedHashMap<>();
-    for (SqlView oldView : oldViews) {
-      SqlView newView = metaDefinitionTo.findView(oldView.getId());
-      if (newView != null) {
-        views.put(newView, oldView);
+    void removedInserts() {
+      for (SqlInsertWithValues insert : insertDiff.getRemovedInserts()) {
+        costReport.add(MigrationOperation.DATA_UPDATE, insert.getTable(), "Delete default content", 1);
       }
     }
-    return views;
-  }
 
-  /**
-   * Finds changed columns (deleted and added are not collected)
-   * @param newTable the new table
-   * @param oldTable the old table
-   * @return map with new and old columns of changed columns of a table
-   * @throws MetaException
-   */
-  private Map<SqlTableColumn, SqlTableColumn> findChangedColumns(SqlTable newTable, SqlTable oldTable) {
-    List<SqlTableColumn> oldColumns = oldTable.getColumns();
-    Map<SqlTableColumn, SqlTableColumn> changedColumns = new LinkedHashMap<>(oldColumns.size());
-    for (SqlTableColumn oldColumn : oldColumns) {
-      SqlTableColumn newColumn = newTable.findColumn(oldColumn.getId());
-      if (newColumn != null &&
-              hasColumnChanged(newTable, newColumn, oldColumn)) {
-        changedColumns.put(newColumn, oldColumn);
+    void changedInserts() {
+      for (ChangedInsert changedInsert : insertDiff.getChangedInserts()) {
+        costReport.add(MigrationOperation.DATA_UPDATE, changedInsert.getNewInsert().getTable(),
+                "Update default content", 1);
       }
     }
-    return changedColumns;
-  }
 
-  private List<SqlTableColumn> findAddedColumns(SqlTable newTable, SqlTable oldTable) {
-    List<SqlTableColumn> addedColumns = new ArrayList<>();
-    for (SqlTableColumn newColumn : newTable.getColumns()) {
-      SqlTableColumn oldColumn = oldTable.findColumn(newColumn.getId());
-      if (oldColumn == null) {
-        addedColumns.add(newColumn);
+    void addedInserts() {
+      for (SqlInsertWithValues insert : insertDiff.getAddedInserts()) {
+        costReport.add(MigrationOperation.DATA_UPDATE, insert.getTable(), "Insert default content", 1);
       }
     }
-    return addedColumns;
-  }
 
-  private List<SqlViewColumn> findAddedColumns(SqlView newView, SqlView oldView) {
-    return newView.getColumns().stream()
-            .filter(newColumn -> !oldView.hasColumn(newColumn.getId()))
-            .collect(Collectors.toList());
-  }
+    /**
+     * An insert with a select without table inserts one row
+     */
+    void additionalConversion() {
+      for (SqlArtifact artifact : additionalConversionMeta.getArtifacts()) {
+        if (artifact instanceof SqlInsertWithValues) {
+          costReport.add(MigrationOperation.DATA_UPDATE, ((SqlInsertWithValues) artifact).getTable(),
+                  "Insert row", 1);
+        } else if (artifact instanceof SqlInsertWithSelect) {
+          addInsertWithSelect((SqlInsertWithSelect) artifact);
+        } else if (artifact instanceof SqlUpdate) {
+          costReport.add(MigrationOperation.DATA_UPDATE, ((SqlUpdate) artifact).getTable(), "Update rows");
+        }
+      }
+    }
 
-  private List<SqlTableColumn> findDroppedColumns(SqlTable newTable, SqlTable oldTable) {
-    List<SqlTableColumn> droppedColumns = new ArrayList<>();
-    for (SqlTableColumn oldColumn : oldTable.getColumns()) {
-      SqlTableColumn newColumn = newTable.findColumn(oldColumn.getId());
-      if (newColumn == null) {
-        droppedColumns.add(oldColumn);
+    private void addInsertWithSelect(SqlInsertWithSelect insert) {
+      SqlTableId sourceTable = insert.getSelect().getFirstTable();
+      if (sourceTable == null) {
+        costReport.add(MigrationOperation.DATA_UPDATE, insert.getTable(), "Insert selected row", 1);
+      } else {
+        costReport.addRowsOf(MigrationOperation.DATA_UPDATE, insert.getTable(),
+                "Insert rows selected from " + sourceTable.getName(), sourceTable.getName());
       }
     }
-    return droppedColumns;
   }
 
-  private List<SqlViewColumn> findDroppedColumns(SqlView newView, SqlView oldView) {
-    return oldView.getColumns().stream()
-            .filter(oldColumn -> !newView.hasColumn(oldColumn.getId()))
-            .collect(Collectors.toList());
-  }
+  private interface IStep {
 
-  private boolean hasColumnChanged(SqlTable newTable, SqlTableColumn newColumn, SqlTableColumn oldColumn) {
-    if (!newColumn.getId().equals(oldColumn.getId())) {
-      throw new UnsupportedOperationException("Changing of the column name is not supported.");
-    }
-    StringWriter fromOut = new StringWriter();
-    StringWriter toOut = new StringWriter();
-    generator.generateColumn(new PrintWriter(fromOut), newTable, oldColumn,
-            new LinkedHashMap<SqlTable, List<SqlForeignKey>>());
-    generator.generateColumn(new PrintWriter(toOut), newTable, newColumn,
-            new LinkedHashMap<SqlTable, List<SqlForeignKey>>());
-    return !toOut.toString().equals(fromOut.toString());
+    void generate(PrintWriter pr) throws Exception;
   }
 }
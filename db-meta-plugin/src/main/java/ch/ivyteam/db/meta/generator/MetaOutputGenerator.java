@@ -1,7 +1,8 @@
 package ch.ivyteam.db.meta.generator;
 
 import java.io.File;
-import java.io.FileReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,12 +10,10 @@ import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
-import org.apache.commons.io.IOUtils;
 
 import ch.ivyteam.db.meta.generator.internal.IMetaOutputGenerator;
+import ch.ivyteam.db.meta.generator.internal.jfr.GeneratorRunEvent;
 import ch.ivyteam.db.meta.model.internal.SqlMeta;
-import ch.ivyteam.db.meta.parser.internal.Parser;
-import ch.ivyteam.db.meta.parser.internal.Scanner;
 
 public class MetaOutputGenerator {
 
@@ -23,6 +22,10 @@ public class MetaOutputGenerator {
   private List<File> sqlMetaDefinitionFiles = new ArrayList<File>();
   private IMetaOutputGenerator generator;
   private SqlMeta sqlMetaDefinition;
+  private SqlMetaCache metaCache;
+  private SqlMetaFragments fragments;
+  private SqlMetaParser parser;
+  private Charset charset = StandardCharsets.UTF_8;
   private Options OPTIONS = new Options()
           .addOption(Option.builder().desc("*.meta input files").required().hasArgs().longOpt(OPTION_SQL)
                   .build())
@@ -54,6 +57,9 @@ public class MetaOutputGenerator {
     try {
       generator.analyseArgs(args);
       generator.parseMetaDefinition();
+      for (String duplicateDefinition : generator.getDuplicateDefinitions()) {
+        System.out.println("Warning: " + duplicateDefinition);
+      }
       generator.generateMetaOutput();
       System.out.println("Successful generated meta information output");
     } catch (Throwable ex) {
@@ -65,24 +71,61 @@ public class MetaOutputGenerator {
     }
   }
 
+  /**
+   * @param metaCache cache to load unchanged meta definitions from instead of
+   *          parsing them. May be null.
+   */
+  public void setMetaCache(SqlMetaCache metaCache) {
+    this.metaCache = metaCache;
+  }
+
+  /**
+   * @param fragments meta definitions of unchanged files kept from the last
+   *          parse. May be null.
+   */
+  public void setFragments(SqlMetaFragments fragments) {
+    this.fragments = fragments;
+  }
+
+  /**
+   * @param charset charset of the meta definition files. Default is UTF-8.
+   */
+  public void setCharset(Charset charset) {
+    this.charset = charset;
+  }
+
   public void parseMetaDefinition() throws Exception {
-    FileReader fr;
-    Parser parser;
-    Scanner scanner;
-    for (File sqlMetaDefinitionFile : sqlMetaDefinitionFiles) {
-      fr = new FileReader(sqlMetaDefinitionFile);
-      try {
-        scanner = new Scanner(fr);
-        parser = new Parser(scanner);
-        if (sqlMetaDefinition == null) {
-          sqlMetaDefinition = (SqlMeta) parser.parse().value;
-        } else {
-          sqlMetaDefinition.merge((SqlMeta) parser.parse().value);
-        }
-      } finally {
-        IOUtils.closeQuietly(fr);
-      }
+    parser = new SqlMetaParser(metaCache, 0, charset);
+    parser.setFragments(fragments);
+    SqlMeta meta = parser.parse(sqlMetaDefinitionFiles.toArray(new File[sqlMetaDefinitionFiles.size()]));
+    if (sqlMetaDefinition == null) {
+      sqlMetaDefinition = meta;
+    } else {
+      sqlMetaDefinition.merge(meta);
+    }
+  }
+
+  /**
+   * @return tables and views that are defined more than once in the parsed
+   *         meta definition files
+   * @see SqlMetaParser#getDuplicateDefinitions()
+   */
+  public List<String> getDuplicateDefinitions() {
+    if (parser == null) {
+      return List.of();
     }
+    return parser.getDuplicateDefinitions();
+  }
+
+  /**
+   * @return bytes allocated by the worker threads of the parser
+   * @see SqlMetaParser#getWorkerAllocatedBytes()
+   */
+  public long getParserWorkerAllocatedBytes() {
+    if (parser == null) {
+      return 0;
+    }
+    return parser.getWorkerAllocatedBytes();
   }
 
   /**
@@ -90,8 +133,35 @@ public class MetaOutputGenerator {
    * @throws Exception if generation fails
    */
   public void generateMetaOutput() throws Exception {
+    generateMetaOutput(sqlMetaDefinition);
+  }
+
+  /**
+   * Generates the meta output of the given meta definition instead of the
+   * parsed one. The meta definition is only read and can therefore be shared
+   * between generators.
+   * @param metaDefinition
+   * @throws Exception if generation fails
+   */
+  public void generateMetaOutput(SqlMeta metaDefinition) throws Exception {
     assert generator != null;
-    generator.generateMetaOutput(sqlMetaDefinition);
+    var event = new GeneratorRunEvent();
+    event.begin();
+    try {
+      generator.generateMetaOutput(metaDefinition);
+    } finally {
+      if (event.shouldCommit()) {
+        event.generatorClass = generator.getClass().getName();
+        Target target = generator.getTarget();
+        if (target != null) {
+          event.target = target.isSingleTargetFile() ? target.getSingleTargetFile().getPath()
+                  : String.valueOf(target.getTargetDirectory());
+          event.files = target.getGeneratedFiles().size();
+          event.writtenFiles = target.numberOfWrittenFiles();
+        }
+        event.commit();
+      }
+    }
   }
 
   /**
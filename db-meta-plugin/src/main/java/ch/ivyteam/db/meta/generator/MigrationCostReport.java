@@ -0,0 +1,242 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import ch.ivyteam.db.meta.generator.internal.Json;
+
+
+/**
+ * The statements of a conversion script that read, write or lock the rows of
+ * a table, together with their operation class. Combined with the
+ * {@link TableStatistics} of a database it estimates how long the conversion
+ * runs on this database. Dropping tables, indexes, constraints, triggers and
+ * views only changes the catalog and is not listed.
+ * @see MetaOutputDifferenceGenerator#getCostReport()
+ */
+public final class MigrationCostReport {
+
+  private final List<Statement> statements = new ArrayList<>();
+  private String step;
+
+  void step(String currentStep) {
+    this.step = currentStep;
+  }
+
+  /**
+   * Adds a statement that affects all rows of the given table
+   * @param operation
+   * @param table
+   * @param description
+   */
+  void add(MigrationOperation operation, String table, String description) {
+    statements.add(new Statement(step, operation, table, description, table, -1));
+  }
+
+  /**
+   * Adds a statement that affects the given number of rows of the given table
+   * @param operation
+   * @param table
+   * @param description
+   * @param rows
+   */
+  void add(MigrationOperation operation, String table, String description, long rows) {
+    statements.add(new Statement(step, operation, table, description, null, rows));
+  }
+
+  /**
+   * Adds a statement on the given table that affects as many rows as the
+   * other table has, e.g. an insert with select
+   * @param operation
+   * @param table
+   * @param description
+   * @param rowsOfTable
+   */
+  void addRowsOf(MigrationOperation operation, String table, String description, String rowsOfTable) {
+    statements.add(new Statement(step, operation, table, description, rowsOfTable, -1));
+  }
+
+  /**
+   * @return statements in the order they are generated
+   */
+  public List<Statement> getStatements() {
+    return Collections.unmodifiableList(statements);
+  }
+
+  /**
+   * Writes the report as JSON and as HTML page
+   * @param json
+   * @param html
+   * @param statistics
+   * @throws IOException
+   */
+  public void write(File json, File html, TableStatistics statistics) throws IOException {
+    Files.writeString(json.toPath(), toJson(statistics), StandardCharsets.UTF_8);
+    Files.writeString(html.toPath(), toHtml(statistics), StandardCharsets.UTF_8);
+  }
+
+  String toJson(TableStatistics statistics) {
+    var json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"estimatedSeconds\": ").append(formatSeconds(estimateSeconds(statistics))).append(",\n");
+    json.append("  \"unknownStatements\": ").append(countUnknown(statistics)).append(",\n");
+    json.append("  \"statements\": [");
+    json.append(statements.stream()
+            .map(statement -> statement.toJson(statistics))
+            .collect(Collectors.joining(",\n", "\n", "\n  ")));
+    json.append("]\n");
+    json.append("}\n");
+    return json.toString();
+  }
+
+  String toHtml(TableStatistics statistics) {
+    var html = new StringBuilder();
+    html.append("<!DOCTYPE html>\n<html>\n<head>\n");
+    html.append("<meta charset=\"UTF-8\">\n");
+    html.append("<title>Conversion cost report</title>\n");
+    html.append("<style>\n");
+    html.append("body { font-family: sans-serif; }\n");
+    html.append("table { border-collapse: collapse; }\n");
+    html.append("th, td { border: 1px solid #ccc; padding: 2px 6px; text-align: left; }\n");
+    html.append("td.number { text-align: right; }\n");
+    html.append("</style>\n");
+    html.append("</head>\n<body>\n");
+    html.append("<h1>Conversion cost report</h1>\n");
+    html.append("<p>Estimated time: ").append(formatSeconds(estimateSeconds(statistics))).append(" s");
+    long unknown = countUnknown(statistics);
+    if (unknown > 0) {
+      html.append(" (").append(unknown).append(" statements on tables without row count are not included)");
+    }
+    html.append("</p>\n");
+    html.append("<table>\n");
+    html.append("<tr><th>Step</th><th>Operation</th><th>Table</th><th>Statement</th><th>Rows</th>"
+            + "<th>Estimated seconds</th></tr>\n");
+    for (Statement statement : statements) {
+      statement.toHtml(html, statistics);
+    }
+    html.append("</table>\n");
+    html.append("</body>\n</html>\n");
+    return html.toString();
+  }
+
+  private double estimateSeconds(TableStatistics statistics) {
+    return statements.stream()
+            .filter(statement -> statement.getRows(statistics) >= 0)
+            .mapToDouble(statement -> statement.estimateSeconds(statistics))
+            .sum();
+  }
+
+  private long countUnknown(TableStatistics statistics) {
+    return statements.stream().filter(statement -> statement.getRows(statistics) < 0).count();
+  }
+
+  private static String formatSeconds(double seconds) {
+    return String.format(Locale.ROOT, "%.3f", seconds);
+  }
+
+  private static String escapeHtml(String value) {
+    if (value == null) {
+      return "";
+    }
+    return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+  }
+
+  /**
+   * A statement of the conversion script
+   */
+  public static final class Statement {
+
+    private final String step;
+    private final MigrationOperation operation;
+    private final String table;
+    private final String description;
+    private final String rowsOfTable;
+    private final long rows;
+
+    private Statement(String step, MigrationOperation operation, String table, String description,
+            String rowsOfTable, long rows) {
+      this.step = step;
+      this.operation = operation;
+      this.table = table;
+      this.description = description;
+      this.rowsOfTable = rowsOfTable;
+      this.rows = rows;
+    }
+
+    /**
+     * @return step of the conversion script that generates the statement
+     */
+    public String getStep() {
+      return step;
+    }
+
+    public MigrationOperation getOperation() {
+      return operation;
+    }
+
+    public String getTable() {
+      return table;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    /**
+     * @param statistics
+     * @return number of rows the statement affects or -1 if it is not known
+     */
+    public long getRows(TableStatistics statistics) {
+      if (rowsOfTable == null) {
+        return rows;
+      }
+      return statistics.getRows(rowsOfTable);
+    }
+
+    /**
+     * @param statistics
+     * @return estimated time in seconds the statement needs
+     */
+    public double estimateSeconds(TableStatistics statistics) {
+      long affectedRows = getRows(statistics);
+      if (affectedRows < 0) {
+        return 0;
+      }
+      String rowSizeTable = rowsOfTable == null ? table : rowsOfTable;
+      return operation.estimateSeconds(affectedRows, statistics.getRowBytes(rowSizeTable));
+    }
+
+    private String toJson(TableStatistics statistics) {
+      long affectedRows = getRows(statistics);
+      return "    {\"step\": " + Json.quote(step) + ", \"operation\": " + Json.quote(operation.name())
+              + ", \"table\": " + Json.quote(table) + ", \"statement\": " + Json.quote(description)
+              + ", \"rows\": " + (affectedRows < 0 ? "null" : affectedRows)
+              + ", \"estimatedSeconds\": "
+              + (affectedRows < 0 ? "null" : formatSeconds(estimateSeconds(statistics))) + "}";
+    }
+
+    private void toHtml(StringBuilder html, TableStatistics statistics) {
+      long affectedRows = getRows(statistics);
+      html.append("<tr><td>").append(escapeHtml(step));
+      html.append("</td><td>").append(escapeHtml(operation.getDescription()));
+      html.append("</td><td>").append(escapeHtml(table));
+      html.append("</td><td>").append(escapeHtml(description));
+      html.append("</td><td class=\"number\">").append(affectedRows < 0 ? "unknown" : affectedRows);
+      html.append("</td><td class=\"number\">")
+              .append(affectedRows < 0 ? "" : formatSeconds(estimateSeconds(statistics)));
+      html.append("</td></tr>\n");
+    }
+
+    @Override
+    public String toString() {
+      return operation + " " + table + ": " + description;
+    }
+  }
+}
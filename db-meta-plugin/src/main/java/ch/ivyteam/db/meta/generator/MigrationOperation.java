@@ -0,0 +1,76 @@
+package ch.ivyteam.db.meta.generator;
+
+import ch.ivyteam.db.meta.generator.internal.ColumnChange;
+
+/**
+ * Operation classes of the statements of a conversion script with a rough
+ * model of the time they need, see {@link MigrationCostReport}. The model
+ * assumes a database server that scans 100 MB, writes 50 MB, sorts 1'000'000
+ * rows, looks up 100'000 rows or updates 10'000 rows per second.
+ */
+public enum MigrationOperation {
+  CATALOG_CHANGE("Catalog change"),
+  VALIDATION_SCAN("Validation scan"),
+  TABLE_REWRITE("Table rewrite"),
+  INDEX_BUILD("Index build"),
+  FK_VALIDATION("Foreign key validation"),
+  TRIGGER_RECREATE("Trigger recreate"),
+  DATA_UPDATE("Data update");
+
+  private static final double SCANNED_BYTES_PER_SECOND = 100 * 1024 * 1024;
+  private static final double WRITTEN_BYTES_PER_SECOND = 50 * 1024 * 1024;
+  private static final double SORTED_ROWS_PER_SECOND = 1_000_000;
+  private static final double LOOKED_UP_ROWS_PER_SECOND = 100_000;
+  private static final double UPDATED_ROWS_PER_SECOND = 10_000;
+
+  private final String description;
+
+  private MigrationOperation(String description) {
+    this.description = description;
+  }
+
+  /**
+   * @return human readable description of the operation class
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * @param rows number of affected rows
+   * @param rowBytes average size of a row in bytes
+   * @return estimated time in seconds the operation needs
+   */
+  public double estimateSeconds(long rows, long rowBytes) {
+    double bytes = (double) rows * rowBytes;
+    switch (this) {
+      case VALIDATION_SCAN:
+        return bytes / SCANNED_BYTES_PER_SECOND;
+      case TABLE_REWRITE:
+        return bytes / SCANNED_BYTES_PER_SECOND + bytes / WRITTEN_BYTES_PER_SECOND;
+      case INDEX_BUILD:
+        return bytes / SCANNED_BYTES_PER_SECOND + rows / SORTED_ROWS_PER_SECOND;
+      case FK_VALIDATION:
+        return bytes / SCANNED_BYTES_PER_SECOND + rows / LOOKED_UP_ROWS_PER_SECOND;
+      case DATA_UPDATE:
+        return rows / UPDATED_ROWS_PER_SECOND;
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * @param change
+   * @return operation class of altering a column with the given cost class
+   */
+  public static MigrationOperation of(ColumnChange change) {
+    switch (change) {
+      case VALIDATION_SCAN:
+        return VALIDATION_SCAN;
+      case TABLE_REWRITE:
+        return TABLE_REWRITE;
+      default:
+        return CATALOG_CHANGE;
+    }
+  }
+}
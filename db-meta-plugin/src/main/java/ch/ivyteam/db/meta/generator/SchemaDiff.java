@@ -0,0 +1,428 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import ch.ivyteam.db.meta.generator.internal.DeleteTrigger;
+import ch.ivyteam.db.meta.generator.internal.NotReferencedTablesFirstComparator;
+import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlForeignKey;
+import ch.ivyteam.db.meta.model.internal.SqlIndex;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.model.internal.SqlTableColumn;
+import ch.ivyteam.db.meta.model.internal.SqlUniqueConstraint;
+import ch.ivyteam.db.meta.model.internal.SqlView;
+
+/**
+ * The structural difference between an old and a new meta definition as seen
+ * by a sql script generator. Whether a column or a foreign key has changed
+ * depends on how the generator generates them. The difference is calculated
+ * once on creation and cannot be modified.
+ */
+public final class SchemaDiff {
+
+  private final List<SqlTable> addedTables;
+  private final List<SqlTable> droppedTables;
+  private final List<TableDiff> commonTables;
+  private final List<TableDiff> changedTables;
+  private final Set<SqlView> addedViews;
+  private final List<SqlView> droppedViews;
+  private final Set<SqlView> viewsWithNewDefinition;
+  private final Set<SqlView> viewsWhichDependOnChangedTables;
+
+  /**
+   * Calculates the difference
+   * @param metaDefinitionFrom the old meta definition
+   * @param metaDefinitionTo the new meta definition
+   * @param generator the generator the difference is calculated for
+   */
+  public SchemaDiff(SqlMeta metaDefinitionFrom, SqlMeta metaDefinitionTo, SqlScriptGenerator generator) {
+    var differ = new Differ(metaDefinitionFrom, metaDefinitionTo, generator);
+    addedTables = differ.findAddedTables();
+    droppedTables = differ.findDroppedTables();
+    commonTables = differ.findCommonTables();
+    changedTables = unmodifiableList(commonTables, TableDiff::isChanged);
+    addedViews = differ.findAddedViews();
+    droppedViews = differ.findDroppedViews();
+    viewsWithNewDefinition = differ.findViewsWhichHasNewDefinition();
+    viewsWhichDependOnChangedTables = differ.findViewsWhichDependOnChangedTables(changedTables);
+  }
+
+  /**
+   * @return tables which only exist in the new meta definition
+   */
+  public List<SqlTable> getAddedTables() {
+    return addedTables;
+  }
+
+  /**
+   * @return tables which only exist in the old meta definition. Tables which
+   *         are not referenced by other dropped tables come first.
+   */
+  public List<SqlTable> getDroppedTables() {
+    return droppedTables;
+  }
+
+  /**
+   * @return differences of the tables which exist in the old and the new meta
+   *         definition, in the order of the old meta definition
+   */
+  public List<TableDiff> getCommonTables() {
+    return commonTables;
+  }
+
+  /**
+   * @return differences of the common tables with added, dropped or changed
+   *         columns, deleted unique constraints or changed foreign keys
+   */
+  public List<TableDiff> getChangedTables() {
+    return changedTables;
+  }
+
+  /**
+   * @return views which only exist in the new meta definition
+   */
+  public Set<SqlView> getAddedViews() {
+    return addedViews;
+  }
+
+  /**
+   * @return views which only exist in the old meta definition
+   */
+  public List<SqlView> getDroppedViews() {
+    return droppedViews;
+  }
+
+  /**
+   * @return new views which have added or dropped columns
+   */
+  public Set<SqlView> getViewsWithNewDefinition() {
+    return viewsWithNewDefinition;
+  }
+
+  /**
+   * @return new views which already existed in the old meta definition and
+   *         select from a changed table
+   */
+  public Set<SqlView> getViewsWhichDependOnChangedTables() {
+    return viewsWhichDependOnChangedTables;
+  }
+
+  private static <T> List<T> unmodifiableList(List<T> list, Predicate<T> filter) {
+    return Collections.unmodifiableList(list.stream().filter(filter).collect(Collectors.toList()));
+  }
+
+  /**
+   * The difference of a table which exists in the old and the new meta
+   * definition
+   */
+  public static final class TableDiff {
+
+    private final SqlTable newTable;
+    private final SqlTable oldTable;
+    private final Map<SqlTableColumn, SqlTableColumn> changedColumns;
+    private final List<SqlTableColumn> addedColumns;
+    private final List<SqlTableColumn> droppedColumns;
+    private final List<SqlIndex> addedIndexes;
+    private final List<SqlIndex> removedIndexes;
+    private final List<SqlUniqueConstraint> addedUniqueConstraints;
+    private final List<SqlUniqueConstraint> deletedUniqueConstraints;
+    private final List<SqlForeignKey> addedForeignKeys;
+    private final List<SqlForeignKey> removedForeignKeys;
+    private final boolean triggerAdded;
+    private final boolean triggerDeleted;
+    private final boolean triggerChanged;
+
+    private TableDiff(SqlTable newTable, SqlTable oldTable, Differ differ) {
+      this.newTable = newTable;
+      this.oldTable = oldTable;
+      changedColumns = Collections.unmodifiableMap(differ.findChangedColumns(newTable, oldTable));
+      addedColumns = unmodifiableList(newTable.getColumns(),
+              newColumn -> oldTable.findColumnCaseSensitive(newColumn.getId()) == null);
+      droppedColumns = unmodifiableList(oldTable.getColumns(),
+              oldColumn -> newTable.findColumnCaseSensitive(oldColumn.getId()) == null);
+      addedIndexes = unmodifiableList(newTable.getIndexes(),
+              newIndex -> oldTable.findIndex(newIndex.getId()) == null);
+      removedIndexes = unmodifiableList(oldTable.getIndexes(),
+              oldIndex -> newTable.findIndex(oldIndex.getId()) == null);
+      addedUniqueConstraints = unmodifiableList(newTable.getUniqueConstraints(),
+              newUnique -> oldTable.findUniqueConstraint(newUnique.getId()) == null);
+      deletedUniqueConstraints = unmodifiableList(oldTable.getUniqueConstraints(),
+              oldUnique -> newTable.findUniqueConstraint(oldUnique.getId()) == null);
+      addedForeignKeys = differ.findChangedForeignKeys(newTable, oldTable);
+      removedForeignKeys = differ.findChangedForeignKeys(oldTable, newTable);
+      DeleteTrigger triggerBefore = differ.deleteTrigger(differ.metaDefinitionFrom, newTable);
+      DeleteTrigger triggerAfter = differ.deleteTrigger(differ.metaDefinitionTo, oldTable);
+      triggerAdded = triggerAfter.exists() && !triggerBefore.exists();
+      triggerDeleted = triggerBefore.exists() && !triggerAfter.exists();
+      triggerChanged = triggerBefore.exists() && triggerAfter.exists() &&
+              !triggerBefore.equals(triggerAfter);
+    }
+
+    /**
+     * @return the table of the new meta definition
+     */
+    public SqlTable getNewTable() {
+      return newTable;
+    }
+
+    /**
+     * @return the table of the old meta definition
+     */
+    public SqlTable getOldTable() {
+      return oldTable;
+    }
+
+    /**
+     * @return new and old columns of the columns which have changed. Added and
+     *         dropped columns are not included.
+     */
+    public Map<SqlTableColumn, SqlTableColumn> getChangedColumns() {
+      return changedColumns;
+    }
+
+    /**
+     * @return columns which only exist in the new table
+     */
+    public List<SqlTableColumn> getAddedColumns() {
+      return addedColumns;
+    }
+
+    /**
+     * @return columns which only exist in the old table
+     */
+    public List<SqlTableColumn> getDroppedColumns() {
+      return droppedColumns;
+    }
+
+    /**
+     * @return indexes which only exist in the new table
+     */
+    public List<SqlIndex> getAddedIndexes() {
+      return addedIndexes;
+    }
+
+    /**
+     * @return indexes which only exist in the old table
+     */
+    public List<SqlIndex> getRemovedIndexes() {
+      return removedIndexes;
+    }
+
+    /**
+     * @return unique constraints which only exist in the new table
+     */
+    public List<SqlUniqueConstraint> getAddedUniqueConstraints() {
+      return addedUniqueConstraints;
+    }
+
+    /**
+     * @return unique constraints which only exist in the old table
+     */
+    public List<SqlUniqueConstraint> getDeletedUniqueConstraints() {
+      return deletedUniqueConstraints;
+    }
+
+    /**
+     * @return foreign keys of the new table which are supported by the
+     *         generator but were not in the old table
+     */
+    public List<SqlForeignKey> getAddedForeignKeys() {
+      return addedForeignKeys;
+    }
+
+    /**
+     * @return foreign keys of the old table which are supported by the
+     *         generator but are no longer in the new table
+     */
+    public List<SqlForeignKey> getRemovedForeignKeys() {
+      return removedForeignKeys;
+    }
+
+    /**
+     * @return true if only the new meta definition has a delete trigger for
+     *         this table
+     */
+    public boolean isTriggerAdded() {
+      return triggerAdded;
+    }
+
+    /**
+     * @return true if only the old meta definition has a delete trigger for
+     *         this table
+     */
+    public boolean isTriggerDeleted() {
+      return triggerDeleted;
+    }
+
+    /**
+     * @return true if both meta definitions have a delete trigger for this
+     *         table but they are different
+     */
+    public boolean isTriggerChanged() {
+      return triggerChanged;
+    }
+
+    /**
+     * @return true if the table has added, dropped or changed columns, deleted
+     *         unique constraints or added or removed foreign keys
+     */
+    public boolean isChanged() {
+      return !changedColumns.isEmpty() ||
+              !addedColumns.isEmpty() ||
+              !droppedColumns.isEmpty() ||
+              !deletedUniqueConstraints.isEmpty() ||
+              !addedForeignKeys.isEmpty() ||
+              !removedForeignKeys.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+      return "TableDiff [" + newTable.getId() + "]";
+    }
+  }
+
+  private static final class Differ {
+
+    private final SqlMeta metaDefinitionFrom;
+    private final SqlMeta metaDefinitionTo;
+    private final SqlScriptGenerator generator;
+
+    private Differ(SqlMeta metaDefinitionFrom, SqlMeta metaDefinitionTo, SqlScriptGenerator generator) {
+      this.metaDefinitionFrom = metaDefinitionFrom;
+      this.metaDefinitionTo = metaDefinitionTo;
+      this.generator = generator;
+    }
+
+    private List<SqlTable> findAddedTables() {
+      return unmodifiableList(metaDefinitionTo.getArtifacts(SqlTable.class),
+              newTable -> metaDefinitionFrom.findTable(newTable.getId()) == null);
+    }
+
+    private List<SqlTable> findDroppedTables() {
+      List<SqlTable> droppedTables = metaDefinitionFrom.getArtifacts(SqlTable.class).stream()
+              .filter(oldTable -> metaDefinitionTo.findTable(oldTable.getId()) == null)
+              .collect(Collectors.toList());
+      Collections.sort(droppedTables, new NotReferencedTablesFirstComparator(droppedTables));
+      return Collections.unmodifiableList(droppedTables);
+    }
+
+    private List<TableDiff> findCommonTables() {
+      List<TableDiff> tables = new ArrayList<>();
+      for (SqlTable oldTable : metaDefinitionFrom.getArtifacts(SqlTable.class)) {
+        SqlTable newTable = metaDefinitionTo.findTable(oldTable.getId());
+        if (newTable != null) {
+          tables.add(new TableDiff(newTable, oldTable, this));
+        }
+      }
+      return Collections.unmodifiableList(tables);
+    }
+
+    private Set<SqlView> findAddedViews() {
+      Set<SqlView> addedViews = new LinkedHashSet<>();
+      for (SqlView newView : metaDefinitionTo.getArtifacts(SqlView.class)) {
+        if (metaDefinitionFrom.findView(newView.getId()) == null) {
+          addedViews.add(newView);
+        }
+      }
+      return Collections.unmodifiableSet(addedViews);
+    }
+
+    private List<SqlView> findDroppedViews() {
+      return unmodifiableList(metaDefinitionFrom.getArtifacts(SqlView.class),
+              oldView -> metaDefinitionTo.findView(oldView.getId()) == null);
+    }
+
+    private Set<SqlView> findViewsWhichHasNewDefinition() {
+      Set<SqlView> views = new HashSet<>();
+      for (SqlView oldView : metaDefinitionFrom.getArtifacts(SqlView.class)) {
+        SqlView newView = metaDefinitionTo.findView(oldView.getId());
+        if (newView == null) {
+          continue;
+        }
+        boolean hasAddedColumns = newView.getColumns().stream()
+                .anyMatch(newColumn -> !oldView.hasColumn(newColumn.getId()));
+        boolean hasDroppedColumns = oldView.getColumns().stream()
+                .anyMatch(oldColumn -> !newView.hasColumn(oldColumn.getId()));
+        if (hasAddedColumns || hasDroppedColumns) {
+          views.add(newView);
+        }
+      }
+      return Collections.unmodifiableSet(views);
+    }
+
+    private Set<SqlView> findViewsWhichDependOnChangedTables(List<TableDiff> changedTables) {
+      Set<SqlView> changedViews = new LinkedHashSet<>();
+      for (SqlView sqlView : metaDefinitionTo.getArtifacts(SqlView.class)) {
+        // only recreated view if it was already there in old version
+        if (metaDefinitionFrom.findView(sqlView.getId()) != null) {
+          Set<String> viewTables = sqlView.getTables();
+          for (TableDiff table : changedTables) {
+            if (viewTables.contains(table.getNewTable().getId())) {
+              changedViews.add(sqlView);
+            }
+          }
+        }
+      }
+      return Collections.unmodifiableSet(changedViews);
+    }
+
+    private Map<SqlTableColumn, SqlTableColumn> findChangedColumns(SqlTable newTable, SqlTable oldTable) {
+      List<SqlTableColumn> oldColumns = oldTable.getColumns();
+      Map<SqlTableColumn, SqlTableColumn> changedColumns = new LinkedHashMap<>(oldColumns.size());
+      for (SqlTableColumn oldColumn : oldColumns) {
+        SqlTableColumn newColumn = newTable.findColumnCaseSensitive(oldColumn.getId());
+        if (newColumn != null &&
+                hasColumnChanged(newTable, newColumn, oldColumn)) {
+          changedColumns.put(newColumn, oldColumn);
+        }
+      }
+      return changedColumns;
+    }
+
+    private boolean hasColumnChanged(SqlTable newTable, SqlTableColumn newColumn, SqlTableColumn oldColumn) {
+      if (!newColumn.getId().equals(oldColumn.getId())) {
+        throw new UnsupportedOperationException("Changing of the column name is not supported.");
+      }
+      StringWriter fromOut = new StringWriter();
+      StringWriter toOut = new StringWriter();
+      generator.generateColumn(new PrintWriter(fromOut), newTable, oldColumn,
+              new LinkedHashMap<SqlTable, List<SqlForeignKey>>());
+      generator.generateColumn(new PrintWriter(toOut), newTable, newColumn,
+              new LinkedHashMap<SqlTable, List<SqlForeignKey>>());
+      return !toOut.toString().equals(fromOut.toString());
+    }
+
+    /**
+     * @return foreign keys of the first table which are supported but are not
+     *         supported foreign keys of the second table
+     */
+    private List<SqlForeignKey> findChangedForeignKeys(SqlTable newTable, SqlTable oldTable) {
+      return unmodifiableList(newTable.getForeignKeys(),
+              newForeignKey -> generator.foreignKeys.isSupported(newForeignKey) &&
+                      !isForeignKey(oldTable.findForeignKey(newForeignKey.getId())));
+    }
+
+    private boolean isForeignKey(SqlForeignKey foreignKey) {
+      if (foreignKey == null) {
+        return false;
+      }
+      return generator.foreignKeys.isSupported(foreignKey);
+    }
+
+    private DeleteTrigger deleteTrigger(SqlMeta metaDefinition, SqlTable table) {
+      return generator.triggers.getDeleteTrigger(metaDefinition, table);
+    }
+  }
+}
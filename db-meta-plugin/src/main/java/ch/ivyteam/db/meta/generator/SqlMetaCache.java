@@ -0,0 +1,209 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import ch.ivyteam.db.meta.model.internal.SqlArtifact;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+/**
+ * Cache of parsed meta definition files. The parsed model of every meta file
+ * is serialized to a cache directory together with a key consisting of the
+ * plugin version, a fingerprint of the parser and model classes, the charset
+ * and the content hash of the file. The cached model is only used if the key
+ * still matches. The class fingerprint makes sure that a rebuilt SNAPSHOT
+ * plugin with a changed grammar or model does not use stale entries. Entries
+ * that cannot be read are parsed again. Entries that cannot be written are
+ * reported as warnings, the parsed meta definition is used anyway.
+ */
+public final class SqlMetaCache {
+
+  private static final String EXTENSION = ".sqlmeta";
+  private static final List<String> FINGERPRINT_PACKAGES = List.of(
+          "ch/ivyteam/db/meta/parser/", "ch/ivyteam/db/meta/model/");
+  private final File directory;
+  private final String version;
+  private final String classFingerprint;
+  private final List<String> warnings = new CopyOnWriteArrayList<>();
+
+  /**
+   * @param directory directory to store the cache entries in
+   * @param version version of the plugin that parses the meta definitions
+   */
+  public SqlMetaCache(File directory, String version) {
+    this(directory, version, ClassFingerprint.VALUE);
+  }
+
+  /**
+   * @param directory directory to store the cache entries in
+   * @param version version of the plugin that parses the meta definitions
+   * @param classFingerprint fingerprint of the parser and model classes
+   */
+  SqlMetaCache(File directory, String version, String classFingerprint) {
+    this.directory = directory;
+    this.version = version == null ? "" : version;
+    this.classFingerprint = classFingerprint;
+  }
+
+  /**
+   * Loads the meta definition of the given file from the cache or parses it
+   * and stores it in the cache if the file or the version has changed.
+   * @param metaFile meta definition file
+   * @param charset charset of the meta definition file
+   * @return meta definition
+   * @throws Exception if the file cannot be read or parsed
+   */
+  public SqlMeta parse(File metaFile, Charset charset) throws Exception {
+    byte[] content = Files.readAllBytes(metaFile.toPath());
+    String key = key(content, charset);
+    Path entry = getEntry(metaFile);
+    SqlMeta meta = load(entry, key);
+    if (meta != null) {
+      return meta;
+    }
+    meta = SqlMetaParser.parse(content, charset);
+    try {
+      store(entry, key, meta);
+    } catch (IOException ex) {
+      warnings.add("Could not store the parsed meta definition " + metaFile + " in the cache " + entry
+              + ": " + ex);
+    }
+    return meta;
+  }
+
+  /**
+   * @return warnings about cache entries that could not be written
+   */
+  public List<String> getWarnings() {
+    return Collections.unmodifiableList(warnings);
+  }
+
+  /**
+   * @param metaFile meta definition file
+   * @return cache entry of the given file
+   */
+  Path getEntry(File metaFile) {
+    String pathHash = hash(metaFile.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+    return new File(directory, metaFile.getName() + "-" + pathHash.substring(0, 16) + EXTENSION).toPath();
+  }
+
+  private String key(byte[] content, Charset charset) {
+    return version + ":" + classFingerprint + ":" + charset.name() + ":" + hash(content);
+  }
+
+  /**
+   * @return hash over the names and contents of the class files of the parser
+   *         and model packages in the plugin jar or class directory. If the
+   *         classes cannot be read a random value is returned so that no
+   *         entry of an earlier build is used.
+   */
+  static String calculateClassFingerprint() {
+    try {
+      Path location = Path.of(SqlMeta.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+      var classFiles = new TreeMap<String, byte[]>();
+      if (Files.isDirectory(location)) {
+        try (Stream<Path> files = Files.walk(location)) {
+          for (Path file : (Iterable<Path>) files::iterator) {
+            String name = location.relativize(file).toString().replace(File.separatorChar, '/');
+            if (isFingerprintClass(name)) {
+              classFiles.put(name, Files.readAllBytes(file));
+            }
+          }
+        }
+      } else {
+        try (var jar = new JarFile(location.toFile())) {
+          for (JarEntry entry : Collections.list(jar.entries())) {
+            if (isFingerprintClass(entry.getName())) {
+              try (InputStream in = jar.getInputStream(entry)) {
+                classFiles.put(entry.getName(), in.readAllBytes());
+              }
+            }
+          }
+        }
+      }
+      var digest = MessageDigest.getInstance("SHA-256");
+      for (var classFile : classFiles.entrySet()) {
+        digest.update(classFile.getKey().getBytes(StandardCharsets.UTF_8));
+        digest.update(classFile.getValue());
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (IOException | URISyntaxException | NoSuchAlgorithmException | RuntimeException ex) {
+      return UUID.randomUUID().toString();
+    }
+  }
+
+  private static boolean isFingerprintClass(String name) {
+    return name.endsWith(".class") && FINGERPRINT_PACKAGES.stream().anyMatch(name::startsWith);
+  }
+
+  private static SqlMeta load(Path entry, String key) {
+    if (!Files.isRegularFile(entry)) {
+      return null;
+    }
+    try (var in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+      if (!key.equals(in.readUTF())) {
+        return null;
+      }
+      SqlMeta meta = new SqlMeta();
+      for (Object artifact : (List<?>) in.readObject()) {
+        meta.addArtifact((SqlArtifact) artifact);
+      }
+      return meta;
+    } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+      return null;
+    }
+  }
+
+  private static void store(Path entry, String key, SqlMeta meta) throws IOException {
+    Files.createDirectories(entry.getParent());
+    Path temp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+    try {
+      try (var out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeUTF(key);
+        out.writeObject(new ArrayList<>(meta.getArtifacts()));
+      }
+      Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Calculates the class fingerprint on first use
+   */
+  private static final class ClassFingerprint {
+
+    private static final String VALUE = calculateClassFingerprint();
+  }
+
+  private static String hash(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
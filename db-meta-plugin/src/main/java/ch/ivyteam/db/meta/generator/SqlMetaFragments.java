@@ -0,0 +1,63 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+/**
+ * Parsed meta definitions of single meta definition files (fragments) that
+ * are kept in memory over multiple builds of the same session, e.g. the
+ * incremental builds of an IDE. A fragment is only parsed again if its file
+ * is reported as changed. The fragments are never modified; the
+ * {@link SqlMetaParser} merges them into a new meta definition.
+ */
+public final class SqlMetaFragments {
+
+  private final Map<File, SqlMeta> fragments = new ConcurrentHashMap<>();
+  private Predicate<File> changedFiles = file -> true;
+
+  /**
+   * @param changed returns true for files that have changed since the last
+   *          build and must be parsed again. By default all files are parsed
+   *          again.
+   */
+  public void setChangedFiles(Predicate<File> changed) {
+    this.changedFiles = changed;
+  }
+
+  /**
+   * Removes the fragments of all files that are not in the given files, e.g.
+   * because they were deleted
+   * @param files the current meta definition files
+   */
+  public void retainAll(Collection<File> files) {
+    fragments.keySet().retainAll(files);
+  }
+
+  /**
+   * @return number of fragments
+   */
+  public int size() {
+    return fragments.size();
+  }
+
+  /**
+   * @param file meta definition file
+   * @return the fragment of the given file or null if the file has changed or
+   *         was not parsed yet
+   */
+  SqlMeta get(File file) {
+    if (changedFiles.test(file)) {
+      return null;
+    }
+    return fragments.get(file);
+  }
+
+  void put(File file, SqlMeta fragment) {
+    fragments.put(file, fragment);
+  }
+}
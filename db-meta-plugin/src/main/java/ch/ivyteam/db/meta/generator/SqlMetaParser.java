@@ -0,0 +1,319 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ch.ivyteam.db.meta.generator.internal.ThreadAllocations;
+import ch.ivyteam.db.meta.generator.internal.jfr.MetaParseEvent;
+import ch.ivyteam.db.meta.model.internal.SqlArtifact;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlObject;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.model.internal.SqlView;
+import ch.ivyteam.db.meta.parser.internal.IArtifactListener;
+import ch.ivyteam.db.meta.parser.internal.Parser;
+import ch.ivyteam.db.meta.parser.internal.Scanner;
+
+/**
+ * Parses multiple meta definition files concurrently and merges them in the
+ * order of the files. Each file is parsed with its own scanner and parser, so
+ * the merged meta definition is the same as if the files were parsed one
+ * after another. Tables and views that are defined more than once are
+ * reported as duplicate definitions.
+ * <p>
+ * Every file is read in one pass and decoded as a whole. The scanner scans the
+ * decoded characters directly, so that it never has to refill its buffer.
+ * </p>
+ * <p>
+ * If {@link SqlMetaFragments} are set only the changed files are parsed and the
+ * meta definitions of the unchanged files are taken from the fragments.
+ * </p>
+ * <p>
+ * The bytes allocated by the worker threads are measured, so that they can be
+ * added to the allocations of the calling thread.
+ * </p>
+ */
+public final class SqlMetaParser {
+
+  private final SqlMetaCache cache;
+  private final int threads;
+  private final Charset charset;
+  private SqlMetaFragments fragments;
+  private final List<String> duplicateDefinitions = new ArrayList<>();
+  private final AtomicLong workerAllocatedBytes = new AtomicLong();
+
+  /**
+   * @param cache cache of parsed meta definitions. May be null.
+   * @param threads maximum number of files parsed in parallel. 0 means the
+   *          number of processors.
+   */
+  public SqlMetaParser(SqlMetaCache cache, int threads) {
+    this(cache, threads, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param cache cache of parsed meta definitions. May be null.
+   * @param threads maximum number of files parsed in parallel. 0 means the
+   *          number of processors.
+   * @param charset charset of the meta definition files
+   */
+  public SqlMetaParser(SqlMetaCache cache, int threads, Charset charset) {
+    this.cache = cache;
+    this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.charset = charset;
+  }
+
+  /**
+   * @param fragments fragments of the last parse to take the meta definitions
+   *          of unchanged files from. The fragments are updated with the
+   *          parsed files. May be null.
+   */
+  public void setFragments(SqlMetaFragments fragments) {
+    this.fragments = fragments;
+  }
+
+  /**
+   * Parses the given content of a meta definition file
+   * @param content content of a meta definition file
+   * @param charset charset of the content
+   * @return meta definition
+   * @throws Exception if the content cannot be decoded or parsed
+   */
+  public static SqlMeta parse(byte[] content, Charset charset) throws Exception {
+    return (SqlMeta) newParser(content, charset).parse().value;
+  }
+
+  /**
+   * Parses the given content of a meta definition file and informs the
+   * listener about every artifact as soon as it has been parsed. The parsed
+   * artifacts are not held in memory.
+   * @param content content of a meta definition file
+   * @param charset charset of the content
+   * @param listener listener that consumes the parsed artifacts
+   * @throws Exception if the content cannot be decoded or parsed or if the
+   *           listener fails
+   */
+  public static void parse(byte[] content, Charset charset, IArtifactListener listener)
+          throws Exception {
+    Parser parser = newParser(content, charset);
+    parser.setArtifactListener(listener);
+    parser.setRetainArtifacts(false);
+    parser.parse();
+  }
+
+  private static Parser newParser(byte[] content, Charset charset) throws CharacterCodingException {
+    CharsetDecoder decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    CharBuffer input = decoder.decode(ByteBuffer.wrap(content));
+    char[] chars = input.hasArray() && input.arrayOffset() == 0 ? input.array() : toArray(input);
+    return new Parser(new Scanner(chars, input.limit()));
+  }
+
+  private static char[] toArray(CharBuffer input) {
+    char[] chars = new char[input.remaining()];
+    input.get(chars);
+    return chars;
+  }
+
+  /**
+   * Parses the given meta definition files. Files that are null or do not
+   * exist are ignored.
+   * @param files
+   * @return merged meta definition or null if no file was parsed
+   * @throws Exception if a file cannot be parsed. If more than one file cannot
+   *           be parsed the error of the first one is thrown.
+   */
+  public SqlMeta parse(File... files) throws Exception {
+    List<File> existingFiles = new ArrayList<>();
+    for (File file : files) {
+      if (file != null && file.exists()) {
+        existingFiles.add(file);
+      }
+    }
+    return merge(existingFiles, parseAll(existingFiles));
+  }
+
+  /**
+   * @return tables and views of the last parsed meta definition that are
+   *         defined more than once, with the files and lines of their
+   *         definitions
+   */
+  public List<String> getDuplicateDefinitions() {
+    return Collections.unmodifiableList(duplicateDefinitions);
+  }
+
+  /**
+   * @return bytes allocated by the worker threads during the last parse, 0 if
+   *         the files were parsed on the calling thread or -1 if the JVM does
+   *         not support measuring it
+   */
+  public long getWorkerAllocatedBytes() {
+    return workerAllocatedBytes.get();
+  }
+
+  private List<SqlMeta> parseAll(List<File> files) throws Exception {
+    workerAllocatedBytes.set(0);
+    List<SqlMeta> metas = new ArrayList<>();
+    if (files.size() <= 1 || threads == 1) {
+      for (File file : files) {
+        metas.add(parse(file));
+      }
+      return metas;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, files.size()));
+    try {
+      List<Future<SqlMeta>> futures = new ArrayList<>();
+      for (File file : files) {
+        futures.add(executor.submit(() -> parseOnWorker(file)));
+      }
+      for (Future<SqlMeta> future : futures) {
+        metas.add(get(future));
+      }
+      return metas;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private SqlMeta parseOnWorker(File file) throws Exception {
+    long start = ThreadAllocations.currentThread();
+    try {
+      return parse(file);
+    } finally {
+      long end = ThreadAllocations.currentThread();
+      if (start < 0 || end < 0) {
+        workerAllocatedBytes.set(-1);
+      } else {
+        workerAllocatedBytes.getAndUpdate(bytes -> bytes < 0 ? bytes : bytes + end - start);
+      }
+    }
+  }
+
+  private SqlMeta parse(File file) throws Exception {
+    if (fragments == null) {
+      return parseFile(file);
+    }
+    SqlMeta fragment = fragments.get(file);
+    if (fragment == null) {
+      fragment = parseFile(file);
+      fragments.put(file, fragment);
+    }
+    return fragment;
+  }
+
+  private SqlMeta parseFile(File file) throws Exception {
+    var event = new MetaParseEvent();
+    event.begin();
+    try {
+      if (cache != null) {
+        return cache.parse(file, charset);
+      }
+      return parse(Files.readAllBytes(file.toPath()), charset);
+    } catch (CharacterCodingException ex) {
+      throw new IOException("Could not decode " + file.getPath() + " with charset " + charset, ex);
+    } finally {
+      if (event.shouldCommit()) {
+        event.file = file.getPath();
+        event.bytes = file.length();
+        event.commit();
+      }
+    }
+  }
+
+  private static SqlMeta get(Future<SqlMeta> future) throws Exception {
+    try {
+      return future.get();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof Exception) {
+        throw (Exception) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  private SqlMeta merge(List<File> files, List<SqlMeta> metas) {
+    duplicateDefinitions.clear();
+    Map<String, List<File>> definedIn = new HashMap<>();
+    if (metas.isEmpty()) {
+      return null;
+    }
+    SqlMeta overallMeta = new SqlMeta();
+    for (int pos = 0; pos < metas.size(); pos++) {
+      File file = files.get(pos);
+      SqlMeta meta = metas.get(pos);
+      for (SqlArtifact artifact : meta.getArtifacts()) {
+        if (artifact instanceof SqlTable || artifact instanceof SqlView) {
+          String id = ((SqlObject) artifact).getId();
+          List<File> definitions = definedIn.computeIfAbsent(id, key -> new ArrayList<>());
+          if (!definitions.isEmpty()) {
+            duplicateDefinitions.add(formatDuplicate(artifact, id, definitions.get(0), file,
+                    Collections.frequency(definitions, file)));
+          }
+          definitions.add(file);
+        }
+      }
+      overallMeta.merge(meta);
+    }
+    return overallMeta;
+  }
+
+  private String formatDuplicate(SqlArtifact artifact, String id, File firstFile, File file,
+          int occurrence) {
+    String kind = artifact instanceof SqlTable ? "Table" : "View";
+    String first = formatPosition(firstFile, kind, id, 0);
+    String duplicate = formatPosition(file, kind, id, occurrence);
+    return kind + " " + id + " is defined more than once: " + first + " and " + duplicate;
+  }
+
+  /**
+   * Searches the position of the definition in the file. The model does not
+   * know its positions, so the file is only read again for the rare case of a
+   * duplicate definition.
+   */
+  private String formatPosition(File file, String kind, String id, int occurrence) {
+    try {
+      String content = new String(Files.readAllBytes(file.toPath()), charset);
+      Matcher matcher = Pattern.compile("CREATE\\s+" + kind + "\\s+" + Pattern.quote(id) + "\\b",
+              Pattern.CASE_INSENSITIVE).matcher(content);
+      for (int count = 0; matcher.find(); count++) {
+        if (count == occurrence) {
+          return file.getPath() + ":" + lineOf(content, matcher.start());
+        }
+      }
+    } catch (IOException ex) {
+      // report without line
+    }
+    return file.getPath();
+  }
+
+  private static int lineOf(String content, int offset) {
+    int line = 1;
+    for (int pos = 0; pos < offset; pos++) {
+      if (content.charAt(pos) == '\n') {
+        line++;
+      }
+    }
+    return line;
+  }
+}
@@ -0,0 +1,85 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Row count and average row size of the tables of a database. Read from a
+ * CSV file with one <code>table,rows[,avgRowBytes]</code> line per table.
+ * Empty lines and lines starting with <code>#</code> are ignored. Table names
+ * are case insensitive.
+ * @see MigrationCostReport
+ */
+public final class TableStatistics {
+
+  /** Row size used if the file does not contain the average row size of a table */
+  static final long DEFAULT_ROW_BYTES = 200;
+  private final Map<String, long[]> tables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+  /**
+   * @param file the CSV file to read. May be null.
+   * @return statistics of the given file, or empty statistics if the file is
+   *         null
+   * @throws IOException
+   */
+  public static TableStatistics read(File file) throws IOException {
+    var statistics = new TableStatistics();
+    if (file == null) {
+      return statistics;
+    }
+    List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    for (int pos = 0; pos < lines.size(); pos++) {
+      String line = lines.get(pos).trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] values = line.split(",");
+      if (values.length < 2 || values.length > 3) {
+        throw new IllegalArgumentException("Line " + (pos + 1) + " of table statistics " + file
+                + " must be 'table,rows[,avgRowBytes]' but is '" + line + "'");
+      }
+      try {
+        long rows = Long.parseLong(values[1].trim());
+        long rowBytes = values.length == 3 ? Long.parseLong(values[2].trim()) : DEFAULT_ROW_BYTES;
+        statistics.put(values[0].trim(), rows, rowBytes);
+      } catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Line " + (pos + 1) + " of table statistics " + file
+                + " contains an invalid number: '" + line + "'", ex);
+      }
+    }
+    return statistics;
+  }
+
+  /**
+   * @param table
+   * @param rows
+   * @param rowBytes average size of a row in bytes
+   */
+  public void put(String table, long rows, long rowBytes) {
+    tables.put(table, new long[] {rows, rowBytes});
+  }
+
+  /**
+   * @param table
+   * @return row count of the given table or -1 if it is not known
+   */
+  public long getRows(String table) {
+    long[] values = tables.get(table);
+    return values == null ? -1 : values[0];
+  }
+
+  /**
+   * @param table
+   * @return average row size in bytes of the given table or
+   *         {@link #DEFAULT_ROW_BYTES} if it is not known
+   */
+  public long getRowBytes(String table) {
+    long[] values = tables.get(table);
+    return values == null ? DEFAULT_ROW_BYTES : values[1];
+  }
+}
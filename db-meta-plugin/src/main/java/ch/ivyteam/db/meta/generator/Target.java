@@ -1,12 +1,27 @@
 package ch.ivyteam.db.meta.generator;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Target {
 
   private File targetDirectory;
   private File targetFile;
   private int numberOfTargetFiles;
+  private final Set<File> generatedFiles = new LinkedHashSet<>();
+  private final Set<File> changedFiles = new LinkedHashSet<>();
+  private int numberOfWrittenFiles;
+  private int numberOfUnchangedFiles;
+  private int numberOfDeletedFiles;
 
   private Target(File targetFile, File targetDirectory, int numberOfTargetFiles) {
     this.targetFile = targetFile;
@@ -45,4 +60,109 @@ public class Target {
   public int numberOfTargetFiles() {
     return numberOfTargetFiles;
   }
+
+  /**
+   * Writes the given content to the given file of this target. The file is
+   * only written if it does not exist yet or if it has another content. This
+   * keeps the time stamp of unchanged files.
+   * @param file
+   * @param content
+   * @throws IOException
+   */
+  public void write(File file, byte[] content) throws IOException {
+    if (writeIfChanged(file, content)) {
+      numberOfWrittenFiles++;
+      changedFiles.add(file.getAbsoluteFile());
+    } else {
+      numberOfUnchangedFiles++;
+    }
+    generatedFiles.add(file.getAbsoluteFile());
+  }
+
+  /**
+   * Writes the given content to the given file if it does not exist yet or if
+   * it has another content.
+   * @param file
+   * @param content
+   * @return true if the file was written
+   * @throws IOException
+   */
+  public static boolean writeIfChanged(File file, byte[] content) throws IOException {
+    Path path = file.toPath();
+    if (Files.isRegularFile(path) && Files.size(path) == content.length &&
+            Arrays.equals(Files.readAllBytes(path), content)) {
+      return false;
+    }
+    Files.write(path, content);
+    return true;
+  }
+
+  /**
+   * Deletes the files that were generated last time but not this time.
+   * Nothing is deleted if no file was generated using
+   * {@link #write(File, byte[])}.
+   * @param lastGeneratedFiles files generated last time. If unknown (null) all
+   *          files in the target directory that were not generated this time
+   *          are deleted.
+   * @throws IOException
+   */
+  public void deleteStaleFiles(Collection<File> lastGeneratedFiles) throws IOException {
+    if (generatedFiles.isEmpty()) {
+      return;
+    }
+    Collection<File> candidates = lastGeneratedFiles;
+    if (candidates == null) {
+      if (targetDirectory == null || !targetDirectory.isDirectory()) {
+        return;
+      }
+      try (Stream<Path> files = Files.walk(targetDirectory.toPath())) {
+        candidates = files.filter(Files::isRegularFile).map(Path::toFile).collect(Collectors.toList());
+      }
+    }
+    for (File file : candidates) {
+      File absoluteFile = file.getAbsoluteFile();
+      if (!generatedFiles.contains(absoluteFile) && absoluteFile.isFile() && absoluteFile.delete()) {
+        numberOfDeletedFiles++;
+        changedFiles.add(absoluteFile);
+      }
+    }
+  }
+
+  /**
+   * @return absolute paths of the files generated to this target
+   */
+  public Set<File> getGeneratedFiles() {
+    return Collections.unmodifiableSet(generatedFiles);
+  }
+
+  /**
+   * @return absolute paths of the files of this target that were written or
+   *         deleted
+   */
+  public Set<File> getChangedFiles() {
+    return Collections.unmodifiableSet(changedFiles);
+  }
+
+  /**
+   * @return number of generated files that were written because their content
+   *         changed
+   */
+  public int numberOfWrittenFiles() {
+    return numberOfWrittenFiles;
+  }
+
+  /**
+   * @return number of generated files that were not written because their
+   *         content did not change
+   */
+  public int numberOfUnchangedFiles() {
+    return numberOfUnchangedFiles;
+  }
+
+  /**
+   * @return number of stale files that were deleted
+   */
+  public int numberOfDeletedFiles() {
+    return numberOfDeletedFiles;
+  }
 }
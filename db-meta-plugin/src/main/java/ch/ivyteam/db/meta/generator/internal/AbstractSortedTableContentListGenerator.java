@@ -14,6 +14,8 @@ public abstract class AbstractSortedTableContentListGenerator implements IMetaOu
 
   /** The output file */
   File fOutputFile;
+  /** The target of the output file */
+  Target fTarget;
   /** The database system to generate */
   protected String fDatabaseSystem;
 
@@ -33,11 +35,12 @@ public abstract class AbstractSortedTableContentListGenerator implements IMetaOu
       throw new Exception("Second generator option must be -databaseSystem");
     }
     fDatabaseSystem = generatorArgs[3];
+    fTarget = Target.createSingleTargetFile(fOutputFile);
   }
 
   @Override
   public Target getTarget() {
-    return Target.createSingleTargetFile(fOutputFile);
+    return fTarget;
   }
 
   /**
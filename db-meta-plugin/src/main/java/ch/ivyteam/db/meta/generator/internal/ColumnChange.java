@@ -0,0 +1,33 @@
+package ch.ivyteam.db.meta.generator.internal;
+
+/**
+ * Cost class of altering a column on a database system, ordered from the
+ * cheapest to the most expensive one. See
+ * {@link SqlScriptGenerator#classifyColumnChange}.
+ */
+public enum ColumnChange {
+  METADATA_ONLY("Only the catalog is changed"),
+  VALIDATION_SCAN("All rows are read to validate the change"),
+  TABLE_REWRITE("All rows are rewritten");
+
+  private final String description;
+
+  private ColumnChange(String description) {
+    this.description = description;
+  }
+
+  /**
+   * @return human readable description of the cost class
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * @param other
+   * @return the more expensive of this and the given change
+   */
+  public ColumnChange max(ColumnChange other) {
+    return compareTo(other) >= 0 ? this : other;
+  }
+}
@@ -25,6 +25,8 @@ public final class DbHints {
   public final DbHint INDEX_NAME = new DbHint(SqlScriptGenerator.INDEX_NAME);
   public final DbHint NO_INDEX = new DbHint(SqlScriptGenerator.NO_INDEX);
   public final DbHint DEFAULT_VALUE = new DbHint(SqlScriptGenerator.DEFAULT_VALUE);
+  public final DbHint CHUNK_SIZE = new DbHint(SqlScriptGenerator.CHUNK_SIZE);
+  public final DbHint CHUNK_KEY = new DbHint(SqlScriptGenerator.CHUNK_KEY);
   public final DbHint CAST = new DbHint(PostgreSqlSqlScriptGenerator.CAST);
   public final DbHint CONVERT_EMPTY_STRING_TO_NULL = new DbHint(
           OracleSqlScriptGenerator.CONVERT_EMPTY_STRING_TO_NULL);
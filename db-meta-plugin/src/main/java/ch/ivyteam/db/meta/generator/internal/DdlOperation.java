@@ -0,0 +1,28 @@
+package ch.ivyteam.db.meta.generator.internal;
+
+/**
+ * Schema changing operations of a conversion script that may lock a table for
+ * the time they run. See {@link SqlScriptGenerator#setOnline(boolean)}.
+ */
+public enum DdlOperation {
+  CREATE_INDEX("Creating an index"),
+  ADD_UNIQUE_CONSTRAINT("Adding a unique constraint"),
+  ADD_PRIMARY_KEY("Adding a primary key"),
+  ADD_COLUMN("Adding a column"),
+  ALTER_COLUMN("Altering a column"),
+  ALTER_COLUMN_METADATA("Changing the definition of a column"),
+  ADD_FOREIGN_KEY("Adding a foreign key");
+
+  private final String description;
+
+  private DdlOperation(String description) {
+    this.description = description;
+  }
+
+  /**
+   * @return human readable description of the operation
+   */
+  public String getDescription() {
+    return description;
+  }
+}
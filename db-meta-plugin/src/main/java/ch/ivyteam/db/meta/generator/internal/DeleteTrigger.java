@@ -0,0 +1,111 @@
+package ch.ivyteam.db.meta.generator.internal;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import ch.ivyteam.db.meta.model.internal.SqlDmlStatement;
+
+/**
+ * The delete triggers of a table as they are generated. The statements are
+ * resolved, i.e. the old trigger variable is already replaced. Two delete
+ * triggers are equal if they generate the same trigger script. This allows to
+ * compare triggers without generating them.
+ */
+public final class DeleteTrigger {
+
+  private final String name;
+  private final String tableName;
+  private final List<SqlDmlStatement> forEachStatementStatements;
+  private final List<SqlDmlStatement> forEachRowStatements;
+  private final boolean recursive;
+
+  DeleteTrigger(String name, String tableName, List<SqlDmlStatement> forEachStatementStatements,
+          List<SqlDmlStatement> forEachRowStatements, boolean recursive) {
+    this.name = name;
+    this.tableName = tableName;
+    this.forEachStatementStatements = forEachStatementStatements;
+    this.forEachRowStatements = forEachRowStatements;
+    this.recursive = recursive;
+  }
+
+  /**
+   * @return name of the trigger
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return name of the table the trigger is defined on
+   */
+  public String getTableName() {
+    return tableName;
+  }
+
+  /**
+   * @return resolved statements of the for each statement delete trigger
+   */
+  public List<SqlDmlStatement> getForEachStatementStatements() {
+    return forEachStatementStatements;
+  }
+
+  /**
+   * @return resolved statements of the for each row delete trigger
+   */
+  public List<SqlDmlStatement> getForEachRowStatements() {
+    return forEachRowStatements;
+  }
+
+  /**
+   * @return true if the for each row delete trigger deletes or updates rows of
+   *         its own table
+   */
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * @return true if the table has a delete trigger
+   */
+  public boolean exists() {
+    return !forEachStatementStatements.isEmpty() || !forEachRowStatements.isEmpty();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(name)
+            .append(tableName)
+            .append(forEachStatementStatements)
+            .append(forEachRowStatements)
+            .append(recursive).toHashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    DeleteTrigger other = (DeleteTrigger) obj;
+    return new EqualsBuilder()
+            .append(other.name, name)
+            .append(other.tableName, tableName)
+            .append(other.forEachStatementStatements, forEachStatementStatements)
+            .append(other.forEachRowStatements, forEachRowStatements)
+            .append(other.recursive, recursive).isEquals();
+  }
+
+  @Override
+  public String toString() {
+    return "DeleteTrigger [name=" + name + ", table=" + tableName + ", forEachStatement="
+            + forEachStatementStatements + ", forEachRow=" + forEachRowStatements + "]";
+  }
+}
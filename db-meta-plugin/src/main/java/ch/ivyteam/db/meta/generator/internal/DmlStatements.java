@@ -1,6 +1,7 @@
 package ch.ivyteam.db.meta.generator.internal;
 
 import java.io.PrintWriter;
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -27,6 +28,7 @@ import ch.ivyteam.db.meta.model.internal.SqlParent;
 import ch.ivyteam.db.meta.model.internal.SqlSelect;
 import ch.ivyteam.db.meta.model.internal.SqlSelectExpression;
 import ch.ivyteam.db.meta.model.internal.SqlSimpleExpr;
+import ch.ivyteam.db.meta.model.internal.SqlTableId;
 import ch.ivyteam.db.meta.model.internal.SqlUpdate;
 import ch.ivyteam.db.meta.model.internal.SqlUpdateColumnExpression;
 import ch.ivyteam.db.meta.model.internal.SqlWhenThen;
@@ -81,6 +83,41 @@ public class DmlStatements {
     pr.append("\n\n");
   }
 
+  /**
+   * Generates an update statement that sets the given columns of the row
+   * inserted by the given insert statement
+   * @param pr the writer to write to
+   * @param insert the insert statement that provides the values
+   * @param columns the columns to update
+   * @param keyColumns the columns that identify the row to update
+   */
+  public final void generateUpdate(PrintWriter pr, SqlInsertWithValues insert, List<String> columns,
+          List<String> keyColumns) {
+    pr.append("UPDATE ");
+    pr.append(insert.getTable());
+    pr.append(" SET ");
+    generateColumnValues(pr, insert, columns, ", ");
+    pr.append(" WHERE ");
+    generateColumnValues(pr, insert, keyColumns, " AND ");
+    delimiter.generate(pr);
+    pr.append("\n\n");
+  }
+
+  private void generateColumnValues(PrintWriter pr, SqlInsertWithValues insert, List<String> columns,
+          String separator) {
+    boolean first = true;
+    for (String column : columns) {
+      if (!first) {
+        pr.append(separator);
+      }
+      first = false;
+      pr.append(column);
+      pr.append("=");
+      Object value = insert.getValues().get(insert.getColumns().indexOf(column)).getValue();
+      generateValue(pr, value);
+    }
+  }
+
   public void generateUpdate(PrintWriter pr, SqlUpdate updateStmt, int indent) {
     spaces.generate(pr, indent);
     pr.print("UPDATE ");
@@ -128,10 +165,111 @@ public class DmlStatements {
     pr.append("\n\n");
   }
 
-  public final void generateInsertWithSelect(PrintWriter pr, SqlInsertWithSelect insert) {
-    generateInsertInto(pr, insert);
-    pr.append("\n");
-    generateSelect(pr, insert.getSelect(), 0);
+  /**
+   * Generates an insert statement that inserts the rows of a select. If the
+   * hint {@link SqlScriptGenerator#CHUNK_SIZE} is set the rows are inserted in
+   * chunks of key ranges of the first table of the select.
+   * @param pr the writer to write to
+   * @param insert the insert statement
+   * @param createdTemporaryStoredProcedures stored procedures needed to execute
+   *          the chunks are added to this list and must be dropped at the end
+   */
+  public final void generateInsertWithSelect(PrintWriter pr, SqlInsertWithSelect insert,
+          List<String> createdTemporaryStoredProcedures) {
+    Chunk chunk = getChunk(insert);
+    generateStatement(pr, chunk, (writer, indent, chunkStart) -> {
+      spaces.generate(writer, indent);
+      generateInsertInto(writer, insert);
+      writer.append("\n");
+      generateSelect(writer, insert.getSelect(), indent, chunk, chunkStart);
+    }, createdTemporaryStoredProcedures);
+  }
+
+  /**
+   * Generates an update statement that is not part of a trigger. If the hint
+   * {@link SqlScriptGenerator#CHUNK_SIZE} is set the rows are updated in chunks
+   * of key ranges.
+   * @param pr the writer to write to
+   * @param update the update statement
+   * @param createdTemporaryStoredProcedures stored procedures needed to execute
+   *          the chunks are added to this list and must be dropped at the end
+   */
+  public final void generateUpdate(PrintWriter pr, SqlUpdate update,
+          List<String> createdTemporaryStoredProcedures) {
+    Chunk chunk = getChunk(update, update.getTable(), null);
+    generateStatement(pr, chunk, (writer, indent, chunkStart) -> {
+      spaces.generate(writer, indent);
+      writer.print("UPDATE ");
+      writer.println(update.getTable());
+      spaces.generate(writer, indent);
+      writer.print("SET ");
+      boolean first = true;
+      for (SqlUpdateColumnExpression expr : update.getColumnExpressions()) {
+        if (!first) {
+          writer.print(", ");
+        }
+        first = false;
+        identifiers.generate(writer, expr.getColumnName());
+        writer.print('=');
+        generateSqlAtom(writer, expr.getExpression());
+      }
+      generateWhere(writer, update.getFilterExpression(), indent, chunk, chunkStart);
+    }, createdTemporaryStoredProcedures);
+  }
+
+  private Chunk getChunk(SqlInsertWithSelect insert) {
+    if (!dbHints.CHUNK_SIZE.isSet(insert)) {
+      return null;
+    }
+    SqlTableId keyTable = insert.getSelect().getFirstTable();
+    if (keyTable == null) {
+      throw new MetaException("Hint " + dbHints.CHUNK_SIZE.name() + " on statement '" + insert
+              + "' requires a select from a table");
+    }
+    String qualifier = keyTable.getAlias() != null ? keyTable.getAlias() : keyTable.getName();
+    return getChunk(insert, keyTable.getName(), qualifier);
+  }
+
+  private Chunk getChunk(SqlArtifact statement, String keyTable, String keyQualifier) {
+    if (!dbHints.CHUNK_SIZE.isSet(statement)) {
+      return null;
+    }
+    String size = dbHints.CHUNK_SIZE.value(statement);
+    String keyColumn = dbHints.CHUNK_KEY.value(statement);
+    if (size == null || !size.matches("[1-9][0-9]*") || keyColumn == null) {
+      throw new IllegalArgumentException("Hint " + dbHints.CHUNK_SIZE.name() + " on statement '"
+              + statement + "' requires a positive chunk size and the hint " + dbHints.CHUNK_KEY.name());
+    }
+    return new Chunk(keyTable, keyColumn, keyQualifier, Integer.parseInt(size));
+  }
+
+  private void generateStatement(PrintWriter pr, Chunk chunk, IChunkStatement statement,
+          List<String> createdTemporaryStoredProcedures) {
+    if (chunk == null) {
+      statement.generate(pr, 0, null);
+      delimiter.generate(pr);
+      pr.append("\n\n");
+    } else {
+      generateChunked(pr, chunk, statement, createdTemporaryStoredProcedures);
+    }
+  }
+
+  /**
+   * Generates a loop that executes the statement for one key range chunk after
+   * the other and commits after each chunk. The key ranges start at the
+   * minimum and end at the maximum key of the table of the chunk.<br>
+   * This implementation does not support chunks and generates the statement
+   * for all rows at once.
+   * @param pr the writer to write to
+   * @param chunk the key range chunk definition
+   * @param statement generates the statement for one chunk
+   * @param createdTemporaryStoredProcedures stored procedures needed to execute
+   *          the chunks are added to this list and must be dropped at the end
+   */
+  protected void generateChunked(PrintWriter pr, @SuppressWarnings("unused") Chunk chunk,
+          IChunkStatement statement,
+          @SuppressWarnings("unused") List<String> createdTemporaryStoredProcedures) {
+    statement.generate(pr, 0, null);
     delimiter.generate(pr);
     pr.append("\n\n");
   }
@@ -284,6 +422,11 @@ public class DmlStatements {
   }
 
   final void generateSelect(PrintWriter pr, SqlSelect select, int indent) {
+    generateSelect(pr, select, indent, null, null);
+  }
+
+  private void generateSelect(PrintWriter pr, SqlSelect select, int indent, Chunk chunk,
+          String chunkStart) {
     boolean first = true;
     spaces.generate(pr, indent);
     pr.println("SELECT");
@@ -316,15 +459,102 @@ public class DmlStatements {
         generateFilterExpression(pr, joinTable.getJoinCondition());
       }
     }
-    if (select.getCondition() != null) {
-      pr.println();
-      spaces.generate(pr, indent);
-      pr.print("WHERE ");
-      generateFilterExpression(pr, select.getCondition());
+    generateWhere(pr, select.getCondition(), indent, chunk, chunkStart);
+  }
+
+  /**
+   * Generates the where clause. If a chunk start is given only the rows of the
+   * key range chunk that begins at this key are filtered.
+   */
+  private void generateWhere(PrintWriter pr, SqlSimpleExpr condition, int indent, Chunk chunk,
+          String chunkStart) {
+    boolean inChunk = chunkStart != null;
+    if (condition == null && !inChunk) {
+      return;
+    }
+    pr.println();
+    spaces.generate(pr, indent);
+    pr.print("WHERE ");
+    if (condition != null && inChunk) {
+      pr.print('(');
+      generateFilterExpression(pr, condition);
+      pr.print(") AND ");
+    } else if (condition != null) {
+      generateFilterExpression(pr, condition);
+    }
+    if (inChunk) {
+      generateChunkKey(pr, chunk);
+      pr.print(" >= ");
+      pr.print(chunkStart);
+      pr.print(" AND ");
+      generateChunkKey(pr, chunk);
+      pr.print(" < ");
+      pr.print(chunkStart);
+      pr.print(" + ");
+      pr.print(chunk.getSize());
     }
   }
 
+  private void generateChunkKey(PrintWriter pr, Chunk chunk) {
+    if (chunk.keyQualifier != null) {
+      identifiers.generate(pr, chunk.keyQualifier);
+      pr.print('.');
+    }
+    identifiers.generate(pr, chunk.getKeyColumn());
+  }
+
   private void generateViewExpression(PrintWriter pr, SqlSelectExpression expression) {
     generateSqlAtom(pr, expression.getExpression(), expression);
   }
+
+  /**
+   * Key range chunk of a data conversion statement
+   */
+  protected static final class Chunk {
+
+    private final String table;
+    private final String keyColumn;
+    private final String keyQualifier;
+    private final int size;
+
+    private Chunk(String table, String keyColumn, String keyQualifier, int size) {
+      this.table = table;
+      this.keyColumn = keyColumn;
+      this.keyQualifier = keyQualifier;
+      this.size = size;
+    }
+
+    /**
+     * @return the table whose key column is split into ranges
+     */
+    public String getTable() {
+      return table;
+    }
+
+    /**
+     * @return the numeric key column that is split into ranges
+     */
+    public String getKeyColumn() {
+      return keyColumn;
+    }
+
+    /**
+     * @return the number of keys in one range
+     */
+    public int getSize() {
+      return size;
+    }
+  }
+
+  protected interface IChunkStatement {
+
+    /**
+     * Generates the statement for one chunk
+     * @param pr the writer to write to
+     * @param indent the indent of the statement
+     * @param chunkStart the variable that holds the first key of the chunk or
+     *          null to generate the statement for all rows
+     */
+    void generate(PrintWriter pr, int indent, String chunkStart);
+  }
 }
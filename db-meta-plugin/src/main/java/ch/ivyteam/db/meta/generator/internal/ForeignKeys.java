@@ -155,6 +155,42 @@ public class ForeignKeys {
     pr.println();
   }
 
+  /**
+   * Is deferred validation of added foreign keys supported. If this method
+   * returns true online conversion scripts add foreign keys with
+   * {@link #generateAlterTableAddNotValidated(PrintWriter, SqlTable, SqlForeignKey)}
+   * without checking the existing rows and validate them later with
+   * {@link #generateValidate(PrintWriter, SqlTable, SqlForeignKey)}.
+   * @return true if it supported, false if not
+   */
+  public boolean isDeferredValidationSupported() {
+    return false;
+  }
+
+  /**
+   * Generates an alter table add foreign key statement that does not validate
+   * the existing rows of the table. New rows are checked.
+   * @param pr
+   * @param table the table
+   * @param foreignKey the foreign key
+   * @see #isDeferredValidationSupported()
+   */
+  public void generateAlterTableAddNotValidated(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+    generateAlterTableAdd(pr, table, foreignKey);
+  }
+
+  /**
+   * Generates the statement that validates the existing rows of a foreign key
+   * that was added with
+   * {@link #generateAlterTableAddNotValidated(PrintWriter, SqlTable, SqlForeignKey)}
+   * @param pr
+   * @param table the table
+   * @param foreignKey the foreign key
+   * @see #isDeferredValidationSupported()
+   */
+  @SuppressWarnings("unused")
+  public void generateValidate(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {}
+
   public void generateAlterTableDrop(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey,
           @SuppressWarnings("unused") List<String> createdTemporaryStoredProcedures) {
     pr.print("ALTER TABLE ");
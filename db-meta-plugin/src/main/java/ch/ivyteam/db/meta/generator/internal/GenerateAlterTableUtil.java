@@ -70,7 +70,7 @@ public class GenerateAlterTableUtil {
 
   public static void generateAlterTableAlterColumnWithNullConstraints(PrintWriter pr,
           SqlScriptGenerator generator,
-          SqlTableColumn newColumn, SqlTable newTable, String changeColumnTag) {
+          SqlTableColumn newColumn, SqlTable newTable, String changeColumnTag, DdlOperation operation) {
     pr.print("ALTER TABLE ");
     generator.identifiers.generate(pr, newTable.getId());
     pr.print(" ");
@@ -84,27 +84,30 @@ public class GenerateAlterTableUtil {
       generator.generateDefaultValue(pr, newColumn);
     }
     generator.generateNullConstraint(pr, newColumn.isCanBeNull(), newColumn);
+    generator.generateOnline(pr, operation);
     generator.delimiter.generate(pr);
   }
 
   public static void generateAlterTableChangeColumnWithDefaultAndNullConstraints(PrintWriter pr,
           SqlScriptGenerator generator,
-          SqlTableColumn newColumn, SqlTable newTable, String changeTag) throws MetaException {
-    generateAlterTableForColumn(pr, generator, newColumn, newTable, changeTag);
+          SqlTableColumn newColumn, SqlTable newTable, String changeTag, DdlOperation operation)
+          throws MetaException {
+    generateAlterTableForColumn(pr, generator, newColumn, newTable, changeTag, operation);
   }
 
   public static void generateAlterTableAddColumn(PrintWriter pr, SqlScriptGenerator generator,
           SqlTableColumn newColumn, SqlTable newTable, String changeTag) throws MetaException {
-    generateAlterTableForColumn(pr, generator, newColumn, newTable, changeTag);
+    generateAlterTableForColumn(pr, generator, newColumn, newTable, changeTag, DdlOperation.ADD_COLUMN);
   }
 
   private static void generateAlterTableForColumn(PrintWriter pr, SqlScriptGenerator generator,
-          SqlTableColumn newColumn, SqlTable newTable, String changeTag) {
+          SqlTableColumn newColumn, SqlTable newTable, String changeTag, DdlOperation operation) {
     pr.print("ALTER TABLE ");
     generator.identifiers.generate(pr, newTable.getId());
     pr.print(" ");
     pr.println(changeTag);
     generator.generateColumn(pr, newTable, newColumn, new LinkedHashMap<SqlTable, List<SqlForeignKey>>());
+    generator.generateOnline(pr, operation);
     generator.delimiter.generate(pr);
   }
 
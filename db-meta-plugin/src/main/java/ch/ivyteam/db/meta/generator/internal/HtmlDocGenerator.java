@@ -1,11 +1,12 @@
 package ch.ivyteam.db.meta.generator.internal;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +15,6 @@ import java.util.SortedSet;
 import java.util.Stack;
 import java.util.TreeSet;
 
-import org.apache.commons.io.FileUtils;
 
 import ch.ivyteam.db.meta.generator.Target;
 import ch.ivyteam.db.meta.model.internal.MetaException;
@@ -50,6 +50,7 @@ import ch.ivyteam.db.meta.model.internal.SqlWhenThen;
 public class HtmlDocGenerator implements IMetaOutputGenerator {
 
   private File outputDir;
+  private Target target;
   private Stack<String> htmlTags = new Stack<>();
   private int fRow;
   private Stack<Map<String, String>> tableAliases = new Stack<>();
@@ -66,11 +67,12 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     if (!outputDir.exists()) {
       outputDir.mkdirs();
     }
+    target = Target.createTargetDirectory(outputDir);
   }
 
   @Override
   public Target getTarget() {
-    return Target.createTargetDirectory(outputDir);
+    return target;
   }
 
   @Override
@@ -84,24 +86,24 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
   private void writeStylesheet() throws IOException {
     try (var in = HtmlDocGenerator.class.getResourceAsStream("style.css")) {
       var styleCss = outputDir.toPath().resolve("style.css");
-      FileUtils.copyInputStreamToFile(in, styleCss.toFile());
+      target.write(styleCss.toFile(), in.readAllBytes());
     }
   }
 
-  private void writeTables(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeTables(SqlMeta metaDefinition) {
     for (var table : metaDefinition.getArtifacts(SqlTable.class)) {
       writeTable(metaDefinition, table);
     }
   }
 
-  private void writeViews(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeViews(SqlMeta metaDefinition) {
     for (var view : metaDefinition.getArtifacts(SqlView.class)) {
       writeView(metaDefinition, view);
     }
   }
 
-  private void writeView(SqlMeta metaDefinition, SqlView view) throws FileNotFoundException {
-    try (var pr = new NewLinePrintWriter(new File(outputDir, view.getId() + ".html"))) {
+  private void writeView(SqlMeta metaDefinition, SqlView view) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, view.getId() + ".html"), target)) {
       writeHeader(pr, "View " + view.getId());
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -127,8 +129,8 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeTable(SqlMeta metaDefinition, SqlTable table) throws FileNotFoundException {
-    try (var pr = new NewLinePrintWriter(new File(outputDir, table.getId() + ".html"))) {
+  private void writeTable(SqlMeta metaDefinition, SqlTable table) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, table.getId() + ".html"), target)) {
       writeHeader(pr, "Table " + table.getId());
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -232,38 +234,36 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
 
   private void writeReferencedBy(PrintWriter pr, SqlMeta metaDefinition, SqlTable table) {
     boolean first = true;
-    for (var foreignTable : metaDefinition.getArtifacts(SqlTable.class)) {
-      for (var column : foreignTable.getColumns()) {
-        if ((column.getReference() != null)
-                && (column.getReference().getForeignTable().equals(table.getId()))) {
-          if (first) {
-            writeStartTag(pr, "h2");
-            writeText(pr, "Referenced By");
-            writeEndTag(pr);
-            writeStartTag(pr, "table");
-            writeNewRow(pr);
-            writeStartTag(pr, "th");
-            writeText(pr, "Foreign Table");
-            writeEndTag(pr);
-            writeStartTag(pr, "th");
-            writeText(pr, "Column");
-            writeEndTag(pr);
-            writeStartTag(pr, "th");
-            writeText(pr, "Comment");
-            writeEndTags(pr, 2);
-          }
-          first = false;
+    for (var referencing : getReferencingColumns(metaDefinition, table).entrySet()) {
+      var foreignTable = referencing.getKey();
+      for (var column : referencing.getValue()) {
+        if (first) {
+          writeStartTag(pr, "h2");
+          writeText(pr, "Referenced By");
+          writeEndTag(pr);
+          writeStartTag(pr, "table");
           writeNewRow(pr);
-          writeNewColumn(pr);
-          writeTableReference(pr, foreignTable.getId());
+          writeStartTag(pr, "th");
+          writeText(pr, "Foreign Table");
           writeEndTag(pr);
-          writeNewColumn(pr);
-          writeTableColumnReference(pr, foreignTable.getId(), column.getId());
+          writeStartTag(pr, "th");
+          writeText(pr, "Column");
           writeEndTag(pr);
-          writeNewColumn(pr);
-          writeComment(pr, column.getComment());
+          writeStartTag(pr, "th");
+          writeText(pr, "Comment");
           writeEndTags(pr, 2);
         }
+        first = false;
+        writeNewRow(pr);
+        writeNewColumn(pr);
+        writeTableReference(pr, foreignTable.getId());
+        writeEndTag(pr);
+        writeNewColumn(pr);
+        writeTableColumnReference(pr, foreignTable.getId(), column.getId());
+        writeEndTag(pr);
+        writeNewColumn(pr);
+        writeComment(pr, column.getComment());
+        writeEndTags(pr, 2);
       }
     }
     if (!first) {
@@ -271,6 +271,29 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
+  /**
+   * @return the columns referencing the given table grouped by their table.
+   *         The columns are in the order they are defined in their table.
+   */
+  private static Map<SqlTable, List<SqlTableColumn>> getReferencingColumns(SqlMeta metaDefinition,
+          SqlTable table) {
+    var referencingColumns = new LinkedHashMap<SqlTable, List<SqlTableColumn>>();
+    for (var referencing : metaDefinition.getReferencingForeignKeys(table)) {
+      var foreignTable = referencing.getLeft();
+      referencingColumns.computeIfAbsent(foreignTable, key -> new ArrayList<>())
+              .add(foreignTable.findColumn(referencing.getRight().getColumnName()));
+    }
+    for (var referencing : referencingColumns.entrySet()) {
+      var positions = new HashMap<SqlTableColumn, Integer>();
+      var columns = referencing.getKey().getColumns();
+      for (int pos = 0; pos < columns.size(); pos++) {
+        positions.put(columns.get(pos), pos);
+      }
+      referencing.getValue().sort(Comparator.comparing(positions::get));
+    }
+    return referencingColumns;
+  }
+
   private void writeNewRow(PrintWriter pr) {
     writeStartTag(pr, "tr");
     fRow++;
@@ -809,9 +832,9 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     return false;
   }
 
-  private void writeOverview(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeOverview(SqlMeta metaDefinition) {
     Set<String> databaseSystems;
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "index.html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "index.html"), target)) {
       writeHeader(pr, "Database Schema Overview");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -853,10 +876,9 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeDatabaseSystemOverview(SqlMeta metaDefinition, String databaseSystem)
-          throws FileNotFoundException {
+  private void writeDatabaseSystemOverview(SqlMeta metaDefinition, String databaseSystem) {
     Set<String> hints;
-    try (var pr = new NewLinePrintWriter(new File(outputDir, databaseSystem + ".html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, databaseSystem + ".html"), target)) {
       writeHeader(pr, databaseSystem);
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -923,7 +945,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     return databaseSystems;
   }
 
-  private void writeForeignKeyOverview(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeForeignKeyOverview(SqlMeta metaDefinition) {
     Map<String, List<SqlTable>> foreignKeys = new HashMap<String, List<SqlTable>>();
     List<SqlTable> references;
     SortedSet<String> foreignKeysSorted;
@@ -938,7 +960,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
         references.add(table);
       }
     }
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "foreignkeys.html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "foreignkeys.html"), target)) {
       writeHeader(pr, "Foreign Keys");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -983,7 +1005,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writePrimaryKeyOverview(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writePrimaryKeyOverview(SqlMeta metaDefinition) {
     var primaryKeys = new HashMap<String, List<SqlTable>>();
     List<SqlTable> references;
     SortedSet<String> primaryKeySorted;
@@ -997,7 +1019,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
         references.add(table);
       }
     }
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "primarykeys.html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "primarykeys.html"), target)) {
       writeHeader(pr, "Primary Keys");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -1031,7 +1053,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeIndexOverview(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeIndexOverview(SqlMeta metaDefinition) {
     Map<String, List<SqlTable>> indexes = new HashMap<String, List<SqlTable>>();
     List<SqlTable> references;
     SortedSet<String> indexSorted;
@@ -1045,7 +1067,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
         references.add(table);
       }
     }
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "indexes.html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "indexes.html"), target)) {
       writeHeader(pr, "Indexes");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -1079,7 +1101,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeConstraintsOverview(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeConstraintsOverview(SqlMeta metaDefinition) {
     Map<String, List<SqlTable>> constraints = new HashMap<String, List<SqlTable>>();
     List<SqlTable> references;
     SortedSet<String> constraintsSorted;
@@ -1093,7 +1115,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
         references.add(table);
       }
     }
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "constraints.html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "constraints.html"), target)) {
       writeHeader(pr, "Constraints");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -1127,7 +1149,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeTriggerOverview(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeTriggerOverview(SqlMeta metaDefinition) {
     Map<String, List<SqlTable>> triggers = new HashMap<String, List<SqlTable>>();
     List<SqlTable> references;
     SortedSet<String> triggersSorted;
@@ -1141,7 +1163,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
         references.add(table);
       }
     }
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "triggers.html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "triggers.html"), target)) {
       writeHeader(pr, "Triggers");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -1173,7 +1195,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeColumnOverview(SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeColumnOverview(SqlMeta metaDefinition) {
     var columns = new HashMap<String, List<SqlObject>>();
     List<SqlObject> references;
     SortedSet<String> columnsSorted;
@@ -1197,7 +1219,7 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
         references.add(view);
       }
     }
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "columns.html"))) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "columns.html"), target)) {
       writeHeader(pr, "Columns");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -1230,8 +1252,8 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeViewOverview(SqlMeta metaDefinition) throws FileNotFoundException {
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "views.html"))) {
+  private void writeViewOverview(SqlMeta metaDefinition) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "views.html"), target)) {
       writeHeader(pr, "Views");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
@@ -1259,8 +1281,8 @@ public class HtmlDocGenerator implements IMetaOutputGenerator {
     }
   }
 
-  private void writeTableOverview(SqlMeta metaDefinition) throws FileNotFoundException {
-    try (var pr = new NewLinePrintWriter(new File(outputDir, "tables.html"))) {
+  private void writeTableOverview(SqlMeta metaDefinition) {
+    try (var pr = new NewLinePrintWriter(new File(outputDir, "tables.html"), target)) {
       writeHeader(pr, "Tables");
       writeStartTag(pr, "body");
       writeStartTag(pr, "h1");
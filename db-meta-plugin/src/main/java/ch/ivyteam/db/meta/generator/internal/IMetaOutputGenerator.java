@@ -31,7 +31,9 @@ public interface IMetaOutputGenerator {
 
   /**
    * Gets information about the files that are generated when calling
-   * {@link #generateMetaOutput(SqlMeta)}
+   * {@link #generateMetaOutput(SqlMeta)}. Generators should write their files
+   * using {@link Target#write(java.io.File, byte[])} of the returned target so
+   * that unchanged files are not touched and stale files can be deleted.
    * @return target
    */
   Target getTarget();
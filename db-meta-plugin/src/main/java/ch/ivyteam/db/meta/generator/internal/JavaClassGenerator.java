@@ -42,6 +42,8 @@ public abstract class JavaClassGenerator implements IMetaOutputGenerator {
   private String fTargetPackage;
   /** The tables to generate entity classes for */
   private final List<String> fTablesToGenerateJavaClassFor = new ArrayList<String>();
+  /** The target of the generated java classes */
+  private Target fTarget;
   /** Database System Name */
   public static final String JAVA = "Java";
   /**
@@ -154,11 +156,12 @@ public abstract class JavaClassGenerator implements IMetaOutputGenerator {
     fTargetPackage = commandLine.getOptionValue(OPTION_PACKAGE);
     Collections.addAll(fTablesToGenerateJavaClassFor, commandLine.getOptionValues(OPTION_TABLES));
     analyseAdditionalArgs(commandLine);
+    fTarget = Target.createTargetFiles(getTargetDirectory(), fTablesToGenerateJavaClassFor.size());
   }
 
   @Override
   public Target getTarget() {
-    return Target.createTargetFiles(getTargetDirectory(), fTablesToGenerateJavaClassFor.size());
+    return fTarget;
   }
 
   protected File getTargetDirectory() {
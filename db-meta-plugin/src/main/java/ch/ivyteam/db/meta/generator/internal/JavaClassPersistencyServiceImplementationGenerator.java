@@ -58,7 +58,7 @@ public class JavaClassPersistencyServiceImplementationGenerator extends JavaClas
     String className = "Db" + entityClassName;
     File javaSourceFile = new File(getTargetDirectory(), className + ".java");
     javaSourceFile.getParentFile().mkdirs();
-    templateWriter.writeToFile(javaSourceFile);
+    templateWriter.writeToFile(javaSourceFile, getTarget());
   }
 
   private void writeJavaClassPersistencyServiceImplementationGenerator(SqlTable table, SqlMeta meta)
@@ -69,6 +69,6 @@ public class JavaClassPersistencyServiceImplementationGenerator extends JavaClas
     String className = "Db" + entityClassName;
     File javaSourceFile = new File(getTargetDirectory(), className + ".java");
     javaSourceFile.getParentFile().mkdirs();
-    templateWriter.writeToFile(javaSourceFile);
+    templateWriter.writeToFile(javaSourceFile, getTarget());
   }
 }
@@ -1,7 +1,6 @@
 package ch.ivyteam.db.meta.generator.internal;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,11 +31,11 @@ public class JavaEntityClassGenerator extends JavaClassGenerator {
     }
   }
 
-  private void writeJavaEntityClass(SqlTable table, SqlMeta metaDefinition) throws FileNotFoundException {
+  private void writeJavaEntityClass(SqlTable table, SqlMeta metaDefinition) {
     var className = getEntityClassName(table);
     var javaSourceFile = new File(getTargetDirectory(), className + ".java");
     javaSourceFile.getParentFile().mkdirs();
-    try (var pr = new NewLinePrintWriter(javaSourceFile)) {
+    try (var pr = new NewLinePrintWriter(javaSourceFile, getTarget())) {
       writePackage(pr);
       writeImports(pr);
       writeCacheAnnotation(pr, table);
@@ -0,0 +1,32 @@
+package ch.ivyteam.db.meta.generator.internal;
+
+import java.util.Locale;
+
+/**
+ * Helpers to write the JSON reports of the generators
+ */
+public final class Json {
+
+  private Json() {}
+
+  /**
+   * @param value the value to quote or null
+   * @return the value as JSON string or <code>null</code> if the value is null
+   */
+  public static String quote(String value) {
+    if (value == null) {
+      return "null";
+    }
+    var quoted = new StringBuilder("\"");
+    for (char ch : value.toCharArray()) {
+      if (ch == '"' || ch == '\\') {
+        quoted.append('\\').append(ch);
+      } else if (ch < ' ') {
+        quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) ch));
+      } else {
+        quoted.append(ch);
+      }
+    }
+    return quoted.append('"').toString();
+  }
+}
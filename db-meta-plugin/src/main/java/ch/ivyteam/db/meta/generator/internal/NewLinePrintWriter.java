@@ -1,19 +1,70 @@
 package ch.ivyteam.db.meta.generator.internal;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 
+import ch.ivyteam.db.meta.generator.Target;
+
+/**
+ * Print writer that uses <code>\n</code> as line separator. The output is
+ * rendered to memory and written to the file on {@link #close()} only if the
+ * file content changes.
+ */
 public class NewLinePrintWriter extends PrintWriter {
 
   private static final char NEW_LINE_CHAR = '\n';
+  private final File file;
+  private final Target target;
+  private final StringWriter buffer;
+  private boolean closed;
+
+  public NewLinePrintWriter(File file) {
+    this(file, null);
+  }
+
+  /**
+   * @param file the file to write to
+   * @param target the target the file belongs to. Is informed about the
+   *          written file. May be null.
+   */
+  public NewLinePrintWriter(File file, Target target) {
+    this(file, target, new StringWriter());
+  }
 
-  public NewLinePrintWriter(File file) throws FileNotFoundException {
-    super(file);
+  private NewLinePrintWriter(File file, Target target, StringWriter buffer) {
+    super(buffer);
+    this.file = file;
+    this.target = target;
+    this.buffer = buffer;
   }
 
   @Override
   public void println() {
     write(NEW_LINE_CHAR);
   }
+
+  @Override
+  public void close() {
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      super.close();
+      byte[] content = buffer.toString().getBytes(Charset.defaultCharset());
+      try {
+        if (target != null) {
+          target.write(file, content);
+        } else {
+          Target.writeIfChanged(file, content);
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException("Could not write file " + file, ex);
+      }
+    }
+  }
 }
@@ -19,7 +19,7 @@ public class SortedTableContentDeleteListGenerator extends AbstractSortedTableCo
   @Override
   public void generateMetaOutput(SqlMeta metaDefinition) throws Exception {
     PrintWriter pr;
-    pr = new NewLinePrintWriter(fOutputFile);
+    pr = new NewLinePrintWriter(fOutputFile, fTarget);
     try {
       List<SqlTable> tables = new TablesSortedByDeleteOrder(new DbHints(fDatabaseSystem), metaDefinition)
               .byDeleteOrder();
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import ch.ivyteam.db.meta.generator.Target;
@@ -25,6 +26,7 @@ import ch.ivyteam.db.meta.model.internal.SqlSelect;
 import ch.ivyteam.db.meta.model.internal.SqlTable;
 import ch.ivyteam.db.meta.model.internal.SqlTableColumn;
 import ch.ivyteam.db.meta.model.internal.SqlUniqueConstraint;
+import ch.ivyteam.db.meta.model.internal.SqlUpdate;
 import ch.ivyteam.db.meta.model.internal.SqlView;
 import ch.ivyteam.db.meta.model.internal.SqlViewColumn;
 
@@ -36,8 +38,14 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
 
   /** The output file */
   protected File fOutputFile;
+  /** The target of the output file */
+  private Target fTarget;
   /** Stores the already generated tables */
   private Set<String> fGeneratedTables = new HashSet<>();
+  /** Generate online (low lock) DDL statements */
+  private boolean online;
+  /** Tables are created. New tables are never locked by others */
+  private boolean creatingTables;
   /**
    * Database System hint datatype: Use this database system hint to specify
    * another data type
@@ -110,6 +118,18 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
    * System Database Hint DefaultValue Use to override the default column value
    */
   public static final String DEFAULT_VALUE = "DefaultValue";
+  /**
+   * System Database Hint ChunkSize Use on an update or insert with select of a
+   * data conversion to execute it in chunks of the given number of keys with a
+   * commit after each chunk. Requires the hint {@link #CHUNK_KEY}.
+   */
+  public static final String CHUNK_SIZE = "ChunkSize";
+  /**
+   * System Database Hint ChunkKey Use to define the numeric key column that is
+   * split into chunks. On an insert with select the column of the first table
+   * of the select is used.
+   */
+  public static final String CHUNK_KEY = "ChunkKey";
   protected final DbHints dbHints;
   public final Triggers triggers;
   protected final Delimiter delimiter;
@@ -142,11 +162,12 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
     if (!fOutputFile.exists()) {
       fOutputFile.getParentFile().mkdirs();
     }
+    fTarget = Target.createSingleTargetFile(fOutputFile);
   }
 
   @Override
   public Target getTarget() {
-    return Target.createSingleTargetFile(fOutputFile);
+    return fTarget;
   }
 
   protected DmlStatements createDmlStatementsGenerator(DbHints hints, Delimiter delim, Identifiers ident) {
@@ -165,7 +186,7 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
 
   @Override
   public void generateMetaOutput(SqlMeta metaDefinition) throws Exception {
-    try (var pr = new NewLinePrintWriter(fOutputFile)) {
+    try (var pr = new NewLinePrintWriter(fOutputFile, fTarget)) {
       generateHeader(pr, "SQL script to create database for " + dbName());
       generatePrefix(pr);
       generateMetaOutputStatements(pr, metaDefinition);
@@ -173,17 +194,41 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
   }
 
   public void generateMetaOutputStatements(PrintWriter pr, SqlMeta metaDefinition) throws Exception {
+    List<String> createdTemporaryStoredProcedures = new ArrayList<>();
+    generateMetaOutputStatements(pr, metaDefinition, createdTemporaryStoredProcedures);
+    for (String storedProcedureId : createdTemporaryStoredProcedures) {
+      generateDropStoredProcedures(pr, storedProcedureId);
+    }
+  }
+
+  /**
+   * Generates the statements of the given meta definition. Inserts and updates
+   * are generated in the order of the meta definition because data
+   * conversions may depend on each other.
+   * @param pr
+   * @param metaDefinition
+   * @param createdTemporaryStoredProcedures stored procedures needed to execute
+   *          the statements are added to this list and must be dropped at the
+   *          end of the script
+   * @throws Exception
+   */
+  public void generateMetaOutputStatements(PrintWriter pr, SqlMeta metaDefinition,
+          List<String> createdTemporaryStoredProcedures) throws Exception {
     List<SqlTable> tables = metaDefinition.getArtifacts(SqlTable.class);
     generateTables(pr, tables);
     for (SqlView view : metaDefinition.getArtifacts(SqlView.class)) {
       generateView(pr, view);
     }
     triggers.generateCreate(pr, metaDefinition);
-    for (SqlInsertWithValues insert : metaDefinition.getArtifacts(SqlInsertWithValues.class)) {
-      dmlStatements.generateInsert(pr, insert);
-    }
-    for (SqlInsertWithSelect insert : metaDefinition.getArtifacts(SqlInsertWithSelect.class)) {
-      dmlStatements.generateInsertWithSelect(pr, insert);
+    for (SqlArtifact artifact : metaDefinition.getArtifacts()) {
+      if (artifact instanceof SqlInsertWithValues) {
+        dmlStatements.generateInsert(pr, (SqlInsertWithValues) artifact);
+      } else if (artifact instanceof SqlInsertWithSelect) {
+        dmlStatements.generateInsertWithSelect(pr, (SqlInsertWithSelect) artifact,
+                createdTemporaryStoredProcedures);
+      } else if (artifact instanceof SqlUpdate) {
+        dmlStatements.generateUpdate(pr, (SqlUpdate) artifact, createdTemporaryStoredProcedures);
+      }
     }
   }
 
@@ -195,14 +240,19 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
    */
   public final void generateTables(PrintWriter pr, List<SqlTable> tables) {
     var alterTables = new LinkedHashMap<SqlTable, List<SqlForeignKey>>();
-    for (SqlTable table : tables) {
-      generateTable(pr, table, alterTables);
-    }
-    for (var entry : alterTables.entrySet()) {
-      SqlTable table = entry.getKey();
-      for (SqlForeignKey foreignKey : entry.getValue()) {
-        foreignKeys.generateAlterTableAdd(pr, table, foreignKey);
+    creatingTables = true;
+    try {
+      for (SqlTable table : tables) {
+        generateTable(pr, table, alterTables);
       }
+      for (var entry : alterTables.entrySet()) {
+        SqlTable table = entry.getKey();
+        for (SqlForeignKey foreignKey : entry.getValue()) {
+          foreignKeys.generateAlterTableAdd(pr, table, foreignKey);
+        }
+      }
+    } finally {
+      creatingTables = false;
     }
   }
 
@@ -273,6 +323,182 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
 
   public abstract String dbName();
 
+  /**
+   * Sets if DDL statements of conversion scripts should be generated so that
+   * they do not block the reads and writes to the changed tables while they
+   * run. Statements the database system can not run online are preceded by a
+   * comment that marks them as blocking.
+   * @param online
+   */
+  public void setOnline(boolean online) {
+    this.online = online;
+  }
+
+  public boolean isOnline() {
+    return online;
+  }
+
+  /**
+   * Returns if the database system can run the given operation online, this
+   * means without blocking reads and writes to the table.
+   * @param operation
+   * @return true if supported, otherwise false
+   * @see #setOnline(boolean)
+   */
+  public boolean isOnlineSupported(@SuppressWarnings("unused") DdlOperation operation) {
+    return false;
+  }
+
+  /**
+   * @param operation
+   * @return true if the given operation has to be generated online
+   */
+  protected final boolean isOnline(DdlOperation operation) {
+    return online && !creatingTables && isOnlineSupported(operation);
+  }
+
+  /**
+   * Generates the option that lets the database system run the given operation
+   * online, if the operation has to be generated online
+   * @param pr
+   * @param operation
+   */
+  protected final void generateOnline(PrintWriter pr, DdlOperation operation) {
+    if (isOnline(operation)) {
+      generateOnlineOption(pr, operation);
+    }
+  }
+
+  /**
+   * Generates the option at the end of a statement that lets the database
+   * system run the given operation online. Only called for operations that
+   * are {@link #isOnlineSupported(DdlOperation) supported}.
+   * @param pr
+   * @param operation
+   */
+  @SuppressWarnings("unused")
+  protected void generateOnlineOption(PrintWriter pr, DdlOperation operation) {}
+
+  /**
+   * Generates a comment that marks the following statement as blocking, if
+   * online statements are generated but the database system can not run the
+   * given operation online.
+   * @param pr
+   * @param operation
+   * @param table the table that is blocked
+   */
+  public void generateBlockingComment(PrintWriter pr, DdlOperation operation, SqlTable table) {
+    if (online && !isOnlineSupported(operation)) {
+      comments.generate(pr, "BLOCKING: " + operation.getDescription() + " locks table " + table.getId()
+              + " until it is finished");
+    }
+  }
+
+  /**
+   * Classifies what the database system has to do with the rows of the table
+   * if the given column is altered. If a database specific data type hint is
+   * set, the hints are compared instead of the data types of the meta
+   * definition. A changed hint, for example to a LOB type like TEXT or
+   * NVARCHAR(MAX), rewrites the table.
+   * @param table
+   * @param newColumn
+   * @param oldColumn
+   * @return cost class of the column change
+   */
+  public ColumnChange classifyColumnChange(SqlTable table, SqlTableColumn newColumn,
+          SqlTableColumn oldColumn) {
+    ColumnChange change;
+    if (dbHints.DATA_TYPE.isSet(newColumn) || dbHints.DATA_TYPE.isSet(oldColumn)) {
+      change = Objects.equals(dbHints.DATA_TYPE.value(newColumn), dbHints.DATA_TYPE.value(oldColumn))
+              ? ColumnChange.METADATA_ONLY
+              : ColumnChange.TABLE_REWRITE;
+    } else {
+      change = classifyDataTypeChange(newColumn.getDataType(), oldColumn.getDataType());
+    }
+    change = change.max(classifyNullConstraintChange(newColumn.isCanBeNull(), oldColumn.isCanBeNull()));
+    if (!Objects.equals(String.valueOf(newColumn.getReference()),
+            String.valueOf(oldColumn.getReference()))) {
+      change = change.max(ColumnChange.VALIDATION_SCAN);
+    }
+    return change;
+  }
+
+  /**
+   * Unchanged data types and widened VARCHAR columns only change the catalog.
+   * All other data type changes convert every row.
+   * @param newType
+   * @param oldType
+   * @return cost class of the data type change
+   */
+  protected ColumnChange classifyDataTypeChange(SqlDataType newType, SqlDataType oldType) {
+    if (newType.getDataType() != oldType.getDataType()) {
+      return ColumnChange.TABLE_REWRITE;
+    }
+    if (newType.getLength() == oldType.getLength() && newType.getPrecision() == oldType.getPrecision()) {
+      return ColumnChange.METADATA_ONLY;
+    }
+    if (newType.getDataType() == DataType.VARCHAR && newType.getLength() > oldType.getLength()) {
+      return ColumnChange.METADATA_ONLY;
+    }
+    return ColumnChange.TABLE_REWRITE;
+  }
+
+  /**
+   * Adding a NOT NULL constraint reads all rows to check that there are no
+   * null values. Dropping it only changes the catalog.
+   * @param newCanBeNull
+   * @param oldCanBeNull
+   * @return cost class of the null constraint change
+   */
+  protected ColumnChange classifyNullConstraintChange(boolean newCanBeNull, boolean oldCanBeNull) {
+    if (oldCanBeNull && !newCanBeNull) {
+      return ColumnChange.VALIDATION_SCAN;
+    }
+    return ColumnChange.METADATA_ONLY;
+  }
+
+  /**
+   * Classifies what the database system has to do with the rows of the table
+   * if the given column is dropped
+   * @param table
+   * @param column
+   * @return cost class of dropping the column
+   */
+  @SuppressWarnings("unused")
+  public ColumnChange classifyDropColumn(SqlTable table, SqlTableColumn column) {
+    return ColumnChange.METADATA_ONLY;
+  }
+
+  /**
+   * Returns if indexes, keys and constraints that depend on the given column
+   * have to be dropped before and recreated after altering the column. Only
+   * online scripts keep the dependents of columns whose change only modifies
+   * the catalog. Other scripts always recreate them.
+   * @param table
+   * @param newColumn
+   * @param oldColumn
+   * @return true if the dependents have to be recreated, false if they can be
+   *         kept
+   */
+  public boolean isRecreationOfDependentsNeeded(SqlTable table, SqlTableColumn newColumn,
+          SqlTableColumn oldColumn) {
+    return !online || classifyColumnChange(table, newColumn, oldColumn) != ColumnChange.METADATA_ONLY;
+  }
+
+  /**
+   * @param table
+   * @param newColumn
+   * @param oldColumn
+   * @return the operation that alters the given column
+   */
+  public DdlOperation getAlterColumnOperation(SqlTable table, SqlTableColumn newColumn,
+          SqlTableColumn oldColumn) {
+    if (classifyColumnChange(table, newColumn, oldColumn) == ColumnChange.METADATA_ONLY) {
+      return DdlOperation.ALTER_COLUMN_METADATA;
+    }
+    return DdlOperation.ALTER_COLUMN;
+  }
+
   public final void generateDropTable(PrintWriter pr, SqlTable table) {
     pr.write("DROP TABLE ");
     identifiers.generate(pr, table.getId());
@@ -573,6 +799,7 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
     pr.print(" (");
     generateColumnList(pr, index.getColumns());
     pr.print(")");
+    generateOnline(pr, DdlOperation.CREATE_INDEX);
     delimiter.generate(pr);
     pr.println();
     pr.println();
@@ -604,6 +831,7 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
     pr.print(" (");
     generateColumnList(pr, unique.getColumns());
     pr.print(')');
+    generateOnline(pr, DdlOperation.ADD_UNIQUE_CONSTRAINT);
     delimiter.generate(pr);
     pr.println();
   }
@@ -627,6 +855,7 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
     pr.print(" ADD UNIQUE (");
     generateColumnList(pr, unique.getColumns());
     pr.print(")");
+    generateOnline(pr, DdlOperation.ADD_UNIQUE_CONSTRAINT);
     delimiter.generate(pr);
     pr.println();
   }
@@ -894,6 +1123,7 @@ public abstract class SqlScriptGenerator implements IMetaOutputGenerator {
     pr.print(" ADD PRIMARY KEY (");
     generateColumnList(pr, primaryKey.getPrimaryKeyColumns());
     pr.append(")");
+    generateOnline(pr, DdlOperation.ADD_PRIMARY_KEY);
     delimiter.generate(pr);
   }
 
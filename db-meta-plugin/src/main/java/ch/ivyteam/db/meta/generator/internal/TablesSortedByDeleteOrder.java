@@ -20,16 +20,24 @@ import ch.ivyteam.db.meta.model.internal.SqlTable;
 class TablesSortedByDeleteOrder {
 
   private final DbHints dbHints;
-  private final SqlMeta metaInformation;
+  /** Tables in the order of the meta definition */
+  private final List<SqlTable> tables;
+  /**
+   * Reference graph used to sort the tables. Is not modified once built. Does
+   * not reference the meta definition so that the meta definition can be
+   * garbage collected while this is still cached.
+   */
+  private final TableReferenceGraph referenceGraph;
 
   TablesSortedByDeleteOrder(DbHints dbHints, SqlMeta metaInformation) {
     this.dbHints = dbHints;
-    this.metaInformation = metaInformation;
+    this.tables = metaInformation.getArtifacts(SqlTable.class);
+    this.referenceGraph = new TableReferenceGraph(metaInformation);
   }
 
   List<SqlTable> byDeleteOrder() {
     List<SqlTable> result = new ArrayList<>();
-    TableReferenceGraph graph = new TableReferenceGraph();
+    TableReferenceGraph graph = new TableReferenceGraph(referenceGraph);
     int size = graph.size();
     while (size > 0) {
       Set<SqlTable> deleteTables = graph.getTablesNotReferenced();
@@ -49,7 +57,7 @@ class TablesSortedByDeleteOrder {
   }
 
   List<SqlTable> byDeleteOrder(Collection<SqlTable> toDelete) {
-    TableReferenceGraph graph = new TableReferenceGraph();
+    TableReferenceGraph graph = referenceGraph;
     List<SqlTable> result = new ArrayList<>();
     Map<SqlTable, DeleteInfo> remaining = new HashMap<>();
     for (SqlTable table : toDelete) {
@@ -81,13 +89,13 @@ class TablesSortedByDeleteOrder {
 
     private Map<SqlTable, List<ReferencedBy>> graph = new HashMap<>();
 
-    private TableReferenceGraph() {
+    private TableReferenceGraph(SqlMeta metaInformation) {
       // add all tables
-      for (SqlTable table : metaInformation.getArtifacts(SqlTable.class)) {
+      for (SqlTable table : tables) {
         graph.put(table, new ArrayList<>());
       }
       // fill reference info
-      for (SqlTable table : metaInformation.getArtifacts(SqlTable.class)) {
+      for (SqlTable table : tables) {
         for (SqlForeignKey foreignKey : table.getForeignKeys()) {
           if (isForeignKeyGenerated(foreignKey) &&
                   isForeignKeyRelevant(table, foreignKey)) {
@@ -100,6 +108,16 @@ class TablesSortedByDeleteOrder {
       }
     }
 
+    /**
+     * Copies the given graph so that tables can be removed from the copy
+     * @param source
+     */
+    private TableReferenceGraph(TableReferenceGraph source) {
+      for (SqlTable table : tables) {
+        graph.put(table, new ArrayList<>(source.graph.get(table)));
+      }
+    }
+
     private Set<SqlTable> getTablesNotReferenced() {
       return graph
               .entrySet()
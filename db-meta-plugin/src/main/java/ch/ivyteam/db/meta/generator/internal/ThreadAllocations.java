@@ -0,0 +1,23 @@
+package ch.ivyteam.db.meta.generator.internal;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes allocated by threads as measured by the JVM
+ */
+public final class ThreadAllocations {
+
+  private ThreadAllocations() {}
+
+  /**
+   * @return bytes allocated by the current thread since it was started or -1
+   *         if the JVM does not support measuring it
+   */
+  public static long currentThread() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+      return threads.getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+}
@@ -6,8 +6,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -35,6 +38,14 @@ public class Triggers {
   protected final Spaces spaces = new Spaces();
   protected final ForeignKeys foreignKeys;
   protected final DmlStatements dmlStatements;
+  /**
+   * The delete trigger information of the meta definitions this generator has
+   * seen. {@link SqlMeta} is identified by instance and the information does
+   * not reference its meta definition, so it is removed once the meta
+   * definition is no longer used. The meta definitions must not be changed
+   * while they are generated.
+   */
+  private final Map<SqlMeta, DeleteTriggers> deleteTriggers = new WeakHashMap<>();
 
   protected Triggers(DbHints dbHints, Delimiter delimiter, DmlStatements dmlStatements,
           ForeignKeys foreignKeys) {
@@ -45,13 +56,67 @@ public class Triggers {
   }
 
   public final boolean hasTrigger(SqlMeta metaDefinition, SqlTable table) {
-    boolean hasTriggerStatements = !getForEachRowDeleteTriggerInfo(table, metaDefinition).getRight()
-            .isEmpty();
-    boolean hasForEachStatementDeleteTrigger = !getForEachStatementDeleteTrigger(table, metaDefinition)
-            .isEmpty();
+    boolean hasTriggerStatements = !getForEachRowDeleteTriggerStatements(metaDefinition, table).isEmpty();
+    boolean hasForEachStatementDeleteTrigger = !getForEachStatementDeleteTriggerStatements(metaDefinition,
+            table).isEmpty();
     return hasTriggerStatements || hasForEachStatementDeleteTrigger;
   }
 
+  /**
+   * Gets the tables of the given meta definition in the order they can be
+   * deleted. The order is calculated only once per meta definition.
+   * @param metaDefinition
+   * @return tables in delete order
+   */
+  public final List<SqlTable> getTablesInDeleteOrder(SqlMeta metaDefinition) {
+    return deleteTriggers(metaDefinition).getTablesInDeleteOrder();
+  }
+
+  /**
+   * Gets the statements of the for each row delete trigger of the given
+   * table. The statements are calculated only once per meta definition and
+   * table.
+   * @param metaDefinition
+   * @param table
+   * @return statements. Empty if the table has no for each row delete trigger.
+   */
+  public final List<SqlDmlStatement> getForEachRowDeleteTriggerStatements(SqlMeta metaDefinition,
+          SqlTable table) {
+    return deleteTriggers(metaDefinition).getForEachRowDeleteTriggerInfo(metaDefinition, table).getRight();
+  }
+
+  /**
+   * Gets the statements of the for each statement delete trigger of the given
+   * table. The statements are calculated only once per meta definition and
+   * table.
+   * @param metaDefinition
+   * @param table
+   * @return statements. Empty if the table has no for each statement delete
+   *         trigger.
+   */
+  public final List<SqlDmlStatement> getForEachStatementDeleteTriggerStatements(SqlMeta metaDefinition,
+          SqlTable table) {
+    return deleteTriggers(metaDefinition).getForEachStatementDeleteTrigger(table);
+  }
+
+  /**
+   * Gets the delete trigger of the given table. The trigger is calculated only
+   * once per meta definition and table. Delete triggers can be compared to find
+   * out whether the generated trigger scripts differ.
+   * @param metaDefinition
+   * @param table
+   * @return delete trigger. Never null, see {@link DeleteTrigger#exists()}.
+   */
+  public final DeleteTrigger getDeleteTrigger(SqlMeta metaDefinition, SqlTable table) {
+    return deleteTriggers(metaDefinition).getDeleteTrigger(metaDefinition, table);
+  }
+
+  private DeleteTriggers deleteTriggers(SqlMeta metaDefinition) {
+    synchronized (deleteTriggers) {
+      return deleteTriggers.computeIfAbsent(metaDefinition, DeleteTriggers::new);
+    }
+  }
+
   public void generateDrop(PrintWriter pr, SqlTable table) {
     pr.write("DROP TRIGGER ");
     triggerName(pr, table);
@@ -72,7 +137,7 @@ public class Triggers {
 
   public final void createForEachStatementDeleteTrigger(PrintWriter pr, SqlTable table,
           SqlMeta metaDefinition) {
-    List<SqlDmlStatement> statements = getForEachStatementDeleteTrigger(table, metaDefinition);
+    List<SqlDmlStatement> statements = getForEachStatementDeleteTriggerStatements(metaDefinition, table);
     if (!statements.isEmpty()) {
       createForEachStatementDeleteTrigger(pr, table, statements);
       pr.println();
@@ -80,9 +145,10 @@ public class Triggers {
     }
   }
 
-  private List<SqlDmlStatement> getForEachStatementDeleteTrigger(SqlTable table, SqlMeta metaDefinition) {
+  private List<SqlDmlStatement> getForEachStatementDeleteTrigger(SqlTable table,
+          List<SqlTable> tablesInDeleteOrder) {
     List<SqlDmlStatement> statements = new ArrayList<>();
-    for (SqlTable foreignTable : getTablesInDeleteOrder(metaDefinition)) {
+    for (SqlTable foreignTable : tablesInDeleteOrder) {
       for (SqlTrigger trigger : foreignTable.getTriggers()) {
         if (trigger.getTableName().equals(table.getId()) &&
                 dbHints.TRIGGER_EXECUTE_FOR_EACH_STATEMENT.isSet(trigger)) {
@@ -127,8 +193,8 @@ public class Triggers {
   }
 
   public final void createForEachRowDeleteTrigger(PrintWriter pr, SqlTable table, SqlMeta metaDefinition) {
-    Pair<Boolean, List<SqlDmlStatement>> triggerStatements = getForEachRowDeleteTriggerInfo(table,
-            metaDefinition);
+    Pair<Boolean, List<SqlDmlStatement>> triggerStatements = deleteTriggers(metaDefinition)
+            .getForEachRowDeleteTriggerInfo(metaDefinition, table);
     List<SqlDmlStatement> statements = triggerStatements.getRight();
     if (!statements.isEmpty()) {
       forEachRowDeleteTrigger(pr, table, statements, triggerStatements.getLeft());
@@ -138,7 +204,7 @@ public class Triggers {
   }
 
   private Pair<Boolean, List<SqlDmlStatement>> getForEachRowDeleteTriggerInfo(SqlTable table,
-          SqlMeta metaDefinition) {
+          SqlMeta metaDefinition, TablesSortedByDeleteOrder tablesSortedByDeleteOrder) {
     boolean recursiveTrigger = false;
     List<SqlDmlStatement> statements = new ArrayList<>();
     List<SqlTable> foreignTables = metaDefinition.getArtifacts(SqlTable.class);
@@ -146,29 +212,32 @@ public class Triggers {
     for (SqlTable foreignTable : foreignTables) {
       addTriggerStatements(table, foreignTable, statements);
     }
-    // Second add update statements of foreign keys for all tables
-    for (SqlTable foreignTable : foreignTables) {
-      recursiveTrigger = addForeignKeyUpdateStatements(table, foreignTable, recursiveTrigger, statements);
+    List<Pair<SqlTable, SqlForeignKey>> referencingForeignKeys = metaDefinition
+            .getReferencingForeignKeys(table);
+    // Second add update statements of foreign keys referencing the table
+    for (Pair<SqlTable, SqlForeignKey> referencing : referencingForeignKeys) {
+      recursiveTrigger = addForeignKeyUpdateStatement(table, referencing.getLeft(), referencing.getRight(),
+              recursiveTrigger, statements);
     }
-    // Third add delete statements of foreign keys for all tables
+    // Third add delete statements of foreign keys referencing the table
     Map<SqlTable, List<SqlDmlStatement>> statementsPerTable = new HashMap<>();
-    for (SqlTable foreignTable : foreignTables) {
-      recursiveTrigger = addForeignKeyDeleteStatements(table, foreignTable, recursiveTrigger,
-              statementsPerTable);
+    for (Pair<SqlTable, SqlForeignKey> referencing : referencingForeignKeys) {
+      recursiveTrigger = addForeignKeyDeleteStatement(table, referencing.getLeft(), referencing.getRight(),
+              recursiveTrigger, statementsPerTable);
     }
-    statements.addAll(inCorrectDeleteOrder(statementsPerTable, metaDefinition));
+    statements.addAll(inCorrectDeleteOrder(statementsPerTable, tablesSortedByDeleteOrder));
     // Forth add the my foreign keys for ON DELETE THIS CASCADE
     addForeignKeyDeleteThisCascadeStatements(table, statements);
     return new ImmutablePair<>(recursiveTrigger, statements);
   }
 
   private Collection<? extends SqlDmlStatement> inCorrectDeleteOrder(
-          Map<SqlTable, List<SqlDmlStatement>> statementsPerTable, SqlMeta metaDefinition) {
+          Map<SqlTable, List<SqlDmlStatement>> statementsPerTable,
+          TablesSortedByDeleteOrder tablesSortedByDeleteOrder) {
     if (statementsPerTable.isEmpty()) {
       return Collections.emptyList();
     }
-    List<SqlTable> deleteTables = new TablesSortedByDeleteOrder(dbHints, metaDefinition)
-            .byDeleteOrder(statementsPerTable.keySet());
+    List<SqlTable> deleteTables = tablesSortedByDeleteOrder.byDeleteOrder(statementsPerTable.keySet());
     List<SqlDmlStatement> result = new ArrayList<>();
     for (SqlTable table : deleteTables) {
       result.addAll(statementsPerTable.get(table));
@@ -176,10 +245,6 @@ public class Triggers {
     return result;
   }
 
-  private List<SqlTable> getTablesInDeleteOrder(SqlMeta metaDefinition) {
-    return new TablesSortedByDeleteOrder(dbHints, metaDefinition).byDeleteOrder();
-  }
-
   private void addTriggerStatements(SqlTable table, SqlTable foreignTable, List<SqlDmlStatement> statements) {
     for (SqlTrigger trigger : foreignTable.getTriggers()) {
       if (trigger.getTableName().equals(table.getId()) &&
@@ -189,32 +254,29 @@ public class Triggers {
     }
   }
 
-  private boolean addForeignKeyUpdateStatements(SqlTable table, SqlTable foreignTable,
-          boolean recursiveTrigger, List<SqlDmlStatement> statements) {
-    for (SqlForeignKey foreignKey : foreignTable.getForeignKeys()) {
-      if (shouldGenerateTriggerFor(table, foreignKey) &&
-              foreignKeys.getAction(foreignKey) == SqlForeignKeyAction.ON_DELETE_SET_NULL) {
-        if (foreignTable.getId().equals(table.getId())) {
-          recursiveTrigger = true;
-        }
-        statements.add(createUpdateStatement(foreignTable, foreignKey));
+  private boolean addForeignKeyUpdateStatement(SqlTable table, SqlTable foreignTable,
+          SqlForeignKey foreignKey, boolean recursiveTrigger, List<SqlDmlStatement> statements) {
+    if (foreignKeys.shouldGenerateTrigger(foreignKey) &&
+            foreignKeys.getAction(foreignKey) == SqlForeignKeyAction.ON_DELETE_SET_NULL) {
+      if (foreignTable.getId().equals(table.getId())) {
+        recursiveTrigger = true;
       }
+      statements.add(createUpdateStatement(foreignTable, foreignKey));
     }
     return recursiveTrigger;
   }
 
-  private boolean addForeignKeyDeleteStatements(SqlTable table, SqlTable foreignTable,
-          boolean recursiveTrigger, Map<SqlTable, List<SqlDmlStatement>> statementsPerTable) {
-    for (SqlForeignKey foreignKey : foreignTable.getForeignKeys()) {
-      if (shouldGenerateTriggerFor(table, foreignKey) &&
-              foreignKeys.getAction(foreignKey) == SqlForeignKeyAction.ON_DELETE_CASCADE) {
-        if (foreignTable.getId().equals(table.getId())) {
-          recursiveTrigger = true;
-        }
-        List<SqlDmlStatement> statements = statementsPerTable.computeIfAbsent(foreignTable,
-                key -> new ArrayList<>());
-        statements.add(createDeleteStatement(foreignTable, foreignKey));
+  private boolean addForeignKeyDeleteStatement(SqlTable table, SqlTable foreignTable,
+          SqlForeignKey foreignKey, boolean recursiveTrigger,
+          Map<SqlTable, List<SqlDmlStatement>> statementsPerTable) {
+    if (foreignKeys.shouldGenerateTrigger(foreignKey) &&
+            foreignKeys.getAction(foreignKey) == SqlForeignKeyAction.ON_DELETE_CASCADE) {
+      if (foreignTable.getId().equals(table.getId())) {
+        recursiveTrigger = true;
       }
+      List<SqlDmlStatement> statements = statementsPerTable.computeIfAbsent(foreignTable,
+              key -> new ArrayList<>());
+      statements.add(createDeleteStatement(foreignTable, foreignKey));
     }
     return recursiveTrigger;
   }
@@ -248,11 +310,6 @@ public class Triggers {
             null, null);
   }
 
-  private boolean shouldGenerateTriggerFor(SqlTable table, SqlForeignKey foreignKey) {
-    return foreignKey.getReference().getForeignTable().equals(table.getId()) &&
-            foreignKeys.shouldGenerateTrigger(foreignKey);
-  }
-
   private void addForeignKeyDeleteThisCascadeStatements(SqlTable table, List<SqlDmlStatement> statements) {
     for (SqlForeignKey foreignKey : table.getForeignKeys()) {
       if ((!dbHints.NO_REFERENCE.isSet(foreignKey)) &&
@@ -285,6 +342,20 @@ public class Triggers {
     delimiter.generate(pr);
   }
 
+  private DeleteTrigger createDeleteTrigger(SqlTable table, List<SqlDmlStatement> forEachStatementStatements,
+          Pair<Boolean, List<SqlDmlStatement>> forEachRowInfo) {
+    String name = dbHints.DELETE_TRIGGER_NAME.valueIfSet(table).orElse(table.getId() + "DeleteTrigger");
+    return new DeleteTrigger(name, table.getId(), resolve(forEachStatementStatements),
+            resolve(forEachRowInfo.getRight()), forEachRowInfo.getLeft());
+  }
+
+  private List<SqlDmlStatement> resolve(List<SqlDmlStatement> statements) {
+    var replacer = new ReplaceOldTriggerVariable(this);
+    return statements.stream()
+            .map(replacer::replace)
+            .collect(Collectors.toUnmodifiableList());
+  }
+
   protected final void generateDmlStatement(PrintWriter pr, SqlDmlStatement stmt, int indent) {
     stmt = new ReplaceOldTriggerVariable(this).replace(stmt);
     dmlStatements.generate(pr, stmt, indent);
@@ -302,4 +373,53 @@ public class Triggers {
   final boolean isDefaultRowTriggerOldVariableName(String variableName) {
     return DEFAULT_ROW_TRIGGER_OLD_VARIABLE_NAME.equals(variableName);
   }
+
+  /**
+   * Delete trigger information of a meta definition. Everything is calculated
+   * on first request and then remembered. Tables are identified by instance
+   * because the information also depends on the definitions of the given
+   * table itself.
+   */
+  /**
+   * Must not reference the meta definition, see {@link Triggers#deleteTriggers}
+   */
+  private final class DeleteTriggers {
+
+    private final TablesSortedByDeleteOrder tablesSortedByDeleteOrder;
+    private List<SqlTable> tablesInDeleteOrder;
+    private final Map<SqlTable, Pair<Boolean, List<SqlDmlStatement>>> forEachRow = new IdentityHashMap<>();
+    private final Map<SqlTable, List<SqlDmlStatement>> forEachStatement = new IdentityHashMap<>();
+    private final Map<SqlTable, DeleteTrigger> deleteTrigger = new IdentityHashMap<>();
+
+    private DeleteTriggers(SqlMeta metaDefinition) {
+      this.tablesSortedByDeleteOrder = new TablesSortedByDeleteOrder(dbHints, metaDefinition);
+    }
+
+    private synchronized List<SqlTable> getTablesInDeleteOrder() {
+      if (tablesInDeleteOrder == null) {
+        tablesInDeleteOrder = Collections.unmodifiableList(tablesSortedByDeleteOrder.byDeleteOrder());
+      }
+      return tablesInDeleteOrder;
+    }
+
+    private synchronized Pair<Boolean, List<SqlDmlStatement>> getForEachRowDeleteTriggerInfo(
+            SqlMeta metaDefinition, SqlTable table) {
+      return forEachRow.computeIfAbsent(table, key -> {
+        var info = Triggers.this.getForEachRowDeleteTriggerInfo(table, metaDefinition,
+                tablesSortedByDeleteOrder);
+        return new ImmutablePair<>(info.getLeft(), Collections.unmodifiableList(info.getRight()));
+      });
+    }
+
+    private synchronized DeleteTrigger getDeleteTrigger(SqlMeta metaDefinition, SqlTable table) {
+      return deleteTrigger.computeIfAbsent(table, key -> createDeleteTrigger(table,
+              getForEachStatementDeleteTrigger(table),
+              getForEachRowDeleteTriggerInfo(metaDefinition, table)));
+    }
+
+    private synchronized List<SqlDmlStatement> getForEachStatementDeleteTrigger(SqlTable table) {
+      return forEachStatement.computeIfAbsent(table, key -> Collections.unmodifiableList(
+              Triggers.this.getForEachStatementDeleteTrigger(table, getTablesInDeleteOrder())));
+    }
+  }
 }
@@ -53,7 +53,7 @@ public class HsqlSqlScriptGenerator extends SqlScriptGenerator {
   public void generateAlterTableAlterColumn(PrintWriter pr, SqlTableColumn newColumn, SqlTable newTable,
           SqlTableColumn oldColumn) {
     GenerateAlterTableUtil.generateAlterTableChangeColumnWithDefaultAndNullConstraints(pr, this, newColumn,
-            newTable, "ALTER COLUMN");
+            newTable, "ALTER COLUMN", getAlterColumnOperation(newTable, newColumn, oldColumn));
   }
 
   @Override
@@ -0,0 +1,25 @@
+package ch.ivyteam.db.meta.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Generation of one step of a conversion script (e.g. dropViews)
+ */
+@Name("ch.ivyteam.db.meta.DiffPhase")
+@Label("Diff Phase")
+@Description("Generates one step of the SQL script that converts a meta definition to another one")
+@Category({"ivyTeam", "DB Meta"})
+@StackTrace(false)
+public final class DiffPhaseEvent extends Event {
+
+  @Label("Step")
+  public String step;
+
+  @Label("Database")
+  public String database;
+}
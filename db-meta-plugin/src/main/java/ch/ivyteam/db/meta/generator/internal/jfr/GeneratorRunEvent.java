@@ -0,0 +1,33 @@
+package ch.ivyteam.db.meta.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of a meta output generator
+ */
+@Name("ch.ivyteam.db.meta.GeneratorRun")
+@Label("Generator Run")
+@Description("Generates the meta output of a meta definition using a meta output generator")
+@Category({"ivyTeam", "DB Meta"})
+@StackTrace(false)
+public final class GeneratorRunEvent extends Event {
+
+  @Label("Generator Class")
+  public String generatorClass;
+
+  @Label("Target")
+  @Description("Output directory or file")
+  public String target;
+
+  @Label("Generated Files")
+  public int files;
+
+  @Label("Written Files")
+  @Description("Generated files whose content has changed")
+  public int writtenFiles;
+}
@@ -0,0 +1,27 @@
+package ch.ivyteam.db.meta.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Parsing of a meta definition file or loading it from the cache
+ */
+@Name("ch.ivyteam.db.meta.MetaParse")
+@Label("Meta Parse")
+@Description("Parses a meta definition file or loads it from the parsed meta definition cache")
+@Category({"ivyTeam", "DB Meta"})
+@StackTrace(false)
+public final class MetaParseEvent extends Event {
+
+  @Label("File")
+  public String file;
+
+  @Label("Size")
+  @DataAmount
+  public long bytes;
+}
@@ -0,0 +1,26 @@
+package ch.ivyteam.db.meta.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rendering of a FreeMarker template for a table or view
+ */
+@Name("ch.ivyteam.db.meta.TemplateRender")
+@Label("Template Render")
+@Description("Renders a FreeMarker template for a table or view to a Java source file")
+@Category({"ivyTeam", "DB Meta"})
+@StackTrace(false)
+public final class TemplateRenderEvent extends Event {
+
+  @Label("Template")
+  public String template;
+
+  @Label("Table")
+  @Description("Table or view the template is rendered for")
+  public String table;
+}
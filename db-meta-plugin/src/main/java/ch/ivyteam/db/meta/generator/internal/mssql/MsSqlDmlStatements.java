@@ -1,6 +1,7 @@
 package ch.ivyteam.db.meta.generator.internal.mssql;
 
 import java.io.PrintWriter;
+import java.util.List;
 
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
@@ -67,4 +68,28 @@ final class MsSqlDmlStatements extends DmlStatements {
     }
     return function;
   }
+
+  @Override
+  protected void generateChunked(PrintWriter pr, Chunk chunk, IChunkStatement statement,
+          List<String> createdTemporaryStoredProcedures) {
+    pr.println("DECLARE @chunkStart BIGINT, @maxKey BIGINT");
+    pr.print("SELECT @chunkStart = MIN(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print("), @maxKey = MAX(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print(") FROM ");
+    identifiers.generate(pr, chunk.getTable());
+    pr.println();
+    pr.println("WHILE @chunkStart <= @maxKey");
+    pr.println("BEGIN");
+    pr.println("  BEGIN TRANSACTION");
+    statement.generate(pr, 2, "@chunkStart");
+    pr.println();
+    pr.println("  COMMIT TRANSACTION");
+    pr.println("  SET @chunkStart = @chunkStart + " + chunk.getSize());
+    pr.print("END");
+    delimiter.generate(pr);
+    pr.println();
+    pr.println();
+  }
 }
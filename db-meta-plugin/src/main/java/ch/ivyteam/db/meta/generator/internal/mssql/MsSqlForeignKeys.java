@@ -30,6 +30,44 @@ final class MsSqlForeignKeys extends ForeignKeys {
     pr.println();
   }
 
+  @Override
+  public boolean isDeferredValidationSupported() {
+    return true;
+  }
+
+  /**
+   * Foreign keys added WITH NOCHECK are not trusted by the query optimizer
+   * until they are validated
+   */
+  @Override
+  public void generateAlterTableAddNotValidated(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+    pr.print("ALTER TABLE ");
+    identifiers.generate(pr, table.getId());
+    pr.print(" WITH NOCHECK ADD CONSTRAINT ");
+    identifiers.generate(pr, getForeignKeyName(table, foreignKey));
+    pr.print(" FOREIGN KEY (");
+    pr.print(foreignKey.getColumnName());
+    pr.print(")");
+    generateReference(pr, foreignKey.getReference(), foreignKey);
+    delimiter.generate(pr);
+    pr.println();
+    pr.println();
+  }
+
+  @Override
+  public void generateValidate(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+    pr.print("ALTER TABLE ");
+    identifiers.generate(pr, table.getId());
+    pr.print(" WITH CHECK CHECK CONSTRAINT ");
+    identifiers.generate(pr, getForeignKeyName(table, foreignKey));
+    delimiter.generate(pr);
+    pr.println();
+  }
+
+  private static String getForeignKeyName(SqlTable table, SqlForeignKey foreignKey) {
+    return table.getId() + "_" + foreignKey.getId();
+  }
+
   @Override
   public void generateAlterTableDrop(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey,
           List<String> createdTemporaryStoredProcedures) {
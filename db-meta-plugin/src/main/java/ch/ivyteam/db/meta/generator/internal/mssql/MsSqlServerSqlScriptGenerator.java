@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import ch.ivyteam.db.meta.generator.internal.Comments;
+import ch.ivyteam.db.meta.generator.internal.DdlOperation;
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
 import ch.ivyteam.db.meta.generator.internal.DmlStatements;
@@ -115,6 +116,21 @@ public class MsSqlServerSqlScriptGenerator extends SqlScriptGenerator {
     return "Microsoft SQL Server";
   }
 
+  /**
+   * Online index operations are only available in the Enterprise edition
+   */
+  @Override
+  public boolean isOnlineSupported(DdlOperation operation) {
+    return operation != DdlOperation.ADD_FOREIGN_KEY;
+  }
+
+  @Override
+  protected void generateOnlineOption(PrintWriter pr, DdlOperation operation) {
+    if (operation != DdlOperation.ADD_COLUMN) {
+      pr.print(" WITH (ONLINE = ON)");
+    }
+  }
+
   @Override
   protected void generatePrefix(PrintWriter pr) {
     var path = fOutputFile.getAbsolutePath();
@@ -157,7 +173,20 @@ public class MsSqlServerSqlScriptGenerator extends SqlScriptGenerator {
   public void generateAlterTableAlterColumn(PrintWriter pr, SqlTableColumn newColumn, SqlTable newTable,
           SqlTableColumn oldColumn) {
     GenerateAlterTableUtil.generateAlterTableAlterColumnWithNullConstraints(pr, this, newColumn, newTable,
-            "ALTER COLUMN");
+            "ALTER COLUMN", getAlterColumnOperation(newTable, newColumn, oldColumn));
+  }
+
+  /**
+   * SQL Server only keeps indexes on a column that is widened. Columns of a
+   * primary key and columns with a changed nullability can not be altered as
+   * long as an index or key depends on them.
+   */
+  @Override
+  public boolean isRecreationOfDependentsNeeded(SqlTable table, SqlTableColumn newColumn,
+          SqlTableColumn oldColumn) {
+    return super.isRecreationOfDependentsNeeded(table, newColumn, oldColumn)
+            || newColumn.isCanBeNull() != oldColumn.isCanBeNull()
+            || table.isPrimaryKeyColumn(newColumn);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package ch.ivyteam.db.meta.generator.internal.mysql;
 
 import java.io.PrintWriter;
+import java.util.List;
 
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
@@ -37,4 +38,47 @@ final class MySqlDmlStatements extends DmlStatements {
     pr.print("WHERE ");
     pr.print(updateStmt.getFilterExpression());
   }
+
+  /**
+   * Loops are only allowed in stored procedures. Therefore, a temporary stored
+   * procedure is created and called for every chunked statement.
+   */
+  @Override
+  protected void generateChunked(PrintWriter pr, Chunk chunk, IChunkStatement statement,
+          List<String> createdTemporaryStoredProcedures) {
+    String storedProcedure = MySqlSqlScriptGenerator.CHUNKED_CONVERSION_STORED_PROCEDURE
+            + (createdTemporaryStoredProcedures.stream()
+                    .filter(id -> id.startsWith(MySqlSqlScriptGenerator.CHUNKED_CONVERSION_STORED_PROCEDURE))
+                    .count() + 1);
+    createdTemporaryStoredProcedures.add(storedProcedure);
+    pr.print("CREATE PROCEDURE ");
+    pr.print(storedProcedure);
+    pr.println("()");
+    pr.println("BEGIN");
+    pr.println("  DECLARE chunk_start BIGINT;");
+    pr.println("  DECLARE max_key BIGINT;");
+    pr.print("  SELECT MIN(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print("), MAX(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print(") INTO chunk_start, max_key FROM ");
+    identifiers.generate(pr, chunk.getTable());
+    pr.println(";");
+    pr.println("  WHILE chunk_start <= max_key DO");
+    statement.generate(pr, 4, "chunk_start");
+    pr.println(";");
+    pr.println("    COMMIT;");
+    pr.println("    SET chunk_start = chunk_start + " + chunk.getSize() + ";");
+    pr.println("  END WHILE;");
+    pr.println("END;");
+    delimiter.generate(pr);
+    pr.println();
+    pr.println();
+    pr.print("CALL ");
+    pr.print(storedProcedure);
+    pr.print("()");
+    delimiter.generate(pr);
+    pr.println();
+    pr.println();
+  }
 }
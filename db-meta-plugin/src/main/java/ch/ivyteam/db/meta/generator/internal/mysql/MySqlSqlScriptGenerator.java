@@ -8,7 +8,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import ch.ivyteam.db.meta.generator.internal.ColumnChange;
 import ch.ivyteam.db.meta.generator.internal.Comments;
+import ch.ivyteam.db.meta.generator.internal.DdlOperation;
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
 import ch.ivyteam.db.meta.generator.internal.DmlStatements;
@@ -17,6 +19,7 @@ import ch.ivyteam.db.meta.generator.internal.GenerateAlterTableUtil;
 import ch.ivyteam.db.meta.generator.internal.Identifiers;
 import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
 import ch.ivyteam.db.meta.generator.internal.Triggers;
+import ch.ivyteam.db.meta.model.internal.SqlDataType;
 import ch.ivyteam.db.meta.model.internal.SqlDataType.DataType;
 import ch.ivyteam.db.meta.model.internal.SqlIndex;
 import ch.ivyteam.db.meta.model.internal.SqlTable;
@@ -30,9 +33,11 @@ import ch.ivyteam.db.meta.model.internal.SqlUniqueConstraint;
 public class MySqlSqlScriptGenerator extends SqlScriptGenerator {
 
   private static final int MAX_INDEX_SIZE_IN_BYTES = 767;
+  private static final int MAX_ONE_LENGTH_BYTE_SIZE = 255;
   /** Database System */
   public static final String MYSQL = String.valueOf("MySql");
   static final String DROP_FOREIGN_KEY_CONSTRAINT_STORED_PROCUDRE = "IWA_Drop_ForeignKey_Constraint";
+  static final String CHUNKED_CONVERSION_STORED_PROCEDURE = "IWA_Chunked_Conversion";
   public static final String INDEX_COLUMN_LENGTH = "IndexColumnLength";
   private static final Identifiers IDENTIFIERS = new Identifiers("`", false, Arrays.asList("SYSTEM"));
   private static final Comments COMMENTS = new Comments("# ");
@@ -86,11 +91,69 @@ public class MySqlSqlScriptGenerator extends SqlScriptGenerator {
     return "MySQL";
   }
 
+  @Override
+  public boolean isOnlineSupported(DdlOperation operation) {
+    switch (operation) {
+      case CREATE_INDEX:
+      case ADD_UNIQUE_CONSTRAINT:
+      case ADD_COLUMN:
+      case ALTER_COLUMN_METADATA:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  protected void generateOnlineOption(PrintWriter pr, DdlOperation operation) {
+    if (operation == DdlOperation.CREATE_INDEX) {
+      pr.print(" ALGORITHM=INPLACE LOCK=NONE");
+    } else if (operation == DdlOperation.ADD_COLUMN) {
+      pr.print(", ALGORITHM=INSTANT");
+    } else {
+      pr.print(", ALGORITHM=INPLACE, LOCK=NONE");
+    }
+  }
+
   @Override
   public void generateAlterTableAlterColumn(PrintWriter pr, SqlTableColumn newColumn, SqlTable newTable,
           SqlTableColumn oldColumn) {
     GenerateAlterTableUtil.generateAlterTableChangeColumnWithDefaultAndNullConstraints(pr, this, newColumn,
-            newTable, "MODIFY");
+            newTable, "MODIFY", getAlterColumnOperation(newTable, newColumn, oldColumn));
+  }
+
+  /**
+   * InnoDB widens a VARCHAR in place as long as the number of length bytes
+   * stays the same. Columns longer than 255 bytes need two length bytes.
+   */
+  @Override
+  protected ColumnChange classifyDataTypeChange(SqlDataType newType, SqlDataType oldType) {
+    ColumnChange change = super.classifyDataTypeChange(newType, oldType);
+    if (change == ColumnChange.METADATA_ONLY && newType.getDataType() == DataType.VARCHAR
+            && getBytes(DataType.VARCHAR, oldType.getLength()) <= MAX_ONE_LENGTH_BYTE_SIZE
+            && getBytes(DataType.VARCHAR, newType.getLength()) > MAX_ONE_LENGTH_BYTE_SIZE) {
+      return ColumnChange.TABLE_REWRITE;
+    }
+    return change;
+  }
+
+  /**
+   * InnoDB rebuilds the table if a column is dropped
+   */
+  @Override
+  public ColumnChange classifyDropColumn(SqlTable table, SqlTableColumn column) {
+    return ColumnChange.TABLE_REWRITE;
+  }
+
+  /**
+   * InnoDB rebuilds the table if the nullability of a column changes
+   */
+  @Override
+  protected ColumnChange classifyNullConstraintChange(boolean newCanBeNull, boolean oldCanBeNull) {
+    if (newCanBeNull != oldCanBeNull) {
+      return ColumnChange.TABLE_REWRITE;
+    }
+    return ColumnChange.METADATA_ONLY;
   }
 
   @Override
@@ -218,6 +281,7 @@ public class MySqlSqlScriptGenerator extends SqlScriptGenerator {
     pr.print(" (");
     generateColumnList(pr, bytesPerColumn);
     pr.print(")");
+    generateOnline(pr, DdlOperation.CREATE_INDEX);
     delimiter.generate(pr);
     pr.println();
     pr.println();
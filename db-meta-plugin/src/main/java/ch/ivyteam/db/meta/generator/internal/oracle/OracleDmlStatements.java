@@ -1,6 +1,7 @@
 package ch.ivyteam.db.meta.generator.internal.oracle;
 
 import java.io.PrintWriter;
+import java.util.List;
 
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
@@ -39,4 +40,29 @@ final class OracleDmlStatements extends DmlStatements {
     }
     return super.convertFunction(function);
   }
+
+  @Override
+  protected void generateChunked(PrintWriter pr, Chunk chunk, IChunkStatement statement,
+          List<String> createdTemporaryStoredProcedures) {
+    pr.println("DECLARE");
+    pr.println("  CHUNK_START NUMBER;");
+    pr.println("  MAX_KEY NUMBER;");
+    pr.println("BEGIN");
+    pr.print("  SELECT MIN(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print("), MAX(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print(") INTO CHUNK_START, MAX_KEY FROM ");
+    identifiers.generate(pr, chunk.getTable());
+    pr.println(";");
+    pr.println("  WHILE CHUNK_START <= MAX_KEY LOOP");
+    statement.generate(pr, 4, "CHUNK_START");
+    pr.println(";");
+    pr.println("    COMMIT;");
+    pr.println("    CHUNK_START := CHUNK_START + " + chunk.getSize() + ";");
+    pr.println("  END LOOP;");
+    pr.println("END;");
+    pr.println(";");
+    pr.println();
+  }
 }
@@ -17,9 +17,42 @@ final class OracleForeignKeys extends ForeignKeys {
     super(dbHints, delimiter, identifiers, comments);
   }
 
+  @Override
+  public boolean isDeferredValidationSupported() {
+    return true;
+  }
+
+  @Override
+  public void generateAlterTableAddNotValidated(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+    pr.print("ALTER TABLE ");
+    identifiers.generate(pr, table.getId());
+    pr.print(" ADD FOREIGN KEY (");
+    pr.print(foreignKey.getColumnName());
+    pr.print(")");
+    generateReference(pr, foreignKey.getReference(), foreignKey);
+    pr.print(" ENABLE NOVALIDATE");
+    delimiter.generate(pr);
+    pr.println();
+    pr.println();
+  }
+
+  @Override
+  public void generateValidate(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+    generateAlterTableForeignKey(pr, table, foreignKey, "MODIFY CONSTRAINT ' || FK_NAME || ' VALIDATE'");
+  }
+
   @Override
   public void generateAlterTableDrop(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey,
           List<String> createdTemporaryStoredProcedures) {
+    generateAlterTableForeignKey(pr, table, foreignKey, "DROP CONSTRAINT ' || FK_NAME");
+  }
+
+  /**
+   * Foreign keys have no names. The name is looked up by table and column.
+   * @param alteration the alteration of the table. FK_NAME holds the name.
+   */
+  private static void generateAlterTableForeignKey(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey,
+          String alteration) {
     pr.println("DECLARE");
     pr.println("FK_NAME VARCHAR(30);");
     pr.println("BEGIN");
@@ -29,7 +62,7 @@ final class OracleForeignKeys extends ForeignKeys {
     pr.println("  WHERE UC.CONSTRAINT_TYPE='R' AND UC.TABLE_NAME='" + table.getId().toUpperCase()
             + "' AND UCC.COLUMN_NAME='" + foreignKey.getColumnName().toUpperCase() + "';");
     pr.println();
-    pr.println("  EXECUTE IMMEDIATE 'ALTER TABLE " + table.getId() + " DROP CONSTRAINT ' || FK_NAME;");
+    pr.println("  EXECUTE IMMEDIATE 'ALTER TABLE " + table.getId() + " " + alteration + ";");
     pr.println("END;");
     pr.println(";");
     pr.println();
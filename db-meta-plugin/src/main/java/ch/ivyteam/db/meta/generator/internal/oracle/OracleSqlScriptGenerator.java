@@ -7,7 +7,9 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 
+import ch.ivyteam.db.meta.generator.internal.ColumnChange;
 import ch.ivyteam.db.meta.generator.internal.Comments;
+import ch.ivyteam.db.meta.generator.internal.DdlOperation;
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
 import ch.ivyteam.db.meta.generator.internal.DmlStatements;
@@ -107,6 +109,7 @@ public class OracleSqlScriptGenerator extends SqlScriptGenerator {
     pr.print(")");
     pr.println();
     pr.print("TABLESPACE ${tablespaceName}");
+    generateOnline(pr, DdlOperation.CREATE_INDEX);
     delimiter.generate(pr);
     pr.println();
     pr.println();
@@ -135,6 +138,27 @@ public class OracleSqlScriptGenerator extends SqlScriptGenerator {
     return ORACLE;
   }
 
+  @Override
+  public boolean isOnlineSupported(DdlOperation operation) {
+    return operation == DdlOperation.CREATE_INDEX || operation == DdlOperation.ADD_COLUMN
+            || operation == DdlOperation.ALTER_COLUMN_METADATA;
+  }
+
+  @Override
+  protected void generateOnlineOption(PrintWriter pr, DdlOperation operation) {
+    if (operation == DdlOperation.CREATE_INDEX) {
+      pr.print(" ONLINE");
+    }
+  }
+
+  /**
+   * Oracle removes the column from every row of the table
+   */
+  @Override
+  public ColumnChange classifyDropColumn(SqlTable table, SqlTableColumn column) {
+    return ColumnChange.TABLE_REWRITE;
+  }
+
   @Override
   public void generateAlterTableAlterColumn(PrintWriter pr, SqlTableColumn newColumn, SqlTable table,
           SqlTableColumn oldColumn) throws MetaException {
@@ -1,10 +1,12 @@
 package ch.ivyteam.db.meta.generator.internal.persistency;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.util.HashMap;
 import java.util.Map;
 
+import ch.ivyteam.db.meta.generator.Target;
+import ch.ivyteam.db.meta.generator.internal.NewLinePrintWriter;
+import ch.ivyteam.db.meta.generator.internal.jfr.TemplateRenderEvent;
 import ch.ivyteam.db.meta.model.internal.SqlMeta;
 import freemarker.cache.ClassTemplateLoader;
 import freemarker.template.Configuration;
@@ -24,19 +26,32 @@ abstract class AbstractJavaClassPersistencyServiceImplementationTemplateWriter {
     this.meta = meta;
   }
 
-  public void writeToFile(File javaSourceFile) throws Exception {
+  public void writeToFile(File javaSourceFile, Target target) throws Exception {
     Template temp = getConfiguration().getTemplate(getTemplateName());
-    try (var writer = new FileWriter(javaSourceFile)) {
+    var event = new TemplateRenderEvent();
+    event.begin();
+    try (var writer = new NewLinePrintWriter(javaSourceFile, target)) {
       temp.process(getDataMap(), writer);
       writer.flush();
     } catch (TemplateException ex) {
       throw new IllegalStateException("Could not generate Query class: " + javaSourceFile.getAbsolutePath(),
               ex);
+    } finally {
+      if (event.shouldCommit()) {
+        event.template = getTemplateName();
+        event.table = getTableName();
+        event.commit();
+      }
     }
   }
 
   protected abstract String getTemplateName();
 
+  /**
+   * @return name of the table or view the template is rendered for
+   */
+  protected abstract String getTableName();
+
   protected Map<String, Object> getDataMap() {
     var root = new HashMap<String, Object>();
     root.put("packageName", targetPackage);
@@ -24,6 +24,11 @@ public class JavaClassForViewTemplateWriter
     return "JavaClassForView.ftl";
   }
 
+  @Override
+  protected String getTableName() {
+    return view.getId();
+  }
+
   @Override
   protected Map<String, Object> getDataMap() {
     Map<String, Object> map = super.getDataMap();
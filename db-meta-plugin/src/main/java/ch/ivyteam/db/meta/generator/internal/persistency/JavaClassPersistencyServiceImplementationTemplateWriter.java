@@ -37,4 +37,9 @@ public class JavaClassPersistencyServiceImplementationTemplateWriter
   protected String getTemplateName() {
     return PERSISTENCY_SERVICE_IMPLEMENTATION_CLASS_TEMPLATE;
   }
+
+  @Override
+  protected String getTableName() {
+    return table.getId();
+  }
 }
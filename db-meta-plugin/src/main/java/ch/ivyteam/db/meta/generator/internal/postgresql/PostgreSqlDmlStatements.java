@@ -1,6 +1,7 @@
 package ch.ivyteam.db.meta.generator.internal.postgresql;
 
 import java.io.PrintWriter;
+import java.util.List;
 
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
@@ -46,4 +47,31 @@ final class PostgreSqlDmlStatements extends DmlStatements {
     pr.print("WHERE ");
     generateFilterExpression(pr, updateStmt.getFilterExpression());
   }
+
+  @Override
+  protected void generateChunked(PrintWriter pr, Chunk chunk, IChunkStatement statement,
+          List<String> createdTemporaryStoredProcedures) {
+    pr.println("DO $$");
+    pr.println("DECLARE");
+    pr.println("  chunk_start BIGINT;");
+    pr.println("  max_key BIGINT;");
+    pr.println("BEGIN");
+    pr.print("  SELECT MIN(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print("), MAX(");
+    identifiers.generate(pr, chunk.getKeyColumn());
+    pr.print(") INTO chunk_start, max_key FROM ");
+    identifiers.generate(pr, chunk.getTable());
+    pr.println(";");
+    pr.println("  WHILE chunk_start <= max_key LOOP");
+    statement.generate(pr, 4, "chunk_start");
+    pr.println(";");
+    pr.println("    COMMIT;");
+    pr.println("    chunk_start := chunk_start + " + chunk.getSize() + ";");
+    pr.println("  END LOOP;");
+    pr.print("END $$");
+    delimiter.generate(pr);
+    pr.println();
+    pr.println();
+  }
 }
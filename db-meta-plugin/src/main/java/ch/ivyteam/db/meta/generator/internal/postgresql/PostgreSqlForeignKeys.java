@@ -23,13 +23,11 @@ final class PostgreSqlForeignKeys extends ForeignKeys {
   @Override
   public void generateAlterTableDrop(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey,
           List<String> createdTemporaryStoredProcedures) {
-    String foreignKeyName = table.getId() + "_" + StringUtils.removeStart(foreignKey.getId(), "FK_")
-            + "_fkey";
     pr.print("ALTER TABLE ");
     identifiers.generate(pr, table.getId());
     pr.println(" DROP");
     pr.print(" CONSTRAINT ");
-    pr.println(foreignKeyName);
+    pr.println(getForeignKeyName(table, foreignKey));
     delimiter.generate(pr);
     pr.println();
     pr.println();
@@ -47,4 +45,43 @@ final class PostgreSqlForeignKeys extends ForeignKeys {
     pr.println();
     pr.println();
   }
+
+  @Override
+  public boolean isDeferredValidationSupported() {
+    return true;
+  }
+
+  /**
+   * The constraint is named explicitly with the name PostgreSQL generates for
+   * unnamed foreign keys, so that it can be validated and dropped later
+   */
+  @Override
+  public void generateAlterTableAddNotValidated(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+    pr.print("ALTER TABLE ");
+    identifiers.generate(pr, table.getId());
+    pr.print(" ADD CONSTRAINT ");
+    pr.print(getForeignKeyName(table, foreignKey));
+    pr.print(" FOREIGN KEY (");
+    pr.print(foreignKey.getColumnName());
+    pr.print(")");
+    generateReference(pr, foreignKey.getReference(), foreignKey);
+    pr.print(" NOT VALID");
+    delimiter.generate(pr);
+    pr.println();
+    pr.println();
+  }
+
+  @Override
+  public void generateValidate(PrintWriter pr, SqlTable table, SqlForeignKey foreignKey) {
+    pr.print("ALTER TABLE ");
+    identifiers.generate(pr, table.getId());
+    pr.print(" VALIDATE CONSTRAINT ");
+    pr.print(getForeignKeyName(table, foreignKey));
+    delimiter.generate(pr);
+    pr.println();
+  }
+
+  private static String getForeignKeyName(SqlTable table, SqlForeignKey foreignKey) {
+    return table.getId() + "_" + StringUtils.removeStart(foreignKey.getId(), "FK_") + "_fkey";
+  }
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 
 import ch.ivyteam.db.meta.generator.internal.Comments;
+import ch.ivyteam.db.meta.generator.internal.DdlOperation;
 import ch.ivyteam.db.meta.generator.internal.DbHints;
 import ch.ivyteam.db.meta.generator.internal.Delimiter;
 import ch.ivyteam.db.meta.generator.internal.DmlStatements;
@@ -88,6 +89,7 @@ public class PostgreSqlSqlScriptGenerator extends SqlScriptGenerator {
   public void generateIndex(PrintWriter pr,
           SqlTable table, SqlIndex index) {
     pr.print("CREATE INDEX ");
+    generateConcurrently(pr, DdlOperation.CREATE_INDEX);
     identifiers.generate(pr, getIndexName(index));
     pr.println();
     pr.print("ON ");
@@ -100,6 +102,76 @@ public class PostgreSqlSqlScriptGenerator extends SqlScriptGenerator {
     pr.println();
   }
 
+  /**
+   * Concurrently created indexes do not block writes to the table. Note, that
+   * they can not be created inside a transaction block.
+   * @param pr
+   * @param operation
+   */
+  private void generateConcurrently(PrintWriter pr, DdlOperation operation) {
+    if (isOnline(operation)) {
+      pr.print("CONCURRENTLY ");
+    }
+  }
+
+  @Override
+  public void generateUniqueConstraint(PrintWriter pr, SqlTable table, SqlUniqueConstraint unique) {
+    if (!isOnline(DdlOperation.ADD_UNIQUE_CONSTRAINT)) {
+      super.generateUniqueConstraint(pr, table, unique);
+      return;
+    }
+    generateCreateUniqueIndexConcurrently(pr, table, unique, getUniqueConstraintName(unique));
+  }
+
+  /**
+   * Online a unique index is created concurrently first. Then the constraint
+   * is added using the index, which only needs a short lock.
+   */
+  @Override
+  protected void generateUniqueConstraintInTable(PrintWriter pr, SqlTable table, SqlUniqueConstraint unique) {
+    if (!isOnline(DdlOperation.ADD_UNIQUE_CONSTRAINT)) {
+      super.generateUniqueConstraintInTable(pr, table, unique);
+      return;
+    }
+    String constraintName = getUniqueConstraintKeyName(table, unique);
+    generateCreateUniqueIndexConcurrently(pr, table, unique, constraintName);
+    pr.print("ALTER TABLE ");
+    identifiers.generate(pr, table.getId());
+    pr.print(" ADD CONSTRAINT ");
+    identifiers.generate(pr, constraintName);
+    pr.print(" UNIQUE USING INDEX ");
+    identifiers.generate(pr, constraintName);
+    delimiter.generate(pr);
+    pr.println();
+  }
+
+  private void generateCreateUniqueIndexConcurrently(PrintWriter pr, SqlTable table,
+          SqlUniqueConstraint unique, String indexName) {
+    pr.print("CREATE UNIQUE INDEX CONCURRENTLY ");
+    identifiers.generate(pr, indexName);
+    pr.println();
+    pr.print("ON ");
+    identifiers.generate(pr, table.getId());
+    pr.print(" (");
+    generateColumnList(pr, unique.getColumns());
+    pr.print(')');
+    delimiter.generate(pr);
+    pr.println();
+  }
+
+  @Override
+  public boolean isOnlineSupported(DdlOperation operation) {
+    switch (operation) {
+      case CREATE_INDEX:
+      case ADD_UNIQUE_CONSTRAINT:
+      case ADD_COLUMN:
+      case ALTER_COLUMN_METADATA:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   private void generateIndexColumnList(PrintWriter pr, SqlTable table, List<String> columns) {
     boolean first = true;
     for (String column : columns) {
@@ -159,6 +231,11 @@ public class PostgreSqlSqlScriptGenerator extends SqlScriptGenerator {
     pr.print("ALTER TABLE ");
     identifiers.generate(pr, table.getId());
     pr.print(" DROP CONSTRAINT ");
+    identifiers.generate(pr, getUniqueConstraintKeyName(table, unique));
+    pr.print(" CASCADE");
+  }
+
+  private static String getUniqueConstraintKeyName(SqlTable table, SqlUniqueConstraint unique) {
     StringBuilder constraint = new StringBuilder(128);
     constraint.append(table.getId());
     for (String column : unique.getColumns()) {
@@ -166,8 +243,7 @@ public class PostgreSqlSqlScriptGenerator extends SqlScriptGenerator {
       constraint.append(column);
     }
     constraint.append("_Key");
-    identifiers.generate(pr, constraint.toString());
-    pr.print(" CASCADE");
+    return constraint.toString();
   }
 
   @Override
@@ -56,6 +56,6 @@ public class JavaQueryClassGenerator extends JavaClassGenerator {
     String className = javaQueryClassTemplate.getTableInfo().getQueryClassName();
     File javaSourceFile = new File(getTargetDirectory(), className + ".java");
     javaSourceFile.getParentFile().mkdirs();
-    javaQueryClassTemplate.writeToFile(javaSourceFile);
+    javaQueryClassTemplate.writeToFile(javaSourceFile, getTarget());
   }
 }
@@ -1,7 +1,6 @@
 package ch.ivyteam.db.meta.generator.internal.query;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.HashMap;
@@ -10,6 +9,9 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 
+import ch.ivyteam.db.meta.generator.Target;
+import ch.ivyteam.db.meta.generator.internal.NewLinePrintWriter;
+import ch.ivyteam.db.meta.generator.internal.jfr.TemplateRenderEvent;
 import ch.ivyteam.db.meta.model.internal.SqlMeta;
 import ch.ivyteam.db.meta.model.internal.SqlTable;
 import freemarker.cache.ClassTemplateLoader;
@@ -48,14 +50,22 @@ public class JavaQueryClassTemplateWriter {
     this.meta = meta;
   }
 
-  public void writeToFile(File javaSourceFile) throws IOException {
+  public void writeToFile(File javaSourceFile, Target target) throws IOException {
     Template temp = getConfiguration().getTemplate(QUERY_CLASS_TEMPLATE);
-    try (Writer writer = new FileWriter(javaSourceFile)) {
+    var event = new TemplateRenderEvent();
+    event.begin();
+    try (Writer writer = new NewLinePrintWriter(javaSourceFile, target)) {
       temp.process(getDataMap(), writer);
       writer.flush();
     } catch (TemplateException ex) {
       throw new IllegalStateException("Could not generate Query class: " + javaSourceFile.getAbsolutePath(),
               ex);
+    } finally {
+      if (event.shouldCommit()) {
+        event.template = QUERY_CLASS_TEMPLATE;
+        event.table = tableInfo.getName();
+        event.commit();
+      }
     }
   }
 
@@ -0,0 +1,262 @@
+package ch.ivyteam.db.meta.generator.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import ch.ivyteam.db.meta.generator.Target;
+import ch.ivyteam.db.meta.generator.internal.Json;
+import ch.ivyteam.db.meta.generator.internal.ThreadAllocations;
+
+/**
+ * Wall time, allocated bytes and output sizes of the phases of a meta output
+ * generation. The metrics are written as JSON file, so that the cost of the
+ * plugin can be tracked over the build history, and as one line summary.
+ * <p>
+ * Allocated bytes are measured on the thread that executes a phase. Bytes
+ * allocated by worker threads of a phase (e.g. the parser threads) must be
+ * added to the phase. They are -1 if the JVM does not support it. Phases may
+ * be measured in parallel by different threads.
+ * </p>
+ */
+final class BuildMetrics {
+
+  private final String goal;
+  private final File target;
+  private final long start = System.nanoTime();
+  private final List<Phase> phases = new ArrayList<>();
+  private final List<Output> outputs = new ArrayList<>();
+
+  /**
+   * @param goal the goal of the mojo
+   * @param target the output directory or file of the generation
+   */
+  BuildMetrics(String goal, File target) {
+    this.goal = goal;
+    this.target = target;
+  }
+
+  /**
+   * Starts to measure a phase on the current thread. The phase is recorded
+   * when it is closed.
+   * @param name name of the phase (e.g. parse)
+   * @param generator class of the generator that executes the phase or null
+   * @return the started phase
+   */
+  Phase start(String name, String generator) {
+    return new Phase(name, generator);
+  }
+
+  Phase start(String name) {
+    return start(name, null);
+  }
+
+  /**
+   * Records the number and size of the files generated to the given target
+   * @param generator class of the generator
+   * @param generated the target of the generator
+   * @throws IOException
+   */
+  void output(String generator, Target generated) throws IOException {
+    List<File> files;
+    if (generated.isSingleTargetFile()) {
+      files = List.of(generated.getSingleTargetFile());
+    } else if (!generated.getGeneratedFiles().isEmpty()) {
+      files = new ArrayList<>(generated.getGeneratedFiles());
+    } else {
+      files = listFiles(generated.getTargetDirectory());
+    }
+    output(generator, files);
+  }
+
+  /**
+   * Records the number and size of the given generated files
+   * @param generator class of the generator
+   * @param files the generated files
+   */
+  void output(String generator, List<File> files) {
+    long bytes = files.stream().mapToLong(File::length).sum();
+    synchronized (outputs) {
+      outputs.add(new Output(generator, files.size(), bytes));
+    }
+  }
+
+  /**
+   * Writes the metrics as JSON to the given file
+   * @param file
+   * @throws IOException
+   */
+  void write(File file) throws IOException {
+    Files.createDirectories(file.getParentFile().toPath());
+    Files.writeString(file.toPath(), toJson(), StandardCharsets.UTF_8);
+  }
+
+  String toJson() {
+    var json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"goal\": ").append(Json.quote(goal)).append(",\n");
+    json.append("  \"target\": ").append(Json.quote(target.getAbsolutePath())).append(",\n");
+    json.append("  \"timeMs\": ").append(formatMillis(System.nanoTime() - start)).append(",\n");
+    json.append("  \"allocatedBytes\": ").append(allocatedBytes()).append(",\n");
+    json.append("  \"outputFiles\": ").append(outputFiles()).append(",\n");
+    json.append("  \"outputBytes\": ").append(outputBytes()).append(",\n");
+    json.append("  \"phases\": [");
+    json.append(getPhases().stream().map(Phase::toJson).collect(Collectors.joining(",", "\n", "\n  ")));
+    json.append("],\n");
+    json.append("  \"outputs\": [");
+    json.append(getOutputs().stream().map(Output::toJson).collect(Collectors.joining(",", "\n", "\n  ")));
+    json.append("]\n");
+    json.append("}\n");
+    return json.toString();
+  }
+
+  /**
+   * @return one line summary of the total and the phase times, the allocated
+   *         bytes and the output sizes. Times of phases with the same name
+   *         (e.g. generate of multiple generators) are summed up.
+   */
+  String summary() {
+    Map<String, Long> nanosByPhase = new LinkedHashMap<>();
+    getPhases().forEach(phase -> nanosByPhase.merge(phase.name, phase.nanos, Long::sum));
+    String phaseTimes = nanosByPhase.entrySet().stream()
+            .map(phase -> phase.getKey() + " " + TimeUnit.NANOSECONDS.toMillis(phase.getValue()) + " ms")
+            .collect(Collectors.joining(", "));
+    String summary = "Meta output metrics: " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            + " ms (" + phaseTimes + ")";
+    long allocatedBytes = allocatedBytes();
+    if (allocatedBytes >= 0) {
+      summary += ", " + formatBytes(allocatedBytes) + " allocated";
+    }
+    return summary + ", " + outputFiles() + " output files with " + formatBytes(outputBytes());
+  }
+
+  private List<Phase> getPhases() {
+    synchronized (phases) {
+      return new ArrayList<>(phases);
+    }
+  }
+
+  private List<Output> getOutputs() {
+    synchronized (outputs) {
+      return new ArrayList<>(outputs);
+    }
+  }
+
+  private long allocatedBytes() {
+    long allocatedBytes = 0;
+    for (Phase phase : getPhases()) {
+      if (phase.allocatedBytes < 0) {
+        return -1;
+      }
+      allocatedBytes += phase.allocatedBytes;
+    }
+    return allocatedBytes;
+  }
+
+  private long outputFiles() {
+    return getOutputs().stream().mapToLong(output -> output.files).sum();
+  }
+
+  private long outputBytes() {
+    return getOutputs().stream().mapToLong(output -> output.bytes).sum();
+  }
+
+  private static List<File> listFiles(File directory) throws IOException {
+    if (directory == null || !directory.isDirectory()) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.walk(directory.toPath())) {
+      return files.filter(Files::isRegularFile).map(Path::toFile).collect(Collectors.toList());
+    }
+  }
+
+  private static String formatMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+  }
+
+  private static String formatBytes(long bytes) {
+    if (bytes < 1024) {
+      return bytes + " B";
+    }
+    if (bytes < 1024 * 1024) {
+      return String.format(Locale.ROOT, "%.1f kB", bytes / 1024.0);
+    }
+    return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+  }
+
+  /**
+   * A measured phase. Must be closed by the thread that started it.
+   */
+  final class Phase implements AutoCloseable {
+
+    private final String name;
+    private final String generator;
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = ThreadAllocations.currentThread();
+    private long workerAllocatedBytes;
+    private long nanos;
+    private long allocatedBytes = -1;
+
+    private Phase(String name, String generator) {
+      this.name = name;
+      this.generator = generator;
+    }
+
+    /**
+     * Adds bytes that other threads allocated for this phase
+     * @param bytes allocated bytes or -1 if they are not known
+     */
+    void addAllocatedBytes(long bytes) {
+      if (bytes < 0 || workerAllocatedBytes < 0) {
+        workerAllocatedBytes = -1;
+      } else {
+        workerAllocatedBytes += bytes;
+      }
+    }
+
+    @Override
+    public void close() {
+      nanos = System.nanoTime() - startNanos;
+      long endAllocatedBytes = ThreadAllocations.currentThread();
+      if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0 && workerAllocatedBytes >= 0) {
+        allocatedBytes = endAllocatedBytes - startAllocatedBytes + workerAllocatedBytes;
+      }
+      synchronized (phases) {
+        phases.add(this);
+      }
+    }
+
+    private String toJson() {
+      return "    {\"name\": " + Json.quote(name) + ", \"generator\": " + Json.quote(generator)
+              + ", \"timeMs\": " + formatMillis(nanos) + ", \"allocatedBytes\": " + allocatedBytes + "}";
+    }
+  }
+
+  private static final class Output {
+
+    private final String generator;
+    private final int files;
+    private final long bytes;
+
+    private Output(String generator, int files, long bytes) {
+      this.generator = generator;
+      this.files = files;
+      this.bytes = bytes;
+    }
+
+    private String toJson() {
+      return "    {\"generator\": " + Json.quote(generator) + ", \"files\": " + files
+              + ", \"bytes\": " + bytes + "}";
+    }
+  }
+}
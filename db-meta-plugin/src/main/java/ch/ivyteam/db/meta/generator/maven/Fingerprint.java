@@ -0,0 +1,157 @@
+package ch.ivyteam.db.meta.generator.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Predicate;
+
+/**
+ * Fingerprint of a meta output generation. Consists of the plugin version,
+ * the charset of the input files, the generator arguments (generator class,
+ * input files, output and additional arguments) and the content hashes of the
+ * input files. If the fingerprint of the last generation is equal to the
+ * current one, the output is still up to date. The content hashes are only
+ * calculated when they are needed and then remembered.
+ */
+final class Fingerprint {
+
+  private static final String PLUGIN_VERSION = "pluginVersion";
+  private static final String CHARSET = "charset";
+  private static final String ARGUMENTS = "arguments";
+  private static final String INPUT = "input.";
+  private final Properties properties = new Properties();
+  private final List<File> inputFiles;
+  private final Map<File, String> inputHashes = new HashMap<>();
+
+  private Fingerprint(List<File> inputFiles) {
+    this.inputFiles = inputFiles;
+  }
+
+  static Fingerprint of(String pluginVersion, Charset charset, String[] arguments, List<File> inputFiles) {
+    var fingerprint = new Fingerprint(List.copyOf(inputFiles));
+    fingerprint.properties.setProperty(PLUGIN_VERSION, pluginVersion == null ? "" : pluginVersion);
+    fingerprint.properties.setProperty(CHARSET, charset.name());
+    fingerprint.properties.setProperty(ARGUMENTS, String.join("\n", arguments));
+    return fingerprint;
+  }
+
+  /**
+   * @param manifest the manifest file the fingerprint of the last generation
+   *          was written to
+   * @return true if the manifest exists and contains the same fingerprint
+   * @throws IOException if an input file cannot be read
+   */
+  boolean matches(File manifest) throws IOException {
+    return matches(manifest, inputFile -> false);
+  }
+
+  /**
+   * @param manifest the manifest file the fingerprint of the last generation
+   *          was written to
+   * @param unchanged tests whether the content of an input file is known to
+   *          be unchanged since the last generation, e.g. because the build
+   *          context reports no delta. The content hash of such a file is
+   *          taken from the manifest instead of being calculated.
+   * @return true if the manifest exists and contains the same fingerprint
+   * @throws IOException if an input file cannot be read
+   */
+  boolean matches(File manifest, Predicate<File> unchanged) throws IOException {
+    if (!manifest.isFile()) {
+      return false;
+    }
+    var last = new Properties();
+    try (InputStream in = Files.newInputStream(manifest.toPath())) {
+      last.load(in);
+    } catch (IOException ex) {
+      return false;
+    }
+    if (last.size() != properties.size() + inputFiles.size()) {
+      return false;
+    }
+    for (String key : properties.stringPropertyNames()) {
+      if (!properties.getProperty(key).equals(last.getProperty(key))) {
+        return false;
+      }
+    }
+    for (File inputFile : inputFiles) {
+      String lastHash = last.getProperty(INPUT + inputFile.getAbsolutePath());
+      if (lastHash == null) {
+        return false;
+      }
+      if (!unchanged.test(inputFile) && !lastHash.equals(hash(inputFile))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void write(File manifest) throws IOException {
+    var current = new Properties();
+    current.putAll(properties);
+    for (File inputFile : inputFiles) {
+      current.setProperty(INPUT + inputFile.getAbsolutePath(), hash(inputFile));
+    }
+    Files.createDirectories(manifest.getParentFile().toPath());
+    try (OutputStream out = Files.newOutputStream(manifest.toPath())) {
+      current.store(out, "Fingerprint of the last meta output generation");
+    }
+  }
+
+  /**
+   * @param target the output directory or file of a generation
+   * @return manifest file name that is unique for the given target
+   */
+  static String manifestName(File target) {
+    return fileName(target, ".fingerprint");
+  }
+
+  /**
+   * @param target the output directory or file of a generation
+   * @return name of the file that lists the generated files and is unique for
+   *         the given target
+   */
+  static String generatedFilesName(File target) {
+    return fileName(target, ".files");
+  }
+
+  /**
+   * @param target the output directory or file of a generation
+   * @return name of the metrics file that is unique for the given target
+   */
+  static String metricsName(File target) {
+    return fileName(target, ".metrics.json");
+  }
+
+  private static String fileName(File target, String extension) {
+    String hash = hash(target.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+    return target.getName() + "-" + hash.substring(0, 16) + extension;
+  }
+
+  private String hash(File inputFile) throws IOException {
+    String hash = inputHashes.get(inputFile);
+    if (hash == null) {
+      hash = hash(Files.readAllBytes(inputFile.toPath()));
+      inputHashes.put(inputFile, hash);
+    }
+    return hash;
+  }
+
+  private static String hash(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package ch.ivyteam.db.meta.generator.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of one meta output generator. Used by the
+ * {@link MetaOutputGeneratorsMojo} to configure the generators that are
+ * executed on the same meta definition.
+ */
+public class Generator {
+
+  /** The class of the meta output generator. Required. */
+  private String generatorClass;
+  /** The directory to generate to. Default is <code>generated-db</code> */
+  private File outputDirectory;
+  /** The file inside the output directory to generate to */
+  private String outputFile;
+  /** Additional arguments of the meta output generator */
+  private List<String> arguments;
+
+  public Generator() {}
+
+  Generator(String generatorClass, File outputDirectory, String outputFile, List<String> arguments) {
+    this.generatorClass = generatorClass;
+    this.outputDirectory = outputDirectory;
+    this.outputFile = outputFile;
+    this.arguments = arguments;
+  }
+
+  String getGeneratorClass() {
+    return generatorClass;
+  }
+
+  void setDefaultOutputDirectory(File defaultOutputDirectory) {
+    if (outputDirectory == null) {
+      outputDirectory = defaultOutputDirectory;
+    }
+  }
+
+  String[] getArguments(List<File> sqlMetaFiles) {
+    List<String> args = new ArrayList<String>();
+    args.add("-sql");
+    for (File sqlMetaFile : sqlMetaFiles) {
+      args.add(sqlMetaFile.getAbsolutePath());
+    }
+    args.add("-generator");
+    args.add(generatorClass);
+    if (outputFile != null) {
+      args.add("-outputFile");
+      args.add(new File(outputDirectory, outputFile).getAbsolutePath());
+    } else {
+      args.add("-outputDir");
+      if (!outputDirectory.exists()) {
+        outputDirectory.mkdirs();
+      }
+      args.add(outputDirectory.getAbsolutePath());
+    }
+    if (arguments != null) {
+      args.addAll(arguments);
+    }
+    return args.toArray(new String[args.size()]);
+  }
+}
@@ -2,9 +2,12 @@ package ch.ivyteam.db.meta.generator.maven;
 
 import java.io.File;
 import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -18,6 +21,9 @@ import org.codehaus.plexus.util.Scanner;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 import ch.ivyteam.db.meta.generator.MetaOutputDifferenceGenerator;
+import ch.ivyteam.db.meta.generator.SqlMetaCache;
+import ch.ivyteam.db.meta.generator.SqlMetaParser;
+import ch.ivyteam.db.meta.generator.TableStatistics;
 import ch.ivyteam.db.meta.generator.internal.NewLinePrintWriter;
 import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
 import ch.ivyteam.db.meta.model.internal.SqlMeta;
@@ -40,6 +46,41 @@ public class MetaOutputDifferenceGeneratorMojo extends AbstractMojo {
   private String oldVersionId;
   @Parameter
   private File additionalConversion;
+  /** Encoding of the meta input files. Default is UTF-8. */
+  @Parameter(defaultValue = "${project.build.sourceEncoding}")
+  private String encoding;
+  /** Directory to cache the parsed meta definitions in */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta/cache")
+  private File cacheDirectory;
+  /** Directory to write the time, memory and output size metrics of the generation to */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta/metrics")
+  private File metricsDirectory;
+  /**
+   * Generate DDL statements that do not block reads and writes to the changed
+   * tables where the database system supports it. Statements that can not run
+   * online are marked as blocking by a comment.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean online;
+  /**
+   * Write a report with the operation class, the affected rows and a rough
+   * time estimate of every statement of the conversion script as JSON and
+   * HTML file next to the script. The report has one entry per generation
+   * step and not per SQL statement: an update of the conversion is costed as
+   * one update of the whole table even if it is generated in chunks, and the
+   * recreation of delete triggers is listed without affected rows.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean costReport;
+  /**
+   * CSV file with the row counts and the average row sizes in bytes of the
+   * tables (<code>table,rows[,avgRowBytes]</code>) of the database the cost
+   * report is estimated for. Optional.
+   */
+  @Parameter
+  private File tableStatistics;
+  @Parameter(defaultValue = "${plugin.version}", readonly = true)
+  private String pluginVersion;
   @Component
   private BuildContext buildContext;
   @Parameter(defaultValue = "${project}", required = true, readonly = true)
@@ -53,30 +94,78 @@ public class MetaOutputDifferenceGeneratorMojo extends AbstractMojo {
     }
     try {
       logGenerating(output);
-      generate(output);
+      var metrics = new BuildMetrics(GOAL, output);
+      generate(output, metrics);
+      metrics.output(generatorClass, List.of(output));
       logSuccess(output);
+      metrics.write(new File(metricsDirectory, Fingerprint.metricsName(output)));
+      getLog().info(metrics.summary());
     } catch (Exception ex) {
       getLog().error(ex);
       throw new MojoExecutionException("Could not generate meta output difference", ex);
     } finally {
       refresh(output);
+      if (costReport) {
+        refresh(getCostReportFile(output, "json"));
+        refresh(getCostReportFile(output, "html"));
+      }
     }
   }
 
-  private void generate(File output) throws Exception {
-    SqlMeta metaFrom = MetaOutputDifferenceGenerator.parseMetaDefinitions(getInputFromFiles());
-    SqlMeta metaTo = MetaOutputDifferenceGenerator.parseMetaDefinitions(getInputToFiles());
-    SqlMeta additionalConversionMeta = MetaOutputDifferenceGenerator
-            .parseMetaDefinitions(additionalConversion);
+  private void generate(File output, BuildMetrics metrics) throws Exception {
+    var cache = new SqlMetaCache(cacheDirectory, pluginVersion);
+    SqlMeta metaFrom;
+    SqlMeta metaTo;
+    SqlMeta additionalConversionMeta;
+    var phase = metrics.start("parse");
+    try {
+      metaFrom = parse(cache, phase, getInputFromFiles());
+      metaTo = parse(cache, phase, getInputToFiles());
+      additionalConversionMeta = parse(cache, phase, additionalConversion);
+    } finally {
+      phase.close();
+    }
+    cache.getWarnings().forEach(getLog()::warn);
+    MetaOutputDifferenceGenerator differenceGenerator;
+    phase = metrics.start("generate", generatorClass);
     try (PrintWriter pr = new NewLinePrintWriter(output)) {
       SqlScriptGenerator scriptGenerator = MetaOutputDifferenceGenerator.findGeneratorClass(generatorClass);
+      scriptGenerator.setOnline(online);
       int newVersionId = Integer.parseInt(oldVersionId) + 1;
-      MetaOutputDifferenceGenerator differenceGenerator = new MetaOutputDifferenceGenerator(metaFrom, metaTo,
+      differenceGenerator = new MetaOutputDifferenceGenerator(metaFrom, metaTo,
               additionalConversionMeta, scriptGenerator, newVersionId);
       differenceGenerator.generate(pr);
+    } finally {
+      phase.close();
+    }
+    if (costReport) {
+      phase = metrics.start("costReport");
+      try {
+        differenceGenerator.getCostReport().write(getCostReportFile(output, "json"),
+                getCostReportFile(output, "html"), TableStatistics.read(tableStatistics));
+      } finally {
+        phase.close();
+      }
     }
   }
 
+  private static File getCostReportFile(File output, String extension) {
+    String name = StringUtils.substringBeforeLast(output.getName(), ".");
+    return new File(output.getParentFile(), name + ".cost." + extension);
+  }
+
+  private SqlMeta parse(SqlMetaCache cache, BuildMetrics.Phase phase, File... files) throws Exception {
+    var parser = new SqlMetaParser(cache, 0, getCharset());
+    SqlMeta meta = parser.parse(files);
+    phase.addAllocatedBytes(parser.getWorkerAllocatedBytes());
+    parser.getDuplicateDefinitions().forEach(getLog()::warn);
+    return meta;
+  }
+
+  private Charset getCharset() {
+    return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+  }
+
   private File[] getInputFromFiles() {
     return getIncludedFiles(inputFrom);
   }
@@ -2,8 +2,8 @@ package ch.ivyteam.db.meta.generator.maven;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,6 +19,7 @@ import org.codehaus.plexus.util.Scanner;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 import ch.ivyteam.db.meta.generator.MetaOutputGenerator;
+import ch.ivyteam.db.meta.generator.SqlMetaCache;
 import ch.ivyteam.db.meta.generator.Target;
 
 @Mojo(name = "generate-meta-output", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
@@ -37,6 +38,20 @@ public class MetaOutputGeneratorMojo extends AbstractMojo {
   private String[] includes = {"**/*.meta"};
   @Parameter()
   private List<String> arguments;
+  /** Encoding of the meta input files. Default is UTF-8. */
+  @Parameter(defaultValue = "${project.build.sourceEncoding}")
+  private String encoding;
+  /** Directory to store the fingerprints and generated files of the last generations in */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta")
+  private File fingerprintDirectory;
+  /** Directory to cache the parsed meta definitions in */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta/cache")
+  private File cacheDirectory;
+  /** Directory to write the time, memory and output size metrics of the generation to */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta/metrics")
+  private File metricsDirectory;
+  @Parameter(defaultValue = "${plugin.version}", readonly = true)
+  private String pluginVersion;
   @Component
   private BuildContext buildContext;
   @Parameter(defaultValue = "${project}", required = true, readonly = true)
@@ -51,20 +66,59 @@ public class MetaOutputGeneratorMojo extends AbstractMojo {
         getLog().warn("No meta input files found. Nothing to do.");
         return;
       }
-      String[] args = getArguments(sqlMetaFiles);
+      String[] args = new Generator(generatorClass, outputDirectory, outputFile, arguments)
+              .getArguments(sqlMetaFiles);
       generator.analyseArgs(args);
       Target target = generator.getTarget();
-      var targetDir = target.getTargetDirectory();
-      if (targetDir == null) {
-        target.getSingleTargetFile().delete();
-      } else {
-        delete(targetDir.toPath());
+      var metrics = new BuildMetrics(GOAL, Targets.getFile(target));
+      File manifest = new File(fingerprintDirectory, Fingerprint.manifestName(Targets.getFile(target)));
+      Fingerprint fingerprint;
+      boolean upToDate;
+      var phase = metrics.start("fingerprint");
+      try {
+        fingerprint = Fingerprint.of(pluginVersion, getCharset(), args, sqlMetaFiles);
+        upToDate = isUpToDate(target, fingerprint, manifest);
+      } finally {
+        phase.close();
       }
+      if (upToDate) {
+        getLog().info("Meta output " + Targets.format(target) + " is up to date.");
+        writeMetrics(metrics, target);
+        return;
+      }
+      manifest.delete();
       logGenerating(target);
-      generator.parseMetaDefinition();
-      generator.generateMetaOutput();
+      phase = metrics.start("parse");
+      var cache = new SqlMetaCache(cacheDirectory, pluginVersion);
+      try {
+        generator.setMetaCache(cache);
+        generator.setCharset(getCharset());
+        generator.setFragments(
+                SessionFragments.get(buildContext, inputDirectory, getCharset(), sqlMetaFiles));
+        generator.parseMetaDefinition();
+      } finally {
+        phase.addAllocatedBytes(generator.getParserWorkerAllocatedBytes());
+        phase.close();
+      }
+      generator.getDuplicateDefinitions().forEach(getLog()::warn);
+      cache.getWarnings().forEach(getLog()::warn);
+      phase = metrics.start("generate", generatorClass);
+      try {
+        generator.generateMetaOutput();
+      } finally {
+        phase.close();
+      }
+      phase = metrics.start("prune");
+      try {
+        Targets.deleteStaleFiles(target, fingerprintDirectory);
+        fingerprint.write(manifest);
+      } finally {
+        phase.close();
+      }
+      metrics.output(generatorClass, target);
       logSuccess(target);
-      refresh(target);
+      Targets.refresh(buildContext, target);
+      writeMetrics(metrics, target);
     } catch (Throwable ex) {
       generator.printHelp();
       getLog().error(ex);
@@ -72,45 +126,28 @@ public class MetaOutputGeneratorMojo extends AbstractMojo {
     }
   }
 
-  private void delete(Path path) throws IOException {
-    if (!Files.exists(path)) {
-      return;
-    }
-    Files.walk(path)
-            .map(Path::toFile)
-            .forEach(File::delete);
+  private void writeMetrics(BuildMetrics metrics, Target target) throws IOException {
+    metrics.write(new File(metricsDirectory, Fingerprint.metricsName(Targets.getFile(target))));
+    getLog().info(metrics.summary());
   }
 
-  private void refresh(Target target) {
-    if (target.isSingleTargetFile()) {
-      buildContext.refresh(target.getSingleTargetFile());
-    } else {
-      buildContext.refresh(target.getTargetDirectory());
+  /**
+   * In incremental builds the content of input files without delta is not
+   * hashed again. The plugin version, the charset, the arguments and the set
+   * of input files are always compared.
+   */
+  private boolean isUpToDate(Target target, Fingerprint fingerprint, File manifest) throws IOException {
+    if (!Targets.exists(target)) {
+      return false;
+    }
+    if (buildContext.isIncremental()) {
+      return fingerprint.matches(manifest, inputFile -> !buildContext.hasDelta(inputFile));
     }
+    return fingerprint.matches(manifest);
   }
 
-  private String[] getArguments(List<File> sqlMetaFiles) {
-    List<String> args = new ArrayList<String>();
-    args.add("-sql");
-    for (File sqlMetaFile : sqlMetaFiles) {
-      args.add(sqlMetaFile.getAbsolutePath());
-    }
-    args.add("-generator");
-    args.add(generatorClass);
-    if (outputFile != null) {
-      args.add("-outputFile");
-      args.add(new File(outputDirectory, outputFile).getAbsolutePath());
-    } else {
-      args.add("-outputDir");
-      if (!outputDirectory.exists()) {
-        outputDirectory.mkdirs();
-      }
-      args.add(outputDirectory.getAbsolutePath());
-    }
-    if (arguments != null) {
-      args.addAll(arguments);
-    }
-    return args.toArray(new String[args.size()]);
+  private Charset getCharset() {
+    return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
   }
 
   private List<File> getSqlMetaFiles() throws IOException {
@@ -127,31 +164,12 @@ public class MetaOutputGeneratorMojo extends AbstractMojo {
   }
 
   private void logGenerating(Target target) {
-    getLog().info("Generating meta output " + formatTarget(target) + " using generator class "
+    getLog().info("Generating meta output " + Targets.format(target) + " using generator class "
             + generatorClass + " ...");
   }
 
   private void logSuccess(Target target) {
-    getLog().info("Meta output " + formatTarget(target) + " sucessful generated.");
-  }
-
-  private String formatTarget(Target target) {
-    if (target.isSingleTargetFile()) {
-      return "file " + getAbsolutePath(target.getSingleTargetFile());
-    } else {
-      if (target.numberOfTargetFiles() > 0) {
-        return "files (" + Integer.toString(target.numberOfTargetFiles()) + ") in directory "
-                + getAbsolutePath(target.getTargetDirectory());
-      } else {
-        return "files in directory " + getAbsolutePath(target.getTargetDirectory());
-      }
-    }
-  }
-
-  private String getAbsolutePath(File targetDirectoryOrFile) {
-    if (targetDirectoryOrFile == null) {
-      return "";
-    }
-    return targetDirectoryOrFile.getAbsolutePath();
+    getLog().info("Meta output " + Targets.format(target) + " sucessful generated ("
+            + Targets.formatStatistics(target) + ").");
   }
 }
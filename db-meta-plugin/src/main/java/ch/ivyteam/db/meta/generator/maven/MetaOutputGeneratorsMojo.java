@@ -0,0 +1,235 @@
+package ch.ivyteam.db.meta.generator.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.Scanner;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import ch.ivyteam.db.meta.generator.MetaOutputGenerator;
+import ch.ivyteam.db.meta.generator.SqlMetaCache;
+import ch.ivyteam.db.meta.generator.SqlMetaParser;
+import ch.ivyteam.db.meta.generator.Target;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+/**
+ * Parses the meta definition once and executes multiple meta output
+ * generators on it in parallel.
+ */
+@Mojo(name = "generate-meta-outputs", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class MetaOutputGeneratorsMojo extends AbstractMojo {
+
+  static final String GOAL = "generate-meta-outputs";
+  @Parameter(required = true)
+  private List<Generator> generators;
+  @Parameter(defaultValue = "generated-db")
+  private File outputDirectory;
+  @Parameter(defaultValue = "meta")
+  private File inputDirectory;
+  @Parameter
+  private String[] includes = {"**/*.meta"};
+  /** Encoding of the meta input files. Default is UTF-8. */
+  @Parameter(defaultValue = "${project.build.sourceEncoding}")
+  private String encoding;
+  /**
+   * Maximum number of meta files parsed and generators executed in parallel.
+   * Default is the number of processors.
+   */
+  @Parameter(defaultValue = "0")
+  private int threads;
+  /** Directory to store the generated files of the last generations in */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta")
+  private File fingerprintDirectory;
+  /** Directory to cache the parsed meta definitions in */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta/cache")
+  private File cacheDirectory;
+  /** Directory to write the time, memory and output size metrics of the generations to */
+  @Parameter(defaultValue = "${project.build.directory}/db-meta/metrics")
+  private File metricsDirectory;
+  @Parameter(defaultValue = "${plugin.version}", readonly = true)
+  private String pluginVersion;
+  @Component
+  private BuildContext buildContext;
+  @Parameter(defaultValue = "${project}", required = true, readonly = true)
+  MavenProject project;
+
+  @Override
+  public void execute() throws MojoExecutionException, MojoFailureException {
+    List<File> sqlMetaFiles = getSqlMetaFiles();
+    if (sqlMetaFiles.isEmpty()) {
+      getLog().warn("No meta input files found. Nothing to do.");
+      return;
+    }
+    List<GeneratorExecution> executions = new ArrayList<>();
+    for (Generator generator : generators) {
+      generator.setDefaultOutputDirectory(outputDirectory);
+      executions.add(new GeneratorExecution(generator, sqlMetaFiles));
+    }
+    var metrics = new BuildMetrics(GOAL, outputDirectory);
+    SqlMeta metaDefinition;
+    var phase = metrics.start("parse");
+    try {
+      metaDefinition = parse(sqlMetaFiles, phase);
+    } finally {
+      phase.close();
+    }
+    execute(executions, metaDefinition, metrics);
+    for (GeneratorExecution execution : executions) {
+      Targets.refresh(buildContext, execution.target);
+    }
+    writeMetrics(metrics);
+  }
+
+  private void writeMetrics(BuildMetrics metrics) throws MojoExecutionException {
+    try {
+      metrics.write(new File(metricsDirectory, Fingerprint.metricsName(outputDirectory)));
+    } catch (IOException ex) {
+      throw new MojoExecutionException("Could not write metrics to " + metricsDirectory, ex);
+    }
+    getLog().info(metrics.summary());
+  }
+
+  private SqlMeta parse(List<File> sqlMetaFiles, BuildMetrics.Phase phase) throws MojoExecutionException {
+    long start = System.nanoTime();
+    try {
+      var cache = new SqlMetaCache(cacheDirectory, pluginVersion);
+      var parser = new SqlMetaParser(cache, threads, getCharset());
+      parser.setFragments(SessionFragments.get(buildContext, inputDirectory, getCharset(), sqlMetaFiles));
+      SqlMeta metaDefinition = parser.parse(sqlMetaFiles.toArray(new File[sqlMetaFiles.size()]));
+      phase.addAllocatedBytes(parser.getWorkerAllocatedBytes());
+      parser.getDuplicateDefinitions().forEach(getLog()::warn);
+      cache.getWarnings().forEach(getLog()::warn);
+      getLog().info("Parsed " + sqlMetaFiles.size() + " meta input files in " + millisSince(start) + " ms");
+      return metaDefinition;
+    } catch (Exception ex) {
+      getLog().error(ex);
+      throw new MojoExecutionException("Could not parse meta definition", ex);
+    }
+  }
+
+  private void execute(List<GeneratorExecution> executions, SqlMeta metaDefinition, BuildMetrics metrics)
+          throws MojoExecutionException {
+    ExecutorService executor = Executors.newFixedThreadPool(getNumberOfThreads(executions.size()));
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (GeneratorExecution execution : executions) {
+        futures.add(executor.submit(() -> {
+          execution.generate(metaDefinition, metrics);
+          return null;
+        }));
+      }
+      MojoExecutionException failure = null;
+      for (int pos = 0; pos < futures.size(); pos++) {
+        try {
+          futures.get(pos).get();
+        } catch (ExecutionException ex) {
+          GeneratorExecution execution = executions.get(pos);
+          getLog().error(ex.getCause());
+          if (failure == null) {
+            failure = new MojoExecutionException("Could not generate meta output using generator class "
+                    + execution.generator.getGeneratorClass(), ex.getCause());
+          }
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while generating meta output", ex);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Charset getCharset() {
+    return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+  }
+
+  private int getNumberOfThreads(int numberOfGenerators) {
+    int maxThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return Math.max(1, Math.min(maxThreads, numberOfGenerators));
+  }
+
+  private List<File> getSqlMetaFiles() throws MojoExecutionException {
+    try {
+      inputDirectory = inputDirectory.getCanonicalFile();
+    } catch (IOException ex) {
+      throw new MojoExecutionException("Could not resolve input directory " + inputDirectory, ex);
+    }
+    Scanner inputScanner = buildContext.newScanner(inputDirectory, true);
+    inputScanner.setIncludes(includes);
+    inputScanner.scan();
+    List<File> sqlMetaFiles = new ArrayList<>();
+    for (String input : inputScanner.getIncludedFiles()) {
+      sqlMetaFiles.add(new File(inputDirectory, input));
+    }
+    return sqlMetaFiles;
+  }
+
+  private static long millisSince(long start) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  /**
+   * A configured generator and its target
+   */
+  private final class GeneratorExecution {
+
+    private final Generator generator;
+    private final MetaOutputGenerator outputGenerator = new MetaOutputGenerator();
+    private final Target target;
+
+    private GeneratorExecution(Generator generator, List<File> sqlMetaFiles)
+            throws MojoExecutionException {
+      this.generator = generator;
+      try {
+        outputGenerator.analyseArgs(generator.getArguments(sqlMetaFiles));
+        target = outputGenerator.getTarget();
+      } catch (Exception ex) {
+        outputGenerator.printHelp();
+        getLog().error(ex);
+        throw new MojoExecutionException("Could not configure generator class "
+                + generator.getGeneratorClass(), ex);
+      }
+    }
+
+    private void generate(SqlMeta metaDefinition, BuildMetrics metrics) throws Exception {
+      long start = System.nanoTime();
+      getLog().info("Generating meta output " + Targets.format(target) + " using generator class "
+              + generator.getGeneratorClass() + " ...");
+      var phase = metrics.start("generate", generator.getGeneratorClass());
+      try {
+        outputGenerator.generateMetaOutput(metaDefinition);
+      } finally {
+        phase.close();
+      }
+      phase = metrics.start("prune", generator.getGeneratorClass());
+      try {
+        Targets.deleteStaleFiles(target, fingerprintDirectory);
+      } finally {
+        phase.close();
+      }
+      metrics.output(generator.getGeneratorClass(), target);
+      getLog().info("Meta output " + Targets.format(target) + " sucessful generated in "
+              + millisSince(start) + " ms (" + Targets.formatStatistics(target) + ").");
+    }
+  }
+}
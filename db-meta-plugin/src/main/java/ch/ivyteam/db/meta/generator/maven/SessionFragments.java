@@ -0,0 +1,43 @@
+package ch.ivyteam.db.meta.generator.maven;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import ch.ivyteam.db.meta.generator.SqlMetaFragments;
+
+/**
+ * Keeps the parsed meta definition fragments in the build context, so that
+ * incremental builds (m2e) only parse the meta files that have changed.
+ * Outside of an IDE the build context does not keep values and every build
+ * parses all files.
+ */
+final class SessionFragments {
+
+  private SessionFragments() {}
+
+  /**
+   * @param buildContext the build context
+   * @param inputDirectory directory of the meta files
+   * @param charset charset of the meta files
+   * @param sqlMetaFiles the current meta files
+   * @return fragments of the last build of this session that only parse the
+   *         files the build context reports as changed
+   */
+  static SqlMetaFragments get(BuildContext buildContext, File inputDirectory, Charset charset,
+          List<File> sqlMetaFiles) {
+    String key = SqlMetaFragments.class.getName() + ":" + inputDirectory + ":" + charset.name();
+    SqlMetaFragments fragments;
+    if (buildContext.isIncremental() && buildContext.getValue(key) instanceof SqlMetaFragments last) {
+      fragments = last;
+      fragments.retainAll(sqlMetaFiles);
+    } else {
+      fragments = new SqlMetaFragments();
+      buildContext.setValue(key, fragments);
+    }
+    fragments.setChangedFiles(buildContext::hasDelta);
+    return fragments;
+  }
+}
@@ -0,0 +1,108 @@
+package ch.ivyteam.db.meta.generator.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import ch.ivyteam.db.meta.generator.Target;
+
+/**
+ * Helper methods to handle the target of a meta output generator
+ */
+final class Targets {
+
+  private Targets() {}
+
+  /**
+   * Deletes the files of the target that were generated by the last but not
+   * by the current generation and stores the currently generated files.
+   * @param target the target of the current generation
+   * @param fingerprintDirectory directory to store the generated files in
+   * @throws IOException
+   */
+  static void deleteStaleFiles(Target target, File fingerprintDirectory) throws IOException {
+    Path generatedFiles = new File(fingerprintDirectory, Fingerprint.generatedFilesName(getFile(target)))
+            .toPath();
+    List<File> lastGeneratedFiles = null;
+    if (Files.isRegularFile(generatedFiles)) {
+      lastGeneratedFiles = Files.readAllLines(generatedFiles, StandardCharsets.UTF_8).stream()
+              .map(File::new)
+              .collect(Collectors.toList());
+    }
+    target.deleteStaleFiles(lastGeneratedFiles);
+    Files.createDirectories(fingerprintDirectory.toPath());
+    Files.write(generatedFiles, target.getGeneratedFiles().stream()
+            .map(File::getPath)
+            .collect(Collectors.toList()), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the output directory or the single output file of the target
+   */
+  static File getFile(Target target) {
+    if (target.isSingleTargetFile()) {
+      return target.getSingleTargetFile();
+    }
+    return target.getTargetDirectory();
+  }
+
+  /**
+   * @return true if the output file or a non empty output directory exists
+   */
+  static boolean exists(Target target) {
+    File file = getFile(target);
+    if (target.isSingleTargetFile()) {
+      return file.isFile();
+    }
+    String[] children = file.list();
+    return children != null && children.length > 0;
+  }
+
+  /**
+   * Refreshes the written and deleted files of the target or the whole target
+   * directory if the generator does not report its files
+   */
+  static void refresh(BuildContext buildContext, Target target) {
+    if (target.isSingleTargetFile()) {
+      buildContext.refresh(target.getSingleTargetFile());
+    } else if (target.getGeneratedFiles().isEmpty()) {
+      buildContext.refresh(target.getTargetDirectory());
+    } else {
+      target.getChangedFiles().forEach(buildContext::refresh);
+    }
+  }
+
+  /**
+   * @return number of written, unchanged and deleted files of the target
+   */
+  static String formatStatistics(Target target) {
+    return target.numberOfWrittenFiles() + " written, " + target.numberOfUnchangedFiles() + " unchanged, "
+            + target.numberOfDeletedFiles() + " deleted files";
+  }
+
+  static String format(Target target) {
+    if (target.isSingleTargetFile()) {
+      return "file " + getAbsolutePath(target.getSingleTargetFile());
+    } else {
+      if (target.numberOfTargetFiles() > 0) {
+        return "files (" + Integer.toString(target.numberOfTargetFiles()) + ") in directory "
+                + getAbsolutePath(target.getTargetDirectory());
+      } else {
+        return "files in directory " + getAbsolutePath(target.getTargetDirectory());
+      }
+    }
+  }
+
+  private static String getAbsolutePath(File targetDirectoryOrFile) {
+    if (targetDirectoryOrFile == null) {
+      return "";
+    }
+    return targetDirectoryOrFile.getAbsolutePath();
+  }
+}
@@ -1,5 +1,6 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -11,7 +12,9 @@ import java.util.Map;
  * information
  * @author rwei
  */
-public class SqlArtifact {
+public class SqlArtifact implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The comment */
   private String fComment;
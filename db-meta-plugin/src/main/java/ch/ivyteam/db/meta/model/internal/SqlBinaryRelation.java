@@ -1,5 +1,8 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * An sql binary relation expression
  * @author rwei
@@ -7,6 +10,8 @@ package ch.ivyteam.db.meta.model.internal;
  */
 public class SqlBinaryRelation extends SqlSimpleExpr {
 
+  private static final long serialVersionUID = 1L;
+
   /** The first parameter of the relation */
   private SqlAtom fFirst;
   /** The relation operator */
@@ -65,4 +70,36 @@ public class SqlBinaryRelation extends SqlSimpleExpr {
     }
     return fFirst.toString() + operator + fSecond.toString();
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fFirst)
+            .append(fOperator)
+            .append(fSecond).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlBinaryRelation other = (SqlBinaryRelation) obj;
+    return new EqualsBuilder()
+            .append(other.fFirst, fFirst)
+            .append(other.fOperator, fOperator)
+            .append(other.fSecond, fSecond).isEquals();
+  }
 }
@@ -2,6 +2,9 @@ package ch.ivyteam.db.meta.model.internal;
 
 import java.util.List;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * A CASE ... WHEN ... THEN ... WHEN ... THEN ... END expression
  * @author rwei
@@ -9,6 +12,8 @@ import java.util.List;
  */
 public class SqlCaseExpr extends SqlAtom {
 
+  private static final long serialVersionUID = 1L;
+
   /** The column to use in the CASE part */
   private SqlFullQualifiedColumnName fColumnName;
   /** WHEN THEN pairs */
@@ -57,4 +62,34 @@ public class SqlCaseExpr extends SqlAtom {
     builder.append(" END");
     return builder.toString();
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fColumnName)
+            .append(fWhenThenList).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlCaseExpr other = (SqlCaseExpr) obj;
+    return new EqualsBuilder()
+            .append(other.fColumnName, fColumnName)
+            .append(other.fWhenThenList, fWhenThenList).isEquals();
+  }
 }
@@ -2,6 +2,9 @@ package ch.ivyteam.db.meta.model.internal;
 
 import java.util.List;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * A CASE WHEN ... THEN ... WHEN ... THEN ... ELSE ... END expression
  * @author rwei
@@ -9,6 +12,8 @@ import java.util.List;
  */
 public class SqlComplexCaseExpr extends SqlAtom {
 
+  private static final long serialVersionUID = 1L;
+
   private final List<SqlComplexWhenThen> whenThenList;
   private final SqlAtom elseAction;
 
@@ -40,4 +45,34 @@ public class SqlComplexCaseExpr extends SqlAtom {
     builder.append(" END");
     return builder.toString();
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(whenThenList)
+            .append(elseAction).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlComplexCaseExpr other = (SqlComplexCaseExpr) obj;
+    return new EqualsBuilder()
+            .append(other.whenThenList, whenThenList)
+            .append(other.elseAction, elseAction).isEquals();
+  }
 }
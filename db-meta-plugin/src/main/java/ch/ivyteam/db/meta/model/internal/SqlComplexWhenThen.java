@@ -1,11 +1,18 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * A WHEN ... THEN ... expression
  * @author rwei
  * @since 12.07.2017
  */
-public class SqlComplexWhenThen {
+public class SqlComplexWhenThen implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private SqlSimpleExpr condition;
   private SqlAtom action;
@@ -27,4 +34,34 @@ public class SqlComplexWhenThen {
   public String toString() {
     return "WHEN " + condition + " THEN " + action;
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(condition)
+            .append(action).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlComplexWhenThen other = (SqlComplexWhenThen) obj;
+    return new EqualsBuilder()
+            .append(other.condition, condition)
+            .append(other.action, action).isEquals();
+  }
 }
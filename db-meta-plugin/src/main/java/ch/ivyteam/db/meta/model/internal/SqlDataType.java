@@ -1,10 +1,14 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
 /**
  * An sql data type definition
  * @author rwei
  */
-public class SqlDataType {
+public class SqlDataType implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The data type */
   private DataType fDataType;
@@ -1,10 +1,14 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
 /**
  * Database System Hint
  * @author rwei
  */
-public class SqlDatabaseSystemHint {
+public class SqlDatabaseSystemHint implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The name of the hint */
   private String fName;
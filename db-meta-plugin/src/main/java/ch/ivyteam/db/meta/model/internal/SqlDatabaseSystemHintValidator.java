@@ -41,6 +41,8 @@ public class SqlDatabaseSystemHintValidator {
     registerHint(COMMON_HINT_KEY, SqlScriptGenerator.INDEX_NAME);
     registerHint(COMMON_HINT_KEY, SqlScriptGenerator.NO_INDEX);
     registerHint(COMMON_HINT_KEY, SqlScriptGenerator.DEFAULT_VALUE);
+    registerHint(COMMON_HINT_KEY, SqlScriptGenerator.CHUNK_SIZE);
+    registerHint(COMMON_HINT_KEY, SqlScriptGenerator.CHUNK_KEY);
     registerType(JavaClassGenerator.JAVA);
     registerHint(JavaClassGenerator.JAVA, JavaClassGenerator.ADDITIONAL_SET_METHODS);
     registerHint(JavaClassGenerator.JAVA, JavaClassGenerator.AS_ASSOCIATION);
@@ -1,5 +1,6 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +13,9 @@ import ch.ivyteam.db.meta.generator.internal.SqlScriptUtil;
  * sql script for the given database system
  * @author rwei
  */
-public class SqlDatabaseSystemHints {
+public class SqlDatabaseSystemHints implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The database management system */
   private String fDatabaseManagementSystem;
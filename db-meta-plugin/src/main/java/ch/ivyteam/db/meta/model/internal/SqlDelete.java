@@ -1,11 +1,16 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * @author rwei
  * @since 13.10.2009
  */
 public class SqlDelete extends SqlDmlStatement {
 
+  private static final long serialVersionUID = 1L;
+
   /** Filter expression to filter the rows to delete */
   private SqlSimpleExpr fFilterExpression;
   /** The table to delete rows from */
@@ -54,4 +59,34 @@ public class SqlDelete extends SqlDmlStatement {
   public SqlSimpleExpr getFilterExpression() {
     return fFilterExpression;
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fTable)
+            .append(fFilterExpression).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlDelete other = (SqlDelete) obj;
+    return new EqualsBuilder()
+            .append(other.fTable, fTable)
+            .append(other.fFilterExpression, fFilterExpression).isEquals();
+  }
 }
@@ -9,6 +9,8 @@ import java.util.List;
  */
 public class SqlDmlStatement extends SqlArtifact {
 
+  private static final long serialVersionUID = 1L;
+
   /**
    * Constructor
    * @param dbSysHints
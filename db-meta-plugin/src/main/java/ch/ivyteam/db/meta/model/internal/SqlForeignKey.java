@@ -8,6 +8,8 @@ import java.util.List;
  */
 public class SqlForeignKey extends SqlTableContentDefinition {
 
+  private static final long serialVersionUID = 1L;
+
   /** The column name of the foreign key */
   private String fColumnName;
   /** The reference definition */
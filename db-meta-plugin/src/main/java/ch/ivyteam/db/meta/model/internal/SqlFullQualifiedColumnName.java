@@ -1,5 +1,8 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * A full qualified column name
  * @author rwei
@@ -7,6 +10,8 @@ package ch.ivyteam.db.meta.model.internal;
  */
 public class SqlFullQualifiedColumnName extends SqlAtom {
 
+  private static final long serialVersionUID = 1L;
+
   /** The table part of the full qualified column name */
   private String fTable;
   /** The column part of the full qualified column name */
@@ -50,4 +55,34 @@ public class SqlFullQualifiedColumnName extends SqlAtom {
       return fColumn;
     }
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fTable)
+            .append(fColumn).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlFullQualifiedColumnName other = (SqlFullQualifiedColumnName) obj;
+    return new EqualsBuilder()
+            .append(other.fTable, fTable)
+            .append(other.fColumn, fColumn).isEquals();
+  }
 }
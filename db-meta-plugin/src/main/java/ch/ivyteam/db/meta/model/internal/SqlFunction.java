@@ -4,9 +4,13 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 public class SqlFunction extends SqlAtom {
 
+  private static final long serialVersionUID = 1L;
+
   private String name;
   private List<SqlAtom> arguments;
 
@@ -32,4 +36,34 @@ public class SqlFunction extends SqlAtom {
   public String toString() {
     return name + "(" + StringUtils.join(arguments, ",") + ")";
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(name)
+            .append(arguments).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlFunction other = (SqlFunction) obj;
+    return new EqualsBuilder()
+            .append(other.name, name)
+            .append(other.arguments, arguments).isEquals();
+  }
 }
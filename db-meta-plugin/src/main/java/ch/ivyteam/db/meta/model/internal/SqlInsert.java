@@ -6,6 +6,8 @@ import ch.ivyteam.db.meta.generator.internal.SqlScriptUtil;
 
 public abstract class SqlInsert extends SqlDmlStatement {
 
+  private static final long serialVersionUID = 1L;
+
   private final String table;
   private final List<String> columns;
 
@@ -4,6 +4,8 @@ import java.util.List;
 
 public class SqlInsertWithSelect extends SqlInsert {
 
+  private static final long serialVersionUID = 1L;
+
   private final SqlSelect select;
 
   public SqlInsertWithSelect(String table, List<String> columns, SqlSelect select,
@@ -6,6 +6,8 @@ import ch.ivyteam.db.meta.generator.internal.SqlScriptUtil;
 
 public class SqlInsertWithValues extends SqlInsert {
 
+  private static final long serialVersionUID = 1L;
+
   private final List<SqlLiteral> values;
 
   public SqlInsertWithValues(String table, List<String> columns, List<SqlLiteral> values,
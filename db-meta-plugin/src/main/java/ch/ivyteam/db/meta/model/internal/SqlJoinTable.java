@@ -1,6 +1,10 @@
 package ch.ivyteam.db.meta.model.internal;
 
-public class SqlJoinTable {
+import java.io.Serializable;
+
+public class SqlJoinTable implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private SqlTableId table;
   private String joinKind;
@@ -1,11 +1,16 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * @author rwei
  * @since 02.10.2009
  */
 public class SqlLiteral extends SqlAtom {
 
+  private static final long serialVersionUID = 1L;
+
   /** Value of the literal */
   private Object fValue;
 
@@ -32,4 +37,32 @@ public class SqlLiteral extends SqlAtom {
   public String toString() {
     return fValue.toString();
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fValue).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlLiteral other = (SqlLiteral) obj;
+    return new EqualsBuilder()
+            .append(other.fValue, fValue).isEquals();
+  }
 }
@@ -1,5 +1,8 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * SQL logical expression like expr AND expr or expr OR expr
  * @author rwei
@@ -7,6 +10,8 @@ package ch.ivyteam.db.meta.model.internal;
  */
 public class SqlLogicalExpression extends SqlSimpleExpr {
 
+  private static final long serialVersionUID = 1L;
+
   /** First argument */
   private SqlSimpleExpr fFirst;
   /** Operator */
@@ -60,4 +65,36 @@ public class SqlLogicalExpression extends SqlSimpleExpr {
   public String toString() {
     return fFirst.toString() + " " + fOperator + " " + fSecond.toString();
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fFirst)
+            .append(fOperator)
+            .append(fSecond).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlLogicalExpression other = (SqlLogicalExpression) obj;
+    return new EqualsBuilder()
+            .append(other.fFirst, fFirst)
+            .append(other.fOperator, fOperator)
+            .append(other.fSecond, fSecond).isEquals();
+  }
 }
@@ -2,7 +2,10 @@ package ch.ivyteam.db.meta.model.internal;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -15,6 +18,17 @@ public class SqlMeta {
 
   /** All sql artefacts defined in the meta information */
   private List<SqlArtifact> fSqlArtifact = new ArrayList<SqlArtifact>();
+  /**
+   * Index of the sql artifacts per requested artifact type. An index is
+   * created on the first request of a type and afterwards kept up to date
+   * when artifacts are added or merged.
+   */
+  private final Map<Class<?>, ArtifactIndex> fArtifactIndexes = new ConcurrentHashMap<>();
+  /**
+   * Foreign keys by the table and column they reference. Built on the first
+   * request and dropped when artifacts are added or merged.
+   */
+  private volatile ReferenceIndex fReferenceIndex;
 
   /**
    * Constructor
@@ -28,31 +42,29 @@ public class SqlMeta {
   public void addArtifact(SqlArtifact artifact) {
     assert artifact != null : "Parameter artifact must not be null";
     fSqlArtifact.add(artifact);
+    for (ArtifactIndex index : fArtifactIndexes.values()) {
+      index.add(artifact);
+    }
+    fReferenceIndex = null;
   }
 
   /**
    * Gets all sql artifacts
-   * @return sql artifacts
+   * @return sql artifacts (unmodifiable)
    */
   public List<SqlArtifact> getArtifacts() {
-    return fSqlArtifact;
+    return Collections.unmodifiableList(fSqlArtifact);
   }
 
   /**
    * Gets all sql artifact of a given type
    * @param <T> the type of the sql artifact
    * @param artifactType the type of the sql artifacts to get
-   * @return sql artifacts
+   * @return sql artifacts (unmodifiable view, do not copy if not needed)
    */
   @SuppressWarnings("unchecked")
   public <T extends SqlArtifact> List<T> getArtifacts(Class<T> artifactType) {
-    List<T> objects = new ArrayList<T>();
-    for (SqlArtifact object : fSqlArtifact) {
-      if (artifactType.isAssignableFrom(object.getClass())) {
-        objects.add((T) object);
-      }
-    }
-    return objects;
+    return (List<T>) getIndex(artifactType).fView;
   }
 
   /**
@@ -61,14 +73,8 @@ public class SqlMeta {
    * @param objectType the typ eof the sql object to get
    * @return sql objects
    */
-  @SuppressWarnings("unchecked")
   public <T extends SqlObject> List<T> getSqlObjects(Class<T> objectType) {
-    List<T> objects = new ArrayList<T>();
-    for (SqlArtifact object : fSqlArtifact) {
-      if (objectType.isAssignableFrom(object.getClass())) {
-        objects.add((T) object);
-      }
-    }
+    List<T> objects = new ArrayList<T>(getArtifacts(objectType));
     Collections.sort(objects);
     return objects;
   }
@@ -99,12 +105,11 @@ public class SqlMeta {
    * @return sql object or null
    */
   private <T extends SqlObject> T findSqlObject(Class<T> clazz, String id) {
-    for (T sqlObject : getArtifacts(clazz)) {
-      if (sqlObject.getId().equals(id)) {
-        return sqlObject;
-      }
-    }
-    return null;
+    return clazz.cast(getIndex(clazz).fObjectsById.get(id));
+  }
+
+  private ArtifactIndex getIndex(Class<? extends SqlArtifact> artifactType) {
+    return fArtifactIndexes.computeIfAbsent(artifactType, type -> new ArtifactIndex(type, fSqlArtifact));
   }
 
   /**
@@ -112,45 +117,109 @@ public class SqlMeta {
    * @param metaDefinition the meta definition to merge to this one
    */
   public void merge(SqlMeta metaDefinition) {
-    fSqlArtifact.addAll(metaDefinition.fSqlArtifact);
+    for (SqlArtifact artifact : metaDefinition.fSqlArtifact) {
+      addArtifact(artifact);
+    }
   }
 
   /**
    * Returns all foreign keys referencing the given <code>column</code>
    * @param table
    * @param column
-   * @return empty list if not referenced
+   * @return empty list if not referenced. The list is in the order the
+   *         referencing tables and foreign keys are defined.
    */
   public List<Pair<SqlTable, SqlForeignKey>> getReferencingForeignKeys(SqlTable table,
           SqlTableColumn column) {
-    List<Pair<SqlTable, SqlForeignKey>> result = new ArrayList<Pair<SqlTable, SqlForeignKey>>();
-    for (SqlTable foreignTable : getArtifacts(SqlTable.class)) {
-      for (SqlForeignKey foreignKey : foreignTable.getForeignKeys()) {
-        SqlReference reference = foreignKey.getReference();
-        if (reference.getForeignTable().equals(table.getId()) &&
-                reference.getForeignColumn().equals(column.getId())) {
-          result.add(new ImmutablePair<SqlTable, SqlForeignKey>(foreignTable, foreignKey));
-        }
-      }
+    Map<String, List<Pair<SqlTable, SqlForeignKey>>> columns = getReferenceIndex().fByColumn
+            .get(table.getId());
+    if (columns == null) {
+      return Collections.emptyList();
     }
-    return result;
+    return columns.getOrDefault(column.getId(), Collections.emptyList());
   }
 
   /**
    * Returns all foreign keys referencing the given <code>table</code>
    * @param table
-   * @return empty list if not referenced
+   * @return empty list if not referenced. The list is in the order the
+   *         referencing tables and foreign keys are defined.
    */
   public List<Pair<SqlTable, SqlForeignKey>> getReferencingForeignKeys(SqlTable table) {
-    List<Pair<SqlTable, SqlForeignKey>> result = new ArrayList<Pair<SqlTable, SqlForeignKey>>();
-    for (SqlTable foreignTable : getArtifacts(SqlTable.class)) {
-      for (SqlForeignKey foreignKey : foreignTable.getForeignKeys()) {
-        SqlReference reference = foreignKey.getReference();
-        if (reference.getForeignTable().equals(table.getId())) {
-          result.add(new ImmutablePair<SqlTable, SqlForeignKey>(foreignTable, foreignKey));
+    return getReferenceIndex().fByTable.getOrDefault(table.getId(), Collections.emptyList());
+  }
+
+  private ReferenceIndex getReferenceIndex() {
+    ReferenceIndex index = fReferenceIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = fReferenceIndex;
+        if (index == null) {
+          index = new ReferenceIndex(getArtifacts(SqlTable.class));
+          fReferenceIndex = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * The artifacts of one type in definition order and the sql objects of this
+   * type by their id. If an id is defined more than once the first definition
+   * wins.
+   */
+  private static final class ArtifactIndex {
+
+    private final Class<?> fType;
+    private final List<SqlArtifact> fArtifacts = new ArrayList<>();
+    private final List<SqlArtifact> fView = Collections.unmodifiableList(fArtifacts);
+    private final Map<String, SqlObject> fObjectsById = new HashMap<>();
+
+    private ArtifactIndex(Class<?> type, List<SqlArtifact> artifacts) {
+      fType = type;
+      for (SqlArtifact artifact : artifacts) {
+        add(artifact);
+      }
+    }
+
+    private void add(SqlArtifact artifact) {
+      if (!fType.isInstance(artifact)) {
+        return;
+      }
+      fArtifacts.add(artifact);
+      if (artifact instanceof SqlObject) {
+        SqlObject object = (SqlObject) artifact;
+        fObjectsById.putIfAbsent(object.getId(), object);
+      }
+    }
+  }
+
+  /**
+   * Reverse index of the foreign keys. Maps the referenced table and column to
+   * the referencing tables and foreign keys.
+   */
+  private static final class ReferenceIndex {
+
+    private final Map<String, List<Pair<SqlTable, SqlForeignKey>>> fByTable = new HashMap<>();
+    private final Map<String, Map<String, List<Pair<SqlTable, SqlForeignKey>>>> fByColumn =
+            new HashMap<>();
+
+    private ReferenceIndex(List<SqlTable> tables) {
+      for (SqlTable foreignTable : tables) {
+        for (SqlForeignKey foreignKey : foreignTable.getForeignKeys()) {
+          SqlReference reference = foreignKey.getReference();
+          Pair<SqlTable, SqlForeignKey> referencing = new ImmutablePair<>(foreignTable, foreignKey);
+          fByTable.computeIfAbsent(reference.getForeignTable(), table -> new ArrayList<>())
+                  .add(referencing);
+          fByColumn.computeIfAbsent(reference.getForeignTable(), table -> new HashMap<>())
+                  .computeIfAbsent(reference.getForeignColumn(), column -> new ArrayList<>())
+                  .add(referencing);
         }
       }
+      fByTable.replaceAll((table, references) -> Collections.unmodifiableList(references));
+      for (Map<String, List<Pair<SqlTable, SqlForeignKey>>> columns : fByColumn.values()) {
+        columns.replaceAll((column, references) -> Collections.unmodifiableList(references));
+      }
     }
-    return result;
   }
 }
@@ -1,11 +1,15 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
 /**
  * SQL Null
  * @author rwei
  * @since 01.10.2009
  */
-public class SqlNull {
+public class SqlNull implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The sql null value */
   private static final SqlNull fInstance = new SqlNull();
@@ -25,6 +29,14 @@ public class SqlNull {
     return fInstance;
   }
 
+  /**
+   * Keeps the instance unique after deserialization
+   * @return instance
+   */
+  private Object readResolve() {
+    return fInstance;
+  }
+
   /**
    * @see java.lang.Object#toString()
    */
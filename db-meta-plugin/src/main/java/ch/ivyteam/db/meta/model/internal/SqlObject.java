@@ -12,6 +12,8 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  */
 public class SqlObject extends SqlArtifact implements Comparable<SqlObject> {
 
+  private static final long serialVersionUID = 1L;
+
   /** The id of the object */
   private String fId;
 
@@ -1,5 +1,8 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * SQL expression in parentheses. E.g. '(' + Expression + ')'
  * @author rwei
@@ -7,6 +10,8 @@ package ch.ivyteam.db.meta.model.internal;
  */
 public class SqlParent extends SqlSimpleExpr {
 
+  private static final long serialVersionUID = 1L;
+
   /** The expression in parentheses */
   private SqlSimpleExpr fExpression;
 
@@ -34,4 +39,32 @@ public class SqlParent extends SqlSimpleExpr {
   public String toString() {
     return "(" + fExpression.toString() + ")";
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fExpression).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlParent other = (SqlParent) obj;
+    return new EqualsBuilder()
+            .append(other.fExpression, fExpression).isEquals();
+  }
 }
@@ -10,6 +10,8 @@ import ch.ivyteam.db.meta.generator.internal.SqlScriptUtil;
  */
 public class SqlPrimaryKey extends SqlTableContentDefinition {
 
+  private static final long serialVersionUID = 1L;
+
   /** The columns that defined the primary key */
   private List<String> fPrimaryKeyColumns;
 
@@ -1,10 +1,14 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
 /**
  * A reference to a column in a table
  * @author rwei
  */
-public class SqlReference {
+public class SqlReference implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The name of the table this reference references */
   private String fForeignTable;
@@ -1,5 +1,6 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -9,7 +10,9 @@ import java.util.stream.Collectors;
  * @author rwei
  * @since 25.07.2012
  */
-public class SqlSelect {
+public class SqlSelect implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The select columns expressions */
   private List<SqlSelectExpression> expressions;
@@ -72,6 +75,17 @@ public class SqlSelect {
     return joinTables;
   }
 
+  /**
+   * @return the first table the select reads from or null if the select has
+   *         no table
+   */
+  public SqlTableId getFirstTable() {
+    if (joinTables == null || joinTables.isEmpty()) {
+      return null;
+    }
+    return joinTables.get(0).getTable();
+  }
+
   public Map<String, String> getTableAliases() {
     Map<String, String> aliases = joinTables
             .stream()
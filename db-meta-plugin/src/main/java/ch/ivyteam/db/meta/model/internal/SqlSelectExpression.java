@@ -8,6 +8,8 @@ import java.util.List;
  */
 public class SqlSelectExpression extends SqlArtifact {
 
+  private static final long serialVersionUID = 1L;
+
   /** The expression */
   private SqlAtom fExpression;
 
@@ -1,7 +1,12 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
 /**
  * @author rwei
  * @since 02.10.2009
  */
-public class SqlSimpleExpr {}
+public class SqlSimpleExpr implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+}
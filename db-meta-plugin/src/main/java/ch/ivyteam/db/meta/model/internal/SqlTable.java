@@ -1,7 +1,10 @@
 package ch.ivyteam.db.meta.model.internal;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * A SQL table definition
@@ -9,6 +12,8 @@ import java.util.List;
  */
 public class SqlTable extends SqlObject {
 
+  private static final long serialVersionUID = 1L;
+
   /** The column definitions */
   private List<SqlTableColumn> fColumns = new ArrayList<SqlTableColumn>();
   /** The primary key definition */
@@ -21,6 +26,18 @@ public class SqlTable extends SqlObject {
   private List<SqlIndex> fIndexes = new ArrayList<SqlIndex>();
   /** The trigger definitions */
   private List<SqlTrigger> fTriggers = new ArrayList<SqlTrigger>();
+  /** The column definitions by their case insensitive name */
+  private final Map<String, SqlTableColumn> fColumnsByName = new HashMap<>();
+  /** The foreign key definitions by their case insensitive name */
+  private final Map<String, SqlForeignKey> fForeignKeysByName = new HashMap<>();
+  /** The foreign key definitions by the case insensitive name of their column */
+  private final Map<String, SqlForeignKey> fForeignKeysByColumnName = new HashMap<>();
+  /** The unique constraint definitions by their case insensitive name */
+  private final Map<String, SqlUniqueConstraint> fUniqueConstraintsByName = new HashMap<>();
+  /** The index definitions by their case insensitive name */
+  private final Map<String, SqlIndex> fIndexesByName = new HashMap<>();
+  /** The trigger definitions by their case insensitive name */
+  private final Map<String, SqlTrigger> fTriggersByName = new HashMap<>();
 
   /**
    * Constructor
@@ -87,6 +104,14 @@ public class SqlTable extends SqlObject {
         }
       }
     }
+    index(fColumns, fColumnsByName);
+    index(fForeignKeys, fForeignKeysByName);
+    index(fUniqueConstraints, fUniqueConstraintsByName);
+    index(fIndexes, fIndexesByName);
+    index(fTriggers, fTriggersByName);
+    for (SqlForeignKey foreignKey : fForeignKeys) {
+      fForeignKeysByColumnName.putIfAbsent(key(foreignKey.getColumnName()), foreignKey);
+    }
     for (SqlIndex index : fIndexes) {
       checkColumnsExists(index.getColumns());
     }
@@ -101,6 +126,28 @@ public class SqlTable extends SqlObject {
     }
   }
 
+  /**
+   * Adds the given objects to the given map using their case insensitive name
+   * as key. If a name is used more than once the first object wins.
+   * @param objects the objects to index
+   * @param objectsByName the map to add the objects to
+   */
+  private static <T extends SqlTableContentDefinition> void index(List<T> objects,
+          Map<String, T> objectsByName) {
+    for (T object : objects) {
+      objectsByName.putIfAbsent(key(object.getId()), object);
+    }
+  }
+
+  /**
+   * SQL identifiers are case insensitive
+   * @param name name of a table content definition
+   * @return the key of the name
+   */
+  private static String key(String name) {
+    return name == null ? null : name.toLowerCase(Locale.ROOT);
+  }
+
   /**
    * Sets the table name on the statements of the given trigger
    * @param trigger the trigger
@@ -130,15 +177,13 @@ public class SqlTable extends SqlObject {
   }
 
   /**
-   * Checks if the given column exists
+   * Checks if a column with exactly the given name exists
    * @param columnName name of the column to check
    * @throws MetaException if column does not exists
    */
   private void checkColumnExists(String columnName) throws MetaException {
-    for (SqlTableColumn column : fColumns) {
-      if (column.getId().equals(columnName)) {
-        return;
-      }
+    if (findColumnCaseSensitive(columnName) != null) {
+      return;
     }
     throw new MetaException("Unknown column. Table '" + getId() + "' has no column '" + columnName + "'");
   }
@@ -254,59 +299,39 @@ public class SqlTable extends SqlObject {
   }
 
   /**
-   * Finds the foreign key with the given name
+   * Finds the foreign key with the given name. The name is case insensitive.
    * @param foreignKeyName the name of the foreign key
    * @return foreign key or null
    */
   public SqlForeignKey findForeignKey(String foreignKeyName) {
-    for (SqlForeignKey foreignKey : fForeignKeys) {
-      if (foreignKey.getId().equals(foreignKeyName)) {
-        return foreignKey;
-      }
-    }
-    return null;
+    return fForeignKeysByName.get(key(foreignKeyName));
   }
 
   /**
-   * Finds the index with the given name
+   * Finds the index with the given name. The name is case insensitive.
    * @param indexName the name of the index
    * @return index or null
    */
   public SqlIndex findIndex(String indexName) {
-    for (SqlIndex index : fIndexes) {
-      if (index.getId().equals(indexName)) {
-        return index;
-      }
-    }
-    return null;
+    return fIndexesByName.get(key(indexName));
   }
 
   /**
-   * Finds a unique constraint with the given name
+   * Finds a unique constraint with the given name. The name is case insensitive.
    * @param constraintName the name of the unique constraint
    * @return unique constraint or null
    */
   public SqlUniqueConstraint findUniqueConstraint(String constraintName) {
-    for (SqlUniqueConstraint uniqueConstraint : fUniqueConstraints) {
-      if (uniqueConstraint.getId().equals(constraintName)) {
-        return uniqueConstraint;
-      }
-    }
-    return null;
+    return fUniqueConstraintsByName.get(key(constraintName));
   }
 
   /**
-   * Finds a trigger with the given name
+   * Finds a trigger with the given name. The name is case insensitive.
    * @param triggerName the name of the trigger
    * @return trigger or null
    */
   public SqlTrigger findTrigger(String triggerName) {
-    for (SqlTrigger trigger : fTriggers) {
-      if (trigger.getId().equals(triggerName)) {
-        return trigger;
-      }
-    }
-    return null;
+    return fTriggersByName.get(key(triggerName));
   }
 
   /**
@@ -318,26 +343,36 @@ public class SqlTable extends SqlObject {
     if (column.getReference() == null) {
       return null;
     }
-    for (SqlForeignKey foreignKey : fForeignKeys) {
-      if (foreignKey.getColumnName().equals(column.getId())) {
-        return foreignKey;
+    return fForeignKeysByColumnName.get(key(column.getId()));
+  }
+
+  /**
+   * Finds the column with exactly the given column name. The name index is
+   * case insensitive and only finds the first of columns whose names differ in
+   * case, so the columns are scanned if it does not find an exact match.
+   * @param columnName the name of the column
+   * @return table column or null
+   */
+  public SqlTableColumn findColumnCaseSensitive(String columnName) {
+    SqlTableColumn column = findColumn(columnName);
+    if (column == null || column.getId().equals(columnName)) {
+      return column;
+    }
+    for (SqlTableColumn other : fColumns) {
+      if (other.getId().equals(columnName)) {
+        return other;
       }
     }
     return null;
   }
 
   /**
-   * Finds the column with the given column name
+   * Finds the column with the given column name. The name is case insensitive.
    * @param columnName the name of the column
    * @return table column or null
    */
   public SqlTableColumn findColumn(String columnName) {
-    for (SqlTableColumn column : fColumns) {
-      if (column.getId().equals(columnName)) {
-        return column;
-      }
-    }
-    return null;
+    return fColumnsByName.get(key(columnName));
   }
 
   /**
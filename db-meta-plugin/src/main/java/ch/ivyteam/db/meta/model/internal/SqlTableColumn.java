@@ -11,6 +11,8 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  */
 public class SqlTableColumn extends SqlTableContentDefinition {
 
+  private static final long serialVersionUID = 1L;
+
   /** The data tpye of the column */
   private SqlDataType fDataType;
   /** Flag indicating if the column can store null values */
@@ -9,6 +9,8 @@ import java.util.List;
  */
 public class SqlTableContentDefinition extends SqlObject {
 
+  private static final long serialVersionUID = 1L;
+
   /**
    * Constructor
    * @param id
@@ -1,6 +1,10 @@
 package ch.ivyteam.db.meta.model.internal;
 
-public class SqlTableId {
+import java.io.Serializable;
+
+public class SqlTableId implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private String name;
   private String alias;
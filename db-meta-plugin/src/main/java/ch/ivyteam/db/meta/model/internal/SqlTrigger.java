@@ -9,6 +9,8 @@ import java.util.List;
  */
 public class SqlTrigger extends SqlTableContentDefinition {
 
+  private static final long serialVersionUID = 1L;
+
   /** The statements to execute if the trigger is fired for each row */
   private List<SqlDmlStatement> fStatementsForEachRow;
   /** The statements to execute if the trigger is fired for each statement */
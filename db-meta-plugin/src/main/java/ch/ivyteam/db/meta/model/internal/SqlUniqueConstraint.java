@@ -10,6 +10,8 @@ import ch.ivyteam.db.meta.generator.internal.SqlScriptUtil;
  */
 public class SqlUniqueConstraint extends SqlTableContentDefinition {
 
+  private static final long serialVersionUID = 1L;
+
   /** The columns */
   private List<String> fColumns;
 
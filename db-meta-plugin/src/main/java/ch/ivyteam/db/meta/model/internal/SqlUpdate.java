@@ -2,6 +2,9 @@ package ch.ivyteam.db.meta.model.internal;
 
 import java.util.List;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 import ch.ivyteam.db.meta.generator.internal.SqlScriptUtil;
 
 /**
@@ -11,6 +14,8 @@ import ch.ivyteam.db.meta.generator.internal.SqlScriptUtil;
  */
 public class SqlUpdate extends SqlDmlStatement {
 
+  private static final long serialVersionUID = 1L;
+
   /** The name of the table to update */
   private String fTable;
   /** List with the columns and the expressions use in the SET clause */
@@ -88,4 +93,36 @@ public class SqlUpdate extends SqlDmlStatement {
     assert table != null : "Parameter table must not be null";
     fTable = table;
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fTable)
+            .append(fColumnExpressions)
+            .append(fFilterExpression).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlUpdate other = (SqlUpdate) obj;
+    return new EqualsBuilder()
+            .append(other.fTable, fTable)
+            .append(other.fColumnExpressions, fColumnExpressions)
+            .append(other.fFilterExpression, fFilterExpression).isEquals();
+  }
 }
@@ -1,11 +1,18 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * Column Update expression like columnname = expr
  * @author rwei
  * @since 12.10.2009
  */
-public class SqlUpdateColumnExpression {
+public class SqlUpdateColumnExpression implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** The name of the column to update */
   private String fColumnName;
@@ -47,4 +54,34 @@ public class SqlUpdateColumnExpression {
   public String toString() {
     return fColumnName + "=" + fExpression;
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fColumnName)
+            .append(fExpression).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlUpdateColumnExpression other = (SqlUpdateColumnExpression) obj;
+    return new EqualsBuilder()
+            .append(other.fColumnName, fColumnName)
+            .append(other.fExpression, fExpression).isEquals();
+  }
 }
@@ -14,6 +14,8 @@ import java.util.Set;
  */
 public class SqlView extends SqlObject {
 
+  private static final long serialVersionUID = 1L;
+
   /** column definition of the view */
   private List<SqlViewColumn> fColumns;
   /**
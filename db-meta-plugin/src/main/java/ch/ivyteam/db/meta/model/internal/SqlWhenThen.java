@@ -1,11 +1,18 @@
 package ch.ivyteam.db.meta.model.internal;
 
+import java.io.Serializable;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * expression WHEN ... THEN ...
  * @author rwei
  * @since 02.10.2009
  */
-public class SqlWhenThen {
+public class SqlWhenThen implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /** Literal to test in the WHEN part */
   private Object fLiteral;
@@ -52,4 +59,34 @@ public class SqlWhenThen {
     builder.append(fColumnName);
     return builder.toString();
   }
+
+  /**
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+            .append(fLiteral)
+            .append(fColumnName).toHashCode();
+  }
+
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    SqlWhenThen other = (SqlWhenThen) obj;
+    return new EqualsBuilder()
+            .append(other.fLiteral, fLiteral)
+            .append(other.fColumnName, fColumnName).isEquals();
+  }
 }
@@ -0,0 +1,45 @@
+package ch.ivyteam.db.meta.parser.internal;
+
+import ch.ivyteam.db.meta.model.internal.SqlInsert;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.model.internal.SqlUpdate;
+import ch.ivyteam.db.meta.model.internal.SqlView;
+
+/**
+ * Listener that is informed by the {@link Parser} about every artifact as soon
+ * as it has been parsed. This allows to process artifacts that only need local
+ * information while the rest of the file is still being parsed. Artifacts are
+ * reported in the order they appear in the meta definition file.
+ * @see Parser#setArtifactListener(IArtifactListener)
+ * @see Parser#setRetainArtifacts(boolean)
+ */
+public interface IArtifactListener {
+
+  /**
+   * Called after a table has been parsed
+   * @param table the parsed table
+   * @throws Exception if the table cannot be processed. Parsing is aborted.
+   */
+  default void onTable(SqlTable table) throws Exception {}
+
+  /**
+   * Called after a view has been parsed
+   * @param view the parsed view
+   * @throws Exception if the view cannot be processed. Parsing is aborted.
+   */
+  default void onView(SqlView view) throws Exception {}
+
+  /**
+   * Called after an insert has been parsed
+   * @param insert the parsed insert
+   * @throws Exception if the insert cannot be processed. Parsing is aborted.
+   */
+  default void onInsert(SqlInsert insert) throws Exception {}
+
+  /**
+   * Called after an update has been parsed
+   * @param update the parsed update
+   * @throws Exception if the update cannot be processed. Parsing is aborted.
+   */
+  default void onUpdate(SqlUpdate update) throws Exception {}
+}
@@ -76,51 +76,51 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** Production table. */
   protected static final short _production_table[][] = 
     unpackFromStrings(new String[] {
-    "\000\220\000\002\002\004\000\002\002\003\000\002\002" +
+    "\000\221\000\002\002\004\000\002\002\003\000\002\002" +
     "\004\000\002\003\003\000\002\003\003\000\002\003\003" +
-    "\000\002\005\015\000\002\045\003\000\002\045\006\000" +
-    "\002\046\007\000\002\043\003\000\002\043\005\000\002" +
-    "\044\005\000\002\047\003\000\002\047\005\000\002\050" +
-    "\005\000\002\051\003\000\002\051\005\000\002\051\010" +
-    "\000\002\051\010\000\002\051\011\000\002\051\010\000" +
-    "\002\051\011\000\002\051\010\000\002\051\011\000\002" +
-    "\052\003\000\002\052\004\000\002\052\005\000\002\053" +
-    "\003\000\002\053\005\000\002\054\003\000\002\054\005" +
-    "\000\002\055\003\000\002\055\004\000\002\055\005\000" +
-    "\002\056\005\000\002\056\005\000\002\056\005\000\002" +
+    "\000\002\003\003\000\002\005\015\000\002\045\003\000" +
+    "\002\045\006\000\002\046\007\000\002\043\003\000\002" +
+    "\043\005\000\002\044\005\000\002\047\003\000\002\047" +
+    "\005\000\002\050\005\000\002\051\003\000\002\051\005" +
+    "\000\002\051\010\000\002\051\010\000\002\051\011\000" +
+    "\002\051\010\000\002\051\011\000\002\051\010\000\002" +
+    "\051\011\000\002\052\003\000\002\052\004\000\002\052" +
+    "\005\000\002\053\003\000\002\053\005\000\002\054\003" +
+    "\000\002\054\005\000\002\055\003\000\002\055\004\000" +
+    "\002\055\005\000\002\056\005\000\002\056\005\000\002" +
     "\056\005\000\002\056\005\000\002\056\005\000\002\056" +
-    "\005\000\002\056\006\000\002\057\003\000\002\057\003" +
+    "\005\000\002\056\005\000\002\056\006\000\002\057\003" +
     "\000\002\057\003\000\002\057\003\000\002\057\003\000" +
-    "\002\060\003\000\002\060\005\000\002\061\006\000\002" +
-    "\062\003\000\002\062\004\000\002\063\006\000\002\064" +
-    "\006\000\002\065\003\000\002\065\004\000\002\066\006" +
-    "\000\002\067\002\000\002\067\004\000\002\004\013\000" +
-    "\002\011\003\000\002\011\005\000\002\012\003\000\002" +
+    "\002\057\003\000\002\060\003\000\002\060\005\000\002" +
+    "\061\006\000\002\062\003\000\002\062\004\000\002\063" +
+    "\006\000\002\064\006\000\002\065\003\000\002\065\004" +
+    "\000\002\066\006\000\002\067\002\000\002\067\004\000" +
+    "\002\004\013\000\002\011\003\000\002\011\005\000\002" +
     "\012\003\000\002\012\003\000\002\012\003\000\002\012" +
-    "\003\000\002\012\003\000\002\070\031\000\002\071\003" +
-    "\000\002\071\004\000\002\072\003\000\002\072\003\000" +
-    "\002\013\011\000\002\033\002\000\002\033\003\000\002" +
-    "\034\003\000\002\034\004\000\002\035\010\000\002\036" +
-    "\003\000\002\036\005\000\002\037\004\000\002\040\002" +
-    "\000\002\040\004\000\002\025\002\000\002\025\003\000" +
-    "\002\025\004\000\002\026\002\000\002\026\004\000\002" +
-    "\027\003\000\002\027\003\000\002\027\003\000\002\027" +
-    "\003\000\002\027\003\000\002\030\002\000\002\030\003" +
-    "\000\002\014\011\000\002\032\003\000\002\032\005\000" +
-    "\002\015\012\000\002\031\010\000\002\016\002\000\002" +
-    "\016\003\000\002\017\005\000\002\017\006\000\002\017" +
-    "\006\000\002\020\011\000\002\042\002\000\002\042\003" +
-    "\000\002\021\011\000\002\022\002\000\002\022\003\000" +
-    "\002\023\003\000\002\023\004\000\002\024\003\000\002" +
-    "\024\003\000\002\024\006\000\002\024\003\000\002\024" +
+    "\003\000\002\012\003\000\002\012\003\000\002\070\031" +
+    "\000\002\071\003\000\002\071\004\000\002\072\003\000" +
+    "\002\072\003\000\002\013\011\000\002\033\002\000\002" +
+    "\033\003\000\002\034\003\000\002\034\004\000\002\035" +
+    "\010\000\002\036\003\000\002\036\005\000\002\037\004" +
+    "\000\002\040\002\000\002\040\004\000\002\025\002\000" +
+    "\002\025\003\000\002\025\004\000\002\026\002\000\002" +
+    "\026\004\000\002\027\003\000\002\027\003\000\002\027" +
+    "\003\000\002\027\003\000\002\027\003\000\002\030\002" +
+    "\000\002\030\003\000\002\014\011\000\002\032\003\000" +
+    "\002\032\005\000\002\015\012\000\002\031\010\000\002" +
+    "\016\002\000\002\016\003\000\002\017\005\000\002\017" +
+    "\006\000\002\017\006\000\002\020\011\000\002\042\002" +
+    "\000\002\042\003\000\002\021\011\000\002\022\002\000" +
+    "\002\022\003\000\002\023\003\000\002\023\004\000\002" +
+    "\024\003\000\002\024\003\000\002\024\006\000\002\024" +
     "\003\000\002\024\003\000\002\024\003\000\002\024\003" +
-    "\000\002\024\003\000\002\024\006\000\002\024\006\000" +
-    "\002\024\010\000\002\024\003\000\002\006\003\000\002" +
-    "\006\003\000\002\007\016\000\002\010\013\000\002\073" +
-    "\011\000\002\074\003\000\002\074\005\000\002\075\005" +
-    "\000\002\076\002\000\002\076\004\000\002\041\003\000" +
-    "\002\041\005\000\002\077\006\000\002\100\002\000\002" +
-    "\100\003\000\002\100\005" });
+    "\000\002\024\003\000\002\024\003\000\002\024\006\000" +
+    "\002\024\006\000\002\024\010\000\002\024\003\000\002" +
+    "\006\003\000\002\006\003\000\002\007\016\000\002\010" +
+    "\014\000\002\073\012\000\002\074\003\000\002\074\005" +
+    "\000\002\075\005\000\002\076\002\000\002\076\004\000" +
+    "\002\041\003\000\002\041\005\000\002\077\006\000\002" +
+    "\100\002\000\002\100\003\000\002\100\005" });
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
@@ -128,351 +128,356 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** Parse-action table. */
   protected static final short[][] _action_table = 
     unpackFromStrings(new String[] {
-    "\000\u0149\000\010\004\uff92\005\uff92\123\015\001\002\000" +
-    "\012\002\ufffc\004\ufffc\005\ufffc\123\ufffc\001\002\000\016" +
-    "\002\uff81\004\uff81\005\uff81\006\uff81\103\uff81\123\uff81\001" +
-    "\002\000\012\002\ufffd\004\ufffd\005\ufffd\123\ufffd\001\002" +
-    "\000\016\002\uff80\004\uff80\005\uff80\006\uff80\103\uff80\123" +
-    "\uff80\001\002\000\006\004\021\005\022\001\002\000\042" +
-    "\004\uff91\005\uff91\006\uff91\030\uff91\031\uff91\033\uff91\034" +
-    "\uff91\043\uff91\077\uff91\106\uff91\116\uff91\117\uff91\120\uff91" +
-    "\121\uff91\122\uff91\123\020\001\002\000\012\002\016\004" +
-    "\uff92\005\uff92\123\015\001\002\000\012\002\000\004\000" +
-    "\005\000\123\000\001\002\000\012\002\ufffe\004\ufffe\005" +
-    "\ufffe\123\ufffe\001\002\000\042\004\uff90\005\uff90\006\uff90" +
-    "\030\uff90\031\uff90\033\uff90\034\uff90\043\uff90\077\uff90\106" +
-    "\uff90\116\uff90\117\uff90\120\uff90\121\uff90\122\uff90\123\uff90" +
-    "\001\002\000\004\002\001\001\002\000\012\002\uffff\004" +
-    "\uffff\005\uffff\123\uffff\001\002\000\042\004\uff8f\005\uff8f" +
+    "\000\u014c\000\012\004\uff91\005\uff91\006\uff91\123\016\001" +
+    "\002\000\014\002\ufffc\004\ufffc\005\ufffc\006\ufffc\123\ufffc" +
+    "\001\002\000\016\002\uff80\004\uff80\005\uff80\006\uff80\103" +
+    "\uff80\123\uff80\001\002\000\014\002\ufffd\004\ufffd\005\ufffd" +
+    "\006\ufffd\123\ufffd\001\002\000\016\002\uff7f\004\uff7f\005" +
+    "\uff7f\006\uff7f\103\uff7f\123\uff7f\001\002\000\010\004\022" +
+    "\005\023\006\024\001\002\000\014\002\020\004\uff91\005" +
+    "\uff91\006\uff91\123\016\001\002\000\042\004\uff90\005\uff90" +
+    "\006\uff90\030\uff90\031\uff90\033\uff90\034\uff90\043\uff90\077" +
+    "\uff90\106\uff90\116\uff90\117\uff90\120\uff90\121\uff90\122\uff90" +
+    "\123\017\001\002\000\014\002\ufffb\004\ufffb\005\ufffb\006" +
+    "\ufffb\123\ufffb\001\002\000\014\002\000\004\000\005\000" +
+    "\006\000\123\000\001\002\000\014\002\ufffe\004\ufffe\005" +
+    "\ufffe\006\ufffe\123\ufffe\001\002\000\042\004\uff8f\005\uff8f" +
     "\006\uff8f\030\uff8f\031\uff8f\033\uff8f\034\uff8f\043\uff8f\077" +
     "\uff8f\106\uff8f\116\uff8f\117\uff8f\120\uff8f\121\uff8f\122\uff8f" +
-    "\123\uff8f\001\002\000\006\007\262\010\263\001\002\000" +
-    "\004\011\023\001\002\000\004\122\024\001\002\000\004" +
-    "\111\025\001\002\000\004\122\026\001\002\000\006\112" +
-    "\uff9f\114\uff9f\001\002\000\006\112\031\114\030\001\002" +
-    "\000\004\122\261\001\002\000\006\012\032\053\034\001" +
-    "\002\000\004\111\252\001\002\000\004\113\251\001\002" +
-    "\000\022\077\uff92\106\uff92\116\uff92\117\uff92\120\uff92\121" +
-    "\uff92\122\uff92\123\015\001\002\000\020\077\100\106\103" +
-    "\116\076\117\101\120\077\121\066\122\073\001\002\000" +
-    "\006\054\ufff4\114\ufff4\001\002\000\006\054\041\114\040" +
-    "\001\002\000\022\077\uff92\106\uff92\116\uff92\117\uff92\120" +
-    "\uff92\121\uff92\122\uff92\123\015\001\002\000\004\122\044" +
-    "\001\002\000\024\055\054\056\uff79\061\051\063\052\064" +
-    "\055\065\056\104\uff79\113\uff79\114\050\001\002\000\024" +
-    "\055\ufff1\056\ufff1\061\ufff1\063\ufff1\064\ufff1\065\ufff1\104" +
-    "\ufff1\113\ufff1\114\ufff1\001\002\000\032\036\uffe8\052\045" +
-    "\055\uffe8\056\uffe8\061\uffe8\063\uffe8\064\uffe8\065\uffe8\104" +
-    "\uffe8\113\uffe8\114\uffe8\122\046\001\002\000\004\122\047" +
-    "\001\002\000\026\036\uffe7\055\uffe7\056\uffe7\061\uffe7\063" +
-    "\uffe7\064\uffe7\065\uffe7\104\uffe7\113\uffe7\114\uffe7\001\002" +
-    "\000\026\036\uffe6\055\uffe6\056\uffe6\061\uffe6\063\uffe6\064" +
-    "\uffe6\065\uffe6\104\uffe6\113\uffe6\114\uffe6\001\002\000\004" +
-    "\122\044\001\002\000\004\060\221\001\002\000\006\060" +
-    "\210\062\211\001\002\000\010\056\ufff8\104\ufff8\113\ufff8" +
-    "\001\002\000\024\077\100\106\103\107\072\111\070\116" +
-    "\076\117\101\120\077\121\066\122\073\001\002\000\006" +
-    "\060\176\062\177\001\002\000\006\060\057\062\060\001" +
-    "\002\000\004\122\044\001\002\000\004\060\061\001\002" +
-    "\000\004\122\044\001\002\000\004\036\063\001\002\000" +
-    "\024\077\100\106\103\107\072\111\070\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\034\055\uffe3\056" +
-    "\uffe3\061\uffe3\063\uffe3\064\uffe3\065\uffe3\066\uffe3\067\uffe3" +
-    "\101\uffe3\104\uffe3\112\uffe3\113\uffe3\114\uffe3\001\002\000" +
-    "\034\055\uffe5\056\uffe5\061\uffe5\063\uffe5\064\uffe5\065\uffe5" +
-    "\066\122\067\uffe5\101\uffe5\104\uffe5\112\uffe5\113\uffe5\114" +
-    "\uffe5\001\002\000\064\035\uffa4\054\uffa4\055\uffa4\056\uffa4" +
-    "\061\uffa4\063\uffa4\064\uffa4\065\uffa4\066\uffa4\067\uffa4\070" +
-    "\uffa4\071\uffa4\072\uffa4\073\uffa4\074\uffa4\075\uffa4\076\uffa4" +
-    "\100\uffa4\101\uffa4\102\uffa4\103\uffa4\104\uffa4\112\uffa4\113" +
-    "\uffa4\114\uffa4\001\002\000\062\054\uffd6\055\uffd6\056\uffd6" +
-    "\061\uffd6\063\uffd6\064\uffd6\065\uffd6\066\uffd6\067\uffd6\070" +
-    "\uffd6\071\uffd6\072\uffd6\073\uffd6\074\uffd6\075\uffd6\076\uffd6" +
-    "\100\uffd6\101\uffd6\102\uffd6\103\uffd6\104\uffd6\112\uffd6\113" +
-    "\uffd6\114\uffd6\001\002\000\024\077\100\106\103\107\072" +
-    "\111\070\116\076\117\101\120\077\121\066\122\073\001" +
-    "\002\000\026\055\uffe9\056\uffe9\061\uffe9\063\uffe9\064\uffe9" +
-    "\065\uffe9\067\120\104\uffe9\113\uffe9\114\uffe9\001\002\000" +
-    "\024\077\100\106\103\107\072\111\070\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\066\054\uffd1\055" +
-    "\uffd1\056\uffd1\061\uffd1\063\uffd1\064\uffd1\065\uffd1\066\uffd1" +
-    "\067\uffd1\070\uffd1\071\uffd1\072\uffd1\073\uffd1\074\uffd1\075" +
-    "\uffd1\076\uffd1\100\uffd1\101\uffd1\102\uffd1\103\uffd1\104\uffd1" +
-    "\111\162\112\uffd1\113\uffd1\114\uffd1\115\114\001\002\000" +
-    "\062\054\uffd2\055\uffd2\056\uffd2\061\uffd2\063\uffd2\064\uffd2" +
-    "\065\uffd2\066\uffd2\067\uffd2\070\uffd2\071\uffd2\072\uffd2\073" +
-    "\uffd2\074\uffd2\075\uffd2\076\uffd2\100\uffd2\101\uffd2\102\uffd2" +
-    "\103\uffd2\104\uffd2\112\uffd2\113\uffd2\114\uffd2\001\002\000" +
-    "\020\070\145\071\142\072\147\073\150\074\143\075\144" +
-    "\076\146\001\002\000\064\035\uffa7\054\uffa7\055\uffa7\056" +
-    "\uffa7\061\uffa7\063\uffa7\064\uffa7\065\uffa7\066\uffa7\067\uffa7" +
-    "\070\uffa7\071\uffa7\072\uffa7\073\uffa7\074\uffa7\075\uffa7\076" +
-    "\uffa7\100\uffa7\101\uffa7\102\uffa7\103\uffa7\104\uffa7\112\uffa7" +
-    "\113\uffa7\114\uffa7\001\002\000\064\035\uffa5\054\uffa5\055" +
-    "\uffa5\056\uffa5\061\uffa5\063\uffa5\064\uffa5\065\uffa5\066\uffa5" +
-    "\067\uffa5\070\uffa5\071\uffa5\072\uffa5\073\uffa5\074\uffa5\075" +
-    "\uffa5\076\uffa5\100\uffa5\101\uffa5\102\uffa5\103\uffa5\104\uffa5" +
-    "\112\uffa5\113\uffa5\114\uffa5\001\002\000\006\100\112\122" +
-    "\113\001\002\000\064\035\uffa6\054\uffa6\055\uffa6\056\uffa6" +
-    "\061\uffa6\063\uffa6\064\uffa6\065\uffa6\066\uffa6\067\uffa6\070" +
-    "\uffa6\071\uffa6\072\uffa6\073\uffa6\074\uffa6\075\uffa6\076\uffa6" +
-    "\100\uffa6\101\uffa6\102\uffa6\103\uffa6\104\uffa6\112\uffa6\113" +
-    "\uffa6\114\uffa6\001\002\000\062\054\uffd3\055\uffd3\056\uffd3" +
-    "\061\uffd3\063\uffd3\064\uffd3\065\uffd3\066\uffd3\067\uffd3\070" +
-    "\uffd3\071\uffd3\072\uffd3\073\uffd3\074\uffd3\075\uffd3\076\uffd3" +
-    "\100\uffd3\101\uffd3\102\uffd3\103\uffd3\104\uffd3\112\uffd3\113" +
-    "\uffd3\114\uffd3\001\002\000\064\035\uffa3\054\uffa3\055\uffa3" +
-    "\056\uffa3\061\uffa3\063\uffa3\064\uffa3\065\uffa3\066\uffa3\067" +
-    "\uffa3\070\uffa3\071\uffa3\072\uffa3\073\uffa3\074\uffa3\075\uffa3" +
-    "\076\uffa3\100\uffa3\101\uffa3\102\uffa3\103\uffa3\104\uffa3\112" +
-    "\uffa3\113\uffa3\114\uffa3\001\002\000\062\054\uffd4\055\uffd4" +
-    "\056\uffd4\061\uffd4\063\uffd4\064\uffd4\065\uffd4\066\uffd4\067" +
-    "\uffd4\070\uffd4\071\uffd4\072\uffd4\073\uffd4\074\uffd4\075\uffd4" +
-    "\076\uffd4\100\uffd4\101\uffd4\102\uffd4\103\uffd4\104\uffd4\112" +
-    "\uffd4\113\uffd4\114\uffd4\001\002\000\062\054\uffd5\055\uffd5" +
-    "\056\uffd5\061\uffd5\063\uffd5\064\uffd5\065\uffd5\066\uffd5\067" +
-    "\uffd5\070\uffd5\071\uffd5\072\uffd5\073\uffd5\074\uffd5\075\uffd5" +
-    "\076\uffd5\100\uffd5\101\uffd5\102\uffd5\103\uffd5\104\uffd5\112" +
-    "\uffd5\113\uffd5\114\uffd5\001\002\000\034\055\uffe1\056\uffe1" +
-    "\061\uffe1\063\uffe1\064\uffe1\065\uffe1\066\uffe1\067\uffe1\101" +
-    "\uffe1\104\uffe1\112\uffe1\113\uffe1\114\uffe1\001\002\000\010" +
-    "\100\uffca\102\uffca\103\uffca\001\002\000\004\100\133\001" +
-    "\002\000\010\100\112\102\126\103\uffc7\001\002\000\024" +
-    "\077\100\106\103\107\072\111\070\116\076\117\101\120" +
-    "\077\121\066\122\073\001\002\000\010\100\uffd1\103\uffd1" +
-    "\115\114\001\002\000\004\122\115\001\002\000\062\054" +
+    "\123\uff8f\001\002\000\042\004\uff8e\005\uff8e\006\uff8e\030" +
+    "\uff8e\031\uff8e\033\uff8e\034\uff8e\043\uff8e\077\uff8e\106\uff8e" +
+    "\116\uff8e\117\uff8e\120\uff8e\121\uff8e\122\uff8e\123\uff8e\001" +
+    "\002\000\004\002\001\001\002\000\014\002\uffff\004\uffff" +
+    "\005\uffff\006\uffff\123\uffff\001\002\000\006\007\302\010" +
+    "\303\001\002\000\004\011\172\001\002\000\006\040\uff94" +
+    "\122\025\001\002\000\010\040\uff93\044\uff93\111\uff93\001" +
+    "\002\000\004\040\027\001\002\000\004\122\030\001\002" +
+    "\000\004\070\170\001\002\000\012\055\034\104\uff78\113" +
+    "\uff78\114\033\001\002\000\012\055\uff7b\104\uff7b\113\uff7b" +
+    "\114\uff7b\001\002\000\004\122\030\001\002\000\024\077" +
+    "\074\106\077\107\066\111\063\116\072\117\075\120\073" +
+    "\121\062\122\067\001\002\000\006\104\040\113\uffb5\001" +
+    "\002\000\014\054\uffb4\104\040\112\uffb4\113\uffb4\114\uffb4" +
+    "\001\002\000\004\113\056\001\002\000\004\122\042\001" +
+    "\002\000\014\054\uffb3\104\uffb3\112\uffb3\113\uffb3\114\uffb3" +
+    "\001\002\000\004\105\043\001\002\000\004\111\044\001" +
+    "\002\000\004\122\046\001\002\000\006\112\uffb0\114\uffb0" +
+    "\001\002\000\010\070\053\112\uffad\114\uffad\001\002\000" +
+    "\006\112\051\114\050\001\002\000\004\122\046\001\002" +
+    "\000\014\054\uffb1\104\uffb1\112\uffb1\113\uffb1\114\uffb1\001" +
+    "\002\000\006\112\uffaf\114\uffaf\001\002\000\004\116\055" +
+    "\001\002\000\006\112\uffae\114\uffae\001\002\000\006\112" +
+    "\uffac\114\uffac\001\002\000\016\002\uff7c\004\uff7c\005\uff7c" +
+    "\006\uff7c\103\uff7c\123\uff7c\001\002\000\014\054\uffb2\104" +
+    "\uffb2\112\uffb2\113\uffb2\114\uffb2\001\002\000\034\055\uffe2" +
+    "\056\uffe2\061\uffe2\063\uffe2\064\uffe2\065\uffe2\066\uffe2\067" +
+    "\uffe2\101\uffe2\104\uffe2\112\uffe2\113\uffe2\114\uffe2\001\002" +
+    "\000\034\055\uffe4\056\uffe4\061\uffe4\063\uffe4\064\uffe4\065" +
+    "\uffe4\066\123\067\uffe4\101\uffe4\104\uffe4\112\uffe4\113\uffe4" +
+    "\114\uffe4\001\002\000\064\035\uffa3\054\uffa3\055\uffa3\056" +
+    "\uffa3\061\uffa3\063\uffa3\064\uffa3\065\uffa3\066\uffa3\067\uffa3" +
+    "\070\uffa3\071\uffa3\072\uffa3\073\uffa3\074\uffa3\075\uffa3\076" +
+    "\uffa3\100\uffa3\101\uffa3\102\uffa3\103\uffa3\104\uffa3\112\uffa3" +
+    "\113\uffa3\114\uffa3\001\002\000\024\077\074\106\077\107" +
+    "\066\111\063\116\072\117\075\120\073\121\062\122\067" +
+    "\001\002\000\062\054\uffd5\055\uffd5\056\uffd5\061\uffd5\063" +
+    "\uffd5\064\uffd5\065\uffd5\066\uffd5\067\uffd5\070\uffd5\071\uffd5" +
+    "\072\uffd5\073\uffd5\074\uffd5\075\uffd5\076\uffd5\100\uffd5\101" +
+    "\uffd5\102\uffd5\103\uffd5\104\uffd5\112\uffd5\113\uffd5\114\uffd5" +
+    "\001\002\000\012\056\uff77\067\121\104\uff77\113\uff77\001" +
+    "\002\000\024\077\074\106\077\107\066\111\063\116\072" +
+    "\117\075\120\073\121\062\122\067\001\002\000\066\054" +
     "\uffd0\055\uffd0\056\uffd0\061\uffd0\063\uffd0\064\uffd0\065\uffd0" +
     "\066\uffd0\067\uffd0\070\uffd0\071\uffd0\072\uffd0\073\uffd0\074" +
     "\uffd0\075\uffd0\076\uffd0\100\uffd0\101\uffd0\102\uffd0\103\uffd0" +
-    "\104\uffd0\112\uffd0\113\uffd0\114\uffd0\001\002\000\006\067" +
-    "\120\101\117\001\002\000\020\077\100\106\103\116\076" +
-    "\117\101\120\077\121\066\122\073\001\002\000\024\077" +
-    "\100\106\103\107\072\111\070\116\076\117\101\120\077" +
-    "\121\066\122\073\001\002\000\034\055\uffe4\056\uffe4\061" +
-    "\uffe4\063\uffe4\064\uffe4\065\uffe4\066\122\067\uffe4\101\uffe4" +
-    "\104\uffe4\112\uffe4\113\uffe4\114\uffe4\001\002\000\024\077" +
-    "\100\106\103\107\072\111\070\116\076\117\101\120\077" +
-    "\121\066\122\073\001\002\000\034\055\uffe2\056\uffe2\061" +
-    "\uffe2\063\uffe2\064\uffe2\065\uffe2\066\uffe2\067\uffe2\101\uffe2" +
-    "\104\uffe2\112\uffe2\113\uffe2\114\uffe2\001\002\000\010\100" +
-    "\uffc8\102\uffc8\103\uffc8\001\002\000\010\100\uffc9\102\uffc9" +
-    "\103\uffc9\001\002\000\020\077\100\106\103\116\076\117" +
-    "\101\120\077\121\066\122\073\001\002\000\004\103\130" +
-    "\001\002\000\062\054\uffcb\055\uffcb\056\uffcb\061\uffcb\063" +
-    "\uffcb\064\uffcb\065\uffcb\066\uffcb\067\uffcb\070\uffcb\071\uffcb" +
-    "\072\uffcb\073\uffcb\074\uffcb\075\uffcb\076\uffcb\100\uffcb\101" +
-    "\uffcb\102\uffcb\103\uffcb\104\uffcb\112\uffcb\113\uffcb\114\uffcb" +
-    "\001\002\000\004\103\uffc6\001\002\000\006\100\uffce\103" +
-    "\uffce\001\002\000\014\106\103\116\076\117\101\120\077" +
-    "\121\066\001\002\000\006\100\133\103\136\001\002\000" +
-    "\006\100\uffcd\103\uffcd\001\002\000\062\054\uffcf\055\uffcf" +
-    "\056\uffcf\061\uffcf\063\uffcf\064\uffcf\065\uffcf\066\uffcf\067" +
-    "\uffcf\070\uffcf\071\uffcf\072\uffcf\073\uffcf\074\uffcf\075\uffcf" +
-    "\076\uffcf\100\uffcf\101\uffcf\102\uffcf\103\uffcf\104\uffcf\112" +
-    "\uffcf\113\uffcf\114\uffcf\001\002\000\004\101\140\001\002" +
-    "\000\004\122\113\001\002\000\006\100\uffcc\103\uffcc\001" +
-    "\002\000\020\077\100\106\103\116\076\117\101\120\077" +
-    "\121\066\122\073\001\002\000\020\077\100\106\103\116" +
-    "\076\117\101\120\077\121\066\122\073\001\002\000\020" +
-    "\077\100\106\103\116\076\117\101\120\077\121\066\122" +
-    "\073\001\002\000\020\077\100\106\103\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\006\106\154\107" +
-    "\153\001\002\000\020\077\100\106\103\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\020\077\100\106" +
-    "\103\116\076\117\101\120\077\121\066\122\073\001\002" +
-    "\000\034\055\uffdb\056\uffdb\061\uffdb\063\uffdb\064\uffdb\065" +
-    "\uffdb\066\uffdb\067\uffdb\101\uffdb\104\uffdb\112\uffdb\113\uffdb" +
-    "\114\uffdb\001\002\000\034\055\uffdc\056\uffdc\061\uffdc\063" +
-    "\uffdc\064\uffdc\065\uffdc\066\uffdc\067\uffdc\101\uffdc\104\uffdc" +
-    "\112\uffdc\113\uffdc\114\uffdc\001\002\000\004\106\155\001" +
-    "\002\000\034\055\uffd8\056\uffd8\061\uffd8\063\uffd8\064\uffd8" +
-    "\065\uffd8\066\uffd8\067\uffd8\101\uffd8\104\uffd8\112\uffd8\113" +
-    "\uffd8\114\uffd8\001\002\000\034\055\uffd7\056\uffd7\061\uffd7" +
-    "\063\uffd7\064\uffd7\065\uffd7\066\uffd7\067\uffd7\101\uffd7\104" +
-    "\uffd7\112\uffd7\113\uffd7\114\uffd7\001\002\000\034\055\uffde" +
-    "\056\uffde\061\uffde\063\uffde\064\uffde\065\uffde\066\uffde\067" +
-    "\uffde\101\uffde\104\uffde\112\uffde\113\uffde\114\uffde\001\002" +
-    "\000\034\055\uffd9\056\uffd9\061\uffd9\063\uffd9\064\uffd9\065" +
-    "\uffd9\066\uffd9\067\uffd9\101\uffd9\104\uffd9\112\uffd9\113\uffd9" +
-    "\114\uffd9\001\002\000\034\055\uffda\056\uffda\061\uffda\063" +
-    "\uffda\064\uffda\065\uffda\066\uffda\067\uffda\101\uffda\104\uffda" +
-    "\112\uffda\113\uffda\114\uffda\001\002\000\034\055\uffdd\056" +
-    "\uffdd\061\uffdd\063\uffdd\064\uffdd\065\uffdd\066\uffdd\067\uffdd" +
-    "\101\uffdd\104\uffdd\112\uffdd\113\uffdd\114\uffdd\001\002\000" +
-    "\024\077\100\106\103\112\uff74\114\uff74\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\006\112\166\114" +
-    "\165\001\002\000\006\112\uff73\114\uff73\001\002\000\020" +
-    "\077\100\106\103\116\076\117\101\120\077\121\066\122" +
-    "\073\001\002\000\062\054\uff75\055\uff75\056\uff75\061\uff75" +
-    "\063\uff75\064\uff75\065\uff75\066\uff75\067\uff75\070\uff75\071" +
-    "\uff75\072\uff75\073\uff75\074\uff75\075\uff75\076\uff75\100\uff75" +
-    "\101\uff75\102\uff75\103\uff75\104\uff75\112\uff75\113\uff75\114" +
-    "\uff75\001\002\000\006\112\uff72\114\uff72\001\002\000\034" +
-    "\055\uffe0\056\uffe0\061\uffe0\063\uffe0\064\uffe0\065\uffe0\066" +
-    "\uffe0\067\uffe0\101\uffe0\104\uffe0\112\uffe0\113\uffe0\114\uffe0" +
-    "\001\002\000\006\067\120\112\172\001\002\000\034\055" +
-    "\uffdf\056\uffdf\061\uffdf\063\uffdf\064\uffdf\065\uffdf\066\uffdf" +
-    "\067\uffdf\101\uffdf\104\uffdf\112\uffdf\113\uffdf\114\uffdf\001" +
-    "\002\000\004\036\174\001\002\000\024\077\100\106\103" +
-    "\107\072\111\070\116\076\117\101\120\077\121\066\122" +
-    "\073\001\002\000\026\055\uffea\056\uffea\061\uffea\063\uffea" +
-    "\064\uffea\065\uffea\067\120\104\uffea\113\uffea\114\uffea\001" +
-    "\002\000\004\122\044\001\002\000\004\060\200\001\002" +
-    "\000\004\122\044\001\002\000\004\036\202\001\002\000" +
-    "\024\077\100\106\103\107\072\111\070\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\026\055\uffeb\056" +
-    "\uffeb\061\uffeb\063\uffeb\064\uffeb\065\uffeb\067\120\104\uffeb" +
-    "\113\uffeb\114\uffeb\001\002\000\004\036\205\001\002\000" +
-    "\024\077\100\106\103\107\072\111\070\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\026\055\uffec\056" +
-    "\uffec\061\uffec\063\uffec\064\uffec\065\uffec\067\120\104\uffec" +
-    "\113\uffec\114\uffec\001\002\000\012\056\uff78\067\120\104" +
-    "\uff78\113\uff78\001\002\000\004\122\044\001\002\000\004" +
-    "\060\212\001\002\000\004\122\044\001\002\000\004\036" +
-    "\214\001\002\000\024\077\100\106\103\107\072\111\070" +
-    "\116\076\117\101\120\077\121\066\122\073\001\002\000" +
-    "\026\055\uffed\056\uffed\061\uffed\063\uffed\064\uffed\065\uffed" +
-    "\067\120\104\uffed\113\uffed\114\uffed\001\002\000\004\036" +
-    "\217\001\002\000\024\077\100\106\103\107\072\111\070" +
-    "\116\076\117\101\120\077\121\066\122\073\001\002\000" +
-    "\026\055\uffee\056\uffee\061\uffee\063\uffee\064\uffee\065\uffee" +
-    "\067\120\104\uffee\113\uffee\114\uffee\001\002\000\004\122" +
-    "\044\001\002\000\004\036\223\001\002\000\024\077\100" +
-    "\106\103\107\072\111\070\116\076\117\101\120\077\121" +
-    "\066\122\073\001\002\000\026\055\uffef\056\uffef\061\uffef" +
-    "\063\uffef\064\uffef\065\uffef\067\120\104\uffef\113\uffef\114" +
-    "\uffef\001\002\000\024\055\ufff0\056\ufff0\061\ufff0\063\ufff0" +
-    "\064\ufff0\065\ufff0\104\ufff0\113\ufff0\114\ufff0\001\002\000" +
-    "\006\054\ufff3\114\ufff3\001\002\000\010\054\uffb6\104\232" +
-    "\114\uffb6\001\002\000\006\054\ufff2\114\ufff2\001\002\000" +
-    "\014\054\uffb5\104\232\112\uffb5\113\uffb5\114\uffb5\001\002" +
-    "\000\004\122\234\001\002\000\014\054\uffb4\104\uffb4\112" +
-    "\uffb4\113\uffb4\114\uffb4\001\002\000\004\105\235\001\002" +
-    "\000\004\111\236\001\002\000\004\122\240\001\002\000" +
-    "\006\112\uffb1\114\uffb1\001\002\000\010\070\245\112\uffae" +
-    "\114\uffae\001\002\000\006\112\243\114\242\001\002\000" +
-    "\004\122\240\001\002\000\014\054\uffb2\104\uffb2\112\uffb2" +
-    "\113\uffb2\114\uffb2\001\002\000\006\112\uffb0\114\uffb0\001" +
-    "\002\000\004\116\247\001\002\000\006\112\uffaf\114\uffaf" +
-    "\001\002\000\006\112\uffad\114\uffad\001\002\000\014\054" +
-    "\uffb3\104\uffb3\112\uffb3\113\uffb3\114\uffb3\001\002\000\016" +
-    "\002\uff7e\004\uff7e\005\uff7e\006\uff7e\103\uff7e\123\uff7e\001" +
-    "\002\000\014\106\103\116\076\117\101\120\077\121\066" +
-    "\001\002\000\006\112\256\114\255\001\002\000\006\112" +
-    "\uff77\114\uff77\001\002\000\014\106\103\116\076\117\101" +
-    "\120\077\121\066\001\002\000\004\113\257\001\002\000" +
-    "\016\002\uff7f\004\uff7f\005\uff7f\006\uff7f\103\uff7f\123\uff7f" +
-    "\001\002\000\006\112\uff76\114\uff76\001\002\000\006\112" +
-    "\uff9e\114\uff9e\001\002\000\004\122\306\001\002\000\004" +
-    "\122\264\001\002\000\004\111\265\001\002\000\006\122" +
-    "\uff92\123\015\001\002\000\004\122\304\001\002\000\006" +
-    "\112\ufff7\114\ufff7\001\002\000\006\112\272\114\271\001" +
-    "\002\000\006\122\uff92\123\015\001\002\000\004\052\273" +
-    "\001\002\000\004\053\034\001\002\000\010\056\277\104" +
-    "\232\113\uffb6\001\002\000\010\056\ufffa\104\ufffa\113\ufffa" +
-    "\001\002\000\004\113\302\001\002\000\004\057\300\001" +
-    "\002\000\004\053\034\001\002\000\010\056\ufff9\104\ufff9" +
-    "\113\ufff9\001\002\000\012\002\ufffb\004\ufffb\005\ufffb\123" +
-    "\ufffb\001\002\000\006\112\ufff6\114\ufff6\001\002\000\010" +
-    "\104\232\112\uffb6\114\uffb6\001\002\000\006\112\ufff5\114" +
-    "\ufff5\001\002\000\004\111\307\001\002\000\020\030\uff92" +
-    "\031\uff92\033\uff92\034\uff92\043\uff92\122\uff92\123\015\001" +
-    "\002\000\006\112\uffc2\114\uffc2\001\002\000\006\112\uffbf" +
-    "\114\uffbf\001\002\000\016\030\327\031\326\033\332\034" +
-    "\330\043\333\122\331\001\002\000\006\112\uffbe\114\uffbe" +
-    "\001\002\000\006\112\uffc0\114\uffc0\001\002\000\006\112" +
-    "\uffc1\114\uffc1\001\002\000\006\112\uffc4\114\uffc4\001\002" +
-    "\000\006\112\322\114\321\001\002\000\006\112\uffbd\114" +
-    "\uffbd\001\002\000\020\030\uff92\031\uff92\033\uff92\034\uff92" +
-    "\043\uff92\122\uff92\123\015\001\002\000\006\104\232\113" +
-    "\uffb6\001\002\000\004\113\324\001\002\000\012\002\uffc5" +
-    "\004\uffc5\005\uffc5\123\uffc5\001\002\000\006\112\uffc3\114" +
-    "\uffc3\001\002\000\004\032\u0146\001\002\000\004\032\u0141" +
-    "\001\002\000\006\111\uff95\122\334\001\002\000\034\013" +
-    "\u010a\014\u010e\015\u0110\016\u010d\017\u0113\020\u0112\021\u0114" +
-    "\022\u0108\023\u010b\024\u010c\025\u010f\026\u0109\027\u0115\001" +
-    "\002\000\006\111\uff95\122\334\001\002\000\006\044\uff95" +
-    "\122\334\001\002\000\010\040\uff94\044\uff94\111\uff94\001" +
-    "\002\000\004\044\336\001\002\000\004\037\337\001\002" +
-    "\000\004\036\340\001\002\000\004\122\341\001\002\000" +
-    "\004\046\342\001\002\000\004\104\343\001\002\000\004" +
-    "\047\344\001\002\000\004\050\345\001\002\000\004\045" +
-    "\346\001\002\000\010\005\uff92\006\uff92\123\015\001\002" +
-    "\000\012\005\uffb9\006\uffb9\103\uffb9\123\uffb9\001\002\000" +
-    "\006\005\022\006\367\001\002\000\012\005\uffb8\006\uffb8" +
-    "\103\uffb8\123\uffb8\001\002\000\012\005\uffbb\006\uffbb\103" +
-    "\uffbb\123\uffbb\001\002\000\012\005\uff92\006\uff92\103\355" +
-    "\123\015\001\002\000\012\005\uffba\006\uffba\103\uffba\123" +
-    "\uffba\001\002\000\004\067\356\001\002\000\004\046\357" +
-    "\001\002\000\004\104\360\001\002\000\004\047\361\001" +
-    "\002\000\004\051\362\001\002\000\004\045\363\001\002" +
-    "\000\010\005\uff92\006\uff92\123\015\001\002\000\012\005" +
-    "\uff92\006\uff92\103\365\123\015\001\002\000\010\104\232" +
-    "\112\uffb6\114\uffb6\001\002\000\006\112\uffbc\114\uffbc\001" +
-    "\002\000\006\040\uff95\122\334\001\002\000\004\040\371" +
-    "\001\002\000\004\122\372\001\002\000\004\070\u0101\001" +
-    "\002\000\010\055\054\113\uff79\114\375\001\002\000\010" +
-    "\055\uff7c\113\uff7c\114\uff7c\001\002\000\004\122\372\001" +
-    "\002\000\004\113\377\001\002\000\012\005\uff7d\006\uff7d" +
-    "\103\uff7d\123\uff7d\001\002\000\010\055\uff7b\113\uff7b\114" +
-    "\uff7b\001\002\000\020\077\100\106\103\116\076\117\101" +
-    "\120\077\121\066\122\073\001\002\000\010\055\uff7a\113" +
-    "\uff7a\114\uff7a\001\002\000\004\111\u0104\001\002\000\004" +
-    "\122\026\001\002\000\006\112\u0106\114\030\001\002\000" +
-    "\010\104\232\112\uffb6\114\uffb6\001\002\000\006\112\uff96" +
-    "\114\uff96\001\002\000\020\035\uff88\104\uff88\106\uff88\107" +
-    "\uff88\110\uff88\112\uff88\114\uff88\001\002\000\004\111\u0137" +
-    "\001\002\000\020\035\uff8e\104\uff8e\106\uff8e\107\uff8e\110" +
-    "\uff8e\112\uff8e\114\uff8e\001\002\000\020\035\uff87\104\uff87" +
-    "\106\uff87\107\uff87\110\uff87\112\uff87\114\uff87\001\002\000" +
-    "\020\035\uff86\104\uff86\106\uff86\107\uff86\110\uff86\112\uff86" +
-    "\114\uff86\001\002\000\020\035\uff8b\104\uff8b\106\uff8b\107" +
-    "\uff8b\110\uff8b\112\uff8b\114\uff8b\001\002\000\020\035\uff8d" +
-    "\104\uff8d\106\uff8d\107\uff8d\110\uff8d\112\uff8d\114\uff8d\001" +
-    "\002\000\004\111\u0134\001\002\000\004\111\u0131\001\002" +
-    "\000\020\035\uffac\104\uffac\106\u011b\107\u011a\110\uffac\112" +
-    "\uffac\114\uffac\001\002\000\020\035\uff89\104\uff89\106\uff89" +
-    "\107\uff89\110\uff89\112\uff89\114\uff89\001\002\000\020\035" +
-    "\uff8a\104\uff8a\106\uff8a\107\uff8a\110\uff8a\112\uff8a\114\uff8a" +
-    "\001\002\000\004\111\u0116\001\002\000\020\035\uff82\104" +
-    "\uff82\106\uff82\107\uff82\110\uff82\112\uff82\114\uff82\001\002" +
-    "\000\004\117\u0117\001\002\000\004\112\u0118\001\002\000" +
-    "\020\035\uff85\104\uff85\106\uff85\107\uff85\110\uff85\112\uff85" +
-    "\114\uff85\001\002\000\014\035\uffa9\104\uffa9\110\u011d\112" +
-    "\uffa9\114\uffa9\001\002\000\004\106\u011c\001\002\000\014" +
-    "\035\uffab\104\uffab\110\uffab\112\uffab\114\uffab\001\002\000" +
-    "\014\035\uffaa\104\uffaa\110\uffaa\112\uffaa\114\uffaa\001\002" +
-    "\000\014\106\103\116\076\117\101\120\077\121\066\001" +
-    "\002\000\012\035\u0121\104\uffa2\112\uffa2\114\uffa2\001\002" +
-    "\000\010\104\232\112\uffb6\114\uffb6\001\002\000\010\104" +
-    "\uffa1\112\uffa1\114\uffa1\001\002\000\004\122\u0122\001\002" +
-    "\000\004\111\u0123\001\002\000\004\122\u0124\001\002\000" +
-    "\004\112\u0125\001\002\000\012\036\u0127\104\uff9b\112\uff9b" +
-    "\114\uff9b\001\002\000\010\104\uff9a\112\uff9a\114\uff9a\001" +
-    "\002\000\004\037\u0129\001\002\000\010\104\uff9c\112\uff9c" +
-    "\114\uff9c\001\002\000\010\040\u012b\041\u012c\042\u012a\001" +
-    "\002\000\004\041\u012e\001\002\000\004\106\u012d\001\002" +
-    "\000\010\104\uff99\112\uff99\114\uff99\001\002\000\010\104" +
+    "\104\uffd0\111\156\112\uffd0\113\uffd0\114\uffd0\115\110\001" +
+    "\002\000\062\054\uffd1\055\uffd1\056\uffd1\061\uffd1\063\uffd1" +
+    "\064\uffd1\065\uffd1\066\uffd1\067\uffd1\070\uffd1\071\uffd1\072" +
+    "\uffd1\073\uffd1\074\uffd1\075\uffd1\076\uffd1\100\uffd1\101\uffd1" +
+    "\102\uffd1\103\uffd1\104\uffd1\112\uffd1\113\uffd1\114\uffd1\001" +
+    "\002\000\020\070\141\071\136\072\143\073\144\074\137" +
+    "\075\140\076\142\001\002\000\064\035\uffa6\054\uffa6\055" +
+    "\uffa6\056\uffa6\061\uffa6\063\uffa6\064\uffa6\065\uffa6\066\uffa6" +
+    "\067\uffa6\070\uffa6\071\uffa6\072\uffa6\073\uffa6\074\uffa6\075" +
+    "\uffa6\076\uffa6\100\uffa6\101\uffa6\102\uffa6\103\uffa6\104\uffa6" +
+    "\112\uffa6\113\uffa6\114\uffa6\001\002\000\064\035\uffa4\054" +
+    "\uffa4\055\uffa4\056\uffa4\061\uffa4\063\uffa4\064\uffa4\065\uffa4" +
+    "\066\uffa4\067\uffa4\070\uffa4\071\uffa4\072\uffa4\073\uffa4\074" +
+    "\uffa4\075\uffa4\076\uffa4\100\uffa4\101\uffa4\102\uffa4\103\uffa4" +
+    "\104\uffa4\112\uffa4\113\uffa4\114\uffa4\001\002\000\006\100" +
+    "\105\122\107\001\002\000\064\035\uffa5\054\uffa5\055\uffa5" +
+    "\056\uffa5\061\uffa5\063\uffa5\064\uffa5\065\uffa5\066\uffa5\067" +
+    "\uffa5\070\uffa5\071\uffa5\072\uffa5\073\uffa5\074\uffa5\075\uffa5" +
+    "\076\uffa5\100\uffa5\101\uffa5\102\uffa5\103\uffa5\104\uffa5\112" +
+    "\uffa5\113\uffa5\114\uffa5\001\002\000\062\054\uffd2\055\uffd2" +
+    "\056\uffd2\061\uffd2\063\uffd2\064\uffd2\065\uffd2\066\uffd2\067" +
+    "\uffd2\070\uffd2\071\uffd2\072\uffd2\073\uffd2\074\uffd2\075\uffd2" +
+    "\076\uffd2\100\uffd2\101\uffd2\102\uffd2\103\uffd2\104\uffd2\112" +
+    "\uffd2\113\uffd2\114\uffd2\001\002\000\064\035\uffa2\054\uffa2" +
+    "\055\uffa2\056\uffa2\061\uffa2\063\uffa2\064\uffa2\065\uffa2\066" +
+    "\uffa2\067\uffa2\070\uffa2\071\uffa2\072\uffa2\073\uffa2\074\uffa2" +
+    "\075\uffa2\076\uffa2\100\uffa2\101\uffa2\102\uffa2\103\uffa2\104" +
+    "\uffa2\112\uffa2\113\uffa2\114\uffa2\001\002\000\062\054\uffd3" +
+    "\055\uffd3\056\uffd3\061\uffd3\063\uffd3\064\uffd3\065\uffd3\066" +
+    "\uffd3\067\uffd3\070\uffd3\071\uffd3\072\uffd3\073\uffd3\074\uffd3" +
+    "\075\uffd3\076\uffd3\100\uffd3\101\uffd3\102\uffd3\103\uffd3\104" +
+    "\uffd3\112\uffd3\113\uffd3\114\uffd3\001\002\000\062\054\uffd4" +
+    "\055\uffd4\056\uffd4\061\uffd4\063\uffd4\064\uffd4\065\uffd4\066" +
+    "\uffd4\067\uffd4\070\uffd4\071\uffd4\072\uffd4\073\uffd4\074\uffd4" +
+    "\075\uffd4\076\uffd4\100\uffd4\101\uffd4\102\uffd4\103\uffd4\104" +
+    "\uffd4\112\uffd4\113\uffd4\114\uffd4\001\002\000\034\055\uffe0" +
+    "\056\uffe0\061\uffe0\063\uffe0\064\uffe0\065\uffe0\066\uffe0\067" +
+    "\uffe0\101\uffe0\104\uffe0\112\uffe0\113\uffe0\114\uffe0\001\002" +
+    "\000\010\100\uffc9\102\uffc9\103\uffc9\001\002\000\004\100" +
+    "\127\001\002\000\024\077\074\106\077\107\066\111\063" +
+    "\116\072\117\075\120\073\121\062\122\067\001\002\000" +
+    "\010\100\105\102\113\103\uffc6\001\002\000\010\100\uffd0" +
+    "\103\uffd0\115\110\001\002\000\004\122\111\001\002\000" +
+    "\062\054\uffcf\055\uffcf\056\uffcf\061\uffcf\063\uffcf\064\uffcf" +
+    "\065\uffcf\066\uffcf\067\uffcf\070\uffcf\071\uffcf\072\uffcf\073" +
+    "\uffcf\074\uffcf\075\uffcf\076\uffcf\100\uffcf\101\uffcf\102\uffcf" +
+    "\103\uffcf\104\uffcf\112\uffcf\113\uffcf\114\uffcf\001\002\000" +
+    "\010\100\uffc8\102\uffc8\103\uffc8\001\002\000\020\077\074" +
+    "\106\077\116\072\117\075\120\073\121\062\122\067\001" +
+    "\002\000\004\103\115\001\002\000\062\054\uffca\055\uffca" +
+    "\056\uffca\061\uffca\063\uffca\064\uffca\065\uffca\066\uffca\067" +
+    "\uffca\070\uffca\071\uffca\072\uffca\073\uffca\074\uffca\075\uffca" +
+    "\076\uffca\100\uffca\101\uffca\102\uffca\103\uffca\104\uffca\112" +
+    "\uffca\113\uffca\114\uffca\001\002\000\004\103\uffc5\001\002" +
+    "\000\006\067\121\101\120\001\002\000\020\077\074\106" +
+    "\077\116\072\117\075\120\073\121\062\122\067\001\002" +
+    "\000\024\077\074\106\077\107\066\111\063\116\072\117" +
+    "\075\120\073\121\062\122\067\001\002\000\034\055\uffe3" +
+    "\056\uffe3\061\uffe3\063\uffe3\064\uffe3\065\uffe3\066\123\067" +
+    "\uffe3\101\uffe3\104\uffe3\112\uffe3\113\uffe3\114\uffe3\001\002" +
+    "\000\024\077\074\106\077\107\066\111\063\116\072\117" +
+    "\075\120\073\121\062\122\067\001\002\000\034\055\uffe1" +
+    "\056\uffe1\061\uffe1\063\uffe1\064\uffe1\065\uffe1\066\uffe1\067" +
+    "\uffe1\101\uffe1\104\uffe1\112\uffe1\113\uffe1\114\uffe1\001\002" +
+    "\000\010\100\uffc7\102\uffc7\103\uffc7\001\002\000\006\100" +
+    "\uffcd\103\uffcd\001\002\000\014\106\077\116\072\117\075" +
+    "\120\073\121\062\001\002\000\006\100\127\103\132\001" +
+    "\002\000\006\100\uffcc\103\uffcc\001\002\000\062\054\uffce" +
+    "\055\uffce\056\uffce\061\uffce\063\uffce\064\uffce\065\uffce\066" +
+    "\uffce\067\uffce\070\uffce\071\uffce\072\uffce\073\uffce\074\uffce" +
+    "\075\uffce\076\uffce\100\uffce\101\uffce\102\uffce\103\uffce\104" +
+    "\uffce\112\uffce\113\uffce\114\uffce\001\002\000\004\101\134" +
+    "\001\002\000\004\122\107\001\002\000\006\100\uffcb\103" +
+    "\uffcb\001\002\000\020\077\074\106\077\116\072\117\075" +
+    "\120\073\121\062\122\067\001\002\000\020\077\074\106" +
+    "\077\116\072\117\075\120\073\121\062\122\067\001\002" +
+    "\000\020\077\074\106\077\116\072\117\075\120\073\121" +
+    "\062\122\067\001\002\000\020\077\074\106\077\116\072" +
+    "\117\075\120\073\121\062\122\067\001\002\000\006\106" +
+    "\150\107\147\001\002\000\020\077\074\106\077\116\072" +
+    "\117\075\120\073\121\062\122\067\001\002\000\020\077" +
+    "\074\106\077\116\072\117\075\120\073\121\062\122\067" +
+    "\001\002\000\034\055\uffda\056\uffda\061\uffda\063\uffda\064" +
+    "\uffda\065\uffda\066\uffda\067\uffda\101\uffda\104\uffda\112\uffda" +
+    "\113\uffda\114\uffda\001\002\000\034\055\uffdb\056\uffdb\061" +
+    "\uffdb\063\uffdb\064\uffdb\065\uffdb\066\uffdb\067\uffdb\101\uffdb" +
+    "\104\uffdb\112\uffdb\113\uffdb\114\uffdb\001\002\000\004\106" +
+    "\151\001\002\000\034\055\uffd7\056\uffd7\061\uffd7\063\uffd7" +
+    "\064\uffd7\065\uffd7\066\uffd7\067\uffd7\101\uffd7\104\uffd7\112" +
+    "\uffd7\113\uffd7\114\uffd7\001\002\000\034\055\uffd6\056\uffd6" +
+    "\061\uffd6\063\uffd6\064\uffd6\065\uffd6\066\uffd6\067\uffd6\101" +
+    "\uffd6\104\uffd6\112\uffd6\113\uffd6\114\uffd6\001\002\000\034" +
+    "\055\uffdd\056\uffdd\061\uffdd\063\uffdd\064\uffdd\065\uffdd\066" +
+    "\uffdd\067\uffdd\101\uffdd\104\uffdd\112\uffdd\113\uffdd\114\uffdd" +
+    "\001\002\000\034\055\uffd8\056\uffd8\061\uffd8\063\uffd8\064" +
+    "\uffd8\065\uffd8\066\uffd8\067\uffd8\101\uffd8\104\uffd8\112\uffd8" +
+    "\113\uffd8\114\uffd8\001\002\000\034\055\uffd9\056\uffd9\061" +
+    "\uffd9\063\uffd9\064\uffd9\065\uffd9\066\uffd9\067\uffd9\101\uffd9" +
+    "\104\uffd9\112\uffd9\113\uffd9\114\uffd9\001\002\000\034\055" +
+    "\uffdc\056\uffdc\061\uffdc\063\uffdc\064\uffdc\065\uffdc\066\uffdc" +
+    "\067\uffdc\101\uffdc\104\uffdc\112\uffdc\113\uffdc\114\uffdc\001" +
+    "\002\000\024\077\074\106\077\112\uff73\114\uff73\116\072" +
+    "\117\075\120\073\121\062\122\067\001\002\000\006\112" +
+    "\162\114\161\001\002\000\006\112\uff72\114\uff72\001\002" +
+    "\000\020\077\074\106\077\116\072\117\075\120\073\121" +
+    "\062\122\067\001\002\000\062\054\uff74\055\uff74\056\uff74" +
+    "\061\uff74\063\uff74\064\uff74\065\uff74\066\uff74\067\uff74\070" +
+    "\uff74\071\uff74\072\uff74\073\uff74\074\uff74\075\uff74\076\uff74" +
+    "\100\uff74\101\uff74\102\uff74\103\uff74\104\uff74\112\uff74\113" +
+    "\uff74\114\uff74\001\002\000\006\112\uff71\114\uff71\001\002" +
+    "\000\034\055\uffdf\056\uffdf\061\uffdf\063\uffdf\064\uffdf\065" +
+    "\uffdf\066\uffdf\067\uffdf\101\uffdf\104\uffdf\112\uffdf\113\uffdf" +
+    "\114\uffdf\001\002\000\006\067\121\112\166\001\002\000" +
+    "\034\055\uffde\056\uffde\061\uffde\063\uffde\064\uffde\065\uffde" +
+    "\066\uffde\067\uffde\101\uffde\104\uffde\112\uffde\113\uffde\114" +
+    "\uffde\001\002\000\012\055\uff7a\104\uff7a\113\uff7a\114\uff7a" +
+    "\001\002\000\020\077\074\106\077\116\072\117\075\120" +
+    "\073\121\062\122\067\001\002\000\012\055\uff79\104\uff79" +
+    "\113\uff79\114\uff79\001\002\000\004\122\173\001\002\000" +
+    "\004\111\174\001\002\000\004\122\175\001\002\000\006" +
+    "\112\uff9e\114\uff9e\001\002\000\006\112\200\114\177\001" +
+    "\002\000\004\122\301\001\002\000\006\012\201\053\203" +
+    "\001\002\000\004\111\272\001\002\000\006\104\040\113" +
+    "\uffb5\001\002\000\022\077\uff91\106\uff91\116\uff91\117\uff91" +
+    "\120\uff91\121\uff91\122\uff91\123\016\001\002\000\020\077" +
+    "\074\106\077\116\072\117\075\120\073\121\062\122\067" +
+    "\001\002\000\006\054\ufff3\114\ufff3\001\002\000\006\054" +
+    "\210\114\207\001\002\000\022\077\uff91\106\uff91\116\uff91" +
+    "\117\uff91\120\uff91\121\uff91\122\uff91\123\016\001\002\000" +
+    "\004\122\213\001\002\000\024\055\034\056\uff78\061\221" +
+    "\063\220\064\223\065\224\104\uff78\113\uff78\114\217\001" +
+    "\002\000\024\055\ufff0\056\ufff0\061\ufff0\063\ufff0\064\ufff0" +
+    "\065\ufff0\104\ufff0\113\ufff0\114\ufff0\001\002\000\032\036" +
+    "\uffe7\052\214\055\uffe7\056\uffe7\061\uffe7\063\uffe7\064\uffe7" +
+    "\065\uffe7\104\uffe7\113\uffe7\114\uffe7\122\215\001\002\000" +
+    "\004\122\216\001\002\000\026\036\uffe6\055\uffe6\056\uffe6" +
+    "\061\uffe6\063\uffe6\064\uffe6\065\uffe6\104\uffe6\113\uffe6\114" +
+    "\uffe6\001\002\000\026\036\uffe5\055\uffe5\056\uffe5\061\uffe5" +
+    "\063\uffe5\064\uffe5\065\uffe5\104\uffe5\113\uffe5\114\uffe5\001" +
+    "\002\000\004\122\213\001\002\000\006\060\253\062\254" +
+    "\001\002\000\004\060\247\001\002\000\010\056\ufff7\104" +
+    "\ufff7\113\ufff7\001\002\000\006\060\236\062\237\001\002" +
+    "\000\006\060\225\062\226\001\002\000\004\122\213\001" +
+    "\002\000\004\060\227\001\002\000\004\122\213\001\002" +
+    "\000\004\036\231\001\002\000\024\077\074\106\077\107" +
+    "\066\111\063\116\072\117\075\120\073\121\062\122\067" +
+    "\001\002\000\026\055\uffe8\056\uffe8\061\uffe8\063\uffe8\064" +
+    "\uffe8\065\uffe8\067\121\104\uffe8\113\uffe8\114\uffe8\001\002" +
+    "\000\004\036\234\001\002\000\024\077\074\106\077\107" +
+    "\066\111\063\116\072\117\075\120\073\121\062\122\067" +
+    "\001\002\000\026\055\uffe9\056\uffe9\061\uffe9\063\uffe9\064" +
+    "\uffe9\065\uffe9\067\121\104\uffe9\113\uffe9\114\uffe9\001\002" +
+    "\000\004\122\213\001\002\000\004\060\240\001\002\000" +
+    "\004\122\213\001\002\000\004\036\242\001\002\000\024" +
+    "\077\074\106\077\107\066\111\063\116\072\117\075\120" +
+    "\073\121\062\122\067\001\002\000\026\055\uffea\056\uffea" +
+    "\061\uffea\063\uffea\064\uffea\065\uffea\067\121\104\uffea\113" +
+    "\uffea\114\uffea\001\002\000\004\036\245\001\002\000\024" +
+    "\077\074\106\077\107\066\111\063\116\072\117\075\120" +
+    "\073\121\062\122\067\001\002\000\026\055\uffeb\056\uffeb" +
+    "\061\uffeb\063\uffeb\064\uffeb\065\uffeb\067\121\104\uffeb\113" +
+    "\uffeb\114\uffeb\001\002\000\004\122\213\001\002\000\004" +
+    "\036\251\001\002\000\024\077\074\106\077\107\066\111" +
+    "\063\116\072\117\075\120\073\121\062\122\067\001\002" +
+    "\000\026\055\uffee\056\uffee\061\uffee\063\uffee\064\uffee\065" +
+    "\uffee\067\121\104\uffee\113\uffee\114\uffee\001\002\000\004" +
+    "\122\213\001\002\000\004\060\255\001\002\000\004\122" +
+    "\213\001\002\000\004\036\257\001\002\000\024\077\074" +
+    "\106\077\107\066\111\063\116\072\117\075\120\073\121" +
+    "\062\122\067\001\002\000\026\055\uffec\056\uffec\061\uffec" +
+    "\063\uffec\064\uffec\065\uffec\067\121\104\uffec\113\uffec\114" +
+    "\uffec\001\002\000\004\036\262\001\002\000\024\077\074" +
+    "\106\077\107\066\111\063\116\072\117\075\120\073\121" +
+    "\062\122\067\001\002\000\026\055\uffed\056\uffed\061\uffed" +
+    "\063\uffed\064\uffed\065\uffed\067\121\104\uffed\113\uffed\114" +
+    "\uffed\001\002\000\024\055\uffef\056\uffef\061\uffef\063\uffef" +
+    "\064\uffef\065\uffef\104\uffef\113\uffef\114\uffef\001\002\000" +
+    "\006\054\ufff2\114\ufff2\001\002\000\010\054\uffb5\104\040" +
+    "\114\uffb5\001\002\000\006\054\ufff1\114\ufff1\001\002\000" +
+    "\004\113\271\001\002\000\016\002\uff7d\004\uff7d\005\uff7d" +
+    "\006\uff7d\103\uff7d\123\uff7d\001\002\000\014\106\077\116" +
+    "\072\117\075\120\073\121\062\001\002\000\006\112\276" +
+    "\114\275\001\002\000\006\112\uff76\114\uff76\001\002\000" +
+    "\014\106\077\116\072\117\075\120\073\121\062\001\002" +
+    "\000\004\113\277\001\002\000\016\002\uff7e\004\uff7e\005" +
+    "\uff7e\006\uff7e\103\uff7e\123\uff7e\001\002\000\006\112\uff75" +
+    "\114\uff75\001\002\000\006\112\uff9d\114\uff9d\001\002\000" +
+    "\004\122\326\001\002\000\004\122\304\001\002\000\004" +
+    "\111\305\001\002\000\006\122\uff91\123\016\001\002\000" +
+    "\004\122\324\001\002\000\006\112\ufff6\114\ufff6\001\002" +
+    "\000\006\112\312\114\311\001\002\000\006\122\uff91\123" +
+    "\016\001\002\000\004\052\313\001\002\000\004\053\203" +
+    "\001\002\000\010\056\317\104\040\113\uffb5\001\002\000" +
+    "\010\056\ufff9\104\ufff9\113\ufff9\001\002\000\004\113\322" +
+    "\001\002\000\004\057\320\001\002\000\004\053\203\001" +
+    "\002\000\010\056\ufff8\104\ufff8\113\ufff8\001\002\000\014" +
+    "\002\ufffa\004\ufffa\005\ufffa\006\ufffa\123\ufffa\001\002\000" +
+    "\006\112\ufff5\114\ufff5\001\002\000\010\104\040\112\uffb5" +
+    "\114\uffb5\001\002\000\006\112\ufff4\114\ufff4\001\002\000" +
+    "\004\111\327\001\002\000\020\030\uff91\031\uff91\033\uff91" +
+    "\034\uff91\043\uff91\122\uff91\123\016\001\002\000\006\112" +
+    "\uffc1\114\uffc1\001\002\000\006\112\uffbe\114\uffbe\001\002" +
+    "\000\016\030\347\031\346\033\352\034\350\043\353\122" +
+    "\351\001\002\000\006\112\uffbd\114\uffbd\001\002\000\006" +
+    "\112\uffbf\114\uffbf\001\002\000\006\112\uffc0\114\uffc0\001" +
+    "\002\000\006\112\uffc3\114\uffc3\001\002\000\006\112\uffbc" +
+    "\114\uffbc\001\002\000\006\112\342\114\341\001\002\000" +
+    "\020\030\uff91\031\uff91\033\uff91\034\uff91\043\uff91\122\uff91" +
+    "\123\016\001\002\000\006\104\040\113\uffb5\001\002\000" +
+    "\004\113\344\001\002\000\014\002\uffc4\004\uffc4\005\uffc4" +
+    "\006\uffc4\123\uffc4\001\002\000\006\112\uffc2\114\uffc2\001" +
+    "\002\000\004\032\u0149\001\002\000\004\032\u0144\001\002" +
+    "\000\006\111\uff94\122\025\001\002\000\034\013\u010d\014" +
+    "\u0112\015\u0113\016\u0110\017\u0116\020\u0115\021\u0118\022\u010b" +
+    "\023\u010f\024\u010e\025\u0111\026\u010c\027\u0117\001\002\000" +
+    "\006\111\uff94\122\025\001\002\000\006\044\uff94\122\025" +
+    "\001\002\000\004\044\355\001\002\000\004\037\356\001" +
+    "\002\000\004\036\357\001\002\000\004\122\360\001\002" +
+    "\000\004\046\361\001\002\000\004\104\362\001\002\000" +
+    "\004\047\363\001\002\000\004\050\364\001\002\000\004" +
+    "\045\365\001\002\000\010\005\uff91\006\uff91\123\016\001" +
+    "\002\000\012\005\uffb8\006\uffb8\103\uffb8\123\uffb8\001\002" +
+    "\000\006\005\023\006\024\001\002\000\012\005\uffb7\006" +
+    "\uffb7\103\uffb7\123\uffb7\001\002\000\012\005\uffba\006\uffba" +
+    "\103\uffba\123\uffba\001\002\000\012\005\uff91\006\uff91\103" +
+    "\374\123\016\001\002\000\012\005\uffb9\006\uffb9\103\uffb9" +
+    "\123\uffb9\001\002\000\004\067\375\001\002\000\004\046" +
+    "\376\001\002\000\004\104\377\001\002\000\004\047\u0100" +
+    "\001\002\000\004\051\u0101\001\002\000\004\045\u0102\001" +
+    "\002\000\010\005\uff91\006\uff91\123\016\001\002\000\012" +
+    "\005\uff91\006\uff91\103\u0104\123\016\001\002\000\010\104" +
+    "\040\112\uffb5\114\uffb5\001\002\000\006\112\uffbb\114\uffbb" +
+    "\001\002\000\004\111\u0107\001\002\000\004\122\175\001" +
+    "\002\000\006\112\u0109\114\177\001\002\000\010\104\040" +
+    "\112\uffb5\114\uffb5\001\002\000\006\112\uff95\114\uff95\001" +
+    "\002\000\020\035\uff87\104\uff87\106\uff87\107\uff87\110\uff87" +
+    "\112\uff87\114\uff87\001\002\000\004\111\u013a\001\002\000" +
+    "\020\035\uff8d\104\uff8d\106\uff8d\107\uff8d\110\uff8d\112\uff8d" +
+    "\114\uff8d\001\002\000\020\035\uff85\104\uff85\106\uff85\107" +
+    "\uff85\110\uff85\112\uff85\114\uff85\001\002\000\020\035\uff86" +
+    "\104\uff86\106\uff86\107\uff86\110\uff86\112\uff86\114\uff86\001" +
+    "\002\000\020\035\uff8a\104\uff8a\106\uff8a\107\uff8a\110\uff8a" +
+    "\112\uff8a\114\uff8a\001\002\000\004\111\u0137\001\002\000" +
+    "\020\035\uff8c\104\uff8c\106\uff8c\107\uff8c\110\uff8c\112\uff8c" +
+    "\114\uff8c\001\002\000\004\111\u0134\001\002\000\020\035" +
+    "\uffab\104\uffab\106\u011e\107\u011d\110\uffab\112\uffab\114\uffab" +
+    "\001\002\000\020\035\uff88\104\uff88\106\uff88\107\uff88\110" +
+    "\uff88\112\uff88\114\uff88\001\002\000\020\035\uff89\104\uff89" +
+    "\106\uff89\107\uff89\110\uff89\112\uff89\114\uff89\001\002\000" +
+    "\020\035\uff81\104\uff81\106\uff81\107\uff81\110\uff81\112\uff81" +
+    "\114\uff81\001\002\000\004\111\u0119\001\002\000\004\117" +
+    "\u011a\001\002\000\004\112\u011b\001\002\000\020\035\uff84" +
+    "\104\uff84\106\uff84\107\uff84\110\uff84\112\uff84\114\uff84\001" +
+    "\002\000\014\035\uffa8\104\uffa8\110\u0120\112\uffa8\114\uffa8" +
+    "\001\002\000\004\106\u011f\001\002\000\014\035\uffaa\104" +
+    "\uffaa\110\uffaa\112\uffaa\114\uffaa\001\002\000\014\035\uffa9" +
+    "\104\uffa9\110\uffa9\112\uffa9\114\uffa9\001\002\000\014\106" +
+    "\077\116\072\117\075\120\073\121\062\001\002\000\012" +
+    "\035\u0124\104\uffa1\112\uffa1\114\uffa1\001\002\000\010\104" +
+    "\uffa0\112\uffa0\114\uffa0\001\002\000\010\104\040\112\uffb5" +
+    "\114\uffb5\001\002\000\004\122\u0125\001\002\000\004\111" +
+    "\u0126\001\002\000\004\122\u0127\001\002\000\004\112\u0128" +
+    "\001\002\000\012\036\u012a\104\uff9a\112\uff9a\114\uff9a\001" +
+    "\002\000\010\104\uff99\112\uff99\114\uff99\001\002\000\004" +
+    "\037\u012c\001\002\000\010\104\uff9b\112\uff9b\114\uff9b\001" +
+    "\002\000\010\040\u012e\041\u012f\042\u012d\001\002\000\004" +
+    "\041\u0131\001\002\000\004\106\u0130\001\002\000\010\104" +
     "\uff98\112\uff98\114\uff98\001\002\000\010\104\uff97\112\uff97" +
-    "\114\uff97\001\002\000\006\112\uffb7\114\uffb7\001\002\000" +
-    "\012\035\uffa8\104\uffa8\112\uffa8\114\uffa8\001\002\000\004" +
-    "\117\u0132\001\002\000\004\112\u0133\001\002\000\020\035" +
-    "\uff8c\104\uff8c\106\uff8c\107\uff8c\110\uff8c\112\uff8c\114\uff8c" +
-    "\001\002\000\004\117\u0135\001\002\000\004\112\u0136\001" +
-    "\002\000\020\035\uff84\104\uff84\106\uff84\107\uff84\110\uff84" +
-    "\112\uff84\114\uff84\001\002\000\004\117\u0138\001\002\000" +
-    "\004\114\u0139\001\002\000\004\117\u013a\001\002\000\004" +
-    "\112\u013b\001\002\000\020\035\uff83\104\uff83\106\uff83\107" +
-    "\uff83\110\uff83\112\uff83\114\uff83\001\002\000\004\111\u013d" +
-    "\001\002\000\004\122\026\001\002\000\006\112\u013f\114" +
-    "\030\001\002\000\010\104\232\112\uffb6\114\uffb6\001\002" +
-    "\000\006\112\uff93\114\uff93\001\002\000\004\111\u0142\001" +
-    "\002\000\004\122\026\001\002\000\006\112\u0144\114\030" +
-    "\001\002\000\010\104\232\112\uffb6\114\uffb6\001\002\000" +
-    "\006\112\uffa0\114\uffa0\001\002\000\004\111\u0147\001\002" +
-    "\000\004\122\u0148\001\002\000\004\112\u0149\001\002\000" +
-    "\004\035\u0121\001\002\000\010\104\232\112\uffb6\114\uffb6" +
-    "\001\002\000\006\112\uff9d\114\uff9d\001\002" });
+    "\114\uff97\001\002\000\010\104\uff96\112\uff96\114\uff96\001" +
+    "\002\000\006\112\uffb6\114\uffb6\001\002\000\012\035\uffa7" +
+    "\104\uffa7\112\uffa7\114\uffa7\001\002\000\004\117\u0135\001" +
+    "\002\000\004\112\u0136\001\002\000\020\035\uff8b\104\uff8b" +
+    "\106\uff8b\107\uff8b\110\uff8b\112\uff8b\114\uff8b\001\002\000" +
+    "\004\117\u0138\001\002\000\004\112\u0139\001\002\000\020" +
+    "\035\uff83\104\uff83\106\uff83\107\uff83\110\uff83\112\uff83\114" +
+    "\uff83\001\002\000\004\117\u013b\001\002\000\004\114\u013c" +
+    "\001\002\000\004\117\u013d\001\002\000\004\112\u013e\001" +
+    "\002\000\020\035\uff82\104\uff82\106\uff82\107\uff82\110\uff82" +
+    "\112\uff82\114\uff82\001\002\000\004\111\u0140\001\002\000" +
+    "\004\122\175\001\002\000\006\112\u0142\114\177\001\002" +
+    "\000\010\104\040\112\uffb5\114\uffb5\001\002\000\006\112" +
+    "\uff92\114\uff92\001\002\000\004\111\u0145\001\002\000\004" +
+    "\122\175\001\002\000\006\112\u0147\114\177\001\002\000" +
+    "\010\104\040\112\uffb5\114\uffb5\001\002\000\006\112\uff9f" +
+    "\114\uff9f\001\002\000\004\111\u014a\001\002\000\004\122" +
+    "\u014b\001\002\000\004\112\u014c\001\002\000\004\035\u0124" +
+    "\001\002\000\010\104\040\112\uffb5\114\uffb5\001\002\000" +
+    "\006\112\uff9c\114\uff9c\001\002" });
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
@@ -480,164 +485,166 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
     unpackFromStrings(new String[] {
-    "\000\u0149\000\024\002\011\003\012\004\013\005\003\006" +
-    "\005\007\006\010\004\022\007\023\010\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\022\003\016" +
-    "\004\013\005\003\006\005\007\006\010\004\022\007\023" +
-    "\010\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\004\032\026\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\046\032" +
-    "\001\001\000\002\001\001\000\002\001\001\000\012\022" +
-    "\034\023\010\047\036\050\035\001\001\000\016\027\101" +
-    "\057\226\060\066\061\104\064\103\077\073\001\001\000" +
-    "\002\001\001\000\002\001\001\000\010\022\034\023\010" +
-    "\050\225\001\001\000\006\051\041\052\042\001\001\000" +
-    "\004\076\052\001\001\000\002\001\001\000\002\001\001" +
+    "\000\u014c\000\026\002\010\003\013\004\014\005\003\006" +
+    "\005\007\006\010\004\022\007\023\011\073\012\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\004\052\224\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\026\027\101\053\206\054\064\055" +
-    "\063\056\105\057\074\060\066\061\104\064\103\077\073" +
-    "\001\001\000\002\001\001\000\002\001\001\000\004\052" +
-    "\172\001\001\000\002\001\001\000\004\052\061\001\001" +
-    "\000\002\001\001\000\026\027\101\053\070\054\064\055" +
-    "\063\056\105\057\074\060\066\061\104\064\103\077\073" +
+    "\002\001\001\000\002\001\001\000\024\003\020\004\014" +
+    "\005\003\006\005\007\006\010\004\022\007\023\011\073" +
+    "\012\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\026\027\101\053\170\054\064" +
-    "\055\063\056\105\057\074\060\066\061\104\064\103\077" +
-    "\073\001\001\000\002\001\001\000\022\027\101\055\167" +
-    "\056\105\057\074\060\066\061\104\064\103\077\073\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\010\060\107\065" +
-    "\110\066\106\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\006\062\133\063\131" +
-    "\001\001\000\006\066\124\067\126\001\001\000\026\027" +
-    "\101\053\115\054\064\055\063\056\105\057\074\060\066" +
-    "\061\104\064\103\077\073\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\016" +
-    "\027\101\057\123\060\066\061\104\064\103\077\073\001" +
-    "\001\000\024\027\101\054\120\055\063\056\105\057\074" +
-    "\060\066\061\104\064\103\077\073\001\001\000\002\001" +
-    "\001\000\022\027\101\055\122\056\105\057\074\060\066" +
-    "\061\104\064\103\077\073\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\016\027\101\057\130" +
-    "\060\066\061\104\064\103\077\073\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\004\027\136\001\001\000\004\063\134\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\004" +
-    "\060\140\001\001\000\002\001\001\000\016\027\101\057" +
-    "\160\060\066\061\104\064\103\077\073\001\001\000\016" +
-    "\027\101\057\157\060\066\061\104\064\103\077\073\001" +
-    "\001\000\016\027\101\057\156\060\066\061\104\064\103" +
-    "\077\073\001\001\000\016\027\101\057\155\060\066\061" +
-    "\104\064\103\077\073\001\001\000\002\001\001\000\016" +
-    "\027\101\057\151\060\066\061\104\064\103\077\073\001" +
-    "\001\000\016\027\101\057\150\060\066\061\104\064\103" +
-    "\077\073\001\001\000\002\001\001\000\002\001\001\000" +
+    "\000\002\001\001\000\004\042\025\001\001\000\002\001" +
+    "\001\000\002\001\001\000\006\074\030\075\031\001\001" +
+    "\000\002\001\001\000\004\076\034\001\001\000\002\001" +
+    "\001\000\004\075\166\001\001\000\026\027\075\053\064" +
+    "\054\060\055\057\056\101\057\070\060\063\061\100\064" +
+    "\077\077\067\001\001\000\010\033\036\034\035\035\040" +
+    "\001\001\000\004\035\056\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\020\027\101\057\163\060\066\061\104\064\103" +
-    "\077\073\100\162\001\001\000\002\001\001\000\002\001" +
-    "\001\000\016\027\101\057\166\060\066\061\104\064\103" +
-    "\077\073\001\001\000\002\001\001\000\002\001\001\000" +
+    "\001\001\000\006\036\046\037\044\001\001\000\002\001" +
+    "\001\000\004\040\053\001\001\000\002\001\001\000\004" +
+    "\037\051\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\026\027\101\053\174\054\064\055\063\056" +
-    "\105\057\074\060\066\061\104\064\103\077\073\001\001" +
-    "\000\002\001\001\000\004\052\203\001\001\000\002\001" +
-    "\001\000\004\052\200\001\001\000\002\001\001\000\026" +
-    "\027\101\053\202\054\064\055\063\056\105\057\074\060" +
-    "\066\061\104\064\103\077\073\001\001\000\002\001\001" +
-    "\000\002\001\001\000\026\027\101\053\205\054\064\055" +
-    "\063\056\105\057\074\060\066\061\104\064\103\077\073" +
-    "\001\001\000\002\001\001\000\002\001\001\000\004\052" +
-    "\215\001\001\000\002\001\001\000\004\052\212\001\001" +
-    "\000\002\001\001\000\026\027\101\053\214\054\064\055" +
-    "\063\056\105\057\074\060\066\061\104\064\103\077\073" +
-    "\001\001\000\002\001\001\000\002\001\001\000\026\027" +
-    "\101\053\217\054\064\055\063\056\105\057\074\060\066" +
-    "\061\104\064\103\077\073\001\001\000\002\001\001\000" +
-    "\004\052\221\001\001\000\002\001\001\000\026\027\101" +
-    "\053\223\054\064\055\063\056\105\057\074\060\066\061" +
-    "\104\064\103\077\073\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\010\033\227\034\230\035" +
-    "\232\001\001\000\002\001\001\000\004\035\247\001\001" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\026\027\075\053\164\054\060" +
+    "\055\057\056\101\057\070\060\063\061\100\064\077\077" +
+    "\067\001\001\000\002\001\001\000\002\001\001\000\022" +
+    "\027\075\055\163\056\101\057\070\060\063\061\100\064" +
+    "\077\077\067\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\006\036\240\037\236\001\001\000\002" +
-    "\001\001\000\004\040\245\001\001\000\002\001\001\000" +
-    "\004\037\243\001\001\000\002\001\001\000\002\001\001" +
+    "\010\060\103\065\105\066\102\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\006\027\253\041\252" +
-    "\001\001\000\002\001\001\000\002\001\001\000\004\027" +
-    "\257\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
+    "\062\127\063\125\001\001\000\026\027\075\053\116\054" +
+    "\060\055\057\056\101\057\070\060\063\061\100\064\077" +
+    "\077\067\001\001\000\006\066\111\067\113\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\016\027\075\057\115\060\063\061\100\064" +
+    "\077\077\067\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\016\027\075\057" +
+    "\124\060\063\061\100\064\077\077\067\001\001\000\024" +
+    "\027\075\054\121\055\057\056\101\057\070\060\063\061" +
+    "\100\064\077\077\067\001\001\000\002\001\001\000\022" +
+    "\027\075\055\123\056\101\057\070\060\063\061\100\064" +
+    "\077\077\067\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\027\132\001\001\000\004\063" +
+    "\130\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\060\134\001\001\000\002\001\001\000" +
+    "\016\027\075\057\154\060\063\061\100\064\077\077\067" +
+    "\001\001\000\016\027\075\057\153\060\063\061\100\064" +
+    "\077\077\067\001\001\000\016\027\075\057\152\060\063" +
+    "\061\100\064\077\077\067\001\001\000\016\027\075\057" +
+    "\151\060\063\061\100\064\077\077\067\001\001\000\002" +
+    "\001\001\000\016\027\075\057\145\060\063\061\100\064" +
+    "\077\077\067\001\001\000\016\027\075\057\144\060\063" +
+    "\061\100\064\077\077\067\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\012\022\265\023\010\043\267" +
-    "\044\266\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\010\022\265\023\010\044\302\001\001" +
-    "\000\002\001\001\000\006\045\273\046\274\001\001\000" +
-    "\010\033\275\034\230\035\232\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\004\046\300\001" +
+    "\001\000\002\001\001\000\020\027\075\057\157\060\063" +
+    "\061\100\064\077\077\067\100\156\001\001\000\002\001" +
+    "\001\000\002\001\001\000\016\027\075\057\162\060\063" +
+    "\061\100\064\077\077\067\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\016\027\075\057\170\060" +
+    "\063\061\100\064\077\077\067\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\032\175\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\010\033\304\034\230\035\232\001\001\000\002\001" +
-    "\001\000\002\001\001\000\026\011\316\012\315\013\307" +
-    "\014\314\015\313\020\310\021\312\022\311\023\010\070" +
-    "\317\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\000\004\046\201\001\001\000\002\001\001\000\010\033" +
+    "\267\034\035\035\040\001\001\000\012\022\203\023\011" +
+    "\047\205\050\204\001\001\000\016\027\075\057\265\060" +
+    "\063\061\100\064\077\077\067\001\001\000\002\001\001" +
+    "\000\002\001\001\000\010\022\203\023\011\050\264\001" +
+    "\001\000\006\051\210\052\211\001\001\000\004\076\221" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\024\012\324\013\307\014\314\015\313\020\310\021" +
-    "\312\022\311\023\010\070\317\001\001\000\010\033\322" +
-    "\034\230\035\232\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\004\042\u013b\001\001\000\004\024\u0110\001\001\000" +
-    "\004\042\u0102\001\001\000\004\042\334\001\001\000\002" +
+    "\001\000\002\001\001\000\002\001\001\000\004\052\263" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\052\232" +
+    "\001\001\000\002\001\001\000\004\052\227\001\001\000" +
+    "\002\001\001\000\026\027\075\053\231\054\060\055\057" +
+    "\056\101\057\070\060\063\061\100\064\077\077\067\001" +
+    "\001\000\002\001\001\000\002\001\001\000\026\027\075" +
+    "\053\234\054\060\055\057\056\101\057\070\060\063\061" +
+    "\100\064\077\077\067\001\001\000\002\001\001\000\004" +
+    "\052\243\001\001\000\002\001\001\000\004\052\240\001" +
+    "\001\000\002\001\001\000\026\027\075\053\242\054\060" +
+    "\055\057\056\101\057\070\060\063\061\100\064\077\077" +
+    "\067\001\001\000\002\001\001\000\002\001\001\000\026" +
+    "\027\075\053\245\054\060\055\057\056\101\057\070\060" +
+    "\063\061\100\064\077\077\067\001\001\000\002\001\001" +
+    "\000\004\052\247\001\001\000\002\001\001\000\026\027" +
+    "\075\053\251\054\060\055\057\056\101\057\070\060\063" +
+    "\061\100\064\077\077\067\001\001\000\002\001\001\000" +
+    "\004\052\260\001\001\000\002\001\001\000\004\052\255" +
+    "\001\001\000\002\001\001\000\026\027\075\053\257\054" +
+    "\060\055\057\056\101\057\070\060\063\061\100\064\077" +
+    "\077\067\001\001\000\002\001\001\000\002\001\001\000" +
+    "\026\027\075\053\262\054\060\055\057\056\101\057\070" +
+    "\060\063\061\100\064\077\077\067\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\010\033\266" +
+    "\034\035\035\040\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\006\027\273\041\272\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\027\277\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\022\006\346\007\006\010\004\022\347\023\010\071\352" +
-    "\072\351\073\350\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\020\006\346" +
-    "\007\006\010\004\022\347\023\010\072\353\073\350\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\022\006\346\007\006\010\004\022\347" +
-    "\023\010\071\363\072\351\073\350\001\001\000\020\006" +
-    "\346\007\006\010\004\022\347\023\010\072\353\073\350" +
-    "\001\001\000\010\033\365\034\230\035\232\001\001\000" +
-    "\002\001\001\000\004\042\367\001\001\000\002\001\001" +
-    "\000\006\074\372\075\373\001\001\000\002\001\001\000" +
-    "\004\076\375\001\001\000\002\001\001\000\004\075\377" +
+    "\002\001\001\000\012\022\305\023\011\043\307\044\306" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\016\027\101\057\u0101\060\066\061\104\064\103" +
-    "\077\073\001\001\000\002\001\001\000\002\001\001\000" +
-    "\004\032\u0104\001\001\000\002\001\001\000\010\033\u0106" +
-    "\034\230\035\232\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\022\305\023\011\044\322\001\001\000\002" +
+    "\001\001\000\006\045\313\046\314\001\001\000\010\033" +
+    "\315\034\035\035\040\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\046\320\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\010" +
+    "\033\324\034\035\035\040\001\001\000\002\001\001\000" +
+    "\002\001\001\000\026\011\337\012\335\013\327\014\334" +
+    "\015\333\020\330\021\332\022\331\023\011\070\336\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\025\u0118\001\001" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\024" +
+    "\012\344\013\327\014\334\015\333\020\330\021\332\022" +
+    "\331\023\011\070\336\001\001\000\010\033\342\034\035" +
+    "\035\040\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\042\u013e\001\001\000\004\024\u0113\001\001\000\004\042" +
+    "\u0105\001\001\000\004\042\353\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\004\026\u011d\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\027\u012f\001\001" +
-    "\000\006\030\u011e\031\u011f\001\001\000\010\033\u012e\034" +
-    "\230\035\232\001\001\000\002\001\001\000\002\001\001" +
+    "\001\001\000\002\001\001\000\022\006\365\007\006\010" +
+    "\004\022\366\023\011\071\371\072\370\073\367\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\006\016\u0127\017\u0125\001\001\000\002\001\001\000\002" +
+    "\002\001\001\000\020\006\365\007\006\010\004\022\366" +
+    "\023\011\072\372\073\367\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\022\006" +
+    "\365\007\006\010\004\022\366\023\011\071\u0102\072\370" +
+    "\073\367\001\001\000\020\006\365\007\006\010\004\022" +
+    "\366\023\011\072\372\073\367\001\001\000\010\033\u0104" +
+    "\034\035\035\040\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\032\u0107\001\001\000\002\001\001\000\010" +
+    "\033\u0109\034\035\035\040\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\025\u011b" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\026\u0120\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\027\u0132" +
+    "\001\001\000\006\030\u0122\031\u0121\001\001\000\002\001" +
+    "\001\000\010\033\u0131\034\035\035\040\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\006\016\u012a\017\u0128\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\004\032\u013d\001" +
-    "\001\000\002\001\001\000\010\033\u013f\034\230\035\232" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\004\032" +
-    "\u0142\001\001\000\002\001\001\000\010\033\u0144\034\230" +
-    "\035\232\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\031\u0149\001\001" +
-    "\000\010\033\u014a\034\230\035\232\001\001\000\002\001" +
-    "\001" });
+    "\u0140\001\001\000\002\001\001\000\010\033\u0142\034\035" +
+    "\035\040\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\032\u0145\001\001\000\002\001\001\000\010\033\u0147" +
+    "\034\035\035\040\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\031\u014c" +
+    "\001\001\000\010\033\u014d\034\035\035\040\001\001\000" +
+    "\002\001\001" });
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -684,6 +691,12 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** The syntax errors */
   private List<SyntaxError> errors = new ArrayList<SyntaxError>();
   
+  /** The listener informed about parsed artifacts */
+  private IArtifactListener listener;
+  
+  /** Whether parsed artifacts are added to the meta definition */
+  private boolean retainArtifacts = true;
+  
   /** Error Message */
   private static final String UNEXPECTED_SYMBOL_WITH_VALUE="Unexcepted Symbol {0} ''{1}''";
   
@@ -722,6 +735,88 @@ public class Parser extends java_cup.runtime.lr_parser {
     errors.add(syntaxError);
   }
   
+  /**
+   * Sets the listener that is informed about every table, view, insert and
+   * update as soon as it has been parsed.
+   * @param artifactListener the listener or null
+   */
+  public void setArtifactListener(IArtifactListener artifactListener)
+  {
+    listener = artifactListener;
+  }
+  
+  /**
+   * Defines whether parsed artifacts are added to the meta definition returned
+   * by {@link #parse()}. Set this to false if all artifacts are consumed by
+   * the artifact listener, so that they do not have to be held in memory.
+   * @param retain true (default) to add the artifacts to the meta definition
+   */
+  public void setRetainArtifacts(boolean retain)
+  {
+    retainArtifacts = retain;
+  }
+  
+  /**
+   * Adds the parsed artifact to the meta definition if artifacts are retained
+   * @param meta the meta definition
+   * @param artifact the parsed artifact
+   */
+  void addArtifact(SqlMeta meta, SqlArtifact artifact)
+  {
+    if (retainArtifacts)
+    {
+      meta.addArtifact(artifact);
+    }
+  }
+  
+  /**
+   * Informs the artifact listener about a parsed table
+   * @param table the parsed table
+   */
+  void tableParsed(SqlTable table) throws Exception
+  {
+    if (listener != null)
+    {
+      listener.onTable(table);
+    }
+  }
+  
+  /**
+   * Informs the artifact listener about a parsed view
+   * @param view the parsed view
+   */
+  void viewParsed(SqlView view) throws Exception
+  {
+    if (listener != null)
+    {
+      listener.onView(view);
+    }
+  }
+  
+  /**
+   * Informs the artifact listener about a parsed insert
+   * @param insert the parsed insert
+   */
+  void insertParsed(SqlInsert insert) throws Exception
+  {
+    if (listener != null)
+    {
+      listener.onInsert(insert);
+    }
+  }
+  
+  /**
+   * Informs the artifact listener about a parsed update
+   * @param update the parsed update
+   */
+  void updateParsed(SqlUpdate update) throws Exception
+  {
+    if (listener != null)
+    {
+      listener.onUpdate(update);
+    }
+  }
+  
   /**
    * @see java_cup.runtime.lr_parser#unrecovered_syntax_error(java_cup.runtime.Symbol)
    */
@@ -796,7 +891,7 @@ class CUP$Parser$actions {
 		SqlArtifact artifact = (SqlArtifact)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		  
          RESULT = new SqlMeta();
-         RESULT.addArtifact(artifact); 
+         parser.addArtifact(RESULT, artifact); 
         
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("Meta",0, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -813,7 +908,7 @@ class CUP$Parser$actions {
 		int artifactright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		SqlArtifact artifact = (SqlArtifact)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
-         meta.addArtifact(artifact);
+         parser.addArtifact(meta, artifact);
          RESULT = meta;
         
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("Meta",0, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
@@ -828,6 +923,7 @@ class CUP$Parser$actions {
 		int tableright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		SqlTable table = (SqlTable)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
+          parser.tableParsed(table);
           RESULT = table;
         
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("Artifact",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
@@ -842,6 +938,7 @@ class CUP$Parser$actions {
 		int insertright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		SqlInsert insert = (SqlInsert)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
+          parser.insertParsed(insert);
           RESULT = insert;
         
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("Artifact",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
@@ -856,6 +953,7 @@ class CUP$Parser$actions {
 		int viewright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		SqlView view = (SqlView)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
+          parser.viewParsed(view);
           RESULT = view;
         
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("Artifact",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
@@ -863,7 +961,22 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 6: // View ::= CommentsOpt CREATE VIEW IDENTIFIER L_PARENT ViewColumnList R_PARENT AS SelectList DatabaseSystemsHintsOpt SEMICOLON 
+          case 6: // Artifact ::= Update 
+            {
+              SqlArtifact RESULT =null;
+		int updateleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int updateright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		SqlUpdate update = (SqlUpdate)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		
+          parser.updateParsed(update);
+          RESULT = update;
+        
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("Artifact",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // View ::= CommentsOpt CREATE VIEW IDENTIFIER L_PARENT ViewColumnList R_PARENT AS SelectList DatabaseSystemsHintsOpt SEMICOLON 
             {
               SqlView RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-10)).left;
@@ -889,7 +1002,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 7: // SelectList ::= Select 
+          case 8: // SelectList ::= Select 
             {
               List<SqlSelect> RESULT =null;
 		int selectleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -904,7 +1017,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 8: // SelectList ::= SelectList UNION ALL Select 
+          case 9: // SelectList ::= SelectList UNION ALL Select 
             {
               List<SqlSelect> RESULT =null;
 		int selectsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -922,7 +1035,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 9: // Select ::= SELECT SelectExpressionList FROM JoinTableList WhereOpt 
+          case 10: // Select ::= SELECT SelectExpressionList FROM JoinTableList WhereOpt 
             {
               SqlSelect RESULT =null;
 		int expressionsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -942,7 +1055,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 10: // ViewColumnList ::= ViewColumn 
+          case 11: // ViewColumnList ::= ViewColumn 
             {
               List<SqlViewColumn> RESULT =null;
 		int columnleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -957,7 +1070,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 11: // ViewColumnList ::= ViewColumnList COMMA ViewColumn 
+          case 12: // ViewColumnList ::= ViewColumnList COMMA ViewColumn 
             {
               List<SqlViewColumn> RESULT =null;
 		int columnsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -975,7 +1088,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 12: // ViewColumn ::= CommentsOpt IDENTIFIER DatabaseSystemsHintsOpt 
+          case 13: // ViewColumn ::= CommentsOpt IDENTIFIER DatabaseSystemsHintsOpt 
             {
               SqlViewColumn RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -995,7 +1108,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 13: // SelectExpressionList ::= SelectExpression 
+          case 14: // SelectExpressionList ::= SelectExpression 
             {
               List<SqlSelectExpression> RESULT =null;
 		int expressionleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1010,7 +1123,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 14: // SelectExpressionList ::= SelectExpressionList COMMA SelectExpression 
+          case 15: // SelectExpressionList ::= SelectExpressionList COMMA SelectExpression 
             {
               List<SqlSelectExpression> RESULT =null;
 		int expressionsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1028,7 +1141,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 15: // SelectExpression ::= CommentsOpt Atom DatabaseSystemsHintsOpt 
+          case 16: // SelectExpression ::= CommentsOpt Atom DatabaseSystemsHintsOpt 
             {
               SqlSelectExpression RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1048,7 +1161,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 16: // JoinTableList ::= TableId 
+          case 17: // JoinTableList ::= TableId 
             {
               List<SqlJoinTable> RESULT =null;
 		int tableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1063,7 +1176,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 17: // JoinTableList ::= JoinTableList COMMA TableId 
+          case 18: // JoinTableList ::= JoinTableList COMMA TableId 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1081,7 +1194,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 18: // JoinTableList ::= JoinTableList INNER JOIN TableId ON LogicalExpression 
+          case 19: // JoinTableList ::= JoinTableList INNER JOIN TableId ON LogicalExpression 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -1102,7 +1215,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 19: // JoinTableList ::= JoinTableList LEFT JOIN TableId ON LogicalExpression 
+          case 20: // JoinTableList ::= JoinTableList LEFT JOIN TableId ON LogicalExpression 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -1123,7 +1236,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 20: // JoinTableList ::= JoinTableList LEFT OUTER JOIN TableId ON LogicalExpression 
+          case 21: // JoinTableList ::= JoinTableList LEFT OUTER JOIN TableId ON LogicalExpression 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -1144,7 +1257,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 21: // JoinTableList ::= JoinTableList RIGHT JOIN TableId ON LogicalExpression 
+          case 22: // JoinTableList ::= JoinTableList RIGHT JOIN TableId ON LogicalExpression 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -1165,7 +1278,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 22: // JoinTableList ::= JoinTableList RIGHT OUTER JOIN TableId ON LogicalExpression 
+          case 23: // JoinTableList ::= JoinTableList RIGHT OUTER JOIN TableId ON LogicalExpression 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -1186,7 +1299,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 23: // JoinTableList ::= JoinTableList FULL JOIN TableId ON LogicalExpression 
+          case 24: // JoinTableList ::= JoinTableList FULL JOIN TableId ON LogicalExpression 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -1207,7 +1320,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 24: // JoinTableList ::= JoinTableList FULL OUTER JOIN TableId ON LogicalExpression 
+          case 25: // JoinTableList ::= JoinTableList FULL OUTER JOIN TableId ON LogicalExpression 
             {
               List<SqlJoinTable> RESULT =null;
 		int tablesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -1228,7 +1341,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 25: // TableId ::= IDENTIFIER 
+          case 26: // TableId ::= IDENTIFIER 
             {
               SqlTableId RESULT =null;
 		int tableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1242,7 +1355,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 26: // TableId ::= IDENTIFIER IDENTIFIER 
+          case 27: // TableId ::= IDENTIFIER IDENTIFIER 
             {
               SqlTableId RESULT =null;
 		int tableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1259,7 +1372,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 27: // TableId ::= IDENTIFIER AS IDENTIFIER 
+          case 28: // TableId ::= IDENTIFIER AS IDENTIFIER 
             {
               SqlTableId RESULT =null;
 		int tableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1276,7 +1389,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 28: // LogicalExpression ::= AndExpression 
+          case 29: // LogicalExpression ::= AndExpression 
             {
               SqlSimpleExpr RESULT =null;
 		int andleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1290,7 +1403,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 29: // LogicalExpression ::= LogicalExpression OR AndExpression 
+          case 30: // LogicalExpression ::= LogicalExpression OR AndExpression 
             {
               SqlSimpleExpr RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1307,7 +1420,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 30: // AndExpression ::= SimpleExpr 
+          case 31: // AndExpression ::= SimpleExpr 
             {
               SqlSimpleExpr RESULT =null;
 		int exprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1321,7 +1434,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 31: // AndExpression ::= AndExpression AND SimpleExpr 
+          case 32: // AndExpression ::= AndExpression AND SimpleExpr 
             {
               SqlSimpleExpr RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1338,7 +1451,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 32: // SimpleExpr ::= BinaryRelation 
+          case 33: // SimpleExpr ::= BinaryRelation 
             {
               SqlSimpleExpr RESULT =null;
 		int binRelationleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1352,7 +1465,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 33: // SimpleExpr ::= NOT SimpleExpr 
+          case 34: // SimpleExpr ::= NOT SimpleExpr 
             {
               SqlSimpleExpr RESULT =null;
 		int exprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1366,7 +1479,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 34: // SimpleExpr ::= L_PARENT LogicalExpression R_PARENT 
+          case 35: // SimpleExpr ::= L_PARENT LogicalExpression R_PARENT 
             {
               SqlSimpleExpr RESULT =null;
 		int exprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1380,7 +1493,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 35: // BinaryRelation ::= Atom EQUAL Atom 
+          case 36: // BinaryRelation ::= Atom EQUAL Atom 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1397,7 +1510,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 36: // BinaryRelation ::= Atom NOT_EQUAL Atom 
+          case 37: // BinaryRelation ::= Atom NOT_EQUAL Atom 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1414,7 +1527,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 37: // BinaryRelation ::= Atom LESS Atom 
+          case 38: // BinaryRelation ::= Atom LESS Atom 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1431,7 +1544,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 38: // BinaryRelation ::= Atom LESS_EQUAL Atom 
+          case 39: // BinaryRelation ::= Atom LESS_EQUAL Atom 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1448,7 +1561,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 39: // BinaryRelation ::= Atom GREATER Atom 
+          case 40: // BinaryRelation ::= Atom GREATER Atom 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1465,7 +1578,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 40: // BinaryRelation ::= Atom GREATER_EQUAL Atom 
+          case 41: // BinaryRelation ::= Atom GREATER_EQUAL Atom 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1482,7 +1595,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 41: // BinaryRelation ::= Atom IS NULL 
+          case 42: // BinaryRelation ::= Atom IS NULL 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1496,7 +1609,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 42: // BinaryRelation ::= Atom IS NOT NULL 
+          case 43: // BinaryRelation ::= Atom IS NOT NULL 
             {
               SqlBinaryRelation RESULT =null;
 		int firstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -1510,7 +1623,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 43: // Atom ::= FullQualifiedColumnName 
+          case 44: // Atom ::= FullQualifiedColumnName 
             {
               SqlAtom RESULT =null;
 		int fqColumnNameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1524,7 +1637,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 44: // Atom ::= CaseExpr 
+          case 45: // Atom ::= CaseExpr 
             {
               SqlAtom RESULT =null;
 		int caseExprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1538,7 +1651,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 45: // Atom ::= ComplexCaseExpr 
+          case 46: // Atom ::= ComplexCaseExpr 
             {
               SqlAtom RESULT =null;
 		int complexCaseExprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1552,7 +1665,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 46: // Atom ::= Literal 
+          case 47: // Atom ::= Literal 
             {
               SqlAtom RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1566,7 +1679,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 47: // Atom ::= Function 
+          case 48: // Atom ::= Function 
             {
               SqlAtom RESULT =null;
 		int functionleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1580,7 +1693,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 48: // FullQualifiedColumnName ::= IDENTIFIER 
+          case 49: // FullQualifiedColumnName ::= IDENTIFIER 
             {
               SqlFullQualifiedColumnName RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1594,7 +1707,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 49: // FullQualifiedColumnName ::= IDENTIFIER DOT IDENTIFIER 
+          case 50: // FullQualifiedColumnName ::= IDENTIFIER DOT IDENTIFIER 
             {
               SqlFullQualifiedColumnName RESULT =null;
 		int tableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1611,7 +1724,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 50: // CaseExpr ::= CASE FullQualifiedColumnName WhenThenList END 
+          case 51: // CaseExpr ::= CASE FullQualifiedColumnName WhenThenList END 
             {
               SqlCaseExpr RESULT =null;
 		int fqColumnNameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1628,7 +1741,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 51: // WhenThenList ::= WhenThen 
+          case 52: // WhenThenList ::= WhenThen 
             {
               List<SqlWhenThen> RESULT =null;
 		int whenThenleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1643,7 +1756,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 52: // WhenThenList ::= WhenThenList WhenThen 
+          case 53: // WhenThenList ::= WhenThenList WhenThen 
             {
               List<SqlWhenThen> RESULT =null;
 		int whenThenListleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1661,7 +1774,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 53: // WhenThen ::= WHEN Literal THEN FullQualifiedColumnName 
+          case 54: // WhenThen ::= WHEN Literal THEN FullQualifiedColumnName 
             {
               SqlWhenThen RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1678,7 +1791,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 54: // ComplexCaseExpr ::= CASE ComplexWhenThenList ElseOpt END 
+          case 55: // ComplexCaseExpr ::= CASE ComplexWhenThenList ElseOpt END 
             {
               SqlComplexCaseExpr RESULT =null;
 		int whenThenListleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1695,7 +1808,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 55: // ComplexWhenThenList ::= ComplexWhenThen 
+          case 56: // ComplexWhenThenList ::= ComplexWhenThen 
             {
               List<SqlComplexWhenThen> RESULT =null;
 		int whenThenleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1710,7 +1823,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 56: // ComplexWhenThenList ::= ComplexWhenThenList ComplexWhenThen 
+          case 57: // ComplexWhenThenList ::= ComplexWhenThenList ComplexWhenThen 
             {
               List<SqlComplexWhenThen> RESULT =null;
 		int whenThenListleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1728,7 +1841,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 57: // ComplexWhenThen ::= WHEN LogicalExpression THEN Atom 
+          case 58: // ComplexWhenThen ::= WHEN LogicalExpression THEN Atom 
             {
               SqlComplexWhenThen RESULT =null;
 		int conditionleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1745,7 +1858,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 58: // ElseOpt ::= 
+          case 59: // ElseOpt ::= 
             {
               SqlAtom RESULT =null;
 		
@@ -1756,7 +1869,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 59: // ElseOpt ::= ELSE Atom 
+          case 60: // ElseOpt ::= ELSE Atom 
             {
               SqlAtom RESULT =null;
 		int elseActionleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1770,7 +1883,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 60: // Table ::= CommentsOpt CREATE TABLE IDENTIFIER L_PARENT TableContentDefinitions R_PARENT DatabaseSystemsHintsOpt SEMICOLON 
+          case 61: // Table ::= CommentsOpt CREATE TABLE IDENTIFIER L_PARENT TableContentDefinitions R_PARENT DatabaseSystemsHintsOpt SEMICOLON 
             {
               SqlTable RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).left;
@@ -1793,7 +1906,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 61: // TableContentDefinitions ::= TableContentDefinition 
+          case 62: // TableContentDefinitions ::= TableContentDefinition 
             {
               List<SqlTableContentDefinition> RESULT =null;
 		int definitionleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1808,7 +1921,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 62: // TableContentDefinitions ::= TableContentDefinitions COMMA TableContentDefinition 
+          case 63: // TableContentDefinitions ::= TableContentDefinitions COMMA TableContentDefinition 
             {
               List<SqlTableContentDefinition> RESULT =null;
 		int definitionsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1826,7 +1939,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 63: // TableContentDefinition ::= TableColumn 
+          case 64: // TableContentDefinition ::= TableColumn 
             {
               SqlTableContentDefinition RESULT =null;
 		int columnleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1840,7 +1953,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 64: // TableContentDefinition ::= PrimaryKey 
+          case 65: // TableContentDefinition ::= PrimaryKey 
             {
               SqlTableContentDefinition RESULT =null;
 		int primaryKeyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1854,7 +1967,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 65: // TableContentDefinition ::= ForeignKey 
+          case 66: // TableContentDefinition ::= ForeignKey 
             {
               SqlTableContentDefinition RESULT =null;
 		int foreignKeyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1868,7 +1981,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 66: // TableContentDefinition ::= UniqueConstraint 
+          case 67: // TableContentDefinition ::= UniqueConstraint 
             {
               SqlTableContentDefinition RESULT =null;
 		int uniqueleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1882,7 +1995,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 67: // TableContentDefinition ::= Index 
+          case 68: // TableContentDefinition ::= Index 
             {
               SqlTableContentDefinition RESULT =null;
 		int indexleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1896,7 +2009,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 68: // TableContentDefinition ::= Trigger 
+          case 69: // TableContentDefinition ::= Trigger 
             {
               SqlTableContentDefinition RESULT =null;
 		int triggerleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1910,7 +2023,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 69: // Trigger ::= CommentsOpt TRIGGER IdentifierOpt AFTER DELETE ON IDENTIFIER EXECUTE FOR EACH ROW BEGIN DmlStatementList END OR EXECUTE FOR EACH STATEMENT BEGIN DmlStatementList END DatabaseSystemsHintsOpt 
+          case 70: // Trigger ::= CommentsOpt TRIGGER IdentifierOpt AFTER DELETE ON IDENTIFIER EXECUTE FOR EACH ROW BEGIN DmlStatementList END OR EXECUTE FOR EACH STATEMENT BEGIN DmlStatementList END DatabaseSystemsHintsOpt 
             {
               SqlTrigger RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-22)).left;
@@ -1939,7 +2052,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 70: // DmlStatementList ::= DmlStatement 
+          case 71: // DmlStatementList ::= DmlStatement 
             {
               List<SqlDmlStatement> RESULT =null;
 		int stmtleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1954,7 +2067,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 71: // DmlStatementList ::= DmlStatementList DmlStatement 
+          case 72: // DmlStatementList ::= DmlStatementList DmlStatement 
             {
               List<SqlDmlStatement> RESULT =null;
 		int stmtsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1972,7 +2085,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 72: // DmlStatement ::= Insert 
+          case 73: // DmlStatement ::= Insert 
             {
               SqlDmlStatement RESULT =null;
 		int insertleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -1986,7 +2099,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 73: // DmlStatement ::= Update 
+          case 74: // DmlStatement ::= Update 
             {
               SqlDmlStatement RESULT =null;
 		int updateleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2000,7 +2113,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 74: // TableColumn ::= CommentsOpt IDENTIFIER DataType NullOpt DefaultOpt ReferencesOpt DatabaseSystemsHintsOpt 
+          case 75: // TableColumn ::= CommentsOpt IDENTIFIER DataType NullOpt DefaultOpt ReferencesOpt DatabaseSystemsHintsOpt 
             {
               SqlTableColumn RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -2032,7 +2145,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 75: // DatabaseSystemsHintsOpt ::= 
+          case 76: // DatabaseSystemsHintsOpt ::= 
             {
               List<SqlDatabaseSystemHints> RESULT =null;
 		
@@ -2043,7 +2156,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 76: // DatabaseSystemsHintsOpt ::= DatabaseSystemsHints 
+          case 77: // DatabaseSystemsHintsOpt ::= DatabaseSystemsHints 
             {
               List<SqlDatabaseSystemHints> RESULT =null;
 		int hintsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2057,7 +2170,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 77: // DatabaseSystemsHints ::= DatabaseSystemHints 
+          case 78: // DatabaseSystemsHints ::= DatabaseSystemHints 
             {
               List<SqlDatabaseSystemHints> RESULT =null;
 		int hintsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2072,7 +2185,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 78: // DatabaseSystemsHints ::= DatabaseSystemsHints DatabaseSystemHints 
+          case 79: // DatabaseSystemsHints ::= DatabaseSystemsHints DatabaseSystemHints 
             {
               List<SqlDatabaseSystemHints> RESULT =null;
 		int dbmsHintsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -2090,7 +2203,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 79: // DatabaseSystemHints ::= FOR IDENTIFIER USE L_PARENT DatabaseSystemHintList R_PARENT 
+          case 80: // DatabaseSystemHints ::= FOR IDENTIFIER USE L_PARENT DatabaseSystemHintList R_PARENT 
             {
               SqlDatabaseSystemHints RESULT =null;
 		int dbmsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -2107,7 +2220,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 80: // DatabaseSystemHintList ::= DatabaseSystemHint 
+          case 81: // DatabaseSystemHintList ::= DatabaseSystemHint 
             {
               List<SqlDatabaseSystemHint> RESULT =null;
 		int hintleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2122,7 +2235,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 81: // DatabaseSystemHintList ::= DatabaseSystemHintList COMMA DatabaseSystemHint 
+          case 82: // DatabaseSystemHintList ::= DatabaseSystemHintList COMMA DatabaseSystemHint 
             {
               List<SqlDatabaseSystemHint> RESULT =null;
 		int listleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -2140,7 +2253,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 82: // DatabaseSystemHint ::= IDENTIFIER DatabaseSystemHintValueOpt 
+          case 83: // DatabaseSystemHint ::= IDENTIFIER DatabaseSystemHintValueOpt 
             {
               SqlDatabaseSystemHint RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -2157,7 +2270,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 83: // DatabaseSystemHintValueOpt ::= 
+          case 84: // DatabaseSystemHintValueOpt ::= 
             {
               String RESULT =null;
 		
@@ -2168,7 +2281,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 84: // DatabaseSystemHintValueOpt ::= EQUAL STRING_LITERAL 
+          case 85: // DatabaseSystemHintValueOpt ::= EQUAL STRING_LITERAL 
             {
               String RESULT =null;
 		int valueleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2182,7 +2295,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 85: // NullOpt ::= 
+          case 86: // NullOpt ::= 
             {
               Boolean RESULT =null;
 		
@@ -2193,7 +2306,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 86: // NullOpt ::= NULL 
+          case 87: // NullOpt ::= NULL 
             {
               Boolean RESULT =null;
 		
@@ -2204,7 +2317,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 87: // NullOpt ::= NOT NULL 
+          case 88: // NullOpt ::= NOT NULL 
             {
               Boolean RESULT =null;
 		
@@ -2215,7 +2328,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 88: // DefaultOpt ::= 
+          case 89: // DefaultOpt ::= 
             {
               SqlLiteral RESULT =null;
 		
@@ -2226,7 +2339,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 89: // DefaultOpt ::= DEFAULT Literal 
+          case 90: // DefaultOpt ::= DEFAULT Literal 
             {
               SqlLiteral RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2240,7 +2353,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 90: // Literal ::= STRING_LITERAL 
+          case 91: // Literal ::= STRING_LITERAL 
             {
               SqlLiteral RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2254,7 +2367,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 91: // Literal ::= INTEGER_LITERAL 
+          case 92: // Literal ::= INTEGER_LITERAL 
             {
               SqlLiteral RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2268,7 +2381,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 92: // Literal ::= NUMBER_LITERAL 
+          case 93: // Literal ::= NUMBER_LITERAL 
             {
               SqlLiteral RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2282,7 +2395,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 93: // Literal ::= DATETIME_LITERAL 
+          case 94: // Literal ::= DATETIME_LITERAL 
             {
               SqlLiteral RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2296,7 +2409,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 94: // Literal ::= NULL 
+          case 95: // Literal ::= NULL 
             {
               SqlLiteral RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2310,7 +2423,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 95: // ReferencesOpt ::= 
+          case 96: // ReferencesOpt ::= 
             {
               SqlReference RESULT =null;
 		
@@ -2321,7 +2434,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 96: // ReferencesOpt ::= References 
+          case 97: // ReferencesOpt ::= References 
             {
               SqlReference RESULT =null;
 		int referenceleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2335,7 +2448,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 97: // PrimaryKey ::= CommentsOpt PRIMARY KEY L_PARENT TableColumnNames R_PARENT DatabaseSystemsHintsOpt 
+          case 98: // PrimaryKey ::= CommentsOpt PRIMARY KEY L_PARENT TableColumnNames R_PARENT DatabaseSystemsHintsOpt 
             {
               SqlPrimaryKey RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -2355,7 +2468,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 98: // TableColumnNames ::= IDENTIFIER 
+          case 99: // TableColumnNames ::= IDENTIFIER 
             {
               List<String> RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2370,7 +2483,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 99: // TableColumnNames ::= TableColumnNames COMMA IDENTIFIER 
+          case 100: // TableColumnNames ::= TableColumnNames COMMA IDENTIFIER 
             {
               List<String> RESULT =null;
 		int namesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -2388,7 +2501,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 100: // ForeignKey ::= CommentsOpt FOREIGN KEY L_PARENT IDENTIFIER R_PARENT References DatabaseSystemsHintsOpt 
+          case 101: // ForeignKey ::= CommentsOpt FOREIGN KEY L_PARENT IDENTIFIER R_PARENT References DatabaseSystemsHintsOpt 
             {
               SqlForeignKey RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
@@ -2411,7 +2524,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 101: // References ::= REFERENCES IDENTIFIER L_PARENT IDENTIFIER R_PARENT OnDeleteOpt 
+          case 102: // References ::= REFERENCES IDENTIFIER L_PARENT IDENTIFIER R_PARENT OnDeleteOpt 
             {
               SqlReference RESULT =null;
 		int foreignTableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -2431,7 +2544,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 102: // OnDeleteOpt ::= 
+          case 103: // OnDeleteOpt ::= 
             {
               SqlForeignKeyAction RESULT =null;
 		
@@ -2442,7 +2555,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 103: // OnDeleteOpt ::= OnDelete 
+          case 104: // OnDeleteOpt ::= OnDelete 
             {
               SqlForeignKeyAction RESULT =null;
 		int onDeleteleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2456,7 +2569,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 104: // OnDelete ::= ON DELETE CASCADE 
+          case 105: // OnDelete ::= ON DELETE CASCADE 
             {
               SqlForeignKeyAction RESULT =null;
 		
@@ -2467,7 +2580,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 105: // OnDelete ::= ON DELETE SET NULL 
+          case 106: // OnDelete ::= ON DELETE SET NULL 
             {
               SqlForeignKeyAction RESULT =null;
 		
@@ -2478,7 +2591,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 106: // OnDelete ::= ON DELETE THIS CASCADE 
+          case 107: // OnDelete ::= ON DELETE THIS CASCADE 
             {
               SqlForeignKeyAction RESULT =null;
 		
@@ -2489,7 +2602,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 107: // UniqueConstraint ::= CommentsOpt UNIQUE IdentifierOpt L_PARENT TableColumnNames R_PARENT DatabaseSystemsHintsOpt 
+          case 108: // UniqueConstraint ::= CommentsOpt UNIQUE IdentifierOpt L_PARENT TableColumnNames R_PARENT DatabaseSystemsHintsOpt 
             {
               SqlUniqueConstraint RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -2512,7 +2625,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 108: // IdentifierOpt ::= 
+          case 109: // IdentifierOpt ::= 
             {
               String RESULT =null;
 		
@@ -2523,7 +2636,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 109: // IdentifierOpt ::= IDENTIFIER 
+          case 110: // IdentifierOpt ::= IDENTIFIER 
             {
               String RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2537,7 +2650,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 110: // Index ::= CommentsOpt INDEX IdentifierOpt L_PARENT TableColumnNames R_PARENT DatabaseSystemsHintsOpt 
+          case 111: // Index ::= CommentsOpt INDEX IdentifierOpt L_PARENT TableColumnNames R_PARENT DatabaseSystemsHintsOpt 
             {
               SqlIndex RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -2560,7 +2673,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 111: // CommentsOpt ::= 
+          case 112: // CommentsOpt ::= 
             {
               String RESULT =null;
 		
@@ -2571,7 +2684,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 112: // CommentsOpt ::= Comments 
+          case 113: // CommentsOpt ::= Comments 
             {
               String RESULT =null;
 		int commentsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2585,7 +2698,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 113: // Comments ::= COMMENT 
+          case 114: // Comments ::= COMMENT 
             {
               String RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2599,7 +2712,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 114: // Comments ::= Comments COMMENT 
+          case 115: // Comments ::= Comments COMMENT 
             {
               String RESULT =null;
 		int commentsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -2616,7 +2729,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 115: // DataType ::= INTEGER 
+          case 116: // DataType ::= INTEGER 
             {
               SqlDataType RESULT =null;
 		int integerleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2630,7 +2743,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 116: // DataType ::= BIGINT 
+          case 117: // DataType ::= BIGINT 
             {
               SqlDataType RESULT =null;
 		int lngleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2644,7 +2757,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 117: // DataType ::= VARCHAR L_PARENT INTEGER_LITERAL R_PARENT 
+          case 118: // DataType ::= VARCHAR L_PARENT INTEGER_LITERAL R_PARENT 
             {
               SqlDataType RESULT =null;
 		int varcharleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -2661,7 +2774,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 118: // DataType ::= BIT 
+          case 119: // DataType ::= BIT 
             {
               SqlDataType RESULT =null;
 		int bitleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2675,7 +2788,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 119: // DataType ::= BLOB 
+          case 120: // DataType ::= BLOB 
             {
               SqlDataType RESULT =null;
 		int blobleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2689,7 +2802,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 120: // DataType ::= CLOB 
+          case 121: // DataType ::= CLOB 
             {
               SqlDataType RESULT =null;
 		int clobleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2703,7 +2816,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 121: // DataType ::= DATETIME 
+          case 122: // DataType ::= DATETIME 
             {
               SqlDataType RESULT =null;
 		int datetimeleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2717,7 +2830,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 122: // DataType ::= DATE 
+          case 123: // DataType ::= DATE 
             {
               SqlDataType RESULT =null;
 		int datetimeleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2731,7 +2844,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 123: // DataType ::= TIME 
+          case 124: // DataType ::= TIME 
             {
               SqlDataType RESULT =null;
 		int datetimeleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2745,7 +2858,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 124: // DataType ::= CHAR L_PARENT INTEGER_LITERAL R_PARENT 
+          case 125: // DataType ::= CHAR L_PARENT INTEGER_LITERAL R_PARENT 
             {
               SqlDataType RESULT =null;
 		int characterleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -2762,7 +2875,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 125: // DataType ::= NUMBER L_PARENT INTEGER_LITERAL R_PARENT 
+          case 126: // DataType ::= NUMBER L_PARENT INTEGER_LITERAL R_PARENT 
             {
               SqlDataType RESULT =null;
 		int numberleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -2779,7 +2892,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 126: // DataType ::= DECIMAL L_PARENT INTEGER_LITERAL COMMA INTEGER_LITERAL R_PARENT 
+          case 127: // DataType ::= DECIMAL L_PARENT INTEGER_LITERAL COMMA INTEGER_LITERAL R_PARENT 
             {
               SqlDataType RESULT =null;
 		int decimalleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -2799,7 +2912,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 127: // DataType ::= FLOAT 
+          case 128: // DataType ::= FLOAT 
             {
               SqlDataType RESULT =null;
 		int fltleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2813,7 +2926,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 128: // Insert ::= InsertWithSelect 
+          case 129: // Insert ::= InsertWithSelect 
             {
               SqlInsert RESULT =null;
 		int insertWithSelectleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2827,7 +2940,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 129: // Insert ::= InsertWithValues 
+          case 130: // Insert ::= InsertWithValues 
             {
               SqlInsert RESULT =null;
 		int insertWithValuesleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2841,7 +2954,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 130: // InsertWithValues ::= CommentsOpt INSERT INTO IDENTIFIER L_PARENT TableColumnNames R_PARENT VALUES L_PARENT LiteralList R_PARENT SEMICOLON 
+          case 131: // InsertWithValues ::= CommentsOpt INSERT INTO IDENTIFIER L_PARENT TableColumnNames R_PARENT VALUES L_PARENT LiteralList R_PARENT SEMICOLON 
             {
               SqlInsertWithValues RESULT =null;
 		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-11)).left;
@@ -2864,53 +2977,59 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 131: // InsertWithSelect ::= CommentsOpt INSERT INTO IDENTIFIER L_PARENT TableColumnNames R_PARENT Select SEMICOLON 
+          case 132: // InsertWithSelect ::= CommentsOpt INSERT INTO IDENTIFIER L_PARENT TableColumnNames R_PARENT Select DatabaseSystemsHintsOpt SEMICOLON 
             {
               SqlInsertWithSelect RESULT =null;
-		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).left;
-		int commentright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).right;
-		String comment = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-8)).value;
-		int tableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int tableright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String table = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int columnsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int columnsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		List<String> columns = (List<String>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int selectleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int selectright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		SqlSelect select = (SqlSelect)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		
-          RESULT = new SqlInsertWithSelect(table, columns, select, null, comment);
+		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).left;
+		int commentright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)).right;
+		String comment = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-9)).value;
+		int tableleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int tableright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		String table = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int columnsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int columnsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		List<String> columns = (List<String>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int selectleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int selectright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		SqlSelect select = (SqlSelect)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int dbSysHintsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int dbSysHintsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<SqlDatabaseSystemHints> dbSysHints = (List<SqlDatabaseSystemHints>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		
+          RESULT = new SqlInsertWithSelect(table, columns, select, dbSysHints, comment);
         
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("InsertWithSelect",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("InsertWithSelect",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-9)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 132: // Update ::= CommentsOpt UPDATE IdentifierOpt SET UpdateColumnExpressionList WhereOpt SEMICOLON 
+          case 133: // Update ::= CommentsOpt UPDATE IdentifierOpt SET UpdateColumnExpressionList WhereOpt DatabaseSystemsHintsOpt SEMICOLON 
             {
               SqlUpdate RESULT =null;
-		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int commentright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		String comment = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int columnExpressionsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int columnExpressionsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		List<SqlUpdateColumnExpression> columnExpressions = (List<SqlUpdateColumnExpression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int filterExprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int filterExprright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		SqlSimpleExpr filterExpr = (SqlSimpleExpr)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int commentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
+		int commentright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
+		String comment = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int columnExpressionsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int columnExpressionsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		List<SqlUpdateColumnExpression> columnExpressions = (List<SqlUpdateColumnExpression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int filterExprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int filterExprright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		SqlSimpleExpr filterExpr = (SqlSimpleExpr)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int dbSysHintsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int dbSysHintsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<SqlDatabaseSystemHints> dbSysHints = (List<SqlDatabaseSystemHints>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		
-        RESULT = new SqlUpdate(id, columnExpressions, filterExpr, null, comment);
+        RESULT = new SqlUpdate(id, columnExpressions, filterExpr, dbSysHints, comment);
       
-              CUP$Parser$result = parser.getSymbolFactory().newSymbol("Update",57, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("Update",57, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 133: // UpdateColumnExpressionList ::= UpdateColumnExpression 
+          case 134: // UpdateColumnExpressionList ::= UpdateColumnExpression 
             {
               List<SqlUpdateColumnExpression> RESULT =null;
 		int columnExpressionleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2925,7 +3044,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 134: // UpdateColumnExpressionList ::= UpdateColumnExpressionList COMMA UpdateColumnExpression 
+          case 135: // UpdateColumnExpressionList ::= UpdateColumnExpressionList COMMA UpdateColumnExpression 
             {
               List<SqlUpdateColumnExpression> RESULT =null;
 		int columnExpressionsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -2943,7 +3062,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 135: // UpdateColumnExpression ::= IDENTIFIER EQUAL Atom 
+          case 136: // UpdateColumnExpression ::= IDENTIFIER EQUAL Atom 
             {
               SqlUpdateColumnExpression RESULT =null;
 		int columnleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -2960,7 +3079,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 136: // WhereOpt ::= 
+          case 137: // WhereOpt ::= 
             {
               SqlSimpleExpr RESULT =null;
 		
@@ -2971,7 +3090,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 137: // WhereOpt ::= WHERE LogicalExpression 
+          case 138: // WhereOpt ::= WHERE LogicalExpression 
             {
               SqlSimpleExpr RESULT =null;
 		int exprleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -2985,7 +3104,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 138: // LiteralList ::= Literal 
+          case 139: // LiteralList ::= Literal 
             {
               List<SqlLiteral> RESULT =null;
 		int litleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3000,7 +3119,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 139: // LiteralList ::= LiteralList COMMA Literal 
+          case 140: // LiteralList ::= LiteralList COMMA Literal 
             {
               List<SqlLiteral> RESULT =null;
 		int literalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -3018,7 +3137,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 140: // Function ::= IDENTIFIER L_PARENT ArgumentListOpt R_PARENT 
+          case 141: // Function ::= IDENTIFIER L_PARENT ArgumentListOpt R_PARENT 
             {
               SqlFunction RESULT =null;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -3035,7 +3154,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 141: // ArgumentListOpt ::= 
+          case 142: // ArgumentListOpt ::= 
             {
               List<SqlAtom> RESULT =null;
 		
@@ -3046,7 +3165,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 142: // ArgumentListOpt ::= Atom 
+          case 143: // ArgumentListOpt ::= Atom 
             {
               List<SqlAtom> RESULT =null;
 		int argumentleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
@@ -3061,7 +3180,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 143: // ArgumentListOpt ::= ArgumentListOpt COMMA Atom 
+          case 144: // ArgumentListOpt ::= ArgumentListOpt COMMA Atom 
             {
               List<SqlAtom> RESULT =null;
 		int argumentsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -539,6 +539,11 @@ public class Scanner implements java_cup.runtime.Scanner {
   private StringBuilder string = new StringBuilder();
   /** The start-position of the String. */
   private int stringStart;
+  /**
+   * The identifiers and string literals scanned so far. Equal names share one
+   * String instance, which keeps the model small.
+   */
+  private final java.util.Map<String, String> symbols = new java.util.HashMap<>();
   
   /** Message */ 
   private static final String END_OF_FILE="End of File";
@@ -549,6 +554,31 @@ public class Scanner implements java_cup.runtime.Scanner {
   /** Message */
   private static final String ILLEGAL_STRING_CONSTANTS="Illegal String Constants";
   
+  /**
+   * Creates a new scanner that scans the given characters. The characters are
+   * used as input buffer, so that the scanner never has to refill it from a
+   * reader. The scanner modifies the given array.
+   * @param input the characters to scan
+   * @param length number of characters in the input array to scan
+   */
+  public Scanner(char[] input, int length)
+  {
+    this(java.io.Reader.nullReader());
+    zzBuffer = input;
+    zzEndRead = length;
+  }
+  
+  /**
+   * Returns the shared instance of the given identifier or string literal.
+   * @param text identifier or string literal
+   * @return shared instance
+   */
+  private String intern(String text)
+  {
+    String symbol = symbols.putIfAbsent(text, text);
+    return symbol == null ? text : symbol;
+  }
+  
   /**
    * Creates a symbol without value.
    * @param type The type of the symbol.
@@ -991,7 +1021,7 @@ public class Scanner implements java_cup.runtime.Scanner {
           }
         case 107: break;
         case 4: 
-          { return symbol(IDENTIFIER, "Identifier", yytext(), yytext().length());
+          { return symbol(IDENTIFIER, "Identifier", intern(yytext()), yytext().length());
           }
         case 108: break;
         case 9: 
@@ -1100,7 +1130,7 @@ public class Scanner implements java_cup.runtime.Scanner {
         case 134: break;
         case 16: 
           { yybegin(YYINITIAL); 
-                       return symbol(STRING_LITERAL, "String", string.toString(), string.length());
+                       return symbol(STRING_LITERAL, "String", intern(string.toString()), string.length());
           }
         case 135: break;
         case 14: 
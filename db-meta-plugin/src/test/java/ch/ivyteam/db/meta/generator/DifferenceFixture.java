@@ -0,0 +1,120 @@
+package ch.ivyteam.db.meta.generator;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import org.apache.commons.lang3.StringUtils;
+
+import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+/**
+ * Test case of the {@link MetaOutputDifferenceGenerator} in
+ * src/test/resources/difference. It consists of the meta definitions
+ * <code>name_from.meta</code> and <code>name_to.meta</code>, an optional
+ * additional conversion <code>name_conversion.meta</code> and the expected
+ * scripts <code>name[_variant]_database.sql</code>.
+ */
+final class DifferenceFixture {
+
+  static final File DIRECTORY = new File("src/test/resources/difference");
+  private final String name;
+
+  DifferenceFixture(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return meta definition to convert from
+   * @throws Exception
+   */
+  SqlMeta from() throws Exception {
+    return parse("_from.meta");
+  }
+
+  /**
+   * @return meta definition to convert to
+   * @throws Exception
+   */
+  SqlMeta to() throws Exception {
+    return parse("_to.meta");
+  }
+
+  /**
+   * @param scriptGenerator
+   * @return conversion script without the header and the version update and
+   *         with \n line ends
+   * @throws Exception
+   */
+  String script(SqlScriptGenerator scriptGenerator) throws Exception {
+    return script(scriptGenerator, conversion());
+  }
+
+  /**
+   * @param scriptGenerator
+   * @param conversion additional conversion to use instead of the one of the
+   *          test case
+   * @return conversion script without the header and the version update and
+   *         with \n line ends
+   * @throws Exception
+   */
+  String script(SqlScriptGenerator scriptGenerator, SqlMeta conversion) throws Exception {
+    var script = new StringWriter();
+    try (var pr = new PrintWriter(script)) {
+      generate(scriptGenerator, conversion, pr);
+    }
+    return removeHeaderAndUpdateVersion(script.toString());
+  }
+
+  /**
+   * @param variant variant of the script (e.g. online) or an empty string
+   * @param database short name of the database (e.g. postgre)
+   * @return expected conversion script
+   * @throws Exception
+   */
+  String expected(String variant, String database) throws Exception {
+    String suffix = variant.isEmpty() ? "_" + database : "_" + variant + "_" + database;
+    return normalizeLineEnds(Files.readString(new File(DIRECTORY, name + suffix + ".sql").toPath()));
+  }
+
+  /**
+   * @param scriptGenerator
+   * @return difference generator that has generated the conversion script
+   * @throws Exception
+   */
+  MetaOutputDifferenceGenerator generate(SqlScriptGenerator scriptGenerator) throws Exception {
+    try (var pr = new PrintWriter(new StringWriter())) {
+      return generate(scriptGenerator, conversion(), pr);
+    }
+  }
+
+  private MetaOutputDifferenceGenerator generate(SqlScriptGenerator scriptGenerator, SqlMeta conversion,
+          PrintWriter pr) throws Exception {
+    var differenceGenerator = new MetaOutputDifferenceGenerator(from(), to(), conversion, scriptGenerator, 2);
+    differenceGenerator.generate(pr);
+    return differenceGenerator;
+  }
+
+  private SqlMeta conversion() throws Exception {
+    File conversion = new File(DIRECTORY, name + "_conversion.meta");
+    return conversion.exists() ? parse("_conversion.meta") : null;
+  }
+
+  private SqlMeta parse(String suffix) throws Exception {
+    return MetaOutputDifferenceGenerator.parseMetaDefinitions(new File(DIRECTORY, name + suffix));
+  }
+
+  private static String removeHeaderAndUpdateVersion(String testee) {
+    testee = normalizeLineEnds(testee);
+    testee = StringUtils.substringAfter(testee, "\n");
+    testee = testee.replaceFirst("(?s)\n(--|#) Update Version.*", "");
+    testee = testee.trim();
+    return testee;
+  }
+
+  private static String normalizeLineEnds(String testee) {
+    return StringUtils.replace(testee, "\r\n", "\n");
+  }
+}
@@ -0,0 +1,371 @@
+package ch.ivyteam.db.meta.generator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Writes synthetic meta definitions of any size for stress tests and
+ * benchmarks. The same seed and counts always produce the same meta
+ * definition. Every table has an id, a state and data columns, foreign keys
+ * to tables defined before it (with cascade, set null and
+ * <code>NoReferenceUseTrigger</code> hints), indexes and insert rows. Some
+ * tables define a delete trigger and some views join a table with its parent.
+ * <p>
+ * {@link #nextVersion()} writes a mutated version of the same meta definition
+ * to test conversion scripts: added, dropped and changed columns, added
+ * indexes, changed inserts, added tables and an added and a dropped view.
+ * </p>
+ */
+public final class SyntheticMeta {
+
+  private static final String TABLE = "IWA_Synthetic";
+  private static final String VIEW = "IWA_SyntheticView";
+  private static final String[] DATA_TYPES = {"INTEGER", "BIGINT", "VARCHAR(200)", "BIT", "DATETIME",
+      "DECIMAL(19,4)", "CLOB"};
+  private final long seed;
+  private int tables = 100;
+  private int columns = 6;
+  private int foreignKeys = 2;
+  private int indexes = 1;
+  private int views = 10;
+  private int triggers = 10;
+  private int inserts = 2;
+  private double mutationRate = 0.1;
+
+  /**
+   * @param seed seed of the random decisions
+   */
+  public SyntheticMeta(long seed) {
+    this.seed = seed;
+  }
+
+  public SyntheticMeta tables(int count) {
+    this.tables = count;
+    return this;
+  }
+
+  /**
+   * @param count number of data columns per table in addition to the id, the
+   *          state and the foreign key columns
+   */
+  public SyntheticMeta columns(int count) {
+    this.columns = count;
+    return this;
+  }
+
+  /**
+   * @param count maximum number of foreign keys per table
+   */
+  public SyntheticMeta foreignKeys(int count) {
+    this.foreignKeys = count;
+    return this;
+  }
+
+  /**
+   * @param count number of indexes per table
+   */
+  public SyntheticMeta indexes(int count) {
+    this.indexes = count;
+    return this;
+  }
+
+  public SyntheticMeta views(int count) {
+    this.views = count;
+    return this;
+  }
+
+  /**
+   * @param count number of tables with a delete trigger on their parent table
+   */
+  public SyntheticMeta triggers(int count) {
+    this.triggers = count;
+    return this;
+  }
+
+  /**
+   * @param count number of insert rows per table
+   */
+  public SyntheticMeta inserts(int count) {
+    this.inserts = count;
+    return this;
+  }
+
+  /**
+   * @param rate probability that a table is changed in the next version
+   */
+  public SyntheticMeta mutationRate(double rate) {
+    this.mutationRate = rate;
+    return this;
+  }
+
+  /**
+   * @return the meta definition
+   */
+  public String create() {
+    return write(false);
+  }
+
+  /**
+   * @return the mutated next version of the meta definition
+   */
+  public String nextVersion() {
+    return write(true);
+  }
+
+  /**
+   * Writes the meta definition or its next version to the given file
+   * @param file
+   * @param nextVersion
+   * @return the file
+   * @throws IOException
+   */
+  public File write(File file, boolean nextVersion) throws IOException {
+    Files.writeString(file.toPath(), write(nextVersion), UTF_8);
+    return file;
+  }
+
+  private String write(boolean nextVersion) {
+    int tableCount = tables;
+    if (nextVersion) {
+      tableCount += (int) Math.ceil(tables * mutationRate / 10);
+    }
+    List<Table> allTables = new ArrayList<>();
+    var meta = new StringBuilder();
+    int triggerStep = triggers > 0 ? Math.max(1, tables / triggers) : 0;
+    // every table gets its own random, so that a table does not depend on the
+    // decisions made for other tables or on the version
+    var tableSeeds = new Random(seed);
+    var mutationSeeds = new Random(~seed);
+    for (int pos = 0; pos < tableCount; pos++) {
+      var table = new Table(pos, new Random(tableSeeds.nextLong()));
+      long mutationSeed = mutationSeeds.nextLong();
+      if (triggerStep > 0 && pos > 0 && (pos + 1) % triggerStep == 0 && (pos + 1) / triggerStep <= triggers) {
+        table.trigger = true;
+      }
+      if (nextVersion && pos < tables) {
+        table.mutate(new Random(mutationSeed));
+      }
+      table.write(meta);
+      allTables.add(table);
+    }
+    int viewCount = views;
+    int firstView = 0;
+    if (nextVersion && views > 0) {
+      firstView = 1;
+      viewCount++;
+    }
+    for (int pos = firstView; pos < viewCount; pos++) {
+      writeView(meta, pos, allTables.get((int) ((long) pos * tables / Math.max(views, 1)) % tables));
+    }
+    return meta.toString();
+  }
+
+  private static void writeView(StringBuilder meta, int pos, Table table) {
+    meta.append("-- Synthetic view ").append(pos).append('\n');
+    meta.append("CREATE VIEW ").append(VIEW).append(pos).append("\n(\n");
+    meta.append("  Id,\n  State");
+    if (table.parent >= 0) {
+      meta.append(",\n  ParentState");
+    }
+    meta.append("\n)\nAS SELECT\n");
+    meta.append("  ").append(table.name).append('.').append(table.id).append(",\n");
+    meta.append("  ").append(table.name).append(".State");
+    if (table.parent >= 0) {
+      meta.append(",\n  ").append(TABLE).append(table.parent).append(".State\n");
+      meta.append("FROM ").append(table.name).append('\n');
+      meta.append("INNER JOIN ").append(TABLE).append(table.parent).append(" ON ")
+              .append(table.name).append(".Parent0Id=").append(TABLE).append(table.parent).append('.')
+              .append(idOf(table.parent));
+    } else {
+      meta.append("\nFROM ").append(table.name);
+    }
+    meta.append(";\n\n");
+  }
+
+  private static String idOf(int table) {
+    return "Synthetic" + table + "Id";
+  }
+
+  private final class Table {
+
+    private final int pos;
+    private final String name;
+    private final String id;
+    private final List<Column> dataColumns = new ArrayList<>();
+    private final List<String> foreignKeyColumns = new ArrayList<>();
+    private final List<String> indexDefinitions = new ArrayList<>();
+    private int parent = -1;
+    private boolean trigger;
+    private int changedInsert = -1;
+
+    private Table(int pos, Random random) {
+      this.pos = pos;
+      this.name = TABLE + pos;
+      this.id = idOf(pos);
+      for (int column = 0; column < columns; column++) {
+        String dataType = DATA_TYPES[random.nextInt(DATA_TYPES.length)];
+        boolean notNull = !dataType.equals("DATETIME") && !dataType.equals("CLOB") && random.nextBoolean();
+        dataColumns.add(new Column("Column" + column, dataType, notNull));
+      }
+      int references = Math.min(foreignKeys, pos);
+      for (int fk = 0; fk < references; fk++) {
+        int referenced = random.nextInt(pos);
+        if (fk == 0) {
+          parent = referenced;
+        }
+        foreignKeyColumns.add(foreignKeyColumn(fk, referenced, random.nextInt(3)));
+      }
+      for (int index = 0; index < indexes && !dataColumns.isEmpty(); index++) {
+        Column column = dataColumns.get(random.nextInt(dataColumns.size()));
+        if (!column.dataType.equals("CLOB")) {
+          column.indexed = true;
+          indexDefinitions.add("INDEX " + name + "_Index" + index + " (" + column.name + ")");
+        }
+      }
+    }
+
+    private String foreignKeyColumn(int fk, int referenced, int action) {
+      String column = "Parent" + fk + "Id BIGINT";
+      if (action == 0) {
+        column += " NOT NULL";
+      }
+      column += " REFERENCES " + TABLE + referenced + "(" + idOf(referenced) + ")";
+      if (action == 0) {
+        column += " ON DELETE CASCADE";
+      } else if (action == 1) {
+        column += " ON DELETE SET NULL\n    FOR MsSqlServer USE (NoReferenceUseTrigger)"
+                + "\n    FOR MySql USE (NoReferenceUseTrigger)";
+      }
+      return column;
+    }
+
+    private void mutate(Random random) {
+      if (random.nextDouble() >= mutationRate) {
+        return;
+      }
+      switch (random.nextInt(5)) {
+        case 0:
+          dataColumns.add(new Column("Added" + pos, "VARCHAR(100)", false));
+          break;
+        case 1:
+          if (!dataColumns.isEmpty() && !dataColumns.get(dataColumns.size() - 1).indexed) {
+            dataColumns.remove(dataColumns.size() - 1);
+          }
+          break;
+        case 2:
+          for (Column column : dataColumns) {
+            if (column.dataType.startsWith("VARCHAR")) {
+              column.dataType = "VARCHAR(400)";
+              break;
+            }
+          }
+          break;
+        case 3:
+          if (!dataColumns.isEmpty() && !dataColumns.get(0).dataType.equals("CLOB")) {
+            indexDefinitions.add("INDEX " + name + "_Added (" + dataColumns.get(0).name + ")");
+          }
+          break;
+        default:
+          changedInsert = 0;
+          break;
+      }
+    }
+
+    private void write(StringBuilder meta) {
+      meta.append("-- Synthetic table ").append(pos).append('\n');
+      meta.append("CREATE TABLE ").append(name).append("\n(\n");
+      List<String> definitions = new ArrayList<>();
+      definitions.add("-- Identifies the row\n  " + id + " BIGINT NOT NULL");
+      definitions.add("State INTEGER NOT NULL");
+      definitions.addAll(foreignKeyColumns);
+      for (Column column : dataColumns) {
+        definitions.add(column.definition());
+      }
+      definitions.add("PRIMARY KEY (" + id + ")");
+      definitions.addAll(indexDefinitions);
+      if (trigger && parent >= 0) {
+        definitions.add(trigger());
+      }
+      meta.append("  ").append(String.join(",\n  ", definitions)).append("\n);\n");
+      for (int row = 0; row < inserts; row++) {
+        writeInsert(meta, row);
+      }
+      meta.append('\n');
+    }
+
+    private String trigger() {
+      String parentTable = TABLE + parent;
+      return "TRIGGER AFTER DELETE ON " + parentTable + "\n"
+              + "    EXECUTE FOR EACH ROW\n"
+              + "      BEGIN\n"
+              + "        UPDATE SET State=4\n"
+              + "        WHERE " + name + ".Parent0Id = OLD." + idOf(parent) + " AND " + name + ".State=8;\n"
+              + "      END\n"
+              + "    OR EXECUTE FOR EACH STATEMENT\n"
+              + "      BEGIN\n"
+              + "        UPDATE SET State=4\n"
+              + "        WHERE " + name + ".Parent0Id IS NULL AND " + name + ".State=8;\n"
+              + "      END\n"
+              + "    FOR Oracle USE (TriggerExecuteForEachStatement)\n"
+              + "    FOR HsqlDb USE (TriggerExecuteForEachStatement)";
+    }
+
+    private void writeInsert(StringBuilder meta, int row) {
+      List<String> names = new ArrayList<>(List.of(id, "State"));
+      List<String> values = new ArrayList<>(List.of(Integer.toString(row + 1), Integer.toString(row)));
+      for (Column column : dataColumns) {
+        String value = column.value(row + (row == changedInsert ? 1000 : 0));
+        if (value != null) {
+          names.add(column.name);
+          values.add(value);
+        }
+      }
+      meta.append("INSERT INTO ").append(name).append(" (").append(String.join(", ", names))
+              .append(") VALUES (").append(String.join(", ", values)).append(");\n");
+    }
+  }
+
+  private static final class Column {
+
+    private final String name;
+    private String dataType;
+    private final boolean notNull;
+    private boolean indexed;
+
+    private Column(String name, String dataType, boolean notNull) {
+      this.name = name;
+      this.dataType = dataType;
+      this.notNull = notNull;
+    }
+
+    private String definition() {
+      String definition = name + " " + dataType;
+      if (notNull) {
+        definition += " NOT NULL";
+      }
+      if (dataType.startsWith("VARCHAR") && !notNull) {
+        definition += " DEFAULT ''";
+      }
+      return definition;
+    }
+
+    private String value(int row) {
+      if (dataType.startsWith("VARCHAR") || dataType.equals("CLOB")) {
+        return "'" + name + " " + row + "'";
+      }
+      if (dataType.equals("BIT")) {
+        return Integer.toString(row % 2);
+      }
+      if (dataType.equals("DATETIME")) {
+        return null;
+      }
+      return Integer.toString(row);
+    }
+  }
+}
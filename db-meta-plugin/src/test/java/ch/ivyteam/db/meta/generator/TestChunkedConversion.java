@@ -0,0 +1,26 @@
+package ch.ivyteam.db.meta.generator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+/**
+ * The generated chunked conversions are checked by the chunkedConversion test
+ * case of {@link TestMetaOutputDifferenceGenerator}.
+ */
+public class TestChunkedConversion {
+
+  @Test
+  public void chunkKeyRequired() throws Exception {
+    String conversion = "UPDATE Item SET OtherId=NULL FOR PostgreSql USE (ChunkSize='10000');";
+    SqlMeta conversionMeta = SqlMetaParser.parse(conversion.getBytes(UTF_8), UTF_8);
+    assertThatThrownBy(() -> new DifferenceFixture("chunkedConversion")
+            .script(new PostgreSqlSqlScriptGenerator(), conversionMeta))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ChunkKey");
+  }
+}
@@ -0,0 +1,40 @@
+package ch.ivyteam.db.meta.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.generator.internal.ColumnChange;
+import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
+import ch.ivyteam.db.meta.generator.internal.mysql.MySqlSqlScriptGenerator;
+import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+
+public class TestColumnChange {
+
+  @Test
+  public void classify() throws Exception {
+    var generator = new PostgreSqlSqlScriptGenerator();
+    assertThat(classify(generator, "widenColumn", "Name")).isEqualTo(ColumnChange.METADATA_ONLY);
+    assertThat(classify(generator, "widenColumn", "Code")).isEqualTo(ColumnChange.METADATA_ONLY);
+    assertThat(classify(generator, "widenColumn", "Amount")).isEqualTo(ColumnChange.TABLE_REWRITE);
+    assertThat(classify(generator, "widenColumnHint", "Name")).isEqualTo(ColumnChange.METADATA_ONLY);
+  }
+
+  @Test
+  public void classifyMySql() throws Exception {
+    var generator = new MySqlSqlScriptGenerator();
+    assertThat(classify(generator, "widenColumn", "Name")).isEqualTo(ColumnChange.TABLE_REWRITE);
+    assertThat(classify(generator, "widenColumn", "Code")).isEqualTo(ColumnChange.METADATA_ONLY);
+    assertThat(classify(generator, "widenColumn", "Amount")).isEqualTo(ColumnChange.TABLE_REWRITE);
+    assertThat(classify(generator, "widenColumnHint", "Name")).isEqualTo(ColumnChange.TABLE_REWRITE);
+  }
+
+  private static ColumnChange classify(SqlScriptGenerator generator, String test, String column)
+          throws Exception {
+    var fixture = new DifferenceFixture(test);
+    SqlTable from = fixture.from().findTable("Item");
+    SqlTable to = fixture.to().findTable("Item");
+    return generator.classifyColumnChange(to, to.findColumn(column), from.findColumn(column));
+  }
+}
@@ -0,0 +1,114 @@
+package ch.ivyteam.db.meta.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ch.ivyteam.db.meta.generator.internal.JavaClassPersistencyServiceImplementationGenerator;
+import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class TestGeneratorEvents {
+
+  private static final File META = new File("src/test/resources/base/meta/simpleTest.meta");
+  private static final File OLD_VERSION_META = new File(
+          "src/test/resources/base/oldVersionMeta/simpleTestV0.meta");
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+  private Recording recording;
+  private List<RecordedEvent> recordedEvents;
+
+  @Before
+  public void before() {
+    recording = new Recording();
+    recording.enable("ch.ivyteam.db.meta.MetaParse");
+    recording.enable("ch.ivyteam.db.meta.GeneratorRun");
+    recording.enable("ch.ivyteam.db.meta.DiffPhase");
+    recording.enable("ch.ivyteam.db.meta.TemplateRender");
+    recording.start();
+  }
+
+  @After
+  public void after() {
+    recording.close();
+  }
+
+  @Test
+  public void metaParse() throws Exception {
+    new SqlMetaParser(null, 1).parse(META);
+    assertThat(events("ch.ivyteam.db.meta.MetaParse"))
+            .singleElement()
+            .satisfies(event -> {
+              assertThat(event.getString("file")).isEqualTo(META.getPath());
+              assertThat(event.getLong("bytes")).isEqualTo(META.length());
+            });
+  }
+
+  @Test
+  public void generatorRunAndTemplateRender() throws Exception {
+    var generator = new MetaOutputGenerator();
+    generator.analyseArgs(new String[] {
+        "-sql", META.getPath(),
+        "-generator", JavaClassPersistencyServiceImplementationGenerator.class.getName(),
+        "-outputDir", tempFolder.newFolder().getAbsolutePath(),
+        "-package", "ch.ivyteam.db",
+        "-entityPackage", "ch.ivyteam.data",
+        "-tables", "IWA_ClusterHost", "IWA_Application"});
+    generator.parseMetaDefinition();
+    generator.generateMetaOutput();
+    assertThat(events("ch.ivyteam.db.meta.GeneratorRun"))
+            .singleElement()
+            .satisfies(event -> {
+              assertThat(event.getString("generatorClass"))
+                      .isEqualTo(JavaClassPersistencyServiceImplementationGenerator.class.getName());
+              assertThat(event.getInt("files")).isEqualTo(2);
+            });
+    assertThat(events("ch.ivyteam.db.meta.TemplateRender"))
+            .extracting(event -> event.getString("table"))
+            .containsExactly("IWA_ClusterHost", "IWA_Application");
+  }
+
+  @Test
+  public void diffPhase() throws Exception {
+    SqlMeta from = new SqlMetaParser(null, 1).parse(OLD_VERSION_META);
+    SqlMeta to = new SqlMetaParser(null, 1).parse(META);
+    try (var pr = new PrintWriter(new StringWriter())) {
+      new MetaOutputDifferenceGenerator(from, to, null, new PostgreSqlSqlScriptGenerator(), 1).generate(pr);
+    }
+    List<RecordedEvent> events = events("ch.ivyteam.db.meta.DiffPhase");
+    assertThat(events)
+            .extracting(event -> event.getString("step"))
+            .startsWith("dropViews")
+            .contains("tableModifications")
+            .endsWith("dropTemporaryStoredProcedures");
+    assertThat(events)
+            .extracting(event -> event.getString("database"))
+            .containsOnly(new PostgreSqlSqlScriptGenerator().dbName());
+  }
+
+  private List<RecordedEvent> events(String name) throws Exception {
+    if (recordedEvents == null) {
+      recording.stop();
+      Path file = tempFolder.newFile("recording.jfr").toPath();
+      recording.dump(file);
+      recordedEvents = RecordingFile.readAllEvents(file);
+    }
+    return recordedEvents.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,78 @@
+package ch.ivyteam.db.meta.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.model.internal.MetaException;
+import ch.ivyteam.db.meta.model.internal.SqlInsertWithValues;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+
+public class TestInsertDiff {
+
+  private static final String TABLES = "CREATE TABLE Test (TestId BIGINT NOT NULL, Name VARCHAR(200), "
+          + "PRIMARY KEY (TestId));\n"
+          + "CREATE TABLE Log (Name VARCHAR(200), Level INTEGER);\n";
+
+  @Test
+  public void duplicatePrimaryKey() throws Exception {
+    SqlMeta from = parse(TABLES + "INSERT INTO Test (TestId, Name) VALUES (1, 'One');");
+    SqlMeta to = parse(TABLES
+            + "INSERT INTO Test (TestId, Name) VALUES (1, 'One');\n"
+            + "INSERT INTO Test (TestId, Name) VALUES (1, 'Uno');");
+    assertThatThrownBy(() -> diff(from, to))
+            .isInstanceOf(MetaException.class)
+            .hasMessage("Table 'Test' contains more than one insert with the primary key TestId=1");
+  }
+
+  @Test
+  public void equalRowsWithoutPrimaryKey() throws Exception {
+    SqlMeta from = parse(TABLES + "INSERT INTO Log (Name) VALUES ('Start');");
+    SqlMeta to = parse(TABLES
+            + "INSERT INTO Log (Name) VALUES ('Start');\n"
+            + "INSERT INTO Log (Name) VALUES ('Start');\n"
+            + "INSERT INTO Log (Name) VALUES ('Start');");
+    InsertDiff diff = diff(from, to);
+    assertThat(diff.getRemovedInserts()).isEmpty();
+    assertThat(diff.getChangedInserts()).isEmpty();
+    assertThat(diff.getAddedInserts()).hasSize(2);
+    assertThat(diff(to, from).getRemovedInserts()).hasSize(2);
+  }
+
+  @Test
+  public void changedPrimaryKey() throws Exception {
+    SqlMeta from = parse("CREATE TABLE Text (TextId BIGINT NOT NULL, Lang VARCHAR(2) NOT NULL, "
+            + "Name VARCHAR(200), PRIMARY KEY (TextId, Lang));\n"
+            + "INSERT INTO Text (TextId, Lang, Name) VALUES (1, 'de', 'Eins');\n"
+            + "INSERT INTO Text (TextId, Lang, Name) VALUES (1, 'en', 'One');");
+    SqlMeta to = parse("CREATE TABLE Text (TextId BIGINT NOT NULL, Lang VARCHAR(2) NOT NULL, "
+            + "Name VARCHAR(200), PRIMARY KEY (TextId));\n"
+            + "INSERT INTO Text (TextId, Lang, Name) VALUES (1, 'en', 'One');");
+    InsertDiff diff = diff(from, to);
+    assertThat(diff.getRemovedInserts()).hasSize(2);
+    assertThat(diff.getChangedInserts()).isEmpty();
+    assertThat(diff.getAddedInserts()).hasSize(1);
+  }
+
+  @Test
+  public void columnOrderWithoutPrimaryKey() throws Exception {
+    SqlMeta from = parse(TABLES + "INSERT INTO Log (Name, Level) VALUES ('Start', 1);");
+    SqlMeta to = parse(TABLES + "INSERT INTO Log (Level, Name) VALUES (1, 'Start');");
+    InsertDiff diff = diff(from, to);
+    assertThat(diff.getRemovedInserts()).isEmpty();
+    assertThat(diff.getChangedInserts()).isEmpty();
+    assertThat(diff.getAddedInserts()).isEmpty();
+  }
+
+  private static InsertDiff diff(SqlMeta from, SqlMeta to) {
+    return new InsertDiff(from.getArtifacts(SqlInsertWithValues.class),
+            to.getArtifacts(SqlInsertWithValues.class), from, to);
+  }
+
+  private static SqlMeta parse(String meta) throws Exception {
+    return SqlMetaParser.parse(meta.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+  }
+}
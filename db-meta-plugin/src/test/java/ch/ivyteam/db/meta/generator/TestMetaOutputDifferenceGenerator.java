@@ -2,13 +2,13 @@ package ch.ivyteam.db.meta.generator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.io.File;
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.io.filefilter.SuffixFileFilter;
 import org.apache.commons.lang3.StringUtils;
@@ -18,65 +18,75 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
+import ch.ivyteam.db.meta.generator.internal.mssql.MsSqlServerSqlScriptGenerator;
+import ch.ivyteam.db.meta.generator.internal.mysql.MySqlSqlScriptGenerator;
 import ch.ivyteam.db.meta.generator.internal.oracle.OracleSqlScriptGenerator;
 import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
-import ch.ivyteam.db.meta.model.internal.SqlMeta;
 
+/**
+ * Compares the generated conversion scripts with the expected scripts in
+ * src/test/resources/difference. Every test case is checked for PostgreSQL
+ * and Oracle. Other databases and variants (e.g. online) are checked if an
+ * expected script <code>name[_variant]_database.sql</code> exists.
+ */
 @RunWith(Parameterized.class)
 public class TestMetaOutputDifferenceGenerator {
 
-  private static final File TESTS_DIRECTORY = new File("src/test/resources/difference");
+  private static final String DEFAULT = "default";
+  private static final String ONLINE = "online";
+  private static final Map<String, String> GENERATORS = Map.of(
+          "postgre", PostgreSqlSqlScriptGenerator.class.getName(),
+          "oracle", OracleSqlScriptGenerator.class.getName(),
+          "mssql", MsSqlServerSqlScriptGenerator.class.getName(),
+          "mysql", MySqlSqlScriptGenerator.class.getName());
+  /** Databases every test case is checked for */
+  private static final List<String> DATABASES = List.of("postgre", "oracle");
+  private static final Pattern SCRIPT = Pattern.compile("([^_]+)(?:_([^_]+))?_([^_]+)\\.sql");
   private String testName;
+  private String variant;
+  private String database;
 
-  public TestMetaOutputDifferenceGenerator(String testName) {
+  public TestMetaOutputDifferenceGenerator(String testName, String variant, String database) {
     this.testName = testName;
+    this.variant = variant;
+    this.database = database;
   }
 
-  @Parameters(name = "{0}")
+  @Parameters(name = "{0} {1} {2}")
   public static Collection<String[]> createTests() {
-    String[] names = TESTS_DIRECTORY.list(new SuffixFileFilter("_from.meta"));
-    return Arrays
-            .stream(names)
-            .map(name -> StringUtils.remove(name, "_from.meta"))
-            .map(name -> new String[] {name})
-            .collect(Collectors.toList());
-  }
-
-  @Test
-  public void postgre() throws Exception {
-    runDiffGeneratorTest(PostgreSqlSqlScriptGenerator.class.getName(), "postgre");
-  }
-
-  @Test
-  public void oracle() throws Exception {
-    runDiffGeneratorTest(OracleSqlScriptGenerator.class.getName(), "oracle");
-  }
-
-  private void runDiffGeneratorTest(String generatorName, String dbName) throws Exception {
-    SqlMeta metaFrom = MetaOutputDifferenceGenerator
-            .parseMetaDefinitions(new File(TESTS_DIRECTORY, testName + "_from.meta"));
-    SqlMeta metaTo = MetaOutputDifferenceGenerator
-            .parseMetaDefinitions(new File(TESTS_DIRECTORY, testName + "_to.meta"));
-    try (StringWriter sw = new StringWriter(); PrintWriter pr = new PrintWriter(sw)) {
-      SqlScriptGenerator scriptGenerator = MetaOutputDifferenceGenerator.findGeneratorClass(generatorName);
-      MetaOutputDifferenceGenerator differenceGenerator = new MetaOutputDifferenceGenerator(metaFrom, metaTo,
-              null, scriptGenerator, 2);
-      differenceGenerator.generate(pr);
-      String assertOutput = normalizeLineEnds(Files.readString(new File(TESTS_DIRECTORY, testName + "_" + dbName + ".sql").toPath()));
-      String testee = removeHeaderAndUpdateVersion(sw.toString());
-      assertThat(testee).isEqualTo(assertOutput);
+    List<String[]> tests = new ArrayList<>();
+    String[] names = DifferenceFixture.DIRECTORY.list(new SuffixFileFilter("_from.meta"));
+    Arrays.sort(names);
+    for (String name : names) {
+      String testName = StringUtils.remove(name, "_from.meta");
+      for (String database : DATABASES) {
+        tests.add(new String[] {testName, DEFAULT, database});
+      }
     }
+    String[] scripts = DifferenceFixture.DIRECTORY.list(new SuffixFileFilter(".sql"));
+    Arrays.sort(scripts);
+    for (String script : scripts) {
+      Matcher matcher = SCRIPT.matcher(script);
+      if (!matcher.matches() || !GENERATORS.containsKey(matcher.group(3))
+              || matcher.group(2) != null && !ONLINE.equals(matcher.group(2))) {
+        throw new IllegalStateException("Unexpected script name " + script);
+      }
+      String testVariant = matcher.group(2) == null ? DEFAULT : matcher.group(2);
+      String testDatabase = matcher.group(3);
+      if (!DEFAULT.equals(testVariant) || !DATABASES.contains(testDatabase)) {
+        tests.add(new String[] {matcher.group(1), testVariant, testDatabase});
+      }
+    }
+    return tests;
   }
 
-  private String removeHeaderAndUpdateVersion(String testee) {
-    testee = normalizeLineEnds(testee);
-    testee = StringUtils.substringAfter(testee, "\n");
-    testee = StringUtils.substringBefore(testee, "\n-- Update Version");
-    testee = testee.trim();
-    return testee;
-  }
-
-  private String normalizeLineEnds(String testee) {
-    return StringUtils.replace(testee, "\r\n", "\n");
+  @Test
+  public void generate() throws Exception {
+    SqlScriptGenerator scriptGenerator = MetaOutputDifferenceGenerator.findGeneratorClass(
+            GENERATORS.get(database));
+    scriptGenerator.setOnline(ONLINE.equals(variant));
+    var fixture = new DifferenceFixture(testName);
+    String expected = fixture.expected(DEFAULT.equals(variant) ? "" : variant, database);
+    assertThat(fixture.script(scriptGenerator)).isEqualTo(expected);
   }
 }
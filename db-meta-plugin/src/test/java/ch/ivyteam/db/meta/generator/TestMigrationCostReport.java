@@ -0,0 +1,89 @@
+package ch.ivyteam.db.meta.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ch.ivyteam.db.meta.generator.MigrationCostReport.Statement;
+import ch.ivyteam.db.meta.generator.internal.SqlScriptGenerator;
+import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
+
+public class TestMigrationCostReport {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void alteredColumns() throws Exception {
+    MigrationCostReport report = generate(new PostgreSqlSqlScriptGenerator(), "widenColumn");
+    var statistics = new TableStatistics();
+    statistics.put("Item", 1_000_000, 100);
+    assertThat(report.getStatements())
+            .extracting(Statement::getStep, Statement::getOperation, Statement::getDescription,
+                    statement -> statement.getRows(statistics))
+            .containsExactly(
+                    tuple("tableModifications", MigrationOperation.CATALOG_CHANGE, "Alter column Name", 0L),
+                    tuple("tableModifications", MigrationOperation.CATALOG_CHANGE, "Alter column Code", 0L),
+                    tuple("tableModifications", MigrationOperation.TABLE_REWRITE, "Alter column Amount",
+                            1_000_000L));
+    assertThat(report.getStatements().get(2).estimateSeconds(statistics)).isGreaterThan(2.0);
+  }
+
+  @Test
+  public void deferredForeignKeyValidation() throws Exception {
+    var generator = new PostgreSqlSqlScriptGenerator();
+    generator.setOnline(true);
+    MigrationCostReport report = generate(generator, "recreateForeignKey");
+    assertThat(report.getStatements())
+            .extracting(Statement::getStep, Statement::getOperation, Statement::getTable)
+            .contains(
+                    tuple("recreateForeignKeys", MigrationOperation.CATALOG_CHANGE, "Item"),
+                    tuple("validateForeignKeys", MigrationOperation.FK_VALIDATION, "Item"));
+  }
+
+  @Test
+  public void unknownRowCount() throws Exception {
+    MigrationCostReport report = generate(new PostgreSqlSqlScriptGenerator(), "widenColumn");
+    var statistics = TableStatistics.read(null);
+    assertThat(report.toJson(statistics))
+            .contains("\"unknownStatements\": 1,")
+            .contains("{\"step\": \"tableModifications\", \"operation\": \"TABLE_REWRITE\","
+                    + " \"table\": \"Item\", \"statement\": \"Alter column Amount\", \"rows\": null,"
+                    + " \"estimatedSeconds\": null}");
+    assertThat(report.toHtml(statistics))
+            .contains("(1 statements on tables without row count are not included)")
+            .contains("<td>Alter column Amount</td><td class=\"number\">unknown</td>");
+  }
+
+  @Test
+  public void readStatistics() throws Exception {
+    File file = tempFolder.newFile("statistics.csv");
+    Files.writeString(file.toPath(), "# table,rows,avgRowBytes\n\nItem, 1000, 250\nCategory,20\n");
+    TableStatistics statistics = TableStatistics.read(file);
+    assertThat(statistics.getRows("ITEM")).isEqualTo(1000);
+    assertThat(statistics.getRowBytes("item")).isEqualTo(250);
+    assertThat(statistics.getRows("Category")).isEqualTo(20);
+    assertThat(statistics.getRowBytes("Category")).isEqualTo(TableStatistics.DEFAULT_ROW_BYTES);
+    assertThat(statistics.getRows("Unknown")).isEqualTo(-1);
+  }
+
+  @Test
+  public void readInvalidStatistics() throws Exception {
+    File file = tempFolder.newFile("statistics.csv");
+    Files.writeString(file.toPath(), "Item,many\n");
+    assertThatThrownBy(() -> TableStatistics.read(file))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Line 1");
+  }
+
+  private static MigrationCostReport generate(SqlScriptGenerator generator, String test) throws Exception {
+    return new DifferenceFixture(test).generate(generator).getCostReport();
+  }
+}
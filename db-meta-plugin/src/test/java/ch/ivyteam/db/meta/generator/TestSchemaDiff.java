@@ -0,0 +1,147 @@
+package ch.ivyteam.db.meta.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.generator.SchemaDiff.TableDiff;
+import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlForeignKey;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlObject;
+import ch.ivyteam.db.meta.model.internal.SqlUniqueConstraint;
+
+public class TestSchemaDiff {
+
+  private SchemaDiff diff;
+
+  @Before
+  public void setUp() throws Exception {
+    diff = diff("src/test/resources/base/oldVersionMeta/simpleTestV0.meta",
+            "src/test/resources/base/meta/simpleTest.meta");
+  }
+
+  @Test
+  public void tables() {
+    assertThat(diff.getAddedTables()).extracting(SqlObject::getId)
+            .containsExactly("IWA_BusinessData", "IWA_CaseMap");
+    assertThat(diff.getDroppedTables()).isEmpty();
+    assertThat(diff.getCommonTables()).hasSize(11);
+    assertThat(diff.getChangedTables()).extracting(table -> table.getNewTable().getId())
+            .containsExactly("IWA_Application", "IWA_ExternalDatabase", "IWA_ExternalDatabaseProperty",
+                    "IWA_Library", "IWA_Case");
+  }
+
+  @Test
+  public void columns() {
+    assertThat(changed("IWA_Application").getDroppedColumns()).extracting(SqlObject::getId)
+            .containsExactly("OwnerPassword");
+    assertThat(changed("IWA_ExternalDatabase").getAddedColumns()).extracting(SqlObject::getId)
+            .containsExactly("SomeComment");
+    TableDiff library = changed("IWA_Library");
+    assertThat(library.getChangedColumns()).hasSize(1);
+    var version = library.getChangedColumns().entrySet().iterator().next();
+    assertThat(version.getKey()).isSameAs(library.getNewTable().findColumn("Version"));
+    assertThat(version.getValue()).isSameAs(library.getOldTable().findColumn("Version"));
+  }
+
+  @Test
+  public void uniqueConstraints() {
+    assertThat(changed("IWA_ExternalDatabaseProperty").getAddedUniqueConstraints())
+            .extracting(SqlUniqueConstraint::getColumns)
+            .extracting(Object::toString)
+            .containsExactly("[ExternalDatabaseId, PropertyName]", "[ExternalDatabaseId, Comment]");
+    assertThat(changed("IWA_ExternalDatabaseProperty").getDeletedUniqueConstraints()).isEmpty();
+    TableDiff namingAndDirectory = common("IWA_ExternalNamingAndDirectory");
+    assertThat(namingAndDirectory.getAddedUniqueConstraints()).hasSize(1);
+    assertThat(namingAndDirectory.isChanged()).isFalse();
+  }
+
+  @Test
+  public void foreignKeys() {
+    TableDiff caze = changed("IWA_Case");
+    assertThat(caze.getAddedColumns()).extracting(SqlObject::getId).containsExactly("CaseMapId");
+    assertThat(caze.getAddedForeignKeys()).extracting(SqlForeignKey::getColumnName)
+            .containsExactly("CaseMapId");
+    assertThat(caze.getRemovedForeignKeys()).isEmpty();
+  }
+
+  @Test
+  public void unchangedTable() {
+    TableDiff clusterHost = common("IWA_ClusterHost");
+    assertThat(clusterHost.isChanged()).isFalse();
+    assertThat(clusterHost.getChangedColumns()).isEmpty();
+    assertThat(clusterHost.getAddedIndexes()).isEmpty();
+    assertThat(clusterHost.getRemovedIndexes()).isEmpty();
+    assertThat(clusterHost.isTriggerAdded()).isFalse();
+    assertThat(clusterHost.isTriggerDeleted()).isFalse();
+    assertThat(clusterHost.isTriggerChanged()).isFalse();
+  }
+
+  @Test
+  public void triggers() throws Exception {
+    SchemaDiff triggerDiff = diff("src/test/resources/difference/dropTrigger_from.meta",
+            "src/test/resources/difference/dropTrigger_to.meta");
+    TableDiff user = triggerDiff.getCommonTables().stream()
+            .filter(table -> table.getNewTable().getId().equals("User"))
+            .findAny()
+            .orElseThrow();
+    assertThat(user.isChanged()).isFalse();
+    assertThat(user.isTriggerChanged()).isTrue();
+    assertThat(user.isTriggerAdded()).isFalse();
+    assertThat(user.isTriggerDeleted()).isFalse();
+  }
+
+  @Test
+  public void columnRenamedInCase() throws Exception {
+    SchemaDiff renameDiff = new SchemaDiff(
+            parse("CREATE TABLE Item (ItemId BIGINT NOT NULL, Name VARCHAR(50), PRIMARY KEY (ItemId));"),
+            parse("CREATE TABLE Item (ItemId BIGINT NOT NULL, NAME VARCHAR(50), PRIMARY KEY (ItemId));"),
+            new PostgreSqlSqlScriptGenerator());
+    TableDiff item = renameDiff.getChangedTables().get(0);
+    assertThat(item.getChangedColumns()).isEmpty();
+    assertThat(item.getDroppedColumns()).extracting(SqlObject::getId).containsExactly("Name");
+    assertThat(item.getAddedColumns()).extracting(SqlObject::getId).containsExactly("NAME");
+  }
+
+  @Test
+  public void unmodifiable() {
+    assertThatThrownBy(() -> diff.getAddedTables().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> diff.getChangedTables().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> changed("IWA_Library").getChangedColumns().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  private TableDiff changed(String tableName) {
+    return find(tableName, true);
+  }
+
+  private TableDiff common(String tableName) {
+    return find(tableName, false);
+  }
+
+  private TableDiff find(String tableName, boolean changed) {
+    var tables = changed ? diff.getChangedTables() : diff.getCommonTables();
+    return tables.stream()
+            .filter(table -> table.getNewTable().getId().equals(tableName))
+            .findAny()
+            .orElseThrow(() -> new AssertionError("No diff for table " + tableName));
+  }
+
+  private static SqlMeta parse(String meta) throws Exception {
+    return SqlMetaParser.parse(meta.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+  }
+
+  private static SchemaDiff diff(String from, String to) throws Exception {
+    return new SchemaDiff(MetaOutputDifferenceGenerator.parseMetaDefinitions(new File(from)),
+            MetaOutputDifferenceGenerator.parseMetaDefinitions(new File(to)),
+            new PostgreSqlSqlScriptGenerator());
+  }
+}
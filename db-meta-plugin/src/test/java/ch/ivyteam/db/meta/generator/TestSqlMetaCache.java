@@ -0,0 +1,127 @@
+package ch.ivyteam.db.meta.generator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlInsertWithValues;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlObject;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.model.internal.SqlView;
+
+public class TestSqlMetaCache {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+  private File metaFile;
+  private SqlMetaCache cache;
+
+  @Before
+  public void setUp() throws IOException {
+    metaFile = tempFolder.newFile("simpleTest.meta");
+    Files.copy(new File("src/test/resources/base/meta/simpleTest.meta").toPath(), metaFile.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+    cache = new SqlMetaCache(tempFolder.newFolder("cache"), "1.0");
+  }
+
+  @Test
+  public void parseStoresEntry() throws Exception {
+    assertThat(cache.getEntry(metaFile)).doesNotExist();
+    cache.parse(metaFile, UTF_8);
+    assertThat(cache.getEntry(metaFile)).exists();
+  }
+
+  @Test
+  public void loadFromCache() throws Exception {
+    SqlMeta parsed = cache.parse(metaFile, UTF_8);
+    Path entry = cache.getEntry(metaFile);
+    long lastModified = Files.getLastModifiedTime(entry).toMillis();
+    SqlMeta loaded = cache.parse(metaFile, UTF_8);
+    assertThat(Files.getLastModifiedTime(entry).toMillis()).isEqualTo(lastModified);
+    assertThat(loaded).isNotSameAs(parsed);
+    assertThat(loaded.getArtifacts()).hasSameSizeAs(parsed.getArtifacts());
+    assertThat(loaded.getArtifacts(SqlTable.class)).extracting(SqlObject::getId)
+            .containsExactlyElementsOf(ids(parsed, SqlTable.class));
+    assertThat(loaded.getArtifacts(SqlView.class)).extracting(SqlObject::getId)
+            .containsExactlyElementsOf(ids(parsed, SqlView.class));
+    SchemaDiff diff = new SchemaDiff(parsed, loaded, new PostgreSqlSqlScriptGenerator());
+    assertThat(diff.getAddedTables()).isEmpty();
+    assertThat(diff.getDroppedTables()).isEmpty();
+    assertThat(diff.getChangedTables()).isEmpty();
+    InsertDiff insertDiff = new InsertDiff(parsed.getArtifacts(SqlInsertWithValues.class),
+            loaded.getArtifacts(SqlInsertWithValues.class), parsed, loaded);
+    assertThat(insertDiff.getAddedInserts()).isEmpty();
+    assertThat(insertDiff.getChangedInserts()).isEmpty();
+  }
+
+  @Test
+  public void contentChanged() throws Exception {
+    cache.parse(metaFile, UTF_8);
+    Files.writeString(metaFile.toPath(),
+            "\nCREATE TABLE IWA_Added\n(\n  AddedId INTEGER NOT NULL,\n  PRIMARY KEY (AddedId)\n);\n",
+            StandardOpenOption.APPEND);
+    assertThat(cache.parse(metaFile, UTF_8).findTable("IWA_Added")).isNotNull();
+  }
+
+  @Test
+  public void versionChanged() throws Exception {
+    cache.parse(metaFile, UTF_8);
+    Path entry = cache.getEntry(metaFile);
+    Files.setLastModifiedTime(entry, FileTime.fromMillis(0L));
+    new SqlMetaCache(entry.getParent().toFile(), "2.0").parse(metaFile, UTF_8);
+    assertThat(Files.getLastModifiedTime(entry).toMillis()).isGreaterThan(0L);
+  }
+
+  @Test
+  public void classesChanged() throws Exception {
+    File directory = tempFolder.newFolder("snapshot");
+    var snapshot = new SqlMetaCache(directory, "1.0-SNAPSHOT", "classes1");
+    snapshot.parse(metaFile, UTF_8);
+    Path entry = snapshot.getEntry(metaFile);
+    Files.setLastModifiedTime(entry, FileTime.fromMillis(0L));
+    snapshot.parse(metaFile, UTF_8);
+    assertThat(Files.getLastModifiedTime(entry).toMillis()).isEqualTo(0L);
+    new SqlMetaCache(directory, "1.0-SNAPSHOT", "classes2").parse(metaFile, UTF_8);
+    assertThat(Files.getLastModifiedTime(entry).toMillis()).isGreaterThan(0L);
+  }
+
+  @Test
+  public void classFingerprint() {
+    String fingerprint = SqlMetaCache.calculateClassFingerprint();
+    assertThat(fingerprint).hasSize(64).isEqualTo(SqlMetaCache.calculateClassFingerprint());
+  }
+
+  @Test
+  public void corruptEntry() throws Exception {
+    cache.parse(metaFile, UTF_8);
+    Files.writeString(cache.getEntry(metaFile), "corrupt");
+    assertThat(cache.parse(metaFile, UTF_8).findTable("IWA_ClusterHost")).isNotNull();
+  }
+
+  @Test
+  public void entryNotWritable() throws Exception {
+    var notWritable = new SqlMetaCache(tempFolder.newFile("noDirectory"), "1.0");
+    assertThat(notWritable.parse(metaFile, UTF_8).findTable("IWA_ClusterHost")).isNotNull();
+    assertThat(notWritable.getWarnings()).singleElement().asString()
+            .startsWith("Could not store the parsed meta definition " + metaFile);
+  }
+
+  private static List<String> ids(SqlMeta meta, Class<? extends SqlObject> type) {
+    return meta.getArtifacts(type).stream().map(SqlObject::getId).toList();
+  }
+}
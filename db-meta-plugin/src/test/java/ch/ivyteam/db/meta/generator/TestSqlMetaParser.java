@@ -0,0 +1,151 @@
+package ch.ivyteam.db.meta.generator;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlObject;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.parser.internal.MetaParserException;
+
+public class TestSqlMetaParser {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void parseInFileOrder() throws Exception {
+    List<File> files = new ArrayList<>();
+    List<String> tables = new ArrayList<>();
+    for (int pos = 0; pos < 20; pos++) {
+      tables.add("IWA_Table" + pos);
+      files.add(metaFile("table" + pos + ".meta", table("IWA_Table" + pos)));
+    }
+    SqlMeta meta = new SqlMetaParser(null, 4).parse(files.toArray(new File[files.size()]));
+    assertThat(meta.getArtifacts(SqlTable.class)).extracting(SqlObject::getId)
+            .containsExactlyElementsOf(tables);
+  }
+
+  @Test
+  public void workerAllocatedBytes() throws Exception {
+    File first = metaFile("first.meta", table("IWA_First"));
+    File second = metaFile("second.meta", table("IWA_Second"));
+    var parser = new SqlMetaParser(null, 2);
+    parser.parse(first, second);
+    assertThat(parser.getWorkerAllocatedBytes()).isNotZero();
+    parser.parse(first);
+    assertThat(parser.getWorkerAllocatedBytes()).isZero();
+  }
+
+  @Test
+  public void ignoreMissingFiles() throws Exception {
+    File file = metaFile("table.meta", table("IWA_Table"));
+    SqlMeta meta = new SqlMetaParser(null, 0).parse(null, file, new File("missing.meta"));
+    assertThat(meta.findTable("IWA_Table")).isNotNull();
+  }
+
+  @Test
+  public void duplicateDefinitions() throws Exception {
+    File first = metaFile("first.meta", table("IWA_Table"));
+    File second = metaFile("second.meta", table("IWA_Other") + "\n" + table("IWA_Table"));
+    var parser = new SqlMetaParser(null, 0);
+    SqlMeta meta = parser.parse(first, second);
+    assertThat(meta.getArtifacts(SqlTable.class)).hasSize(3);
+    assertThat(parser.getDuplicateDefinitions()).containsExactly(
+            "Table IWA_Table is defined more than once: " + first.getPath() + ":1 and "
+                    + second.getPath() + ":7");
+  }
+
+  @Test
+  public void duplicateDefinitionsInSameFile() throws Exception {
+    File file = metaFile("table.meta", table("IWA_Table") + "\n" + table("IWA_Table"));
+    var parser = new SqlMetaParser(null, 0);
+    parser.parse(file);
+    assertThat(parser.getDuplicateDefinitions()).containsExactly(
+            "Table IWA_Table is defined more than once: " + file.getPath() + ":1 and "
+                    + file.getPath() + ":7");
+  }
+
+  @Test
+  public void parseError() throws Exception {
+    File valid = metaFile("valid.meta", table("IWA_Table"));
+    File invalid = metaFile("invalid.meta", "CREATE TABLE");
+    assertThatThrownBy(() -> new SqlMetaParser(null, 2).parse(valid, invalid))
+            .isInstanceOf(MetaParserException.class);
+  }
+
+  @Test
+  public void largeFile() throws Exception {
+    StringBuilder content = new StringBuilder();
+    for (int pos = 0; pos < 1000; pos++) {
+      content.append(table("IWA_Table" + pos));
+    }
+    File file = metaFile("large.meta", content.toString());
+    assertThat(file.length()).isGreaterThan(16384L);
+    SqlMeta meta = new SqlMetaParser(null, 0).parse(file);
+    assertThat(meta.getArtifacts(SqlTable.class)).hasSize(1000);
+    assertThat(meta.findTable("IWA_Table999")).isNotNull();
+  }
+
+  @Test
+  public void charset() throws Exception {
+    String content = "-- Gr\u00fcezi\n" + table("IWA_Table");
+    File utf8 = tempFolder.newFile("utf8.meta");
+    Files.write(utf8.toPath(), content.getBytes(UTF_8));
+    File latin1 = tempFolder.newFile("latin1.meta");
+    Files.write(latin1.toPath(), content.getBytes(ISO_8859_1));
+    assertThat(new SqlMetaParser(null, 0).parse(utf8).findTable("IWA_Table").getComment())
+            .contains("Gr\u00fcezi");
+    assertThat(new SqlMetaParser(null, 0, ISO_8859_1).parse(latin1).findTable("IWA_Table").getComment())
+            .contains("Gr\u00fcezi");
+    assertThatThrownBy(() -> new SqlMetaParser(null, 0).parse(latin1))
+            .isInstanceOf(IOException.class)
+            .hasCauseInstanceOf(CharacterCodingException.class);
+  }
+
+  @Test
+  public void fragments() throws Exception {
+    File first = metaFile("first.meta", table("IWA_First"));
+    File second = metaFile("second.meta", table("IWA_Second"));
+    var fragments = new SqlMetaFragments();
+    var parser = new SqlMetaParser(null, 0);
+    parser.setFragments(fragments);
+    assertThat(parser.parse(first, second).getArtifacts()).hasSize(2);
+    assertThat(fragments.size()).isEqualTo(2);
+
+    Files.writeString(first.toPath(), table("IWA_FirstChanged"));
+    Files.writeString(second.toPath(), table("IWA_SecondChanged"));
+    fragments.setChangedFiles(second::equals);
+    SqlMeta meta = parser.parse(first, second);
+    assertThat(meta.getArtifacts(SqlTable.class)).extracting(SqlObject::getId)
+            .containsExactly("IWA_First", "IWA_SecondChanged");
+
+    fragments.setChangedFiles(file -> false);
+    assertThat(parser.parse(first, second).getArtifacts()).hasSize(2);
+    fragments.retainAll(List.of(second));
+    assertThat(fragments.size()).isEqualTo(1);
+  }
+
+  private File metaFile(String name, String content) throws IOException {
+    File file = tempFolder.newFile(name);
+    Files.writeString(file.toPath(), content);
+    return file;
+  }
+
+  private static String table(String name) {
+    return "CREATE TABLE " + name + "\n(\n  Id INTEGER NOT NULL,\n  PRIMARY KEY (Id)\n);\n";
+  }
+}
@@ -0,0 +1,79 @@
+package ch.ivyteam.db.meta.generator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ch.ivyteam.db.meta.generator.internal.mssql.MsSqlServerSqlScriptGenerator;
+import ch.ivyteam.db.meta.generator.internal.postgresql.PostgreSqlSqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.model.internal.SqlTrigger;
+import ch.ivyteam.db.meta.model.internal.SqlView;
+
+public class TestSyntheticMeta {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void deterministic() {
+    assertThat(new SyntheticMeta(42).create()).isEqualTo(new SyntheticMeta(42).create());
+    assertThat(new SyntheticMeta(42).nextVersion()).isEqualTo(new SyntheticMeta(42).nextVersion());
+    assertThat(new SyntheticMeta(42).create()).isNotEqualTo(new SyntheticMeta(43).create());
+  }
+
+  @Test
+  public void create() throws Exception {
+    SqlMeta meta = parse(new SyntheticMeta(1).tables(200).views(20).triggers(10).inserts(3).create());
+    assertThat(meta.getArtifacts(SqlTable.class)).hasSize(200);
+    assertThat(meta.getArtifacts(SqlView.class)).hasSize(20);
+    assertThat(meta.getArtifacts(SqlTable.class).stream().mapToInt(table -> table.getTriggers().size()).sum())
+            .isEqualTo(10);
+    assertThat(meta.findTable("IWA_Synthetic199").getForeignKeys()).hasSize(2);
+    assertThat(meta.findTable("IWA_Synthetic0").getForeignKeys()).isEmpty();
+  }
+
+  @Test
+  public void nextVersion() throws Exception {
+    var synthetic = new SyntheticMeta(7).tables(500);
+    SqlMeta from = parse(synthetic.create());
+    SqlMeta to = parse(synthetic.nextVersion());
+    var diff = new SchemaDiff(from, to, new PostgreSqlSqlScriptGenerator());
+    assertThat(diff.getAddedTables()).hasSize(5);
+    assertThat(diff.getDroppedTables()).isEmpty();
+    assertThat(diff.getChangedTables()).isNotEmpty();
+    assertThat(diff.getAddedViews()).hasSize(1);
+    assertThat(diff.getDroppedViews()).hasSize(1);
+  }
+
+  @Test
+  public void stress() throws Exception {
+    var synthetic = new SyntheticMeta(5000).tables(5000).views(100).triggers(100);
+    File fromFile = synthetic.write(tempFolder.newFile("from.meta"), false);
+    File toFile = synthetic.write(tempFolder.newFile("to.meta"), true);
+    SqlMeta from = new SqlMetaParser(null, 0).parse(fromFile);
+    SqlMeta to = new SqlMetaParser(null, 0).parse(toFile);
+    assertThat(from.getArtifacts(SqlTable.class)).hasSize(5000);
+    assertThat(to.getArtifacts(SqlTable.class)).hasSize(5050);
+    assertThat(to.findTable("IWA_Synthetic99").getTriggers()).extracting(SqlTrigger::getTableName)
+            .containsExactly("IWA_Synthetic" + to.findTable("IWA_Synthetic99").getForeignKeys().get(0)
+                    .getReference().getForeignTable().substring("IWA_Synthetic".length()));
+    var writer = new StringWriter();
+    try (var pr = new PrintWriter(writer)) {
+      new MetaOutputDifferenceGenerator(from, to, null, new MsSqlServerSqlScriptGenerator(), 2).generate(pr);
+    }
+    assertThat(writer.toString()).contains("CREATE TABLE IWA_Synthetic5049");
+  }
+
+  private static SqlMeta parse(String meta) throws Exception {
+    return SqlMetaParser.parse(meta.getBytes(UTF_8), UTF_8);
+  }
+}
@@ -0,0 +1,78 @@
+package ch.ivyteam.db.meta.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.generator.MetaOutputDifferenceGenerator;
+import ch.ivyteam.db.meta.generator.internal.mssql.MsSqlServerSqlScriptGenerator;
+import ch.ivyteam.db.meta.model.internal.SqlDelete;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+
+public class TestTriggers {
+
+  private SqlMeta meta;
+  private Triggers triggers;
+
+  @Before
+  public void setUp() throws Exception {
+    meta = MetaOutputDifferenceGenerator
+            .parseMetaDefinitions(new File("src/test/resources/base/meta/simpleTest.meta"));
+    triggers = new MsSqlServerSqlScriptGenerator().triggers;
+  }
+
+  @Test
+  public void getTablesInDeleteOrder() {
+    var tables = triggers.getTablesInDeleteOrder(meta);
+    assertThat(tables).hasSameSizeAs(meta.getArtifacts(SqlTable.class));
+    assertThat(tables.indexOf(meta.findTable("IWA_ApplicationProperty")))
+            .isLessThan(tables.indexOf(meta.findTable("IWA_Application")));
+    assertThat(triggers.getTablesInDeleteOrder(meta)).isSameAs(tables);
+  }
+
+  @Test
+  public void getForEachRowDeleteTriggerStatements() {
+    SqlTable application = meta.findTable("IWA_Application");
+    var statements = triggers.getForEachRowDeleteTriggerStatements(meta, application);
+    assertThat(statements).isNotEmpty().allMatch(SqlDelete.class::isInstance);
+    assertThat(triggers.getForEachRowDeleteTriggerStatements(meta, application)).isSameAs(statements);
+    assertThat(triggers.hasTrigger(meta, application)).isTrue();
+  }
+
+  @Test
+  public void getForEachRowDeleteTriggerStatements_noTrigger() {
+    SqlTable property = meta.findTable("IWA_ApplicationProperty");
+    assertThat(triggers.getForEachRowDeleteTriggerStatements(meta, property)).isEmpty();
+    assertThat(triggers.getForEachStatementDeleteTriggerStatements(meta, property)).isEmpty();
+    assertThat(triggers.hasTrigger(meta, property)).isFalse();
+  }
+
+  @Test
+  public void getDeleteTrigger() throws Exception {
+    SqlTable application = meta.findTable("IWA_Application");
+    DeleteTrigger trigger = triggers.getDeleteTrigger(meta, application);
+    assertThat(trigger.exists()).isTrue();
+    assertThat(trigger.getName()).isEqualTo("IWA_ApplicationDeleteTrigger");
+    assertThat(trigger.getForEachRowStatements()).hasSameSizeAs(
+            triggers.getForEachRowDeleteTriggerStatements(meta, application));
+    assertThat(triggers.getDeleteTrigger(meta, application)).isSameAs(trigger);
+
+    SqlMeta reparsed = MetaOutputDifferenceGenerator
+            .parseMetaDefinitions(new File("src/test/resources/base/meta/simpleTest.meta"));
+    DeleteTrigger reparsedTrigger = triggers.getDeleteTrigger(reparsed, reparsed.findTable("IWA_Application"));
+    assertThat(reparsedTrigger).isNotSameAs(trigger).isEqualTo(trigger);
+    assertThat(reparsedTrigger.hashCode()).isEqualTo(trigger.hashCode());
+  }
+
+  @Test
+  public void getDeleteTrigger_differentTables() {
+    DeleteTrigger application = triggers.getDeleteTrigger(meta, meta.findTable("IWA_Application"));
+    DeleteTrigger property = triggers.getDeleteTrigger(meta, meta.findTable("IWA_ApplicationProperty"));
+    assertThat(property.exists()).isFalse();
+    assertThat(property).isNotEqualTo(application);
+  }
+}
@@ -228,6 +228,73 @@ public class TestMetaOutputDifferenceGeneratorMojo {
     assertThat(sqlContent).containsSubsequence(createTable, modifyTable, createTrigger);
   }
 
+  @Test
+  public void metrics() throws Exception {
+    execute(PostgreSqlSqlScriptGenerator.class);
+    File outputFile = getProjectFile("convertPostgreSqlSqlScriptGenerator.sql");
+    File metricsFile = new File(getProjectFile("target/db-meta/metrics"),
+            Fingerprint.metricsName(outputFile));
+    assertThat(Files.readString(metricsFile.toPath()))
+            .contains("\"goal\": \"" + MetaOutputDifferenceGeneratorMojo.GOAL + "\"")
+            .contains("{\"name\": \"parse\"", "{\"name\": \"generate\"")
+            .contains("\"outputFiles\": 1,", "\"outputBytes\": " + outputFile.length() + ",");
+  }
+
+  @Test
+  public void onlinePostgre() throws Exception {
+    mojoRule.setVariableValueToObject(mojo, "online", true);
+    String sqlContent = execute(PostgreSqlSqlScriptGenerator.class);
+    assertThat(sqlContent)
+            .contains("CREATE UNIQUE INDEX CONCURRENTLY"
+                    + " IWA_ExternalDatabaseProperty_ExternalDatabaseId_Comment_Key\n"
+                    + "ON IWA_ExternalDatabaseProperty (ExternalDatabaseId, Comment);\n"
+                    + "ALTER TABLE IWA_ExternalDatabaseProperty"
+                    + " ADD CONSTRAINT IWA_ExternalDatabaseProperty_ExternalDatabaseId_Comment_Key"
+                    + " UNIQUE USING INDEX IWA_ExternalDatabaseProperty_ExternalDatabaseId_Comment_Key;")
+            .contains("-- BLOCKING: Altering a column locks table IWA_Library until it is finished\n"
+                    + "ALTER TABLE IWA_Library ALTER COLUMN Version TYPE VARCHAR(50);")
+            .contains("-- BLOCKING: Adding a foreign key locks table IWA_Case until it is finished\n"
+                    + "ALTER TABLE IWA_Case ADD COLUMN")
+            .doesNotContain("BLOCKING: Adding a column");
+  }
+
+  @Test
+  public void onlineMsSqlServer() throws Exception {
+    mojoRule.setVariableValueToObject(mojo, "online", true);
+    String sqlContent = execute(MsSqlServerSqlScriptGenerator.class);
+    assertThat(sqlContent)
+            .contains("ALTER TABLE IWA_ExternalDatabaseProperty"
+                    + " ADD UNIQUE (ExternalDatabaseId, PropertyName) WITH (ONLINE = ON)")
+            .doesNotContain("BLOCKING: Altering a column");
+  }
+
+  @Test
+  public void costReport() throws Exception {
+    File statistics = getProjectFile("tableStatistics.csv");
+    Files.writeString(statistics.toPath(), "IWA_Library,1000000,300\n");
+    mojoRule.setVariableValueToObject(mojo, "costReport", true);
+    mojoRule.setVariableValueToObject(mojo, "tableStatistics", statistics);
+    execute(MsSqlServerSqlScriptGenerator.class);
+    assertThat(getProjectFileContent("convertMsSqlServerSqlScriptGenerator.cost.json"))
+            .contains("{\"step\": \"tableModifications\", \"operation\": \"TABLE_REWRITE\","
+                    + " \"table\": \"IWA_Library\", \"statement\": \"Alter column Version\","
+                    + " \"rows\": 1000000, \"estimatedSeconds\": 8.583}");
+    assertThat(getProjectFileContent("convertMsSqlServerSqlScriptGenerator.cost.html"))
+            .contains("<td>IWA_Library</td><td>Alter column Version</td>");
+  }
+
+  @Test
+  public void noCostReport() throws Exception {
+    execute(MsSqlServerSqlScriptGenerator.class);
+    assertThat(getProjectFile("convertMsSqlServerSqlScriptGenerator.cost.json")).doesNotExist();
+  }
+
+  @Test
+  public void notOnline() throws Exception {
+    String sqlContent = execute(PostgreSqlSqlScriptGenerator.class);
+    assertThat(sqlContent).doesNotContain("CONCURRENTLY", "BLOCKING");
+  }
+
   private String execute(Class<? extends SqlScriptGenerator> generatorClass)
           throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
     String outputFile = "convert" + generatorClass.getSimpleName() + ".sql";
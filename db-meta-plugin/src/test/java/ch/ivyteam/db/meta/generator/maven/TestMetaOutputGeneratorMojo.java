@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Date;
+import java.util.List;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -13,6 +15,7 @@ import org.assertj.core.api.AbstractFileAssert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.sonatype.plexus.build.incremental.DefaultBuildContext;
 
 import ch.ivyteam.db.meta.generator.internal.HtmlDocGenerator;
 import ch.ivyteam.db.meta.generator.internal.oracle.OracleSqlScriptGenerator;
@@ -54,6 +57,36 @@ public class TestMetaOutputGeneratorMojo {
     file.setLastModified(OLD_TIME_STAMP);
     mojo.execute();
     assertThatProjectFile("generated/IWA_ClusterHost.html").exists();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  public void unchangedFilesNotWritten()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", HtmlDocGenerator.class.getName());
+    mojo.execute();
+    File htmlFile = getProjectFile("generated/IWA_ClusterHost.html");
+    htmlFile.setLastModified(OLD_TIME_STAMP);
+    Files.writeString(getProjectFile("meta/simpleTest.meta").toPath(), "\n", StandardOpenOption.APPEND);
+    mojo.execute();
+    assertThat(htmlFile.lastModified()).isEqualTo(OLD_TIME_STAMP);
+  }
+
+  @Test
+  public void staleFilesDeleted()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", HtmlDocGenerator.class.getName());
+    mojo.execute();
+    File staleFile = getProjectFile("generated/IWA_ClusterHost.html");
+    File otherFile = getProjectFile("generated/blah.html");
+    Files.createFile(otherFile.toPath());
+    Files.writeString(getProjectFile("meta/simpleTest.meta").toPath(),
+            Files.readString(getProjectFile("meta/simpleTest.meta").toPath())
+                    .replace("IWA_ClusterHost", "IWA_Host"));
+    mojo.execute();
+    assertThatProjectFile("generated/IWA_Host.html").exists();
+    assertThat(staleFile).doesNotExist();
+    assertThat(otherFile).exists();
   }
 
   @Test
@@ -77,6 +110,138 @@ public class TestMetaOutputGeneratorMojo {
     assertThat(getProjectFile("generated/oracle.sql").lastModified()).isGreaterThan(RECENT_TIME_STAMP);
   }
 
+  @Test
+  public void upToDate()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File sqlFile = getProjectFile("generated/oracle.sql");
+    sqlFile.setLastModified(OLD_TIME_STAMP);
+    mojo.execute();
+    assertThat(sqlFile.lastModified()).isEqualTo(OLD_TIME_STAMP);
+  }
+
+  @Test
+  public void inputChanged()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File sqlFile = getProjectFile("generated/oracle.sql");
+    sqlFile.setLastModified(OLD_TIME_STAMP);
+    Files.writeString(getProjectFile("meta/simpleTest.meta").toPath(),
+            "\nCREATE TABLE IWA_Added\n(\n  AddedId INTEGER NOT NULL,\n  PRIMARY KEY (AddedId)\n);\n",
+            StandardOpenOption.APPEND);
+    mojo.execute();
+    assertThat(sqlFile.lastModified()).isGreaterThan(RECENT_TIME_STAMP);
+  }
+
+  @Test
+  public void argumentsChanged()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File sqlFile = getProjectFile("generated/oracle.sql");
+    Files.writeString(sqlFile.toPath(), "outdated");
+    sqlFile.setLastModified(OLD_TIME_STAMP);
+    mojoRule.setVariableValueToObject(mojo, "arguments", List.of("-comment", "changed"));
+    mojo.execute();
+    assertThat(sqlFile.lastModified()).isGreaterThan(RECENT_TIME_STAMP);
+  }
+
+  @Test
+  public void incrementalUpToDate()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File sqlFile = getProjectFile("generated/oracle.sql");
+    sqlFile.setLastModified(OLD_TIME_STAMP);
+    mojoRule.setVariableValueToObject(mojo, "buildContext", new IncrementalWithoutDelta());
+    mojo.execute();
+    assertThat(sqlFile.lastModified()).isEqualTo(OLD_TIME_STAMP);
+  }
+
+  @Test
+  public void incrementalArgumentsChanged()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File sqlFile = getProjectFile("generated/oracle.sql");
+    Files.writeString(sqlFile.toPath(), "outdated");
+    sqlFile.setLastModified(OLD_TIME_STAMP);
+    mojoRule.setVariableValueToObject(mojo, "buildContext", new IncrementalWithoutDelta());
+    mojoRule.setVariableValueToObject(mojo, "arguments", List.of("-comment", "changed"));
+    mojo.execute();
+    assertThat(sqlFile.lastModified()).isGreaterThan(RECENT_TIME_STAMP);
+  }
+
+  @Test
+  public void incrementalInputFileAdded()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File sqlFile = getProjectFile("generated/oracle.sql");
+    sqlFile.setLastModified(OLD_TIME_STAMP);
+    Files.writeString(getProjectFile("meta/added.meta").toPath(),
+            "CREATE TABLE IWA_Added\n(\n  AddedId INTEGER NOT NULL,\n  PRIMARY KEY (AddedId)\n);\n");
+    mojoRule.setVariableValueToObject(mojo, "buildContext", new IncrementalWithoutDelta());
+    mojo.execute();
+    assertThat(sqlFile.lastModified()).isGreaterThan(RECENT_TIME_STAMP);
+    assertThat(Files.readString(sqlFile.toPath())).contains("IWA_Added");
+  }
+
+  @Test
+  public void outputDeleted() throws IllegalAccessException, MojoExecutionException, MojoFailureException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File sqlFile = getProjectFile("generated/oracle.sql");
+    sqlFile.delete();
+    mojo.execute();
+    assertThat(sqlFile).exists();
+  }
+
+  @Test
+  public void metrics()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException, IOException {
+    mojoRule.setVariableValueToObject(mojo, "generatorClass", OracleSqlScriptGenerator.class.getName());
+    mojoRule.setVariableValueToObject(mojo, "outputFile", "oracle.sql");
+    mojo.execute();
+    File metricsFile = new File(getProjectFile("target/db-meta/metrics"),
+            Fingerprint.metricsName(getProjectFile("generated/oracle.sql")));
+    assertThat(Files.readString(metricsFile.toPath()))
+            .contains("\"goal\": \"" + MetaOutputGeneratorMojo.GOAL + "\"")
+            .contains("{\"name\": \"fingerprint\"", "{\"name\": \"parse\"", "{\"name\": \"prune\"")
+            .contains("{\"name\": \"generate\", \"generator\": \"" + OracleSqlScriptGenerator.class.getName())
+            .contains("\"bytes\": " + getProjectFile("generated/oracle.sql").length());
+
+    mojo.execute();
+    assertThat(Files.readString(metricsFile.toPath()))
+            .contains("{\"name\": \"fingerprint\"")
+            .doesNotContain("{\"name\": \"parse\"");
+  }
+
+  /**
+   * Incremental build of an IDE that reports no changed files
+   */
+  private static final class IncrementalWithoutDelta extends DefaultBuildContext {
+
+    @Override
+    public boolean isIncremental() {
+      return true;
+    }
+
+    @Override
+    public boolean hasDelta(File file) {
+      return false;
+    }
+  }
+
   private AbstractFileAssert<?> assertThatProjectFile(String path) {
     return assertThat(getProjectFile(path));
   }
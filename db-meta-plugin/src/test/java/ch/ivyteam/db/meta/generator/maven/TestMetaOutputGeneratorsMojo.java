@@ -0,0 +1,79 @@
+package ch.ivyteam.db.meta.generator.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.assertj.core.api.AbstractFileAssert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.generator.internal.HtmlDocGenerator;
+import ch.ivyteam.db.meta.generator.internal.mssql.MsSqlServerSqlScriptGenerator;
+import ch.ivyteam.db.meta.generator.internal.oracle.OracleSqlScriptGenerator;
+
+public class TestMetaOutputGeneratorsMojo {
+
+  @Rule
+  public ProjectMojoRule<MetaOutputGeneratorsMojo> mojoRule = new ProjectMojoRule<>(
+          new File("src/test/resources/base"), MetaOutputGeneratorsMojo.GOAL);
+  private MetaOutputGeneratorsMojo mojo;
+
+  @Before
+  public void before() throws IllegalAccessException {
+    mojo = mojoRule.getMojo();
+    mojoRule.setVariableValueToObject(mojo, "outputDirectory",
+            new File(mojoRule.getProject().getBasedir(), "generated"));
+    mojoRule.setVariableValueToObject(mojo, "inputDirectory",
+            new File(mojoRule.getProject().getBasedir(), "meta"));
+  }
+
+  @Test
+  public void execute() throws IllegalAccessException, MojoExecutionException, MojoFailureException {
+    mojoRule.setVariableValueToObject(mojo, "generators", List.of(
+            generator(HtmlDocGenerator.class.getName(), "doc", null),
+            generator(OracleSqlScriptGenerator.class.getName(), null, "oracle.sql"),
+            generator(MsSqlServerSqlScriptGenerator.class.getName(), null, "mssql.sql")));
+    mojo.execute();
+    assertThatProjectFile("generated/doc/IWA_ClusterHost.html").exists();
+    assertThatProjectFile("generated/oracle.sql").exists();
+    assertThatProjectFile("generated/mssql.sql").exists();
+  }
+
+  @Test
+  public void executeSingleThreaded()
+          throws IllegalAccessException, MojoExecutionException, MojoFailureException {
+    mojoRule.setVariableValueToObject(mojo, "threads", 1);
+    mojoRule.setVariableValueToObject(mojo, "generators", List.of(
+            generator(OracleSqlScriptGenerator.class.getName(), null, "oracle.sql"),
+            generator(MsSqlServerSqlScriptGenerator.class.getName(), null, "mssql.sql")));
+    mojo.execute();
+    assertThatProjectFile("generated/oracle.sql").exists();
+    assertThatProjectFile("generated/mssql.sql").exists();
+  }
+
+  @Test
+  public void unknownGenerator() throws IllegalAccessException {
+    mojoRule.setVariableValueToObject(mojo, "generators", List.of(
+            generator(OracleSqlScriptGenerator.class.getName(), null, "oracle.sql"),
+            generator("ch.ivyteam.Unknown", null, "unknown.sql")));
+    assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoExecutionException.class)
+            .hasMessageContaining("ch.ivyteam.Unknown");
+  }
+
+  private Generator generator(String generatorClass, String directory, String file) {
+    File outputDirectory = directory == null ? null
+            : new File(mojoRule.getProject().getBasedir(), "generated/" + directory);
+    return new Generator(generatorClass, outputDirectory, file, null);
+  }
+
+  private AbstractFileAssert<?> assertThatProjectFile(String path) {
+    return assertThat(new File(mojoRule.getProject().getBasedir(), path));
+  }
+}
@@ -0,0 +1,133 @@
+package ch.ivyteam.db.meta.model.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSqlMeta {
+
+  private SqlMeta meta;
+  private SqlTable task;
+  private SqlView taskQuery;
+
+  @Before
+  public void setUp() {
+    meta = new SqlMeta();
+    task = table("IWA_Task");
+    taskQuery = new SqlView("IWA_TaskQuery", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), "");
+    meta.addArtifact(task);
+    meta.addArtifact(taskQuery);
+  }
+
+  @Test
+  public void findTable() {
+    assertThat(meta.findTable("IWA_Task")).isSameAs(task);
+    assertThat(meta.findTable("IWA_TaskQuery")).isNull();
+    assertThat(meta.findTable("IWA_Case")).isNull();
+  }
+
+  @Test
+  public void findView() {
+    assertThat(meta.findView("IWA_TaskQuery")).isSameAs(taskQuery);
+    assertThat(meta.findView("IWA_Task")).isNull();
+  }
+
+  @Test
+  public void findTable_firstDefinitionWins() {
+    meta.addArtifact(table("IWA_Task"));
+    assertThat(meta.findTable("IWA_Task")).isSameAs(task);
+  }
+
+  @Test
+  public void getArtifacts() {
+    assertThat(meta.getArtifacts(SqlTable.class)).containsExactly(task);
+    assertThat(meta.getArtifacts(SqlObject.class)).containsExactly(task, taskQuery);
+    assertThat(meta.getArtifacts(SqlInsert.class)).isEmpty();
+  }
+
+  @Test
+  public void getArtifacts_keptUpToDate() {
+    List<SqlTable> tables = meta.getArtifacts(SqlTable.class);
+    assertThat(meta.findTable("IWA_Case")).isNull();
+    SqlTable caze = table("IWA_Case");
+    meta.addArtifact(caze);
+    assertThat(tables).containsExactly(task, caze);
+    assertThat(meta.findTable("IWA_Case")).isSameAs(caze);
+  }
+
+  @Test
+  public void getArtifacts_unmodifiable() {
+    assertThatThrownBy(() -> meta.getArtifacts(SqlTable.class).add(table("IWA_Case")))
+            .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> meta.getArtifacts().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void merge() {
+    assertThat(meta.getArtifacts(SqlTable.class)).containsExactly(task);
+    SqlMeta other = new SqlMeta();
+    SqlTable caze = table("IWA_Case");
+    other.addArtifact(caze);
+    meta.merge(other);
+    assertThat(meta.getArtifacts(SqlTable.class)).containsExactly(task, caze);
+    assertThat(meta.findTable("IWA_Case")).isSameAs(caze);
+    assertThat(meta.getArtifacts()).containsExactly(task, taskQuery, caze);
+  }
+
+  @Test
+  public void getReferencingForeignKeys() {
+    SqlTable caze = table("IWA_Case", referencing("TaskId", "IWA_Task"));
+    SqlTable taskStarter = table("IWA_TaskStarter", referencing("TaskId", "IWA_Task"),
+            referencing("CaseId", "IWA_Case"));
+    meta.addArtifact(caze);
+    meta.addArtifact(taskStarter);
+
+    assertThat(meta.getReferencingForeignKeys(task))
+            .extracting(Pair::getLeft)
+            .containsExactly(caze, taskStarter);
+    assertThat(meta.getReferencingForeignKeys(task, taskStarter.findColumn("CaseId"))).isEmpty();
+    assertThat(meta.getReferencingForeignKeys(caze))
+            .containsExactly(Pair.of(taskStarter, taskStarter.findForeignKey(taskStarter.findColumn("CaseId"))));
+    assertThat(meta.getReferencingForeignKeys(taskStarter)).isEmpty();
+  }
+
+  @Test
+  public void getReferencingForeignKeys_column() {
+    SqlTable taskWithId = table("IWA_Task", column("TaskId", null));
+    SqlMeta other = new SqlMeta();
+    other.addArtifact(taskWithId);
+    SqlTable caze = table("IWA_Case", referencing("TaskId", "IWA_Task"));
+    other.addArtifact(caze);
+
+    assertThat(other.getReferencingForeignKeys(taskWithId, taskWithId.findColumn("TaskId")))
+            .containsExactly(Pair.of(caze, caze.findForeignKey(caze.findColumn("TaskId"))));
+  }
+
+  @Test
+  public void getReferencingForeignKeys_keptUpToDate() {
+    assertThat(meta.getReferencingForeignKeys(task)).isEmpty();
+    SqlTable caze = table("IWA_Case", referencing("TaskId", "IWA_Task"));
+    meta.addArtifact(caze);
+    assertThat(meta.getReferencingForeignKeys(task)).extracting(Pair::getLeft).containsExactly(caze);
+  }
+
+  private static SqlTable table(String name, SqlTableContentDefinition... definitions) {
+    return new SqlTable(name, new ArrayList<>(List.of(definitions)), new ArrayList<>(), "");
+  }
+
+  private static SqlTableColumn referencing(String column, String foreignTable) {
+    return column(column, new SqlReference(foreignTable, column, null));
+  }
+
+  private static SqlTableColumn column(String name, SqlReference reference) {
+    return new SqlTableColumn(name, new SqlDataType(SqlDataType.DataType.INTEGER), false, null, reference,
+            new ArrayList<>(), "");
+  }
+}
@@ -0,0 +1,112 @@
+package ch.ivyteam.db.meta.model.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSqlTable {
+
+  private SqlTableColumn taskId;
+  private SqlTableColumn caseId;
+  private SqlForeignKey caseForeignKey;
+  private SqlIndex nameIndex;
+  private SqlUniqueConstraint nameUnique;
+  private SqlTrigger trigger;
+  private SqlTable table;
+
+  @Before
+  public void setUp() {
+    taskId = column("TaskId", null);
+    caseId = column("CaseId", null);
+    SqlTableColumn name = column("Name", null);
+    caseForeignKey = new SqlForeignKey("FK_Task_Case", "CaseId", new SqlReference("IWA_Case", "CaseId", null),
+            new ArrayList<>(), "");
+    nameIndex = new SqlIndex("IX_Task_Name", List.of("Name"), new ArrayList<>(), "");
+    nameUnique = new SqlUniqueConstraint("UQ_Task_Name", List.of("Name"), new ArrayList<>(), "");
+    trigger = new SqlTrigger("IWA_Case", "IWA_Task", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+            "");
+    table = new SqlTable("IWA_Task", List.of(taskId, caseId, name, caseForeignKey, nameIndex, nameUnique,
+            trigger), new ArrayList<>(), "");
+  }
+
+  @Test
+  public void findColumn() {
+    assertThat(table.findColumn("TaskId")).isSameAs(taskId);
+    assertThat(table.findColumn("taskid")).isSameAs(taskId);
+    assertThat(table.findColumn("CASEID")).isSameAs(caseId);
+    assertThat(table.findColumn("Unknown")).isNull();
+  }
+
+  @Test
+  public void findForeignKey() {
+    assertThat(table.findForeignKey("FK_Task_Case")).isSameAs(caseForeignKey);
+    assertThat(table.findForeignKey("fk_task_case")).isSameAs(caseForeignKey);
+    assertThat(table.findForeignKey("Unknown")).isNull();
+    assertThat(table.findForeignKey(caseId)).isSameAs(caseForeignKey);
+    assertThat(table.findForeignKey(taskId)).isNull();
+  }
+
+  @Test
+  public void findForeignKey_columnReference() {
+    SqlTableColumn userId = column("UserId", new SqlReference("IWA_User", "UserId", null));
+    SqlTable userTable = new SqlTable("IWA_UserTask", List.of(userId), new ArrayList<>(), "");
+    SqlForeignKey foreignKey = userTable.findForeignKey(userId);
+    assertThat(foreignKey).isNotNull();
+    assertThat(foreignKey.getColumnName()).isEqualTo("UserId");
+    assertThat(userTable.findForeignKey(foreignKey.getId().toUpperCase())).isSameAs(foreignKey);
+  }
+
+  @Test
+  public void findIndex() {
+    assertThat(table.findIndex("IX_Task_Name")).isSameAs(nameIndex);
+    assertThat(table.findIndex("ix_task_name")).isSameAs(nameIndex);
+    assertThat(table.findIndex("UQ_Task_Name")).isNull();
+  }
+
+  @Test
+  public void findUniqueConstraint() {
+    assertThat(table.findUniqueConstraint("UQ_Task_Name")).isSameAs(nameUnique);
+    assertThat(table.findUniqueConstraint("uq_task_name")).isSameAs(nameUnique);
+    assertThat(table.findUniqueConstraint("IX_Task_Name")).isNull();
+  }
+
+  @Test
+  public void findTrigger() {
+    assertThat(table.findTrigger(trigger.getId())).isSameAs(trigger);
+    assertThat(table.findTrigger(trigger.getId().toLowerCase())).isSameAs(trigger);
+    assertThat(table.findTrigger("Unknown")).isNull();
+  }
+
+  @Test
+  public void listsKeepDefinitionOrder() {
+    assertThat(table.getColumns()).extracting(SqlTableColumn::getId)
+            .containsExactly("TaskId", "CaseId", "Name");
+  }
+
+  @Test
+  public void unknownColumnNameIsCaseSensitive() {
+    SqlIndex index = new SqlIndex("IX_Task_Name", List.of("NAME"), new ArrayList<>(), "");
+    assertThatThrownBy(() -> new SqlTable("IWA_Task", List.of(column("Name", null), index),
+            new ArrayList<>(), ""))
+            .isInstanceOf(MetaException.class)
+            .hasMessageContaining("has no column 'NAME'");
+  }
+
+  @Test
+  public void columnNamesDifferingInCase() {
+    SqlIndex index = new SqlIndex("IX_Task_Name", List.of("NAME"), new ArrayList<>(), "");
+    SqlTable caseTable = new SqlTable("IWA_Task", List.of(column("Name", null), column("NAME", null), index),
+            new ArrayList<>(), "");
+    assertThat(caseTable.findIndex("IX_Task_Name").getColumns()).containsExactly("NAME");
+  }
+
+  private static SqlTableColumn column(String name, SqlReference reference) {
+    return new SqlTableColumn(name, new SqlDataType(SqlDataType.DataType.INTEGER), false, null, reference,
+            new ArrayList<>(), "");
+  }
+}
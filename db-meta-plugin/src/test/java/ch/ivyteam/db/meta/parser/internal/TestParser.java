@@ -0,0 +1,107 @@
+package ch.ivyteam.db.meta.parser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.model.internal.SqlInsert;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+import ch.ivyteam.db.meta.model.internal.SqlUpdate;
+import ch.ivyteam.db.meta.model.internal.SqlView;
+
+public class TestParser {
+
+  private static final String META = """
+          CREATE TABLE IWA_Property
+          (
+            Name VARCHAR(50) NOT NULL,
+            Value VARCHAR(50),
+            PRIMARY KEY (Name)
+          );
+          INSERT INTO IWA_Property (Name, Value) VALUES ('Version', '1');
+          CREATE VIEW IWA_PropertyView
+          (
+            Name
+          )
+          AS SELECT IWA_Property.Name FROM IWA_Property;
+          INSERT INTO IWA_Property (Name, Value) VALUES ('Release', '2');
+          """;
+
+  @Test
+  public void artifactListener() throws Exception {
+    var listener = new RecordingListener();
+    Parser parser = new Parser(new Scanner(new StringReader(META)));
+    parser.setArtifactListener(listener);
+    SqlMeta meta = (SqlMeta) parser.parse().value;
+    assertThat(listener.events).containsExactly("table IWA_Property", "insert IWA_Property",
+            "view IWA_PropertyView", "insert IWA_Property");
+    assertThat(meta.getArtifacts()).hasSize(4);
+  }
+
+  @Test
+  public void doNotRetainArtifacts() throws Exception {
+    var listener = new RecordingListener();
+    Parser parser = new Parser(new Scanner(new StringReader(META)));
+    parser.setArtifactListener(listener);
+    parser.setRetainArtifacts(false);
+    SqlMeta meta = (SqlMeta) parser.parse().value;
+    assertThat(listener.events).hasSize(4);
+    assertThat(meta.getArtifacts()).isEmpty();
+  }
+
+  @Test
+  public void updateWithHints() throws Exception {
+    var listener = new RecordingListener();
+    Parser parser = new Parser(new Scanner(new StringReader(
+            "UPDATE IWA_Property SET Value='3' FOR PostgreSql USE (ChunkSize='1000', ChunkKey='Id');")));
+    parser.setArtifactListener(listener);
+    SqlMeta meta = (SqlMeta) parser.parse().value;
+    assertThat(listener.events).containsExactly("update IWA_Property");
+    SqlUpdate update = meta.getArtifacts(SqlUpdate.class).get(0);
+    assertThat(update.getDatabaseManagementSystemHints("PostgreSql").getHintValue("ChunkSize"))
+            .isEqualTo("1000");
+  }
+
+  @Test
+  public void listenerAbortsParsing() {
+    Parser parser = new Parser(new Scanner(new StringReader(META)));
+    parser.setArtifactListener(new IArtifactListener() {
+      @Override
+      public void onInsert(SqlInsert insert) throws Exception {
+        throw new IllegalStateException("abort");
+      }
+    });
+    assertThatThrownBy(parser::parse).hasMessage("abort");
+  }
+
+  private static final class RecordingListener implements IArtifactListener {
+
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public void onTable(SqlTable table) {
+      events.add("table " + table.getId());
+    }
+
+    @Override
+    public void onView(SqlView view) {
+      events.add("view " + view.getId());
+    }
+
+    @Override
+    public void onInsert(SqlInsert insert) {
+      events.add("insert " + insert.getTable());
+    }
+
+    @Override
+    public void onUpdate(SqlUpdate update) {
+      events.add("update " + update.getTable());
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package ch.ivyteam.db.meta.parser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import ch.ivyteam.db.meta.model.internal.SqlForeignKey;
+import ch.ivyteam.db.meta.model.internal.SqlInsertWithValues;
+import ch.ivyteam.db.meta.model.internal.SqlMeta;
+import ch.ivyteam.db.meta.model.internal.SqlTable;
+
+public class TestScanner {
+
+  @Test
+  public void internIdentifiers() throws Exception {
+    SqlMeta meta = parse("""
+            CREATE TABLE IWA_Application
+            (
+              ApplicationId INTEGER NOT NULL,
+              PRIMARY KEY (ApplicationId)
+            );
+            CREATE TABLE IWA_Library
+            (
+              LibraryId INTEGER NOT NULL,
+              ApplicationId INTEGER NOT NULL,
+              PRIMARY KEY (LibraryId),
+              FOREIGN KEY (ApplicationId) REFERENCES IWA_Application(ApplicationId)
+            );
+            """);
+    SqlTable application = meta.findTable("IWA_Application");
+    SqlForeignKey foreignKey = meta.findTable("IWA_Library").getForeignKeys().get(0);
+    assertThat(foreignKey.getReference().getForeignTable()).isSameAs(application.getId());
+    assertThat(foreignKey.getReference().getForeignColumn())
+            .isSameAs(application.getPrimaryKey().getPrimaryKeyColumns().get(0))
+            .isSameAs(foreignKey.getColumnName());
+  }
+
+  @Test
+  public void internStringLiterals() throws Exception {
+    SqlMeta meta = parse("""
+            CREATE TABLE IWA_Property
+            (
+              Name VARCHAR(50) NOT NULL,
+              Value VARCHAR(50)
+            );
+            INSERT INTO IWA_Property (Name, Value) VALUES ('Version', 'Version');
+            """);
+    SqlInsertWithValues insert = meta.getArtifacts(SqlInsertWithValues.class).get(0);
+    assertThat(insert.getValues().get(1).getValue()).isSameAs(insert.getValues().get(0).getValue());
+  }
+
+  private static SqlMeta parse(String content) throws Exception {
+    return (SqlMeta) new Parser(new Scanner(new StringReader(content))).parse().value;
+  }
+}
@@ -0,0 +1,3 @@
+# Added columns of table Test
+ALTER TABLE `Test` ADD COLUMN
+  Name VARCHAR(200), ALGORITHM=INSTANT;
\ No newline at end of file
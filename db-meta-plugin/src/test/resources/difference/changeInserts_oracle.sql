@@ -0,0 +1,8 @@
+-- Delete removed default table content
+DELETE FROM Test WHERE TestId=3 AND Name='Three' AND Value=3;
+
+-- Update changed default table content
+UPDATE Test SET Name='Second', Value=22 WHERE TestId=2;
+
+-- Add new added default table content
+INSERT INTO Test (TestId, Name, Value) VALUES (4, 'Four', 4);
\ No newline at end of file
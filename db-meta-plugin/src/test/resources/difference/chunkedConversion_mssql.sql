@@ -0,0 +1,23 @@
+DECLARE @chunkStart BIGINT, @maxKey BIGINT
+SELECT @chunkStart = MIN(ItemId), @maxKey = MAX(ItemId) FROM Item
+WHILE @chunkStart <= @maxKey
+BEGIN
+  BEGIN TRANSACTION
+  UPDATE Item
+  SET OtherId=Item.CategoryId
+  WHERE (Item.OtherId IS NULL) AND ItemId >= @chunkStart AND ItemId < @chunkStart + 10000
+  COMMIT TRANSACTION
+  SET @chunkStart = @chunkStart + 10000
+END
+GO
+
+INSERT INTO Category (CategoryId)
+SELECT
+  Item.ItemId
+FROM Item
+WHERE Item.CategoryId IS NULL
+GO
+
+UPDATE Item
+SET CategoryId=NULL
+GO
\ No newline at end of file
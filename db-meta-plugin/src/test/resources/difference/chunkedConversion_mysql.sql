@@ -0,0 +1,28 @@
+CREATE PROCEDURE IWA_Chunked_Conversion1()
+BEGIN
+  DECLARE chunk_start BIGINT;
+  DECLARE max_key BIGINT;
+  SELECT MIN(ItemId), MAX(ItemId) INTO chunk_start, max_key FROM Item;
+  WHILE chunk_start <= max_key DO
+    UPDATE Item
+    SET OtherId=Item.CategoryId
+    WHERE (Item.OtherId IS NULL) AND ItemId >= chunk_start AND ItemId < chunk_start + 10000;
+    COMMIT;
+    SET chunk_start = chunk_start + 10000;
+  END WHILE;
+END;
+;
+
+CALL IWA_Chunked_Conversion1();
+
+INSERT INTO Category (CategoryId)
+SELECT
+  Item.ItemId
+FROM Item
+WHERE Item.CategoryId IS NULL;
+
+UPDATE Item
+SET CategoryId=NULL;
+
+# Drop temporary created stored procedures needed for conversion
+DROP PROCEDURE IWA_Chunked_Conversion1;
\ No newline at end of file
@@ -0,0 +1,23 @@
+DECLARE
+  CHUNK_START NUMBER;
+  MAX_KEY NUMBER;
+BEGIN
+  SELECT MIN(ItemId), MAX(ItemId) INTO CHUNK_START, MAX_KEY FROM Item;
+  WHILE CHUNK_START <= MAX_KEY LOOP
+    UPDATE Item
+    SET OtherId=Item.CategoryId
+    WHERE (Item.OtherId IS NULL) AND ItemId >= CHUNK_START AND ItemId < CHUNK_START + 10000;
+    COMMIT;
+    CHUNK_START := CHUNK_START + 10000;
+  END LOOP;
+END;
+;
+
+INSERT INTO Category (CategoryId)
+SELECT
+  Item.ItemId
+FROM Item
+WHERE Item.CategoryId IS NULL;
+
+UPDATE Item
+SET CategoryId=NULL;
\ No newline at end of file
@@ -0,0 +1,34 @@
+DO $$
+DECLARE
+  chunk_start BIGINT;
+  max_key BIGINT;
+BEGIN
+  SELECT MIN(ItemId), MAX(ItemId) INTO chunk_start, max_key FROM Item;
+  WHILE chunk_start <= max_key LOOP
+    UPDATE Item
+    SET OtherId=Item.CategoryId
+    WHERE (Item.OtherId IS NULL) AND ItemId >= chunk_start AND ItemId < chunk_start + 10000;
+    COMMIT;
+    chunk_start := chunk_start + 10000;
+  END LOOP;
+END $$;
+
+DO $$
+DECLARE
+  chunk_start BIGINT;
+  max_key BIGINT;
+BEGIN
+  SELECT MIN(ItemId), MAX(ItemId) INTO chunk_start, max_key FROM Item;
+  WHILE chunk_start <= max_key LOOP
+    INSERT INTO Category (CategoryId)
+    SELECT
+      Item.ItemId
+    FROM Item
+    WHERE (Item.CategoryId IS NULL) AND Item.ItemId >= chunk_start AND Item.ItemId < chunk_start + 5000;
+    COMMIT;
+    chunk_start := chunk_start + 5000;
+  END LOOP;
+END $$;
+
+UPDATE Item
+SET CategoryId=NULL;
\ No newline at end of file
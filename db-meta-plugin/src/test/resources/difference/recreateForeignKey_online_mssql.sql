@@ -0,0 +1,73 @@
+-- Store Procedure to drop a unique constraint
+CREATE PROCEDURE IWA_Drop_ForeignKey
+@tableName varchar(100),
+@columnName varchar(100)
+AS
+DECLARE @fkName Varchar(255)
+SET @fkName= (
+  SELECT fk.name
+  FROM sys.foreign_keys fk
+  INNER JOIN sys.foreign_key_columns fkc ON fkc.constraint_object_id = fk.object_id
+  INNER JOIN sys.columns c1 ON fkc.parent_column_id = c1.column_id AND fkc.parent_object_id = c1.object_id
+  INNER JOIN sys.columns c2 ON fkc.referenced_column_id = c2.column_id AND fkc.referenced_object_id = c2.object_id
+  WHERE OBJECT_NAME(fk.parent_object_id)=@tableName AND c2.name=@columnName
+)
+DECLARE @dropSql varchar(4000)
+SET @dropSql=
+  'ALTER TABLE [dbo].['+@tableName+']
+    DROP CONSTRAINT ['+@fkName+']'
+EXEC(@dropSql)
+
+GO
+
+EXECUTE IWA_Drop_ForeignKey @tableName='Item', @columnName='CategoryId'
+GO
+-- Store Procedure to drop a primary key constraint
+CREATE PROCEDURE IWA_Drop_PrimaryKey
+@tableName varchar(100)
+AS
+DECLARE @pkName Varchar(255)
+SET @pkName= (
+  SELECT [name] FROM sysobjects
+    WHERE [xtype] = 'PK'
+          AND [parent_obj] = OBJECT_ID(N'[dbo].['+@tableName+N']')
+)
+DECLARE @dropSql varchar(4000)
+SET @dropSql=
+  'ALTER TABLE [dbo].['+@tableName+']
+    DROP CONSTRAINT ['+@PkName+']'
+EXEC(@dropSql)
+
+GO
+
+EXECUTE IWA_Drop_PrimaryKey @tableName='Category'
+GO
+
+-- Changed columns of table Category
+ALTER TABLE Category ALTER COLUMN CategoryId BIGINT NOT NULL WITH (ONLINE = ON)
+GO
+ALTER TABLE Category ADD PRIMARY KEY (CategoryId) WITH (ONLINE = ON)
+GO
+
+-- Changed columns of table Item
+ALTER TABLE Item ALTER COLUMN CategoryId BIGINT NULL WITH (ONLINE = ON)
+GO
+
+-- Added columns of table Item
+-- BLOCKING: Adding a foreign key locks table Item until it is finished
+ALTER TABLE Item ADD
+  OtherId BIGINT NULL REFERENCES Category(CategoryId)
+GO
+
+ALTER TABLE Item WITH NOCHECK ADD CONSTRAINT Item_FK_CategoryId FOREIGN KEY (CategoryId) REFERENCES Category(CategoryId)
+GO
+
+
+-- Validate added foreign keys. This can run after the application is up again
+ALTER TABLE Item WITH CHECK CHECK CONSTRAINT Item_FK_CategoryId
+GO
+-- Drop temporary created stored procedures needed for conversion
+DROP PROCEDURE IWA_Drop_ForeignKey
+GO
+DROP PROCEDURE IWA_Drop_PrimaryKey
+GO
\ No newline at end of file
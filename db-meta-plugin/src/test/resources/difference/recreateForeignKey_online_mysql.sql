@@ -0,0 +1,61 @@
+# Store Procedure to drop a foreign key constraint
+CREATE PROCEDURE IWA_Drop_ForeignKey_Constraint(fk_schema VARCHAR(64), fk_table VARCHAR(64), fk_column VARCHAR(64))
+BEGIN
+  WHILE EXISTS(
+    SELECT * FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE
+    WHERE REFERENCED_COLUMN_NAME IS NOT NULL
+      AND CAST(TABLE_SCHEMA AS CHAR CHARACTER SET ascii) COLLATE ascii_general_ci = CAST(fk_schema AS CHAR CHARACTER SET ascii)
+      AND CAST(TABLE_NAME AS CHAR CHARACTER SET ascii) COLLATE ascii_general_ci = CAST(fk_table AS CHAR CHARACTER SET ascii)
+      AND CAST(COLUMN_NAME AS CHAR CHARACTER SET ascii) COLLATE ascii_general_ci = CAST(fk_column AS CHAR CHARACTER SET ascii)
+  ) 
+  DO
+    BEGIN
+      SET @sqlstmt = (
+        SELECT CONCAT('ALTER TABLE ',TABLE_SCHEMA,'.',TABLE_NAME,' DROP FOREIGN KEY ',CONSTRAINT_NAME)
+        FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE
+        WHERE REFERENCED_COLUMN_NAME IS NOT NULL
+          AND CAST(TABLE_SCHEMA AS CHAR CHARACTER SET ascii) COLLATE ascii_general_ci = CAST(fk_schema AS CHAR CHARACTER SET ascii)
+          AND CAST(TABLE_NAME AS CHAR CHARACTER SET ascii) COLLATE ascii_general_ci = CAST(fk_table AS CHAR CHARACTER SET ascii)
+          AND CAST(COLUMN_NAME AS CHAR CHARACTER SET ascii) COLLATE ascii_general_ci = CAST(fk_column AS CHAR CHARACTER SET ascii)
+        LIMIT 1
+      );
+      PREPARE stmt1 FROM @sqlstmt;
+      EXECUTE stmt1;
+    END;
+  END WHILE;
+END;
+;
+
+CALL IWA_Drop_ForeignKey_Constraint(SCHEMA(), 'Item', 'CategoryId');
+
+# Changed columns of table Category
+# BLOCKING: Altering a column locks table Category until it is finished
+ALTER TABLE Category MODIFY
+  CategoryId BIGINT NOT NULL;
+
+
+# Changed columns of table Item
+# BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item MODIFY
+  CategoryId BIGINT;
+
+# Added columns of table Item
+ALTER TABLE Item ADD COLUMN
+  OtherId BIGINT, ALGORITHM=INSTANT;
+
+# Create added foreign keys of table Item
+# BLOCKING: Adding a foreign key locks table Item until it is finished
+ALTER TABLE Item ADD
+(
+ FOREIGN KEY (OtherId) REFERENCES Category(CategoryId)
+);
+
+
+# BLOCKING: Adding a foreign key locks table Item until it is finished
+ALTER TABLE Item ADD
+(
+ FOREIGN KEY (CategoryId) REFERENCES Category(CategoryId)
+);
+
+# Drop temporary created stored procedures needed for conversion
+DROP PROCEDURE IWA_Drop_ForeignKey_Constraint;
\ No newline at end of file
@@ -0,0 +1,40 @@
+DECLARE
+FK_NAME VARCHAR(30);
+BEGIN
+  SELECT UC.CONSTRAINT_NAME INTO FK_NAME
+  FROM USER_CONSTRAINTS UC INNER JOIN USER_CONS_COLUMNS UCC ON UC.CONSTRAINT_NAME = UCC.CONSTRAINT_NAME
+  WHERE UC.CONSTRAINT_TYPE='R' AND UC.TABLE_NAME='ITEM' AND UCC.COLUMN_NAME='CATEGORYID';
+
+  EXECUTE IMMEDIATE 'ALTER TABLE Item DROP CONSTRAINT ' || FK_NAME;
+END;
+;
+
+
+-- Changed columns of table Category
+-- BLOCKING: Altering a column locks table Category until it is finished
+ALTER TABLE Category MODIFY CategoryId  NUMBER(20);
+
+
+-- Changed columns of table Item
+-- BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item MODIFY CategoryId  NUMBER(20);
+
+-- Added columns of table Item
+-- BLOCKING: Adding a foreign key locks table Item until it is finished
+ALTER TABLE Item ADD
+  OtherId NUMBER(20) REFERENCES Category(CategoryId);
+
+ALTER TABLE Item ADD FOREIGN KEY (CategoryId) REFERENCES Category(CategoryId) ENABLE NOVALIDATE;
+
+
+-- Validate added foreign keys. This can run after the application is up again
+DECLARE
+FK_NAME VARCHAR(30);
+BEGIN
+  SELECT UC.CONSTRAINT_NAME INTO FK_NAME
+  FROM USER_CONSTRAINTS UC INNER JOIN USER_CONS_COLUMNS UCC ON UC.CONSTRAINT_NAME = UCC.CONSTRAINT_NAME
+  WHERE UC.CONSTRAINT_TYPE='R' AND UC.TABLE_NAME='ITEM' AND UCC.COLUMN_NAME='CATEGORYID';
+
+  EXECUTE IMMEDIATE 'ALTER TABLE Item MODIFY CONSTRAINT ' || FK_NAME || ' VALIDATE';
+END;
+;
\ No newline at end of file
@@ -0,0 +1,24 @@
+ALTER TABLE Item DROP
+ CONSTRAINT Item_CategoryId_fkey
+;
+
+
+-- Changed columns of table Category
+-- BLOCKING: Altering a column locks table Category until it is finished
+ALTER TABLE Category ALTER COLUMN CategoryId TYPE BIGINT;
+
+
+-- Changed columns of table Item
+-- BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item ALTER COLUMN CategoryId TYPE BIGINT;
+
+-- Added columns of table Item
+-- BLOCKING: Adding a foreign key locks table Item until it is finished
+ALTER TABLE Item ADD COLUMN
+  OtherId BIGINT REFERENCES Category(CategoryId);
+
+ALTER TABLE Item ADD CONSTRAINT Item_CategoryId_fkey FOREIGN KEY (CategoryId) REFERENCES Category(CategoryId) NOT VALID;
+
+
+-- Validate added foreign keys. This can run after the application is up again
+ALTER TABLE Item VALIDATE CONSTRAINT Item_CategoryId_fkey;
\ No newline at end of file
@@ -0,0 +1,27 @@
+DECLARE
+FK_NAME VARCHAR(30);
+BEGIN
+  SELECT UC.CONSTRAINT_NAME INTO FK_NAME
+  FROM USER_CONSTRAINTS UC INNER JOIN USER_CONS_COLUMNS UCC ON UC.CONSTRAINT_NAME = UCC.CONSTRAINT_NAME
+  WHERE UC.CONSTRAINT_TYPE='R' AND UC.TABLE_NAME='ITEM' AND UCC.COLUMN_NAME='CATEGORYID';
+
+  EXECUTE IMMEDIATE 'ALTER TABLE Item DROP CONSTRAINT ' || FK_NAME;
+END;
+;
+
+
+-- Changed columns of table Category
+ALTER TABLE Category MODIFY CategoryId  NUMBER(20);
+
+
+-- Changed columns of table Item
+ALTER TABLE Item MODIFY CategoryId  NUMBER(20);
+
+-- Added columns of table Item
+ALTER TABLE Item ADD
+  OtherId NUMBER(20) REFERENCES Category(CategoryId);
+
+ALTER TABLE Item ADD
+(
+ FOREIGN KEY (CategoryId) REFERENCES Category(CategoryId)
+);
\ No newline at end of file
@@ -0,0 +1,17 @@
+ALTER TABLE Item DROP
+ CONSTRAINT Item_CategoryId_fkey
+;
+
+
+-- Changed columns of table Category
+ALTER TABLE Category ALTER COLUMN CategoryId TYPE BIGINT;
+
+
+-- Changed columns of table Item
+ALTER TABLE Item ALTER COLUMN CategoryId TYPE BIGINT;
+
+-- Added columns of table Item
+ALTER TABLE Item ADD COLUMN
+  OtherId BIGINT REFERENCES Category(CategoryId);
+
+ALTER TABLE Item ADD FOREIGN KEY (CategoryId) REFERENCES Category(CategoryId);
\ No newline at end of file
@@ -0,0 +1,18 @@
+-- Drop removed indexes of table Item
+DROP INDEX Item.Item_Name
+GO
+
+-- Drop indexes which depend on changed columns
+DROP INDEX Item.Item_Code
+GO
+
+-- Changed columns of table Item
+ALTER TABLE Item ALTER COLUMN Name NVARCHAR(MAX) NULL
+GO
+ALTER TABLE Item ALTER COLUMN Code NVARCHAR(20) NULL
+GO
+
+-- Create index which depend on changed columns
+CREATE INDEX Item_Code
+ON Item (Code)
+GO
\ No newline at end of file
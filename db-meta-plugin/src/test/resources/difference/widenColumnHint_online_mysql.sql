@@ -0,0 +1,11 @@
+# Drop removed indexes of table Item
+DROP INDEX Item_Name
+ON Item;
+
+# Changed columns of table Item
+# BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item MODIFY
+  Name TEXT;
+# BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item MODIFY
+  Code VARCHAR(20) CHARACTER SET utf8mb4;
\ No newline at end of file
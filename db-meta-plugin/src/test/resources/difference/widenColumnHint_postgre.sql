@@ -0,0 +1,2 @@
+-- Drop removed indexes of table Item
+DROP INDEX Item_Name;
\ No newline at end of file
@@ -0,0 +1,16 @@
+-- Drop indexes which depend on changed columns
+DROP INDEX Item.Item_Amount
+GO
+
+-- Changed columns of table Item
+ALTER TABLE Item ALTER COLUMN Name VARCHAR(800) NULL WITH (ONLINE = ON)
+GO
+ALTER TABLE Item ALTER COLUMN Code VARCHAR(320) NULL WITH (ONLINE = ON)
+GO
+ALTER TABLE Item ALTER COLUMN Amount BIGINT NOT NULL WITH (ONLINE = ON)
+GO
+
+-- Create index which depend on changed columns
+CREATE INDEX Item_Amount
+ON Item (Amount) WITH (ONLINE = ON)
+GO
\ No newline at end of file
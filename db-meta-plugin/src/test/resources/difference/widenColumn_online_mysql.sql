@@ -0,0 +1,9 @@
+# Changed columns of table Item
+# BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item MODIFY
+  Name VARCHAR(200);
+ALTER TABLE Item MODIFY
+  Code VARCHAR(80), ALGORITHM=INPLACE, LOCK=NONE;
+# BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item MODIFY
+  Amount BIGINT NOT NULL;
\ No newline at end of file
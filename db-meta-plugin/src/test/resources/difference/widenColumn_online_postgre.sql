@@ -0,0 +1,6 @@
+-- Changed columns of table Item
+ALTER TABLE Item ALTER COLUMN Name TYPE VARCHAR(200);
+ALTER TABLE Item ALTER COLUMN Code TYPE VARCHAR(80);
+-- BLOCKING: Altering a column locks table Item until it is finished
+ALTER TABLE Item ALTER COLUMN Amount TYPE BIGINT;
+ALTER TABLE Item ALTER COLUMN Amount SET NOT NULL;
\ No newline at end of file
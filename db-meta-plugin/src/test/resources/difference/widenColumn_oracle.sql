@@ -0,0 +1,5 @@
+-- Changed columns of table Item
+ALTER TABLE Item MODIFY Name  VARCHAR2(200);
+ALTER TABLE Item MODIFY Code  VARCHAR2(80);
+ALTER TABLE Item MODIFY Amount  NUMBER(20);
+ALTER TABLE Item MODIFY Amount NOT NULL;
\ No newline at end of file